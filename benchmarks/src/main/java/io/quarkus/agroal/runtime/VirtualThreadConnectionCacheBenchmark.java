@@ -0,0 +1,112 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.supplier.AgroalDataSourceConfigurationSupplier;
+
+/**
+ * Measures the average time of a connection acquisition from virtual threads, with and without the
+ * {@link VirtualThreadConnectionCache}. Requires Java 21.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualThreadConnectionCacheBenchmark {
+
+    static final int THREADS = 16;
+    static final int ACQUISITIONS = 100;
+
+    @Param({ "false", "true" })
+    public boolean virtualThreadCache;
+
+    private AgroalDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() throws Exception {
+        AgroalDataSourceConfigurationSupplier configuration = new AgroalDataSourceConfigurationSupplier();
+        configuration.connectionPoolConfiguration()
+                .maxSize(8)
+                .connectionCache(new QuarkusSimpleConnectionCache(
+                        virtualThreadCache ? new VirtualThreadConnectionCache(8) : null))
+                .connectionFactoryConfiguration()
+                .jdbcUrl("jdbc:h2:mem:virtual-threads");
+        dataSource = new io.agroal.pool.DataSource(configuration.get());
+        executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(THREADS * ACQUISITIONS)
+    public int acquire() throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                int sum = 0;
+                for (int j = 0; j < ACQUISITIONS; j++) {
+                    try (Connection connection = dataSource.getConnection()) {
+                        sum += select(connection);
+                    }
+                }
+                return sum;
+            }));
+        }
+        int sum = 0;
+        for (Future<Integer> result : results) {
+            sum += result.get();
+        }
+        return sum;
+    }
+
+    private static int select(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(VirtualThreadConnectionCacheBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
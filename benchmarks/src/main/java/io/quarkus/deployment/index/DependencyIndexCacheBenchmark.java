@@ -0,0 +1,88 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.bootstrap.util.IoUtils;
+
+/**
+ * Measures the time needed to index a dependency jar, to read its index from the {@link DependencyIndexCache} instead,
+ * and to hash the content of the jar, i.e. the cost of the key of a shared cache. The indexed jar is the Jandex jar
+ * itself, unless another one is given with {@code -p jar=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyIndexCacheBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean sharedCache;
+
+    @Param("")
+    public String jar;
+
+    private Path jarPath;
+    private Path directory;
+    private DependencyIndexCache cache;
+
+    @Setup
+    public void setup() throws Exception {
+        jarPath = jar.isEmpty() ? Path.of(Index.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                : Path.of(jar);
+        directory = Files.createTempDirectory("index-cache");
+        cache = new DependencyIndexCache(directory, sharedCache);
+        cache.put(jarPath, null, IndexingUtil.indexJar(jarPath, Set.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        IoUtils.recursiveDelete(directory);
+    }
+
+    @Benchmark
+    public Index index() throws IOException {
+        return IndexingUtil.indexJar(jarPath, Set.of());
+    }
+
+    @Benchmark
+    public Index readCached() {
+        return cache.get(jarPath, null);
+    }
+
+    @Benchmark
+    public String hash() throws IOException {
+        return DependencyIndexCache.contentHash(jarPath);
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(DependencyIndexCacheBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
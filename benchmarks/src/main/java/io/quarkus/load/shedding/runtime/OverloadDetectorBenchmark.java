@@ -0,0 +1,74 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Measures the throughput of the {@link OverloadDetector} when all the threads begin and end requests concurrently,
+ * with the limit updated under a lock after each request, or with striped sampling. Run the {@link #main(String[])}
+ * method on a machine with several cores, with {@code -t 1}, {@code -t 2}, ... up to the number of cores to see how
+ * both modes scale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean striped;
+
+    @Param({ "vegas", "gradient2", "aimd" })
+    public String algorithm;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        detector = new OverloadDetector(new SmallRyeConfigBuilder()
+                .addDiscoveredConverters()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withDefaultValue("quarkus.load-shedding.algorithm", algorithm)
+                .withDefaultValue("quarkus.load-shedding.striped.enabled", Boolean.toString(striped))
+                .build().getConfigMapping(LoadSheddingRuntimeConfig.class));
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        // request times between 1 and 2 ms, in microseconds
+        detector.requestEnd(1_000 + ThreadLocalRandom.current().nextInt(1_000));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(OverloadDetectorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.logging.json.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time needed to format a typical record with MDC into UTF-8 bytes, with the {@link JsonFormatter} and
+ * with the {@link StreamingJsonFormatter}. Run with {@code -prof gc} to compare the allocations too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingJsonFormatterBenchmark {
+
+    private JsonFormatter jsonFormatter;
+    private StreamingJsonFormatter streamingFormatter;
+    private ExtLogRecord record;
+
+    @Setup
+    public void setup() {
+        jsonFormatter = new JsonFormatter();
+        streamingFormatter = new StreamingJsonFormatter();
+        record = new ExtLogRecord(Level.INFO, "Processed order 12345 for customer ACME Corporation in 42 ms",
+                StreamingJsonFormatterBenchmark.class.getName());
+        record.setLoggerName("org.acme.orders.OrderService");
+        record.putMdc("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        record.putMdc("spanId", "00f067aa0ba902b7");
+        record.putMdc("sampled", "true");
+    }
+
+    @Benchmark
+    public byte[] jsonFormatter() {
+        // The console and file handlers encode the string in UTF-8
+        return jsonFormatter.format(record).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ByteBuffer streamingFormatter() {
+        return streamingFormatter.formatToBuffer(record);
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(StreamingJsonFormatterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
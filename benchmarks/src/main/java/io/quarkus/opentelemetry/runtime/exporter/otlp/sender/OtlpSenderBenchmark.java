@@ -0,0 +1,256 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.internal.grpc.GrpcExporter;
+import io.opentelemetry.exporter.internal.http.HttpExporter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InternalTelemetryVersion;
+import io.opentelemetry.sdk.common.export.GrpcResponse;
+import io.opentelemetry.sdk.common.export.GrpcSender;
+import io.opentelemetry.sdk.common.export.HttpResponse;
+import io.opentelemetry.sdk.common.export.HttpSender;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.common.export.MessageWriter;
+import io.opentelemetry.sdk.common.internal.ComponentId;
+import io.opentelemetry.sdk.common.internal.StandardComponentId;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxHttpSpanExporter;
+import io.quarkus.vertx.core.runtime.BufferOutputStream;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+
+/**
+ * Measures the time needed to export a batch of spans with the {@link VertxHttpSender} and the {@link VertxGrpcSender} to
+ * a local stub of an OTLP receiver, which discards the requests. Run with {@code -prof gc} to compare the allocations too.
+ * <p>
+ * With {@code pooled}, the senders write the messages to a {@link PooledBufferOutputStream}. With {@code heap}, the
+ * messages are written like before: to a heap buffer of the size of the message, which is then copied to the direct
+ * buffer the senders write to, like Netty did to write the heap buffer to the socket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OtlpSenderBenchmark {
+
+    static final int WINDOW_SIZE = 4 * 1024 * 1024;
+
+    @Param({ "http", "grpc" })
+    public String protocol;
+
+    @Param({ "heap", "pooled" })
+    public String buffer;
+
+    @Param({ "128", "1024" })
+    public int batchSize;
+
+    private Vertx vertx;
+    private SpanExporter exporter;
+    private List<SpanData> spans;
+
+    @Setup
+    public void setup() throws Exception {
+        vertx = Vertx.vertx();
+        // Accepts HTTP/1.1 and HTTP/2 cleartext connections with prior knowledge, like the gRPC sender uses. The flow
+        // control windows are large enough for a batch, like the windows of the collectors.
+        HttpServer server = vertx.createHttpServer(new HttpServerOptions()
+                .setInitialSettings(new Http2Settings().setInitialWindowSize(WINDOW_SIZE))
+                .setHttp2ConnectionWindowSize(WINDOW_SIZE)).requestHandler(request -> request.end().onSuccess(ignored -> {
+                    if ("application/grpc".equals(request.getHeader("content-type"))) {
+                        request.response()
+                                .putHeader("content-type", "application/grpc")
+                                .putTrailer("grpc-status", "0")
+                                .end();
+                    } else {
+                        request.response().setStatusCode(200).end();
+                    }
+                })).listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        URI uri = URI.create("http://localhost:" + server.actualPort());
+        boolean heap = "heap".equals(buffer);
+        if ("grpc".equals(protocol)) {
+            GrpcSender sender = new VertxGrpcSender(uri, VertxGrpcSender.GRPC_TRACE_SERVICE_NAME, false,
+                    Duration.ofSeconds(10), Map.of(), options -> {
+                    }, vertx);
+            exporter = new VertxGrpcSpanExporter(new GrpcExporter(heap ? new HeapBufferGrpcSender(sender) : sender,
+                    InternalTelemetryVersion.LATEST,
+                    ComponentId.generateLazy(StandardComponentId.ExporterType.OTLP_GRPC_SPAN_EXPORTER),
+                    MeterProvider::noop, uri), MemoryMode.IMMUTABLE_DATA);
+        } else {
+            HttpSender sender = new VertxHttpSender(uri, VertxHttpSender.TRACES_PATH, false, Duration.ofSeconds(10),
+                    Map.of(), "application/x-protobuf", options -> {
+                    }, vertx);
+            exporter = new VertxHttpSpanExporter(new HttpExporter(
+                    ComponentId.generateLazy(StandardComponentId.ExporterType.OTLP_HTTP_SPAN_EXPORTER),
+                    heap ? new HeapBufferHttpSender(sender) : sender, MeterProvider::noop,
+                    InternalTelemetryVersion.LATEST, uri, false), MemoryMode.IMMUTABLE_DATA);
+        }
+        spans = spans(batchSize);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        exporter.shutdown().join(10, TimeUnit.SECONDS);
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public boolean export() {
+        return exporter.export(spans).join(10, TimeUnit.SECONDS).isSuccess();
+    }
+
+    private static List<SpanData> spans(int count) {
+        List<SpanData> spans = new ArrayList<>(count);
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder().addSpanProcessor(new SpanProcessor() {
+            @Override
+            public void onStart(Context parentContext, ReadWriteSpan span) {
+            }
+
+            @Override
+            public boolean isStartRequired() {
+                return false;
+            }
+
+            @Override
+            public void onEnd(ReadableSpan span) {
+                spans.add(span.toSpanData());
+            }
+
+            @Override
+            public boolean isEndRequired() {
+                return true;
+            }
+        }).build();
+        Tracer tracer = tracerProvider.get("benchmark");
+        for (int i = 0; i < count; i++) {
+            // A typical server span of a REST endpoint
+            Span span = tracer.spanBuilder("GET /items/{id}")
+                    .setSpanKind(SpanKind.SERVER)
+                    .setAttribute("http.request.method", "GET")
+                    .setAttribute("http.route", "/items/{id}")
+                    .setAttribute("url.path", "/items/" + i)
+                    .setAttribute("url.scheme", "http")
+                    .setAttribute("server.address", "localhost")
+                    .setAttribute(AttributeKey.longKey("server.port"), 8080L)
+                    .setAttribute("user_agent.original", "Mozilla/5.0 (X11; Linux x86_64)")
+                    .setAttribute(AttributeKey.longKey("http.response.status_code"), 200L)
+                    .startSpan();
+            span.addEvent("item loaded");
+            span.end();
+        }
+        tracerProvider.close();
+        return spans;
+    }
+
+    /**
+     * Writes the messages to a heap buffer of the size of the message first, like the senders did before.
+     */
+    static final class HeapBufferMessageWriter implements MessageWriter {
+
+        private final MessageWriter delegate;
+
+        HeapBufferMessageWriter(MessageWriter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void writeMessage(OutputStream output) throws IOException {
+            Buffer buffer = Buffer.buffer(delegate.getContentLength());
+            delegate.writeMessage(new BufferOutputStream(buffer));
+            buffer.getByteBuf().getBytes(0, output, buffer.length());
+        }
+
+        @Override
+        public int getContentLength() {
+            return delegate.getContentLength();
+        }
+    }
+
+    static final class HeapBufferHttpSender implements HttpSender {
+
+        private final HttpSender delegate;
+
+        HeapBufferHttpSender(HttpSender delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void send(MessageWriter messageWriter, Consumer<HttpResponse> onResponse, Consumer<Throwable> onError) {
+            delegate.send(new HeapBufferMessageWriter(messageWriter), onResponse, onError);
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return delegate.shutdown();
+        }
+    }
+
+    static final class HeapBufferGrpcSender implements GrpcSender {
+
+        private final GrpcSender delegate;
+
+        HeapBufferGrpcSender(GrpcSender delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void send(MessageWriter messageWriter, Consumer<GrpcResponse> onResponse, Consumer<Throwable> onError) {
+            delegate.send(new HeapBufferMessageWriter(messageWriter), onResponse, onError);
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return delegate.shutdown();
+        }
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(OtlpSenderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
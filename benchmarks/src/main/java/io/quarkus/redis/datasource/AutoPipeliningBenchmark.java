@@ -0,0 +1,100 @@
+package io.quarkus.redis.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Context;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+
+/**
+ * Measures the throughput of GET commands issued on the same event loop, with and without auto-pipelining.
+ * <p>
+ * A Redis server must be listening on {@code redis://localhost:6379}, or on the URL given with {@code -p url=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoPipeliningBenchmark {
+
+    // the pool only accepts a limited number of waiting requests, so the commands are issued in chunks
+    static final int CHUNK = 20;
+
+    @Param({ "false", "true" })
+    public boolean autoPipelining;
+
+    @Param("redis://localhost:6379")
+    public String url;
+
+    private Vertx vertx;
+    private Redis redis;
+    private Context context;
+    private ReactiveValueCommands<String, String> strings;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        redis = Redis.createClient(vertx, url);
+        context = vertx.getOrCreateContext();
+        ReactiveRedisDataSourceImpl ds = new ReactiveRedisDataSourceImpl(vertx, redis, RedisAPI.api(redis),
+                autoPipelining, 2048);
+        strings = ds.value(String.class, String.class);
+        strings.set("benchmark", "value").await().indefinitely();
+    }
+
+    @TearDown
+    public void tearDown() {
+        redis.close();
+        vertx.closeAndAwait();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public List<String> get() throws Exception {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        context.runOnContext(() -> {
+            List<Uni<String>> unis = new ArrayList<>(CHUNK);
+            for (int i = 0; i < CHUNK; i++) {
+                unis.add(strings.get("benchmark"));
+            }
+            Uni.join().all(unis).andFailFast()
+                    .subscribe().with(result::complete, result::completeExceptionally);
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(AutoPipeliningBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,157 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Measures the time needed to read a request body with {@link ObjectMapper#readValue(byte[], Class)}, with the
+ * reflection based deserializers of Jackson or with the deserializers generated by the
+ * {@link JacksonDeserializerFactory}, for a record, a polymorphic type and a list of records. The deserializers are
+ * generated and registered like the build step does when the reflection-free serializers are enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonDeserializerBenchmark {
+
+    static final int CUSTOMERS = 100;
+
+    @Param({ "false", "true" })
+    public boolean generated;
+
+    private ObjectMapper mapper;
+    private JavaType customerList;
+    private byte[] customerJson;
+    private byte[] shapeJson;
+    private byte[] customersJson;
+
+    @Setup
+    public void setup() throws Exception {
+        mapper = new ObjectMapper();
+        if (generated) {
+            mapper.registerModule(generatedDeserializers());
+        }
+        customerList = mapper.getTypeFactory().constructCollectionType(List.class, Customer.class);
+        customerJson = customer(1).getBytes(StandardCharsets.UTF_8);
+        shapeJson = "{\"type\":\"rectangle\",\"width\":12.5,\"height\":4.25,\"label\":\"Main area\"}"
+                .getBytes(StandardCharsets.UTF_8);
+        StringBuilder customers = new StringBuilder("[");
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customers.append(i == 0 ? "" : ",").append(customer(i));
+        }
+        customersJson = customers.append("]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String customer(int id) {
+        return "{\"id\":" + id + ",\"name\":\"Customer " + id + "\",\"email\":\"customer" + id
+                + "@example.com\",\"active\":true,\"address\":{\"street\":\"" + id
+                + " Main Street\",\"city\":\"Springfield\",\"zip\":\"12345\"}}";
+    }
+
+    private static SimpleModule generatedDeserializers() throws Exception {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : List.of(Customer.class, Address.class, Shape.class, Circle.class, Rectangle.class,
+                Iterable.class, Collection.class, List.class, Set.class, Map.class)) {
+            indexer.indexClass(clazz);
+        }
+        Index index = indexer.complete();
+        Map<String, byte[]> classes = new HashMap<>();
+        JacksonDeserializerFactory factory = new JacksonDeserializerFactory(
+                generatedClass -> classes.put(generatedClass.binaryName(), generatedClass.getClassData()), index);
+        // The build step passes the types of the request bodies, e.g. Customer for List<Customer>
+        Collection<String> deserializers = factory
+                .create(List.of(index.getClassByName(Customer.class), index.getClassByName(Shape.class)));
+
+        ClassLoader classLoader = new ClassLoader(JacksonDeserializerBenchmark.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] bytes = classes.get(name);
+                if (bytes == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        SimpleModule module = new SimpleModule();
+        for (String deserializer : deserializers) {
+            StdDeserializer instance = (StdDeserializer) classLoader.loadClass(deserializer).getConstructor().newInstance();
+            module.addDeserializer(instance.handledType(), instance);
+        }
+        return module;
+    }
+
+    @Benchmark
+    public Customer record() throws IOException {
+        return mapper.readValue(customerJson, Customer.class);
+    }
+
+    @Benchmark
+    public Shape polymorphic() throws IOException {
+        return mapper.readValue(shapeJson, Shape.class);
+    }
+
+    @Benchmark
+    public List<Customer> collection() throws IOException {
+        return mapper.readValue(customersJson, customerList);
+    }
+
+    public record Customer(long id, String name, String email, boolean active, Address address) {
+    }
+
+    public record Address(String street, String city, String zip) {
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+    @JsonSubTypes({ @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Rectangle.class, name = "rectangle") })
+    public interface Shape {
+    }
+
+    public record Circle(double radius, String label) implements Shape {
+    }
+
+    public record Rectangle(double width, double height, String label) implements Shape {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(JacksonDeserializerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time of a check of jobs that fire every 1 to 60 minutes, with a check every second, with the
+ * {@link TimingWheel} and with a scan of all the jobs. The scan only compares two numbers per job, which is much cheaper
+ * than the evaluation of a trigger, i.e. the real difference is larger.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int jobs;
+
+    private long[] intervals;
+    private long[] fireTimes;
+    private TimingWheel<Integer> wheel;
+    private long tick;
+    private int executions;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        intervals = new long[jobs];
+        fireTimes = new long[jobs];
+        wheel = new TimingWheel<>(0);
+        for (int i = 0; i < jobs; i++) {
+            intervals[i] = 60 * (1 + random.nextInt(60));
+            fireTimes[i] = 1 + random.nextInt((int) intervals[i]);
+            wheel.schedule(i, fireTimes[i]);
+        }
+        tick = 0;
+    }
+
+    @Benchmark
+    public int wheel() {
+        wheel.advance(++tick, job -> {
+            executions++;
+            fireTimes[job] += intervals[job];
+            wheel.schedule(job, fireTimes[job]);
+        });
+        return executions;
+    }
+
+    @Benchmark
+    public int scan() {
+        tick++;
+        for (int i = 0; i < fireTimes.length; i++) {
+            if (fireTimes[i] <= tick) {
+                executions++;
+                fireTimes[i] += intervals[i];
+            }
+        }
+        return executions;
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(TimingWheelBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
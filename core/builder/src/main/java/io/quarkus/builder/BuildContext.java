@@ -221,7 +221,7 @@ void depFinished() {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(stepInfo);
         }
     }
 
@@ -233,6 +233,7 @@ void run() {
         final LocalTime started = LocalTime.now();
         final Thread currentThread = Thread.currentThread();
         log.tracef("Starting step \"%s\"", buildStep);
+        execution.stepStarted();
         try {
             if (!execution.isErrorReported()) {
                 running = true;
@@ -250,7 +251,9 @@ void run() {
                 }
             }
         } finally {
-            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            final long nanos = System.nanoTime() - start;
+            execution.stepFinished(stepInfo, nanos);
+            long duration = TimeUnit.NANOSECONDS.toMillis(nanos);
             execution.getMetrics().buildStepFinished(stepInfo, currentThread.getName(), started, duration);
             log.tracef("Finished step \"%s\" in %s ms", buildStep, duration);
             execution.removeBuildContext(stepInfo, this);
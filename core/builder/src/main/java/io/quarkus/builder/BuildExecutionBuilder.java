@@ -17,6 +17,7 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final MultiBuildItems multis;
+    private BuildStepDurations previousStepDurations = BuildStepDurations.EMPTY;
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -66,6 +67,20 @@ public <T extends BuildItem> BuildExecutionBuilder produce(Class<T> type, T item
         return this;
     }
 
+    /**
+     * Provide the step durations recorded by a previous build. When there are more steps ready to run than build threads,
+     * the steps that start the longest chains of dependent steps, estimated from these durations, run first.
+     *
+     * @param previousStepDurations the step durations (must not be {@code null})
+     * @return this builder
+     * @see BuildResult#getStepDurations()
+     */
+    public BuildExecutionBuilder setPreviousStepDurations(BuildStepDurations previousStepDurations) {
+        Assert.checkNotNullParam("previousStepDurations", previousStepDurations);
+        this.previousStepDurations = previousStepDurations;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -99,6 +114,10 @@ MultiBuildItems getMultis() {
         return multis;
     }
 
+    BuildStepDurations getPreviousStepDurations() {
+        return previousStepDurations;
+    }
+
     BuildChain getChain() {
         return buildChain;
     }
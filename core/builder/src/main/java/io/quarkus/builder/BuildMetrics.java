@@ -37,6 +37,9 @@ public class BuildMetrics {
 
     private volatile LocalDateTime started;
     private volatile long duration;
+    private volatile long stepsDuration;
+    private volatile int peakParallelism;
+    private volatile long criticalPathDuration;
     private final String buildTargetName;
     // build step id -> record
     private final ConcurrentMap<String, BuildStepRecord> records;
@@ -81,6 +84,45 @@ public void buildFinished(long duration) {
         this.duration = duration;
     }
 
+    /**
+     * @return the duration of the build in ms
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    void parallelismRecorded(long stepsDuration, int peakParallelism, long criticalPathDuration) {
+        this.stepsDuration = stepsDuration;
+        this.peakParallelism = peakParallelism;
+        this.criticalPathDuration = criticalPathDuration;
+    }
+
+    /**
+     * The parallelism is recorded even if the metrics are not enabled.
+     *
+     * @return the sum of the durations of the build steps divided by the duration of the build
+     */
+    public double getAverageParallelism() {
+        return duration > 0 ? (double) stepsDuration / duration : 0;
+    }
+
+    /**
+     * @return the maximum number of build steps that ran concurrently
+     */
+    public int getPeakParallelism() {
+        return peakParallelism;
+    }
+
+    /**
+     * The duration of the longest chain of dependent build steps, i.e. the lower bound of the duration of the build no
+     * matter how many build threads are available.
+     *
+     * @return the duration in ms
+     */
+    public long getCriticalPathDuration() {
+        return criticalPathDuration;
+    }
+
     public void buildStepFinished(StepInfo stepInfo, String thread, LocalTime started, long duration) {
         if (enabled()) {
             records.put(stepInfo.getBuildStep().getId(),
@@ -125,6 +167,10 @@ public int compare(BuildStepRecord o1, BuildStepRecord o2) {
             json.put("buildTarget", buildTargetName);
             json.put("started", started.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
             json.put("duration", duration);
+            json.put("parallelism", Json.object()
+                    .put("stepsDuration", stepsDuration)
+                    .put("peak", peakParallelism)
+                    .put("criticalPath", criticalPathDuration));
 
             JsonArrayBuilder steps = Json.array();
             json.put("records", steps);
@@ -24,16 +24,19 @@ public final class BuildResult {
     private final long nanos;
     private final BuildMetrics metrics;
     private final ClassLoader deploymentClassLoader;
+    private final BuildStepDurations stepDurations;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final MultiBuildItems multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos, BuildMetrics metrics, ClassLoader classLoader) {
+            final List<Diagnostic> diagnostics, final long nanos, BuildMetrics metrics, ClassLoader classLoader,
+            BuildStepDurations stepDurations) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
         this.metrics = metrics;
         this.deploymentClassLoader = classLoader;
+        this.stepDurations = stepDurations;
     }
 
     /**
@@ -113,6 +116,14 @@ public BuildMetrics getMetrics() {
         return metrics;
     }
 
+    /**
+     * @return the durations of the build steps, to be passed to the next build
+     * @see BuildExecutionBuilder#setPreviousStepDurations(BuildStepDurations)
+     */
+    public BuildStepDurations getStepDurations() {
+        return stepDurations;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
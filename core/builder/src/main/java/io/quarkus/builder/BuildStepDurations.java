@@ -0,0 +1,124 @@
+package io.quarkus.builder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.bootstrap.json.Json;
+import io.quarkus.bootstrap.json.Json.JsonArrayBuilder;
+import io.quarkus.bootstrap.json.Json.JsonObjectBuilder;
+import io.quarkus.bootstrap.json.JsonArray;
+import io.quarkus.bootstrap.json.JsonInteger;
+import io.quarkus.bootstrap.json.JsonObject;
+import io.quarkus.bootstrap.json.JsonReader;
+import io.quarkus.bootstrap.json.JsonString;
+import io.quarkus.bootstrap.json.JsonValue;
+
+/**
+ * The durations of the build steps of a build, in microseconds, keyed by the build step id.
+ * <p>
+ * The durations recorded by a build are persisted in the build output, and the next build uses them to start the
+ * longest chains of dependent build steps first.
+ *
+ * @see BuildResult#getStepDurations()
+ * @see BuildExecutionBuilder#setPreviousStepDurations(BuildStepDurations)
+ */
+public final class BuildStepDurations {
+
+    /**
+     * The name of the file the durations are persisted to in the build directory.
+     */
+    public static final String FILE_NAME = "build-step-durations.json";
+
+    static final BuildStepDurations EMPTY = new BuildStepDurations(Collections.emptyMap());
+
+    private final Map<String, Long> durations;
+
+    BuildStepDurations(Map<String, Long> durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * @param stepId the build step id
+     * @return the duration in microseconds, or {@code -1} if the duration of the step is not known
+     */
+    public long getDuration(String stepId) {
+        Long duration = durations.get(stepId);
+        return duration != null ? duration : -1;
+    }
+
+    /**
+     * @return the number of build steps
+     */
+    public int size() {
+        return durations.size();
+    }
+
+    /**
+     * @return the average duration in microseconds, or {@code 0} if there are no durations
+     */
+    long getAverageDuration() {
+        if (durations.isEmpty()) {
+            return 0;
+        }
+        long sum = 0;
+        for (Long duration : durations.values()) {
+            sum += duration;
+        }
+        return sum / durations.size();
+    }
+
+    /**
+     * Writes the durations to the given file.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        JsonArrayBuilder steps = Json.array();
+        for (Map.Entry<String, Long> e : durations.entrySet()) {
+            steps.add(Json.object()
+                    .put("stepId", e.getKey())
+                    .put("duration", e.getValue().longValue()));
+        }
+        JsonObjectBuilder json = Json.object();
+        json.put("steps", steps);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            json.appendTo(writer);
+        }
+    }
+
+    /**
+     * Reads the durations written by {@link #writeTo(Path)}.
+     *
+     * @param file the file
+     * @return the durations, empty if the file does not exist
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static BuildStepDurations readFrom(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return EMPTY;
+        }
+        Map<String, Long> durations = new HashMap<>();
+        try {
+            JsonObject json = JsonReader.of(Files.readString(file, StandardCharsets.UTF_8)).read();
+            JsonArray steps = json.get("steps");
+            if (steps != null) {
+                for (JsonValue value : steps.value()) {
+                    JsonObject step = (JsonObject) value;
+                    JsonString stepId = step.get("stepId");
+                    JsonInteger duration = step.get("duration");
+                    durations.put(stepId.value(), duration.longValue());
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed build step durations file: " + file, e);
+        }
+        return new BuildStepDurations(durations);
+    }
+}
@@ -4,14 +4,20 @@
 import static java.util.concurrent.locks.LockSupport.park;
 import static java.util.concurrent.locks.LockSupport.unpark;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.EnhancedQueueExecutor;
@@ -26,6 +32,9 @@ final class Execution {
 
     static final Logger log = Logger.getLogger("io.quarkus.builder");
 
+    static final boolean CRITICAL_PATH_SCHEDULING = Boolean
+            .parseBoolean(System.getProperty("quarkus.builder.critical-path-scheduling", "true"));
+
     private final BuildChain chain;
     private final ConcurrentHashMap<ItemId, BuildItem> singles;
     private final MultiBuildItems multis;
@@ -41,6 +50,16 @@ final class Execution {
 
     private final BuildMetrics metrics;
 
+    // all the steps of the chain, indexed by ordinal
+    private final StepInfo[] steps;
+    // the steps ready to run, the step with the longest remaining chain first; null if the steps run in submission order
+    private final PriorityBlockingQueue<StepInfo> readySteps;
+    // the duration of each step in this build, indexed by ordinal
+    private final long[] stepNanos;
+    private final AtomicInteger runningSteps = new AtomicInteger();
+    private final AtomicInteger peakRunningSteps = new AtomicInteger();
+    private final AtomicLong totalStepNanos = new AtomicLong();
+
     static {
         try {
             Class.forName("org.jboss.threads.EnhancedQueueExecutor$1", false, Execution.class.getClassLoader());
@@ -71,6 +90,75 @@ final class Execution {
             done = true;
 
         metrics = new BuildMetrics(buildTargetName);
+
+        steps = collectSteps(chain.getStartSteps());
+        stepNanos = new long[steps.length];
+        if (CRITICAL_PATH_SCHEDULING) {
+            long[] remaining = remainingChainDurations(steps, estimateDurations(steps, builder.getPreviousStepDurations()));
+            readySteps = new PriorityBlockingQueue<>(Math.max(1, steps.length), longestChainFirst(remaining));
+        } else {
+            readySteps = null;
+        }
+    }
+
+    /**
+     * @return all the steps reachable from the start steps, indexed by ordinal
+     */
+    static StepInfo[] collectSteps(Set<StepInfo> startSteps) {
+        Map<Integer, StepInfo> collected = new HashMap<>();
+        ArrayDeque<StepInfo> queue = new ArrayDeque<>(startSteps);
+        int maxOrdinal = -1;
+        StepInfo step;
+        while ((step = queue.poll()) != null) {
+            if (collected.putIfAbsent(step.getOrdinal(), step) == null) {
+                maxOrdinal = max(maxOrdinal, step.getOrdinal());
+                queue.addAll(step.getDependents());
+            }
+        }
+        StepInfo[] steps = new StepInfo[maxOrdinal + 1];
+        for (StepInfo s : collected.values()) {
+            steps[s.getOrdinal()] = s;
+        }
+        return steps;
+    }
+
+    /**
+     * The steps whose duration is unknown, e.g. the steps of a new extension, are given the average duration of the known
+     * steps. If no duration is known at all then every step counts for one, i.e. the longest chains are the chains with
+     * the most steps.
+     *
+     * @return the estimated duration of each step, indexed by ordinal
+     */
+    static long[] estimateDurations(StepInfo[] steps, BuildStepDurations previous) {
+        long unknown = max(1, previous.getAverageDuration());
+        long[] durations = new long[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            if (steps[i] != null) {
+                long duration = previous.getDuration(steps[i].getBuildStep().getId());
+                durations[i] = duration >= 0 ? duration : unknown;
+            }
+        }
+        return durations;
+    }
+
+    /**
+     * The ordinals are a topological ordering where the dependents of a step have a greater ordinal than the step itself,
+     * so the chains can be computed in a single pass in reverse order.
+     *
+     * @return the duration of the longest chain of dependent steps starting with each step, indexed by ordinal
+     */
+    static long[] remainingChainDurations(StepInfo[] steps, long[] durations) {
+        long[] remaining = new long[steps.length];
+        for (int i = steps.length - 1; i >= 0; i--) {
+            if (steps[i] != null) {
+                long longestDependent = 0;
+                for (StepInfo dependent : steps[i].getDependents()) {
+                    longestDependent = max(longestDependent, remaining[dependent.getOrdinal()]);
+                }
+                remaining[i] = durations[i] + longestDependent;
+            }
+        }
+        return remaining;
     }
 
     private static int defineMaxPoolSize(final int availableProcessors, final int corePoolSize) {
@@ -105,7 +193,7 @@ BuildResult run() throws BuildException {
         // run the build
         final Set<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(startStep);
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -150,8 +238,73 @@ BuildResult run() throws BuildException {
 
         long duration = max(0, System.nanoTime() - start);
         metrics.buildFinished(TimeUnit.NANOSECONDS.toMillis(duration));
+        reportParallelism();
         return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                duration, metrics, chain.getClassLoader());
+                duration, metrics, chain.getClassLoader(), recordedStepDurations());
+    }
+
+    /**
+     * @param remaining the duration of the longest chain starting with each step, indexed by ordinal
+     * @return the order of the steps, the step that starts the longest chain first
+     */
+    static Comparator<StepInfo> longestChainFirst(long[] remaining) {
+        return Comparator.<StepInfo> comparingLong(s -> remaining[s.getOrdinal()]).reversed()
+                .thenComparingInt(StepInfo::getOrdinal);
+    }
+
+    /**
+     * Schedules a step whose dependencies have all finished. When the executor has more ready steps than threads, the
+     * step with the longest remaining chain of dependent steps runs first so that the long chains do not end up running
+     * alone at the end of the build.
+     */
+    void schedule(StepInfo stepInfo) {
+        if (readySteps == null) {
+            executor.execute(getBuildContext(stepInfo)::run);
+        } else {
+            readySteps.add(stepInfo);
+            // every task runs exactly one step, which is the best step ready when the task starts
+            executor.execute(this::runNextReadyStep);
+        }
+    }
+
+    private void runNextReadyStep() {
+        getBuildContext(readySteps.poll()).run();
+    }
+
+    void stepStarted() {
+        int running = runningSteps.incrementAndGet();
+        int peak;
+        while ((peak = peakRunningSteps.get()) < running && !peakRunningSteps.compareAndSet(peak, running)) {
+            // retry
+        }
+    }
+
+    void stepFinished(StepInfo stepInfo, long nanos) {
+        runningSteps.decrementAndGet();
+        totalStepNanos.addAndGet(nanos);
+        stepNanos[stepInfo.getOrdinal()] = nanos;
+    }
+
+    private void reportParallelism() {
+        long criticalPathNanos = 0;
+        for (long remaining : remainingChainDurations(steps, stepNanos)) {
+            criticalPathNanos = max(criticalPathNanos, remaining);
+        }
+        metrics.parallelismRecorded(TimeUnit.NANOSECONDS.toMillis(totalStepNanos.get()), peakRunningSteps.get(),
+                TimeUnit.NANOSECONDS.toMillis(criticalPathNanos));
+        log.debugf("Build steps ran for %s ms in %s ms: average parallelism %.2f, peak parallelism %s, critical path %s ms",
+                TimeUnit.NANOSECONDS.toMillis(totalStepNanos.get()), metrics.getDuration(),
+                metrics.getAverageParallelism(), metrics.getPeakParallelism(), metrics.getCriticalPathDuration());
+    }
+
+    private BuildStepDurations recordedStepDurations() {
+        Map<String, Long> durations = new HashMap<>();
+        for (int i = 0; i < steps.length; i++) {
+            if (steps[i] != null) {
+                durations.put(steps[i].getBuildStep().getId(), TimeUnit.NANOSECONDS.toMicros(stepNanos[i]));
+            }
+        }
+        return new BuildStepDurations(durations);
     }
 
     EnhancedQueueExecutor getExecutor() {
@@ -0,0 +1,199 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+public class CriticalPathSchedulingTest {
+
+    private static final Logger LOG = Logger.getLogger(CriticalPathSchedulingTest.class);
+
+    public static final class DummyItem extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem2 extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testRemainingChainDurations() {
+        // a -> b -> d and a -> c -> d
+        StepInfo d = step("d", 3, 2);
+        StepInfo b = step("b", 1, 1, d);
+        StepInfo c = step("c", 2, 1, d);
+        StepInfo a = step("a", 0, 0, b, c);
+        StepInfo[] steps = Execution.collectSteps(Set.of(a));
+        assertArrayEquals(new StepInfo[] { a, b, c, d }, steps);
+
+        long[] remaining = Execution.remainingChainDurations(steps, new long[] { 1, 5, 2, 1 });
+        assertArrayEquals(new long[] { 7, 6, 3, 1 }, remaining);
+    }
+
+    @Test
+    public void testEstimateDurations() {
+        StepInfo d = step("d", 3, 2);
+        StepInfo b = step("b", 1, 1, d);
+        StepInfo c = step("c", 2, 1, d);
+        StepInfo a = step("a", 0, 0, b, c);
+        StepInfo[] steps = Execution.collectSteps(Set.of(a));
+
+        // The unknown steps are given the average duration
+        assertArrayEquals(new long[] { 10, 30, 20, 20 },
+                Execution.estimateDurations(steps, new BuildStepDurations(Map.of("a", 10L, "b", 30L, "x", 20L))));
+        // Without any duration, the chains with the most steps are the longest
+        assertArrayEquals(new long[] { 1, 1, 1, 1 }, Execution.estimateDurations(steps, BuildStepDurations.EMPTY));
+    }
+
+    @Test
+    public void testStepDurationsAndParallelism(@TempDir Path dir) throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(new NamedStep("producer") {
+            @Override
+            public void execute(BuildContext context) {
+                sleep(20);
+                context.produce(new DummyItem());
+            }
+        }).produces(DummyItem.class).build();
+        builder.addBuildStep(new NamedStep("consumer") {
+            @Override
+            public void execute(BuildContext context) {
+                sleep(20);
+                assertNotNull(context.consume(DummyItem.class));
+                context.produce(new DummyItem2());
+            }
+        }).consumes(DummyItem.class).produces(DummyItem2.class).build();
+        builder.addFinal(DummyItem2.class);
+        BuildChain chain = builder.build();
+
+        Path file = dir.resolve(BuildStepDurations.FILE_NAME);
+        assertEquals(0, BuildStepDurations.readFrom(file).size());
+
+        BuildResult result = chain.createExecutionBuilder("my-app.jar")
+                .setPreviousStepDurations(BuildStepDurations.readFrom(file))
+                .execute();
+        BuildStepDurations durations = result.getStepDurations();
+        assertTrue(durations.getDuration("producer") >= 20_000);
+        assertTrue(durations.getDuration("consumer") >= 20_000);
+        assertEquals(-1, durations.getDuration("unknown"));
+        assertEquals(1, result.getMetrics().getPeakParallelism());
+        assertTrue(result.getMetrics().getCriticalPathDuration() >= 40);
+
+        durations.writeTo(file);
+        BuildStepDurations read = BuildStepDurations.readFrom(file);
+        assertEquals(durations.size(), read.size());
+        assertEquals(durations.getDuration("producer"), read.getDuration("producer"));
+        assertEquals(durations.getDuration("consumer"), read.getDuration("consumer"));
+
+        // The next build uses the durations of the previous one
+        assertNotNull(chain.createExecutionBuilder("my-app.jar").setPreviousStepDurations(read).execute()
+                .consume(DummyItem2.class));
+    }
+
+    /**
+     * Simulates a build of a chain of 10 steps and 20 independent steps on 2 threads, where the independent steps are
+     * ready first, and compares the duration of the build when the steps run in submission order and when the longest
+     * chain runs first.
+     */
+    @Test
+    public void testLongestChainFirst() {
+        int chainLength = 10;
+        int independent = 20;
+        StepInfo[] steps = new StepInfo[chainLength + independent];
+        StepInfo next = null;
+        for (int i = steps.length - 1; i >= independent; i--) {
+            next = next == null ? step("chain" + i, i, i == independent ? 0 : 1)
+                    : step("chain" + i, i, i == independent ? 0 : 1, next);
+            steps[i] = next;
+        }
+        for (int i = 0; i < independent; i++) {
+            steps[i] = step("independent" + i, i, 0);
+        }
+        long[] durations = new long[steps.length];
+        Arrays.fill(durations, 10);
+
+        long fifo = simulate(steps, durations, new ArrayDeque<>(), 2);
+        long longestChainFirst = simulate(steps, durations,
+                new PriorityQueue<>(Execution.longestChainFirst(Execution.remainingChainDurations(steps, durations))), 2);
+        assertEquals(200, fifo);
+        assertEquals(150, longestChainFirst);
+        LOG.infof("Simulated build: %s in submission order, %s with the longest chain first", fifo, longestChainFirst);
+    }
+
+    private static long simulate(StepInfo[] steps, long[] durations, Queue<StepInfo> ready, int threads) {
+        int[] pending = new int[steps.length];
+        for (StepInfo step : steps) {
+            pending[step.getOrdinal()] = step.getDependencies();
+            if (step.getDependencies() == 0) {
+                ready.add(step);
+            }
+        }
+        // end time and ordinal of the running steps
+        PriorityQueue<long[]> running = new PriorityQueue<>((r1, r2) -> Long.compare(r1[0], r2[0]));
+        long now = 0;
+        while (!ready.isEmpty() || !running.isEmpty()) {
+            while (running.size() < threads && !ready.isEmpty()) {
+                StepInfo step = ready.poll();
+                running.add(new long[] { now + durations[step.getOrdinal()], step.getOrdinal() });
+            }
+            long[] finished = running.poll();
+            now = finished[0];
+            for (StepInfo dependent : steps[(int) finished[1]].getDependents()) {
+                if (--pending[dependent.getOrdinal()] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        return now;
+    }
+
+    private static StepInfo step(String id, int ordinal, int dependencies, StepInfo... dependents) {
+        return new StepInfo(new NamedStep(id), Collections.emptySet(), Collections.emptySet(), dependencies,
+                Set.of(dependents), ordinal);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class NamedStep implements BuildStep {
+
+        private final String id;
+
+        NamedStep(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public void execute(BuildContext context) {
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+    }
+}
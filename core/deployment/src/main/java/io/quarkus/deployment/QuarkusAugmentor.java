@@ -1,5 +1,6 @@
 package io.quarkus.deployment;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,6 +24,7 @@
 import io.quarkus.builder.BuildExecutionBuilder;
 import io.quarkus.builder.BuildMetrics;
 import io.quarkus.builder.BuildResult;
+import io.quarkus.builder.BuildStepDurations;
 import io.quarkus.builder.item.BuildItem;
 import io.quarkus.deployment.builditem.AdditionalApplicationArchiveBuildItem;
 import io.quarkus.deployment.builditem.AppModelProviderBuildItem;
@@ -178,6 +180,17 @@ public BuildResult run() throws Exception {
             for (Consumer<BuildExecutionBuilder> customizer : buildExecutionCustomizers) {
                 customizer.accept(execBuilder);
             }
+            // The step durations of the previous build are used to start the longest chains of build steps first
+            final Path stepDurationsFile = targetDir != null && !launchMode.isRemoteDev()
+                    ? targetDir.resolve(BuildStepDurations.FILE_NAME)
+                    : null;
+            if (stepDurationsFile != null) {
+                try {
+                    execBuilder.setPreviousStepDurations(BuildStepDurations.readFrom(stepDurationsFile));
+                } catch (IOException e) {
+                    log.debugf(e, "Unable to read the build step durations from %s", stepDurationsFile);
+                }
+            }
 
             BuildResult buildResult = execBuilder.execute();
             String message = "Quarkus augmentation completed in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
@@ -193,6 +206,13 @@ public BuildResult run() throws Exception {
             if (targetDir != null) {
                 buildResult.getMetrics().dumpTo(targetDir.resolve("build-metrics.json"));
             }
+            if (stepDurationsFile != null) {
+                try {
+                    buildResult.getStepDurations().writeTo(stepDurationsFile);
+                } catch (IOException e) {
+                    log.debugf(e, "Unable to write the build step durations to %s", stepDurationsFile);
+                }
+            }
 
             return buildResult;
         } finally {
@@ -12,7 +12,6 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
 
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
@@ -34,6 +33,7 @@
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
 import io.quarkus.deployment.configuration.ClassLoadingConfig;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.maven.dependency.ArtifactCoords;
 import io.quarkus.maven.dependency.ArtifactKey;
@@ -50,6 +50,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +91,42 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Dependency index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * Whether the Jandex indexes computed for the dependencies are cached on disk, so that the dependencies are only
+         * indexed again when they change.
+         * <p>
+         * The dependencies that contain a `META-INF/jandex.idx` index are not cached since their index is read as fast
+         * as a cached one.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Whether the cache is shared by all the builds of the machine.
+         * <p>
+         * A shared cache identifies the dependencies by the hash of their content instead of their location, so that the
+         * identical dependencies of different applications are only indexed once. Hashing a dependency is much cheaper
+         * than indexing it, but more expensive than checking its location and last modification time.
+         */
+        @WithDefault("false")
+        boolean shared();
+
+        /**
+         * The directory of the cache.
+         * <p>
+         * By default, the cache is stored in the `quarkus-index-cache` directory of the build output directory, or in the
+         * `.quarkus/index-cache` directory of the user home if the cache is shared. A directory outside the build output
+         * directory can be used to keep the cache between clean builds, e.g. on a CI server. The cache is not pruned.
+         */
+        Optional<Path> directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,13 +145,29 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig,
+            BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.dependencyIndexCache = null;
+        if (indexCacheConfig.enabled()) {
+            Optional<Path> directory = indexCacheConfig.directory();
+            if (directory.isEmpty()) {
+                if (indexCacheConfig.shared()) {
+                    directory = Optional.of(Path.of(System.getProperty("user.home"), ".quarkus", "index-cache"));
+                } else if (buildSystemTarget.getOutputDirectory() != null) {
+                    directory = Optional.of(buildSystemTarget.getOutputDirectory().resolve("quarkus-index-cache"));
+                }
+            }
+            if (directory.isPresent()) {
+                indexCache.dependencyIndexCache = new DependencyIndexCache(directory.get(), indexCacheConfig.shared());
+            }
+        }
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources().entrySet()) {
@@ -127,6 +180,10 @@ ApplicationArchivesBuildItem build(
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 appMarkers, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
                 curateOutcomeBuildItem, removedResources);
+        if (indexCache.dependencyIndexCache != null) {
+            LOGGER.debugf("Dependency index cache %s: %s hits, %s misses", indexCache.dependencyIndexCache.getDirectory(),
+                    indexCache.dependencyIndexCache.getHits(), indexCache.dependencyIndexCache.getMisses());
+        }
 
         final OpenPathTree tree;
         if (root.getRootDirectories().size() == 1) {
@@ -233,7 +290,7 @@ private static ApplicationArchive createApplicationArchive(QuarkusBuildCloseable
             index = indexPathTree(openTree, removed);
         } else {
             openTree = buildCloseables.add(PathTree.ofArchive(dep).open());
-            index = handleJarPath(dep, indexCache, removed);
+            index = handleJarPath(dep, openTree, indexCache, removed);
         }
         return new ApplicationArchiveImpl(index, openTree, resolvedDependency);
     }
@@ -267,14 +324,13 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         if (root.isExcludedFromIndexing(rootPath)) {
                             return null;
                         }
-                        Index index = indexCache.cache.get(rootPath);
-                        if (index == null) {
-                            try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
-                            } catch (IOException ioe) {
-                                throw new UncheckedIOException(ioe);
-                            }
-                            indexCache.cache.put(rootPath, index);
+                        final Set<String> removedFromJar = removed.get(dependencyKey);
+                        final Index index;
+                        try {
+                            index = indexCache.indexJar(rootPath, tree, removedFromJar,
+                                    () -> IndexingUtil.indexTree(tree, removedFromJar));
+                        } catch (IOException ioe) {
+                            throw new UncheckedIOException(ioe);
                         }
                         appArchives.add(new ApplicationArchiveImpl(index, tree, cpe.getResolvedDependency()));
                         return null;
@@ -324,17 +380,12 @@ public void visitPath(PathVisit visit) {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache, Set<String> removed) {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try {
-                    return IndexingUtil.indexJar(path, removed);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
-                }
-            }
-        });
+    private static Index handleJarPath(Path path, PathTree tree, IndexCache indexCache, Set<String> removed) {
+        try {
+            return indexCache.indexJar(path, tree, removed, () -> IndexingUtil.indexJar(path, removed));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
     }
 
     /**
@@ -343,5 +394,31 @@ public Index apply(Path path) {
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        // the on-disk cache of the current build, null if disabled
+        DependencyIndexCache dependencyIndexCache;
+
+        Index indexJar(Path jar, PathTree tree, Set<String> removed, JarIndexer indexer) throws IOException {
+            Index index = cache.get(jar);
+            if (index == null) {
+                final boolean persistent = dependencyIndexCache != null
+                        && (removed != null || !tree.contains(IndexingUtil.JANDEX_INDEX));
+                if (persistent) {
+                    index = dependencyIndexCache.get(jar, removed);
+                }
+                if (index == null) {
+                    index = indexer.index();
+                    if (persistent) {
+                        dependencyIndexCache.put(jar, removed, index);
+                    }
+                }
+                cache.put(jar, index);
+            }
+            return index;
+        }
+    }
+
+    @FunctionalInterface
+    private interface JarIndexer {
+        Index index() throws IOException;
     }
 }
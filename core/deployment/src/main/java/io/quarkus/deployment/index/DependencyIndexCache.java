@@ -0,0 +1,269 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * On-disk cache of the Jandex indexes computed for the dependency jars, so that the jars are only indexed again when
+ * they change.
+ * <p>
+ * The cache is content-addressed: an index is stored in a file named after the hash of its inputs, i.e. the jar and the
+ * resources removed from the jar. By default, the jar is identified by its path, size and last modification time, which
+ * is cheap to compute but only matches the jar at the same location. A shared cache identifies the jar by the hash of its
+ * content instead, so that the identical jars used by the builds of different applications, or found in different
+ * repositories, are only indexed once on the machine. A jar that changes gets a new entry, and the entries are never
+ * updated in place, so concurrent builds sharing the directory at worst index a jar twice.
+ * <p>
+ * The key also contains the version of Jandex and of the format it writes the indexes with, since the builds sharing the
+ * directory may use different Jandex versions, which may index a jar differently or not read the indexes written by
+ * another version.
+ * <p>
+ * The jars and the cached indexes are read through memory mapped buffers, which avoids copying them to the heap.
+ * <p>
+ * The jars that contain an index themselves are not cached since reading their index is as fast as reading a cached one.
+ */
+final class DependencyIndexCache {
+
+    private static final Logger log = Logger.getLogger(DependencyIndexCache.class);
+
+    private static final String SUFFIX = ".idx";
+
+    // the jars are mapped by chunks so that the jars larger than 2 GB can be hashed too
+    private static final long MAX_MAPPED_CHUNK = 1 << 30;
+
+    static final String JANDEX_VERSION = jandexVersion();
+
+    private final Path directory;
+    private final boolean contentKeys;
+    private final String jandexVersion;
+    private int hits;
+    private int misses;
+
+    /**
+     * @param directory the directory of the cache
+     * @param contentKeys whether the jars are identified by the hash of their content instead of their location
+     */
+    DependencyIndexCache(Path directory, boolean contentKeys) {
+        this(directory, contentKeys, JANDEX_VERSION);
+    }
+
+    DependencyIndexCache(Path directory, boolean contentKeys, String jandexVersion) {
+        this.directory = directory;
+        this.contentKeys = contentKeys;
+        this.jandexVersion = jandexVersion;
+    }
+
+    /**
+     * @param jar the dependency jar
+     * @param removed the resources removed from the jar, may be {@code null}
+     * @return the cached index, or {@code null} if the jar has not been indexed yet
+     */
+    Index get(Path jar, Set<String> removed) {
+        Path file = file(jar, removed);
+        if (file == null || !Files.isRegularFile(file)) {
+            misses++;
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Index index = new IndexReader(new ByteBufferInputStream(channel.map(MapMode.READ_ONLY, 0, channel.size())))
+                    .read();
+            hits++;
+            return index;
+        } catch (Exception e) {
+            // A corrupted entry or an entry written by an incompatible Jandex version
+            log.debugf(e, "Unable to read the cached index of %s from %s", jar, file);
+            delete(file);
+            misses++;
+            return null;
+        }
+    }
+
+    /**
+     * Stores the index computed for a jar.
+     *
+     * @param jar the dependency jar
+     * @param removed the resources removed from the jar, may be {@code null}
+     * @param index the index
+     */
+    void put(Path jar, Set<String> removed, Index index) {
+        Path file = file(jar, removed);
+        if (file == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to cache the index of %s in %s", jar, directory);
+            if (tmp != null) {
+                delete(tmp);
+            }
+        }
+    }
+
+    int getHits() {
+        return hits;
+    }
+
+    int getMisses() {
+        return misses;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    private Path file(Path jar, Set<String> removed) {
+        StringBuilder key = new StringBuilder().append(jandexVersion).append('\n');
+        try {
+            if (contentKeys) {
+                key.append(contentHash(jar)).append('\n');
+            } else {
+                BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+                key.append(jar.toAbsolutePath().normalize()).append('\n')
+                        .append(attributes.size()).append('\n')
+                        .append(attributes.lastModifiedTime().toMillis()).append('\n');
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to compute the cache key of %s", jar);
+            return null;
+        }
+        if (removed != null) {
+            key.append("removed:\n");
+            // The order of the removed resources is not significant
+            for (String resource : new TreeSet<>(removed)) {
+                key.append(resource).append('\n');
+            }
+        }
+        return directory.resolve(HashUtil.sha256(key.toString()) + SUFFIX);
+    }
+
+    /**
+     * @return the version of Jandex and the version of the format of the indexes it writes, e.g. {@code 3.5.3:13}
+     */
+    private static String jandexVersion() {
+        String version = null;
+        try (InputStream in = Index.class.getResourceAsStream("/META-INF/maven/io.smallrye/jandex/pom.properties")) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                version = properties.getProperty("version");
+            }
+        } catch (IOException e) {
+            log.debugf(e, "Unable to read the version of Jandex");
+        }
+        if (version == null) {
+            // The location of the Jandex jar identifies its version in a repository
+            CodeSource codeSource = Index.class.getProtectionDomain().getCodeSource();
+            version = codeSource != null ? String.valueOf(codeSource.getLocation()) : "unknown";
+        }
+        // The format version is not exposed, it is read back from an empty index
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            new IndexWriter(out).write(Index.of(List.of()));
+            return version + ':' + new IndexReader(new ByteArrayInputStream(out.toByteArray())).getIndexVersion();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String contentHash(Path jar) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += MAX_MAPPED_CHUNK) {
+                digest.update(channel.map(MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_CHUNK, size - position)));
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
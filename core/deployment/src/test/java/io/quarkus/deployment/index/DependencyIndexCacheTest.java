@@ -0,0 +1,126 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DependencyIndexCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testCachedIndex() throws IOException {
+        Path jar = jar(dir.resolve("dep.jar"), Foo.class, Bar.class);
+        DependencyIndexCache cache = new DependencyIndexCache(dir.resolve("cache"), false);
+        assertNull(cache.get(jar, null));
+
+        cache.put(jar, null, IndexingUtil.indexJar(jar));
+        Index index = cache.get(jar, null);
+        assertNotNull(index);
+        assertNotNull(index.getClassByName(DotName.createSimple(Foo.class.getName())));
+        assertNotNull(index.getClassByName(DotName.createSimple(Bar.class.getName())));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // The removed resources are part of the key
+        Set<String> removed = Set.of(Bar.class.getName().replace('.', '/') + ".class");
+        assertNull(cache.get(jar, removed));
+        cache.put(jar, removed, IndexingUtil.indexJar(jar, removed));
+        index = cache.get(jar, removed);
+        assertNotNull(index.getClassByName(DotName.createSimple(Foo.class.getName())));
+        assertNull(index.getClassByName(DotName.createSimple(Bar.class.getName())));
+
+        // A new cache instance, i.e. the next build, reads the persisted entries
+        assertNotNull(new DependencyIndexCache(dir.resolve("cache"), false).get(jar, null));
+    }
+
+    @Test
+    public void testModifiedJar() throws IOException {
+        Path jar = jar(dir.resolve("dep.jar"), Foo.class);
+        DependencyIndexCache cache = new DependencyIndexCache(dir.resolve("cache"), false);
+        cache.put(jar, null, IndexingUtil.indexJar(jar));
+        assertNotNull(cache.get(jar, null));
+
+        jar(jar, Foo.class, Bar.class);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 1_000));
+        assertNull(cache.get(jar, null));
+    }
+
+    @Test
+    public void testCorruptedEntry() throws IOException {
+        Path jar = jar(dir.resolve("dep.jar"), Foo.class);
+        Path cacheDir = dir.resolve("cache");
+        DependencyIndexCache cache = new DependencyIndexCache(cacheDir, false);
+        cache.put(jar, null, IndexingUtil.indexJar(jar));
+        try (var entries = Files.list(cacheDir)) {
+            Path entry = entries.findFirst().orElseThrow();
+            Files.write(entry, new byte[] { 1, 2, 3 });
+        }
+        assertNull(cache.get(jar, null));
+        // The corrupted entry has been deleted
+        try (var entries = Files.list(cacheDir)) {
+            assertEquals(0, entries.count());
+        }
+    }
+
+    @Test
+    public void testSharedCache() throws IOException {
+        Path jar = jar(dir.resolve("dep.jar"), Foo.class);
+        Path copy = dir.resolve("copy.jar");
+        Files.copy(jar, copy);
+        DependencyIndexCache cache = new DependencyIndexCache(dir.resolve("cache"), true);
+        cache.put(jar, null, IndexingUtil.indexJar(jar));
+        // The identical jar at another location, e.g. in another repository, hits the cache
+        assertNotNull(cache.get(copy, null));
+        // The location-based cache does not
+        assertNull(new DependencyIndexCache(dir.resolve("cache"), false).get(copy, null));
+
+        jar(copy, Foo.class, Bar.class);
+        assertNull(cache.get(copy, null));
+    }
+
+    @Test
+    public void testJandexVersion() throws IOException {
+        Path jar = jar(dir.resolve("dep.jar"), Foo.class);
+        DependencyIndexCache cache = new DependencyIndexCache(dir.resolve("cache"), true);
+        cache.put(jar, null, IndexingUtil.indexJar(jar));
+        assertNotNull(cache.get(jar, null));
+        // The builds sharing the cache with another version of Jandex do not read its entries
+        assertNull(new DependencyIndexCache(dir.resolve("cache"), true, "3.0.0:11").get(jar, null));
+    }
+
+    private static Path jar(Path path, Class<?>... classes) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(path))) {
+            for (Class<?> clazz : classes) {
+                String name = clazz.getName().replace('.', '/') + ".class";
+                out.putNextEntry(new ZipEntry(name));
+                try (InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+        }
+        return path;
+    }
+
+    public static class Foo {
+    }
+
+    public static class Bar {
+    }
+}
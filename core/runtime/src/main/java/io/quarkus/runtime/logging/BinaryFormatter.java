@@ -0,0 +1,25 @@
+package io.quarkus.runtime.logging;
+
+import java.nio.ByteBuffer;
+
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A formatter that encodes the log records straight into bytes, without building a {@code String} first.
+ * <p>
+ * The console and file handlers of a {@link java.util.logging.Formatter} that implements this interface write the encoded
+ * bytes directly to their channel, see {@link ByteChannelHandler}.
+ */
+public interface BinaryFormatter {
+
+    /**
+     * Encodes a record in UTF-8.
+     * <p>
+     * The returned buffer is owned by the formatter and reused for the next records formatted by the calling thread,
+     * it must be consumed before the thread formats another record.
+     *
+     * @param record the record
+     * @return the encoded record, between the position and the limit of the buffer
+     */
+    ByteBuffer formatToBuffer(ExtLogRecord record);
+}
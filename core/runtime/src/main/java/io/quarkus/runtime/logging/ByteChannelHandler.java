@@ -0,0 +1,153 @@
+package io.quarkus.runtime.logging;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A handler that writes the records encoded by a {@link BinaryFormatter} directly to a channel, i.e. to the standard
+ * output, the standard error or a file.
+ * <p>
+ * The records are written without intermediate {@code String}, {@code Writer} or stream buffer. The records of other
+ * formatters are encoded in UTF-8.
+ * <p>
+ * The channels of the standard output and error write to the file descriptors, and thus bypass {@link System#out} and
+ * {@link System#err}. They are only used in production, the dev mode and the tests redirect the system streams.
+ */
+public class ByteChannelHandler extends ExtHandler {
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+
+    /**
+     * @param channel the channel
+     * @param closeChannel whether the channel is closed with the handler
+     */
+    public ByteChannelHandler(WritableByteChannel channel, boolean closeChannel) {
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+    }
+
+    /**
+     * @param stderr whether to write to the standard error instead of the standard output
+     * @param systemStreams whether to write through {@link System#out} or {@link System#err}, which may be redirected,
+     *        instead of the file descriptors
+     * @return a handler writing to the standard output or error, which is not closed with the handler
+     */
+    public static ByteChannelHandler console(boolean stderr, boolean systemStreams) {
+        if (systemStreams) {
+            return new ByteChannelHandler(new SystemStreamChannel(stderr), false);
+        }
+        return new ByteChannelHandler(new FileOutputStream(stderr ? FileDescriptor.err : FileDescriptor.out).getChannel(),
+                false);
+    }
+
+    /**
+     * @param file the file, which is created with its parent directories if needed
+     * @return a handler appending to the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static ByteChannelHandler file(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return new ByteChannelHandler(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND), true);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        Formatter formatter = getFormatter();
+        ByteBuffer buffer;
+        try {
+            if (formatter instanceof BinaryFormatter binaryFormatter) {
+                buffer = binaryFormatter.formatToBuffer(record);
+            } else {
+                buffer = ByteBuffer.wrap(formatter.format(record).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (Exception e) {
+            reportError("Formatting error", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        lock.lock();
+        try {
+            // A record is written in one piece, even if the channel only accepts a part of it
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            reportError("Error writing log message", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Nothing is buffered
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        super.close();
+        if (closeChannel) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                reportError("Error closing the log channel", e, ErrorManager.CLOSE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Writes to the current {@link System#out} or {@link System#err}, so that the records follow their redirection.
+     */
+    private static final class SystemStreamChannel implements WritableByteChannel {
+
+        private final boolean stderr;
+
+        SystemStreamChannel(boolean stderr) {
+            this.stderr = stderr;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            PrintStream out = stderr ? System.err : System.out;
+            int length = src.remaining();
+            if (src.hasArray()) {
+                out.write(src.array(), src.arrayOffset() + src.position(), length);
+                src.position(src.limit());
+            } else {
+                byte[] bytes = new byte[length];
+                src.get(bytes);
+                out.write(bytes, 0, length);
+            }
+            out.flush();
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // The system streams are not closed
+        }
+    }
+}
@@ -7,8 +7,10 @@
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
@@ -668,8 +670,15 @@ private static Handler configureConsoleHandler(
                 formatter = new TextBannerFormatter(bannerSupplier, ExtFormatter.wrap(formatter, false));
             }
         }
-        final ConsoleHandler consoleHandler = new ConsoleHandler(
-                config.stderr() ? ConsoleHandler.Target.SYSTEM_ERR : ConsoleHandler.Target.SYSTEM_OUT, formatter);
+        final ExtHandler consoleHandler;
+        if (formatter instanceof BinaryFormatter) {
+            // The dev mode and the tests redirect the system streams
+            consoleHandler = ByteChannelHandler.console(config.stderr(), launchMode.isDevOrTest());
+            consoleHandler.setFormatter(formatter);
+        } else {
+            consoleHandler = new ConsoleHandler(
+                    config.stderr() ? ConsoleHandler.Target.SYSTEM_ERR : ConsoleHandler.Target.SYSTEM_OUT, formatter);
+        }
         consoleHandler.setLevel(config.level());
         consoleHandler.setErrorManager(defaultErrorManager);
         applyFilter(includeFilters, defaultErrorManager, cleanupFilter, config.filter(), namedFilters, consoleHandler);
@@ -716,8 +725,28 @@ private static Handler configureFileHandler(final FileConfig config, final Error
             final LogCleanupFilter cleanupFilter, Map<String, Filter> namedFilters,
             final List<RuntimeValue<Optional<Formatter>>> possibleFileFormatters,
             final boolean includeFilters) {
-        FileHandler handler;
+        Formatter formatter = null;
+        boolean formatterWarning = false;
+        for (RuntimeValue<Optional<Formatter>> value : possibleFileFormatters) {
+            if (formatter != null) {
+                formatterWarning = true;
+            }
+            final Optional<Formatter> val = value.getValue();
+            if (val.isPresent()) {
+                formatter = val.get();
+            }
+        }
+        if (formatter == null) {
+            formatter = new PatternFormatter(config.format());
+        }
+
         FileConfig.RotationConfig rotationConfig = config.rotation();
+        if (formatter instanceof BinaryFormatter && !rotationConfig.enabled()) {
+            return configureByteChannelFileHandler(config, errorManager, cleanupFilter, namedFilters, formatter,
+                    formatterWarning, includeFilters);
+        }
+
+        FileHandler handler;
         if (!rotationConfig.enabled()) {
             handler = new FileHandler();
         } else if (rotationConfig.fileSuffix().isPresent()) {
@@ -733,21 +762,6 @@ private static Handler configureFileHandler(final FileConfig config, final Error
             sizeRotatingFileHandler.setRotateOnBoot(rotationConfig.rotateOnBoot());
             handler = sizeRotatingFileHandler;
         }
-
-        Formatter formatter = null;
-        boolean formatterWarning = false;
-        for (RuntimeValue<Optional<Formatter>> value : possibleFileFormatters) {
-            if (formatter != null) {
-                formatterWarning = true;
-            }
-            final Optional<Formatter> val = value.getValue();
-            if (val.isPresent()) {
-                formatter = val.get();
-            }
-        }
-        if (formatter == null) {
-            formatter = new PatternFormatter(config.format());
-        }
         handler.setFormatter(formatter);
 
         handler.setAppend(true);
@@ -778,6 +792,37 @@ private static Handler configureFileHandler(final FileConfig config, final Error
         return handler;
     }
 
+    /**
+     * The records of a {@link BinaryFormatter} are written directly to the file channel, without the rotation which
+     * needs the stream based file handlers. The records are always encoded in UTF-8.
+     */
+    private static Handler configureByteChannelFileHandler(final FileConfig config, final ErrorManager errorManager,
+            final LogCleanupFilter cleanupFilter, Map<String, Filter> namedFilters, final Formatter formatter,
+            final boolean formatterWarning, final boolean includeFilters) {
+        ExtHandler handler;
+        try {
+            handler = ByteChannelHandler.file(config.path().toPath());
+        } catch (IOException e) {
+            errorManager.error("Failed to set log file", e, ErrorManager.OPEN_FAILURE);
+            // Keep the same behavior as the file handler, which discards the records without file
+            handler = new ByteChannelHandler(Channels.newChannel(OutputStream.nullOutputStream()), true);
+        }
+        handler.setFormatter(formatter);
+        handler.setErrorManager(errorManager);
+        handler.setLevel(config.level());
+        handler.setFilter(cleanupFilter);
+        applyFilter(includeFilters, errorManager, cleanupFilter, config.filter(), namedFilters, handler);
+
+        if (formatterWarning) {
+            handler.getErrorManager().error("Multiple file formatters were activated", null, ErrorManager.GENERIC_FAILURE);
+        }
+
+        if (config.async().legacyEnable().orElse(config.async().enable().orElse(config.async().enabled()))) {
+            return createAsyncHandler(config.async(), config.level(), handler);
+        }
+        return handler;
+    }
+
     private static void applyFilter(boolean includeFilters, ErrorManager errorManager, LogCleanupFilter cleanupFilter,
             Optional<String> filterName, Map<String, Filter> namedFilters, Handler handler) {
         if (filterName.isEmpty() || !includeFilters) {
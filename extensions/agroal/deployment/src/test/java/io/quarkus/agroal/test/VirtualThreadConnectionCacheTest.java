@@ -0,0 +1,118 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+import io.agroal.pool.ConnectionHandler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+/**
+ * Tests the connection cache of the virtual threads.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21, disabledReason = "Virtual threads are available starting from Java 21")
+public class VirtualThreadConnectionCacheTest {
+
+    static final int THREADS = 16;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.url", "jdbc:h2:mem:virtual-threads")
+            .overrideConfigKey("quarkus.datasource.jdbc.max-size", "8")
+            .overrideConfigKey("quarkus.datasource.jdbc.virtual-thread-connection-cache", "true");
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            assertThat(acquire(executor, 10)).isEqualTo(THREADS * 10);
+        } finally {
+            executor.shutdown();
+        }
+        // The connections released by the virtual threads are still valid
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(select(connection)).isEqualTo(1);
+        }
+
+        ConnectionCache cache = dataSource.getConfiguration().connectionPoolConfiguration().connectionCache();
+        // The connections are not cached for the other threads
+        assertThat(cache.get()).isNull();
+        executor = newVirtualThreadPerTaskExecutor();
+        try {
+            executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    // The connections released by the virtual threads are acquired from the cache,
+                    // the same way the pool acquires them before looking for an available connection
+                    Acquirable cached = cache.get();
+                    assertThat(cached).isInstanceOf(ConnectionHandler.class);
+                    try (Connection connection = ((ConnectionHandler) cached).connectionWrapper()) {
+                        assertThat(select(connection)).isEqualTo(1);
+                    }
+                    return null;
+                }
+            }).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int acquire(ExecutorService executor, int acquisitions) throws Exception {
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    int sum = 0;
+                    for (int j = 0; j < acquisitions; j++) {
+                        try (Connection connection = dataSource.getConnection()) {
+                            sum += select(connection);
+                        }
+                    }
+                    return sum;
+                }
+            }));
+        }
+        int sum = 0;
+        for (Future<Integer> result : results) {
+            sum += result.get(30, TimeUnit.SECONDS);
+        }
+        return sum;
+    }
+
+    private static int select(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
@@ -138,6 +138,18 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("false")
     boolean validateOnBorrow();
 
+    /**
+     * Whether the connections released by virtual threads should be cached for the next virtual threads.
+     * <p>
+     * The event loop and worker threads keep the last connection they have released in a thread local cache.
+     * Virtual threads are usually created for a single task, e.g. the invocation of a `@RunOnVirtualThread` endpoint,
+     * so they never find a connection in such a cache and always acquire their connections from the pool.
+     * When enabled, the connections released by virtual threads are kept in a cache shared by all the virtual threads,
+     * which is not tied to their carrier threads.
+     */
+    @WithDefault("false")
+    boolean virtualThreadConnectionCache();
+
     /**
      * Disable pooling to prevent reuse of Connections. Use this when an external pool manages the life-cycle
      * of Connections.
@@ -213,11 +213,16 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
         //we use a custom cache for two reasons:
         //fast thread local cache should be faster
         //and it prevents a thread local leak
+        VirtualThreadConnectionCache virtualThreadCache = dataSourceJdbcRuntimeConfig.virtualThreadConnectionCache()
+                ? new VirtualThreadConnectionCache(dataSourceJdbcRuntimeConfig.maxSize())
+                : null;
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            dataSourceConfiguration.connectionPoolConfiguration()
+                    .connectionCache(new QuarkusNettyConnectionCache(virtualThreadCache));
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            dataSourceConfiguration.connectionPoolConfiguration()
+                    .connectionCache(new QuarkusSimpleConnectionCache(virtualThreadCache));
         }
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
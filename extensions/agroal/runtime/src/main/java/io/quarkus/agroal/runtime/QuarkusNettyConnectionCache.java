@@ -10,6 +10,14 @@
 class QuarkusNettyConnectionCache implements ConnectionCache {
 
     final FastThreadLocal<Acquirable> connectionCache = new FastThreadLocal<>();
+    final VirtualThreadConnectionCache virtualThreadCache;
+
+    /**
+     * @param virtualThreadCache the cache used by the virtual threads, may be {@code null}
+     */
+    QuarkusNettyConnectionCache(VirtualThreadConnectionCache virtualThreadCache) {
+        this.virtualThreadCache = virtualThreadCache;
+    }
 
     @Override
     public Acquirable get() {
@@ -23,6 +31,9 @@ public Acquirable get() {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
+        if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtualThread()) {
+            return virtualThreadCache.get();
+        }
         return null;
     }
 
@@ -31,11 +42,16 @@ public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof FastThreadLocalThread || thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtualThread()) {
+            virtualThreadCache.put(acquirable);
         }
     }
 
     @Override
     public void reset() {
+        if (virtualThreadCache != null) {
+            virtualThreadCache.reset();
+        }
         // Do our best to release memory. In fact `io.agroal.pool.ConnectionPool` calls
         // this method in `housingkeepingExecutor` thread only, so business threads still
         // hold references to `ConnectionHandler` objects.
@@ -8,6 +8,14 @@
 class QuarkusSimpleConnectionCache implements ConnectionCache {
 
     volatile ThreadLocal<Acquirable> connectionCache = new ThreadLocal<>();
+    final VirtualThreadConnectionCache virtualThreadCache;
+
+    /**
+     * @param virtualThreadCache the cache used by the virtual threads, may be {@code null}
+     */
+    QuarkusSimpleConnectionCache(VirtualThreadConnectionCache virtualThreadCache) {
+        this.virtualThreadCache = virtualThreadCache;
+    }
 
     @Override
     public Acquirable get() {
@@ -21,6 +29,9 @@ public Acquirable get() {
             Acquirable acquirable = connectionCache.get();
             return acquirable != null && acquirable.acquire() ? acquirable : null;
         }
+        if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtualThread()) {
+            return virtualThreadCache.get();
+        }
         return null;
     }
 
@@ -29,11 +40,16 @@ public void put(Acquirable acquirable) {
         Thread thread = Thread.currentThread();
         if (thread instanceof JBossThread) {
             connectionCache.set(acquirable);
+        } else if (virtualThreadCache != null && VirtualThreadConnectionCache.isVirtualThread()) {
+            virtualThreadCache.put(acquirable);
         }
     }
 
     @Override
     public void reset() {
         connectionCache = new ThreadLocal<>();
+        if (virtualThreadCache != null) {
+            virtualThreadCache.reset();
+        }
     }
 }
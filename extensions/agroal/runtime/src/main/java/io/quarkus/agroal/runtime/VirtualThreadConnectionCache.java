@@ -0,0 +1,94 @@
+package io.quarkus.agroal.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+
+/**
+ * Connection cache shared by the virtual threads.
+ * <p>
+ * A virtual thread usually lives for a single task, e.g. a request of a {@code @RunOnVirtualThread} endpoint, so a thread
+ * local cache would never be hit and every acquisition would go through the pool. Instead, the connections released by
+ * virtual threads are kept in a small array of slots, which does not depend on the carrier threads. A virtual thread
+ * starts looking for a free slot, or for a connection, at the slot derived from its id, so that it gets the connection it
+ * has just released back when it acquires several connections in a row, and the other virtual threads are spread over the
+ * other slots.
+ * <p>
+ * A connection is removed from its slot before it is acquired and the acquisition is the atomic state transition of the
+ * pool, so a connection can never be handed to two threads, and a connection which has been closed or acquired from the
+ * pool in the meantime is simply dropped from the cache.
+ */
+final class VirtualThreadConnectionCache {
+
+    private static final MethodHandle IS_VIRTUAL = Runtime.version().feature() >= 21 ? findIsVirtual() : null;
+
+    private final AtomicReferenceArray<Acquirable> slots;
+    private final int mask;
+
+    /**
+     * @param maxSize the maximum number of connections kept in the cache, rounded to the next power of two
+     */
+    VirtualThreadConnectionCache(int maxSize) {
+        int size = maxSize <= 1 ? 1 : Integer.highestOneBit(maxSize - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    Acquirable get() {
+        int start = start();
+        for (int i = 0; i < slots.length(); i++) {
+            int index = (start + i) & mask;
+            Acquirable acquirable = slots.get(index);
+            if (acquirable != null && slots.compareAndSet(index, acquirable, null) && acquirable.acquire()) {
+                return acquirable;
+            }
+        }
+        return null;
+    }
+
+    void put(Acquirable acquirable) {
+        int start = start();
+        for (int i = 0; i < slots.length(); i++) {
+            int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, acquirable)) {
+                return;
+            }
+        }
+        // All the slots are taken, the connection is only available from the pool
+    }
+
+    void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int start() {
+        // Virtual thread ids are sequential, spread them over the slots
+        return Long.hashCode(Thread.currentThread().getId() * 0x9E3779B97F4A7C15L);
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                    MethodType.methodType(boolean.class));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
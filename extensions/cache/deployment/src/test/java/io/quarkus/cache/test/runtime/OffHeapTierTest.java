@@ -0,0 +1,85 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.OffHeapCacheStore;
+import io.quarkus.test.QuarkusExtensionTest;
+
+/**
+ * Tests the off-heap tier that receives the entries evicted from a size bounded Caffeine cache.
+ */
+public class OffHeapTierTest {
+
+    private static final String CACHE_NAME = "off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"off-heap-cache\".maximum-size", "2")
+            .overrideConfigKey("quarkus.cache.caffeine.\"off-heap-cache\".off-heap-maximum-size", "1M");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testEvictedValuesAreReadFromOffHeapTier() throws InterruptedException {
+        CaffeineCacheImpl caffeineCache = cache.as(CaffeineCacheImpl.class);
+        OffHeapCacheStore store = caffeineCache.getOffHeapStore();
+        assertNotNull(store);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("value-" + i, cachedService.cachedMethod(i));
+        }
+        assertEquals(10, cachedService.invocations.get());
+
+        // The size based eviction is done asynchronously by Caffeine.
+        long deadline = System.currentTimeMillis() + 5000;
+        while (store.size() < 8 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(store.size() >= 8);
+        assertTrue(store.usedBytes() > 0);
+
+        // All the values are still cached, either on heap or off heap.
+        for (int i = 0; i < 10; i++) {
+            assertEquals("value-" + i, cachedService.cachedMethod(i));
+        }
+        assertEquals(10, cachedService.invocations.get());
+        assertTrue(store.hitCount() >= 8);
+
+        cache.invalidateAll().await().indefinitely();
+        assertEquals(0, store.size());
+        assertEquals(0, store.usedBytes());
+        assertEquals("value-0", cachedService.cachedMethod(0));
+        assertEquals(11, cachedService.invocations.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(int key) {
+            invocations.incrementAndGet();
+            return "value-" + key;
+        }
+    }
+}
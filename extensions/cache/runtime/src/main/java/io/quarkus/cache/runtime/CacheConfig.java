@@ -11,6 +11,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -80,6 +81,17 @@ interface CaffeineCacheConfig {
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
              */
             Optional<Boolean> metricsEnabled();
+
+            /**
+             * Maximum number of bytes used by the optional off-heap tier of the cache. When this value is set, the entries
+             * evicted from the cache because of the {@code maximum-size} limit are serialized into direct memory instead of
+             * being discarded, and they are moved back to the heap the next time they are read. The values must be
+             * {@link java.io.Serializable}, the other ones are discarded on eviction.
+             * <p>
+             * When the cache is configured with an expiration, the entries of the off-heap tier expire once the shortest
+             * configured expiration has elapsed since they were evicted from the heap.
+             */
+            Optional<MemorySize> offHeapMaximumSize();
         }
     }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -17,6 +18,8 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
@@ -44,6 +47,10 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    /**
+     * The optional second tier holding the values evicted from {@link #cache}, may be {@code null}
+     */
+    final OffHeapCacheStore offHeapStore;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -60,6 +67,21 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.offHeapMaximumSize != null) {
+            LOGGER.tracef("Creating off-heap tier of %s bytes for cache [%s]", cacheInfo.offHeapMaximumSize, cacheInfo.name);
+            offHeapStore = new OffHeapCacheStore(cacheInfo.name, cacheInfo.offHeapMaximumSize, offHeapExpiration());
+            builder.evictionListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    // Only the entries evicted because of the size limit are moved off-heap, the expired ones are gone
+                    if (cause == RemovalCause.SIZE && value != null && !(value instanceof CaffeineComputationThrowable)) {
+                        offHeapStore.put(key, NullValueConverter.fromCacheValue(value));
+                    }
+                }
+            });
+        } else {
+            offHeapStore = null;
+        }
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -115,6 +137,10 @@ public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                             @SuppressWarnings("unchecked")
                             public CompletableFuture<Object> apply(Object key) {
                                 recorder.onValueAbsent();
+                                Object offHeapValue = takeFromOffHeap(key);
+                                if (offHeapValue != OffHeapCacheStore.NOT_FOUND) {
+                                    return CompletableFuture.completedFuture(NullValueConverter.toCacheValue(offHeapValue));
+                                }
                                 return valueLoader.apply((K) key)
                                         .map(TO_CACHE_VALUE)
                                         .subscribeAsCompletionStage(mutinyContext);
@@ -174,6 +200,18 @@ public void handle(Void ignored) {
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         CompletableFuture<Object> existingCacheValue = cache.getIfPresent(key);
+        if (existingCacheValue == null && offHeapStore != null) {
+            Object offHeapValue = offHeapStore.take(key);
+            if (offHeapValue != OffHeapCacheStore.NOT_FOUND) {
+                // Move the value back to the on-heap tier, unless a value was computed in the meantime
+                CompletableFuture<Object> promoted = CompletableFuture
+                        .completedFuture(NullValueConverter.toCacheValue(offHeapValue));
+                existingCacheValue = cache.asMap().putIfAbsent(key, promoted);
+                if (existingCacheValue == null) {
+                    existingCacheValue = promoted;
+                }
+            }
+        }
 
         if (existingCacheValue == null) {
             return null;
@@ -212,6 +250,12 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            Object offHeapValue = takeFromOffHeap(key);
+            if (offHeapValue != OffHeapCacheStore.NOT_FOUND) {
+                LOGGER.tracef("Key [%s] found in off-heap tier of cache [%s]", key, cacheInfo.name);
+                newCacheValue.complete(NullValueConverter.toCacheValue(offHeapValue));
+                return unwrapCacheValueOrThrowable(newCacheValue);
+            }
             try {
                 Object value = valueLoader.apply(key);
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
@@ -227,6 +271,10 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    private Object takeFromOffHeap(Object key) {
+        return offHeapStore == null ? OffHeapCacheStore.NOT_FOUND : offHeapStore.take(key);
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -253,6 +301,9 @@ public Uni<Void> invalidate(Object key) {
             @Override
             public Void get() {
                 cache.synchronous().invalidate(key);
+                if (offHeapStore != null) {
+                    offHeapStore.invalidate(key);
+                }
                 return null;
             }
         });
@@ -264,6 +315,9 @@ public Uni<Void> invalidateAll() {
             @Override
             public Void get() {
                 cache.synchronous().invalidateAll();
+                if (offHeapStore != null) {
+                    offHeapStore.invalidateAll();
+                }
                 return null;
             }
         });
@@ -275,6 +329,9 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
             @Override
             public Void get() {
                 cache.asMap().keySet().removeIf(predicate);
+                if (offHeapStore != null) {
+                    offHeapStore.invalidateIf(predicate);
+                }
                 return null;
             }
         });
@@ -282,13 +339,21 @@ public Void get() {
 
     @Override
     public Set<Object> keySet() {
-        return Set.copyOf(cache.asMap().keySet());
+        if (offHeapStore == null) {
+            return Set.copyOf(cache.asMap().keySet());
+        }
+        Set<Object> keys = new HashSet<>(cache.asMap().keySet());
+        keys.addAll(offHeapStore.keySet());
+        return Set.copyOf(keys);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
         cache.put(key, (CompletableFuture<Object>) valueFuture);
+        if (offHeapStore != null) {
+            offHeapStore.invalidate(key);
+        }
     }
 
     @Override
@@ -297,6 +362,9 @@ public void setExpireAfterWrite(Duration duration) {
         if (fixedExpiration.isPresent()) {
             fixedExpiration.get().setExpiresAfter(duration);
             cacheInfo.expireAfterWrite = duration;
+            if (offHeapStore != null) {
+                offHeapStore.setExpireAfter(offHeapExpiration());
+            }
         } else {
             throw new IllegalStateException("The write-based expiration policy can only be changed if the cache was " +
                     "constructed with an expire-after-write configuration value");
@@ -309,6 +377,9 @@ public void setExpireAfterAccess(Duration duration) {
         if (fixedExpiration.isPresent()) {
             fixedExpiration.get().setExpiresAfter(duration);
             cacheInfo.expireAfterAccess = duration;
+            if (offHeapStore != null) {
+                offHeapStore.setExpireAfter(offHeapExpiration());
+            }
         } else {
             throw new IllegalStateException("The access-based expiration policy can only be changed if the cache was " +
                     "constructed with an expire-after-access configuration value");
@@ -336,6 +407,26 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    // For testing purposes only.
+    public OffHeapCacheStore getOffHeapStore() {
+        return offHeapStore;
+    }
+
+    /**
+     * The values stored in the off-heap tier use the shortest of the configured expirations, starting from the moment they
+     * were evicted from the on-heap tier.
+     */
+    private Duration offHeapExpiration() {
+        if (cacheInfo.expireAfterWrite == null) {
+            return cacheInfo.expireAfterAccess;
+        } else if (cacheInfo.expireAfterAccess == null) {
+            return cacheInfo.expireAfterWrite;
+        } else {
+            return cacheInfo.expireAfterWrite.compareTo(cacheInfo.expireAfterAccess) < 0 ? cacheInfo.expireAfterWrite
+                    : cacheInfo.expireAfterAccess;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
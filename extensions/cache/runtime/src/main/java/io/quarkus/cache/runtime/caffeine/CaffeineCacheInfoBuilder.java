@@ -54,6 +54,12 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.metricsEnabled = defaultConfig.metricsEnabled().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.offHeapMaximumSize().isPresent()) {
+                    cacheInfo.offHeapMaximumSize = namedCacheConfig.offHeapMaximumSize().get().asLongValue();
+                } else if (defaultConfig.offHeapMaximumSize().isPresent()) {
+                    cacheInfo.offHeapMaximumSize = defaultConfig.offHeapMaximumSize().get().asLongValue();
+                }
+
                 cacheInfos.add(cacheInfo);
             }
             return cacheInfos;
@@ -0,0 +1,328 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Second tier of a {@link CaffeineCacheImpl}, holding the values evicted from the on-heap Caffeine cache.
+ * <p>
+ * The values are serialized into direct {@link ByteBuffer} slabs which are filled one after the other, like a ring. When all
+ * the slabs are in use, the oldest one is recycled and the entries it still contains are dropped. This gives a FIFO eviction
+ * policy bounded by the configured number of bytes, which is enough for a tier that only receives the entries the on-heap
+ * tier considered cold. Only the keys and the location of the values are kept on heap.
+ * <p>
+ * A value is moved back to the on-heap tier when it is read, so an entry is usually stored in a single tier. The move is not
+ * atomic per key though: a read promoting an entry can race with the eviction of the same entry into this tier, which then
+ * keeps a stale copy until the key is read, invalidated or its slab is recycled. The on-heap tier is always read first and
+ * invalidations remove the key from both tiers, so the stale copy is only returned once the on-heap entry is evicted.
+ * Values that cannot be serialized are simply dropped when they are evicted from the on-heap tier. If the cache is configured
+ * with an expiration, the values stored in this tier expire once that duration has elapsed since they were moved here.
+ * <p>
+ * This class is an internal Quarkus cache implementation. Do not use it explicitly from your Quarkus application.
+ */
+public class OffHeapCacheStore {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapCacheStore.class);
+
+    /**
+     * Returned by {@link #take(Object)} when the key is not stored in this tier, as {@code null} is a valid value.
+     */
+    public static final Object NOT_FOUND = new Object();
+
+    static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+    private final String cacheName;
+    private final long maximumBytes;
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final List<List<Object>> slabKeys;
+    private final Map<Object, Location> index = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Guarded by the write lock
+     */
+    private int currentSlab = -1;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    private volatile long expireAfterNanos;
+
+    public OffHeapCacheStore(String cacheName, long maximumBytes, Duration expireAfter) {
+        this(cacheName, maximumBytes, DEFAULT_SLAB_SIZE, expireAfter);
+    }
+
+    OffHeapCacheStore(String cacheName, long maximumBytes, int slabSize, Duration expireAfter) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("The off-heap maximum size must be greater than zero");
+        }
+        this.cacheName = cacheName;
+        this.slabSize = (int) Math.min(slabSize, maximumBytes);
+        int slabCount = (int) Math.max(1, maximumBytes / this.slabSize);
+        this.maximumBytes = (long) slabCount * this.slabSize;
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabKeys = new ArrayList<>(slabCount);
+        for (int i = 0; i < slabCount; i++) {
+            slabKeys.add(new ArrayList<>());
+        }
+        setExpireAfter(expireAfter);
+    }
+
+    /**
+     * @param expireAfter the duration after which a value stored in this tier expires, or {@code null} if values never expire
+     */
+    public void setExpireAfter(Duration expireAfter) {
+        this.expireAfterNanos = expireAfter == null ? 0 : expireAfter.toNanos();
+    }
+
+    /**
+     * Stores a value evicted from the on-heap tier.
+     *
+     * @param key cache key
+     * @param value cache value, may be {@code null}
+     */
+    public void put(Object key, Object value) {
+        byte[] bytes;
+        try {
+            bytes = serialize(value);
+        } catch (IOException e) {
+            if (e instanceof NotSerializableException) {
+                LOGGER.tracef("Value of key [%s] from cache [%s] is not serializable, dropping it", key, cacheName);
+            } else {
+                LOGGER.debugf(e, "Unable to serialize value of key [%s] from cache [%s], dropping it", key, cacheName);
+            }
+            rejections.increment();
+            return;
+        }
+        if (bytes.length > slabSize) {
+            LOGGER.tracef("Value of key [%s] from cache [%s] is larger than a slab, dropping it", key, cacheName);
+            rejections.increment();
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (currentSlab == -1 || slabs[currentSlab].remaining() < bytes.length) {
+                nextSlab();
+            }
+            ByteBuffer slab = slabs[currentSlab];
+            long expireAfter = expireAfterNanos;
+            Location location = new Location(currentSlab, slab.position(), bytes.length,
+                    expireAfter == 0 ? 0 : System.nanoTime() + expireAfter);
+            slab.put(bytes);
+            slabKeys.get(currentSlab).add(key);
+            Location previous = index.put(key, location);
+            if (previous != null) {
+                usedBytes.addAndGet(-previous.length);
+            }
+            usedBytes.addAndGet(bytes.length);
+            puts.increment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the value associated with {@code key} from this tier and returns it.
+     *
+     * @param key cache key
+     * @return the value, possibly {@code null}, or {@link #NOT_FOUND} if this tier does not contain {@code key}
+     */
+    public Object take(Object key) {
+        byte[] bytes;
+        lock.readLock().lock();
+        try {
+            Location location = index.remove(key);
+            if (location == null) {
+                misses.increment();
+                return NOT_FOUND;
+            }
+            usedBytes.addAndGet(-location.length);
+            if (location.expiresAt != 0 && System.nanoTime() - location.expiresAt >= 0) {
+                evictions.increment();
+                misses.increment();
+                return NOT_FOUND;
+            }
+            bytes = new byte[location.length];
+            slabs[location.slab].get(location.offset, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            Object value = deserialize(bytes);
+            hits.increment();
+            return value;
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.debugf(e, "Unable to deserialize value of key [%s] from cache [%s]", key, cacheName);
+            misses.increment();
+            return NOT_FOUND;
+        }
+    }
+
+    public boolean contains(Object key) {
+        return index.containsKey(key);
+    }
+
+    public void invalidate(Object key) {
+        Location location = index.remove(key);
+        if (location != null) {
+            usedBytes.addAndGet(-location.length);
+        }
+    }
+
+    public void invalidateIf(Predicate<Object> predicate) {
+        for (Object key : index.keySet()) {
+            if (predicate.test(key)) {
+                invalidate(key);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            for (int i = 0; i < slabs.length; i++) {
+                slabKeys.get(i).clear();
+                if (slabs[i] != null) {
+                    slabs[i].clear();
+                }
+            }
+            currentSlab = -1;
+            usedBytes.set(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Object> keySet() {
+        return index.keySet();
+    }
+
+    /**
+     * Moves to the next slab, allocating it if needed or dropping all the entries it still holds. Must be called with the
+     * write lock held.
+     */
+    private void nextSlab() {
+        currentSlab = (currentSlab + 1) % slabs.length;
+        ByteBuffer slab = slabs[currentSlab];
+        if (slab == null) {
+            slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+            return;
+        }
+        List<Object> keys = slabKeys.get(currentSlab);
+        for (Object key : keys) {
+            Location location = index.get(key);
+            if (location != null && location.slab == currentSlab && index.remove(key, location)) {
+                usedBytes.addAndGet(-location.length);
+                evictions.increment();
+            }
+        }
+        keys.clear();
+        slab.clear();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    public long size() {
+        return index.size();
+    }
+
+    /**
+     * @return the number of bytes used by the values currently stored in this tier
+     */
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * @return the maximum number of bytes this tier can use, which is a multiple of the slab size
+     */
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(value);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectIn = new TcclObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectIn.readObject();
+        }
+    }
+
+    /**
+     * @param expiresAt the {@link System#nanoTime()} after which the value expires, or {@code 0} if it never expires
+     */
+    private record Location(int slab, int offset, int length, long expiresAt) {
+    }
+
+    /**
+     * The cached values usually come from application classes, which are not visible from the class loader of this class.
+     */
+    private static class TcclObjectInputStream extends ObjectInputStream {
+
+        TcclObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+            if (tccl != null) {
+                try {
+                    return Class.forName(desc.getName(), false, tccl);
+                } catch (ClassNotFoundException e) {
+                    // fall back to the default resolution
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -2,9 +2,13 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.caffeine.OffHeapCacheStore;
+
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    void recordOffHeapMetrics(OffHeapCacheStore store, String cacheName);
 }
@@ -4,8 +4,13 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.caffeine.OffHeapCacheStore;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -26,4 +31,45 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordOffHeapMetrics(OffHeapCacheStore store, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer off-heap tier metrics for cache [%s]", cacheName);
+        MeterRegistry registry = Metrics.globalRegistry;
+        Tags tags = Tags.of("cache", cacheName);
+        FunctionCounter.builder("cache.offheap.gets", store, OffHeapCacheStore::hitCount)
+                .tags(tags).tag("result", "hit")
+                .description("The number of times the off-heap tier returned a value for a key missing from the heap")
+                .register(registry);
+        FunctionCounter.builder("cache.offheap.gets", store, OffHeapCacheStore::missCount)
+                .tags(tags).tag("result", "miss")
+                .description("The number of times a key was missing from both the heap and the off-heap tier")
+                .register(registry);
+        FunctionCounter.builder("cache.offheap.puts", store, OffHeapCacheStore::putCount)
+                .tags(tags)
+                .description("The number of entries moved from the heap to the off-heap tier")
+                .register(registry);
+        FunctionCounter.builder("cache.offheap.evictions", store, OffHeapCacheStore::evictionCount)
+                .tags(tags)
+                .description("The number of entries evicted or expired from the off-heap tier")
+                .register(registry);
+        FunctionCounter.builder("cache.offheap.rejections", store, OffHeapCacheStore::rejectionCount)
+                .tags(tags)
+                .description("The number of evicted entries that could not be stored in the off-heap tier")
+                .register(registry);
+        Gauge.builder("cache.offheap.size", store, OffHeapCacheStore::size)
+                .tags(tags)
+                .description("The number of entries in the off-heap tier")
+                .register(registry);
+        Gauge.builder("cache.offheap.used", store, OffHeapCacheStore::usedBytes)
+                .tags(tags)
+                .baseUnit("bytes")
+                .description("The number of bytes used by the entries of the off-heap tier")
+                .register(registry);
+        Gauge.builder("cache.offheap.max", store, OffHeapCacheStore::maximumBytes)
+                .tags(tags)
+                .baseUnit("bytes")
+                .description("The maximum number of bytes of the off-heap tier")
+                .register(registry);
+    }
 }
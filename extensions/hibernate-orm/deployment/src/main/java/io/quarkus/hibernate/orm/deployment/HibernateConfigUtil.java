@@ -5,6 +5,7 @@
 import java.util.OptionalInt;
 
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.HibernateOrmConfigPersistenceUnitCache;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 
 public class HibernateConfigUtil {
 
@@ -29,6 +30,14 @@ public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersis
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_OBJECT_COUNT),
                         String.valueOf(cacheConfig.memory().objectCount().getAsLong()));
             }
+            if (cacheConfig.memory().maxSize().isPresent()) {
+                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, QuarkusCaffeineRegionFactory.MEMORY_MAX_SIZE),
+                        String.valueOf(cacheConfig.memory().maxSize().get().asLongValue()));
+            }
+            if (cacheConfig.memory().offHeap()) {
+                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, QuarkusCaffeineRegionFactory.MEMORY_OFF_HEAP),
+                        "true");
+            }
         }
 
         return cacheRegionsConfigEntries;
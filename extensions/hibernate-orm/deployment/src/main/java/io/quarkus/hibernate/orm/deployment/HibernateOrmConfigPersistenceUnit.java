@@ -18,6 +18,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.TrimmedStringConverter;
 import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
@@ -693,8 +694,24 @@ interface HibernateOrmConfigPersistenceUnitJdbc {
          */
         OptionalInt statementBatchSize();
 
+        /**
+         * Whether the writes of a session are tuned to be sent in JDBC batches when the session is flushed.
+         *
+         * When enabled, Hibernate ORM orders the inserts and updates per entity type, so that consecutive statements
+         * can share a batch.
+         * Unless `statement-batch-size` is set, the statements are sent by batches of 50,
+         * the default allocation size of sequences: with the default `pooled-lo` optimizer
+         * (see `mapping.id.optimizer.default`), the identifiers of a batch are allocated by a single sequence call.
+         *
+         * Entities whose identifiers are generated with `GenerationType.IDENTITY` cannot be inserted in batches:
+         * they are reported when the application is built.
+         */
+        @WithDefault("false")
+        boolean writeBehind();
+
         default boolean isAnyPropertySet() {
-            return timezone().isPresent() || statementFetchSize().isPresent() || statementBatchSize().isPresent();
+            return timezone().isPresent() || statementFetchSize().isPresent() || statementBatchSize().isPresent()
+                    || writeBehind();
         }
     }
 
@@ -727,6 +744,33 @@ interface HibernateOrmConfigPersistenceUnitCacheMemory {
          */
         @ConfigDocDefault("10000")
         OptionalLong objectCount();
+
+        /**
+         * The maximum memory footprint of the objects kept in the cache, for instance `64M`.
+         *
+         * When set, the region is bounded by the estimated size of its objects instead of their count.
+         * The query results are estimated from their serialized form, so they are serialized once when they are cached,
+         * unless the region is also kept off-heap.
+         * Setting this for any region of a persistence unit switches its regions to a Caffeine-based region factory.
+         *
+         * @asciidoclet
+         */
+        Optional<MemorySize> maxSize();
+
+        /**
+         * Whether the objects of the cache are kept serialized outside the Java heap.
+         *
+         * This is mostly useful for large query result regions: it reduces the pressure on the garbage collector,
+         * at the cost of deserializing the objects on each read.
+         * The direct memory of the removed objects is reused for the next objects of the region.
+         * Set `memory.max-size` as well to bound the direct memory of the region:
+         * otherwise it is only bounded by the object count and the maximum direct memory of the JVM.
+         * Setting this for any region of a persistence unit switches its regions to a Caffeine-based region factory.
+         *
+         * @asciidoclet
+         */
+        @WithDefault("false")
+        boolean offHeap();
     }
 
     @ConfigGroup
@@ -2,6 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
+import static io.quarkus.hibernate.orm.deployment.util.HibernateProcessorUtil.checkWriteBehindEntities;
 import static io.quarkus.hibernate.orm.deployment.util.HibernateProcessorUtil.configureProperties;
 import static io.quarkus.hibernate.orm.deployment.util.HibernateProcessorUtil.configureSqlLoadScript;
 import static io.quarkus.hibernate.orm.deployment.util.HibernateProcessorUtil.isHibernateValidatorPresent;
@@ -288,6 +289,23 @@ void warnOfSchemaProblems(HibernateOrmRecorder recorder, HibernateOrmConfig hibe
         }
     }
 
+    @BuildStep
+    public void enrollCaffeineCacheRegionsForReflection(HibernateOrmConfig hibernateOrmConfig,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        boolean caffeineRegions = hibernateOrmConfig.persistenceUnits().values().stream()
+                .flatMap(persistenceUnit -> persistenceUnit.cache().values().stream())
+                .anyMatch(region -> region.memory().maxSize().isPresent() || region.memory().offHeap());
+        if (caffeineRegions) {
+            // Looked up by name in com.github.benmanes.caffeine.cache.LocalCacheFactory, for the regions built by
+            // QuarkusCaffeineRegionFactory: statistics, expiration after access and maximum size or weight
+            reflectiveClasses.produce(ReflectiveClassBuildItem.builder(
+                    "com.github.benmanes.caffeine.cache.SSSMSA",
+                    "com.github.benmanes.caffeine.cache.SSSMWA")
+                    .reason(ClassNames.HIBERNATE_ORM_PROCESSOR.toString())
+                    .constructors().fields().build());
+        }
+    }
+
     @BuildStep
     AdditionalIndexedClassesBuildItem addPersistenceUnitAnnotationToIndex() {
         return new AdditionalIndexedClassesBuildItem(ClassNames.QUARKUS_PERSISTENCE_UNIT.toString());
@@ -1023,7 +1041,7 @@ private void handleHibernateORMWithNoPersistenceXml(
 
         if (enableDefaultPersistenceUnit) {
             producePersistenceUnitDescriptorFromConfig(
-                    hibernateOrmConfig, jpaModel, PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME,
+                    hibernateOrmConfig, jpaModel, index.getIndex(), PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME,
                     hibernateOrmConfig.defaultPersistenceUnit(),
                     modelForDefaultPersistenceUnit.allModelClassAndPackageNames(),
                     jpaModel.getXmlMappings(PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
@@ -1057,7 +1075,7 @@ private void handleHibernateORMWithNoPersistenceXml(
             var persistenceUnitName = persistenceUnitEntry.getKey();
             var model = modelPerPersistencesUnit.get(persistenceUnitEntry.getKey());
             producePersistenceUnitDescriptorFromConfig(
-                    hibernateOrmConfig, jpaModel, persistenceUnitName, persistenceUnitEntry.getValue(),
+                    hibernateOrmConfig, jpaModel, index.getIndex(), persistenceUnitName, persistenceUnitEntry.getValue(),
                     model == null ? Collections.emptySet() : model.allModelClassAndPackageNames(),
                     jpaModel.getXmlMappings(persistenceUnitName),
                     jdbcDataSources, reactiveDataSources, applicationArchivesBuildItem, launchMode, capabilities,
@@ -1068,7 +1086,7 @@ private void handleHibernateORMWithNoPersistenceXml(
     }
 
     private static void producePersistenceUnitDescriptorFromConfig(
-            HibernateOrmConfig hibernateOrmConfig, JpaModelBuildItem jpaModel,
+            HibernateOrmConfig hibernateOrmConfig, JpaModelBuildItem jpaModel, IndexView index,
             String persistenceUnitName,
             HibernateOrmConfigPersistenceUnit persistenceUnitConfig,
             Set<String> modelClassesAndPackages,
@@ -1142,6 +1160,7 @@ private static void producePersistenceUnitDescriptorFromConfig(
                 systemProperties, reflectiveMethods, descriptor.getProperties()::setProperty);
 
         configureProperties(descriptor, persistenceUnitConfig, hibernateOrmConfig, false);
+        checkWriteBehindEntities(persistenceUnitName, persistenceUnitConfig, index, entityClassNames);
 
         configureSqlLoadScript(persistenceUnitName, persistenceUnitConfig, applicationArchivesBuildItem, launchMode,
                 additionalSqlLoadScriptDefaults,
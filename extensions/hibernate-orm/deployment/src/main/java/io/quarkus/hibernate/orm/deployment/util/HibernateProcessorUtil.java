@@ -19,6 +19,8 @@
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -29,6 +31,10 @@
 import org.hibernate.id.SequenceMismatchStrategy;
 import org.hibernate.jpa.boot.spi.JpaSettings;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
 import org.jboss.logging.Logger;
 
 import io.quarkus.datasource.common.runtime.DatabaseKind;
@@ -40,6 +46,7 @@
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.hibernate.orm.deployment.ClassNames;
 import io.quarkus.hibernate.orm.deployment.HibernateConfigUtil;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit;
@@ -61,6 +68,7 @@
 public final class HibernateProcessorUtil {
     private static final Logger LOG = Logger.getLogger(HibernateProcessorUtil.class);
     public static final String NO_SQL_LOAD_SCRIPT_FILE = "no-file";
+    private static final int WRITE_BEHIND_DEFAULT_BATCH_SIZE = 50;
 
     private HibernateProcessorUtil() {
     }
@@ -392,6 +400,10 @@ public static void configureProperties(QuarkusPersistenceUnitDescriptor desc, Hi
                 fetchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
                         String.valueOf(fetchSize)));
 
+        if (config.jdbc().writeBehind()) {
+            configureWriteBehind(desc, config);
+        }
+
         // Statistics
         if (hibernateOrmConfig.metrics().enabled()
                 || (hibernateOrmConfig.statistics().isPresent() && hibernateOrmConfig.statistics().get())) {
@@ -413,6 +425,54 @@ public static void configureProperties(QuarkusPersistenceUnitDescriptor desc, Hi
                 String.valueOf(config.discriminator().ignoreExplicitForJoined()));
     }
 
+    private static void configureWriteBehind(QuarkusPersistenceUnitDescriptor desc,
+            HibernateOrmConfigPersistenceUnit config) {
+        if (config.jdbc().statementBatchSize().isEmpty()) {
+            desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
+                    String.valueOf(WRITE_BEHIND_DEFAULT_BATCH_SIZE));
+        }
+        // Group the statements per entity type, otherwise a flush of interleaved entities sends batches of one statement
+        desc.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        desc.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+    }
+
+    /**
+     * Reports the entities that defeat the batching of inserts, because their identifiers are generated by the database
+     * on insert.
+     */
+    public static void checkWriteBehindEntities(String persistenceUnitName, HibernateOrmConfigPersistenceUnit config,
+            IndexView index, Set<String> entityClassNames) {
+        if (!config.jdbc().writeBehind()) {
+            return;
+        }
+        Set<String> identityEntities = new TreeSet<>();
+        for (String entityClassName : entityClassNames) {
+            ClassInfo classInfo = index.getClassByName(entityClassName);
+            while (classInfo != null) {
+                if (hasIdentityGeneratedValue(classInfo)) {
+                    identityEntities.add(entityClassName);
+                    break;
+                }
+                classInfo = classInfo.superName() == null ? null : index.getClassByName(classInfo.superName());
+            }
+        }
+        if (!identityEntities.isEmpty()) {
+            LOG.warnf("Persistence unit '%s' enables write-behind, but entities %s generate their identifiers with"
+                    + " GenerationType.IDENTITY: their inserts cannot be batched. Use GenerationType.SEQUENCE instead.",
+                    persistenceUnitName, identityEntities);
+        }
+    }
+
+    private static boolean hasIdentityGeneratedValue(ClassInfo classInfo) {
+        for (AnnotationInstance generatedValue : classInfo.annotations(ClassNames.GENERATED_VALUE)) {
+            AnnotationValue strategy = generatedValue.value("strategy");
+            if (strategy != null && "IDENTITY".equals(strategy.asEnum())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // TODO ideally we should align on ORM and use 16 as a default, but that would break applications
     //  because of https://github.com/hibernate/hibernate-reactive/issues/742
     private static int defaultBatchSize(boolean reactive) {
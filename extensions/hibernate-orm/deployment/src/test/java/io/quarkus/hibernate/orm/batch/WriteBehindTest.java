@@ -0,0 +1,118 @@
+package io.quarkus.hibernate.orm.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.metrics.FlushBatchStatistics;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class WriteBehindTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest runner = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(MainEntity.class)
+                    .addClass(OtherEntity.class)
+                    .addClass(IdentityEntity.class)
+                    .addAsResource("application.properties"))
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.write-behind", "true")
+            .overrideConfigKey("quarkus.hibernate-orm.statistics", "true")
+            // Expect a warning about the entity that cannot be inserted in batches
+            .setLogRecordPredicate(record -> record.getMessage().contains("write-behind"))
+            .assertLogRecords(records -> assertThat(records)
+                    .singleElement()
+                    .satisfies(record -> {
+                        assertThat(record.getLevel().getName()).isEqualTo("WARN");
+                        assertThat(record.getParameters()[1].toString())
+                                .contains(IdentityEntity.class.getName())
+                                .doesNotContain(MainEntity.class.getName());
+                    }));
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testSettings() {
+        SessionFactoryOptions options = sessionFactory.unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions();
+        assertThat(options.getJdbcBatchSize()).isEqualTo(50);
+        assertThat(options.isOrderInsertsEnabled()).isTrue();
+        assertThat(options.isOrderUpdatesEnabled()).isTrue();
+    }
+
+    @Test
+    public void testInsertsAreBatchedPerEntityType() throws Exception {
+        FlushBatchStatistics statistics = FlushBatchStatistics.of(sessionFactory);
+        assertThat(statistics).isNotNull();
+        long batchesBefore = statistics.getBatchCount();
+        long entitiesBefore = statistics.getFlushedEntityCount();
+
+        transaction.begin();
+        persistEntities(session);
+        transaction.commit();
+
+        // 200 OtherEntity, 20 MainEntity and 200 join table rows, interleaved:
+        // without ordering, nearly every insert would be sent in its own batch
+        assertThat(statistics.getBatchCount() - batchesBefore).isBetween(1L, 12L);
+        assertThat(statistics.getFlushedEntityCount() - entitiesBefore).isEqualTo(220);
+    }
+
+    @Test
+    public void testFlushesOfSessionsOpenedFromTheSessionFactoryAreCounted() throws Exception {
+        FlushBatchStatistics statistics = FlushBatchStatistics.of(sessionFactory);
+        assertThat(statistics).isNotNull();
+        long batchesBefore = statistics.getBatchCount();
+        long entitiesBefore = statistics.getFlushedEntityCount();
+
+        // a session opened without the injected transaction-scoped session, flushed explicitly
+        try (Session otherSession = sessionFactory.openSession()) {
+            transaction.begin();
+            otherSession.joinTransaction();
+            persistEntities(otherSession);
+            otherSession.flush();
+            // nothing left to flush on commit
+            otherSession.clear();
+            transaction.commit();
+        }
+
+        assertThat(statistics.getBatchCount() - batchesBefore).isBetween(1L, 12L);
+        assertThat(statistics.getFlushedEntityCount() - entitiesBefore).isEqualTo(220);
+    }
+
+    private static void persistEntities(Session session) {
+        for (int i = 0; i < 20; i++) {
+            MainEntity mainEntity = new MainEntity();
+            for (int j = 0; j < 10; j++) {
+                OtherEntity otherEntity = new OtherEntity();
+                session.persist(otherEntity);
+                mainEntity.others.add(otherEntity);
+            }
+            session.persist(mainEntity);
+        }
+    }
+
+    @Entity
+    public static class IdentityEntity {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        public Long id;
+    }
+}
@@ -0,0 +1,192 @@
+package io.quarkus.hibernate.orm.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.transaction.UserTransaction;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CaffeineRegionFactoryTest {
+
+    private static final String QUERY_REGION = "default-query-results-region";
+
+    @RegisterExtension
+    static QuarkusExtensionTest runner = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(CachedEntity.class, SmallRegionEntity.class))
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + CachedEntity.class.getName() + "\".memory.max-size", "1M")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + SmallRegionEntity.class.getName() + "\".memory.max-size",
+                    "4K")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + QUERY_REGION + "\".memory.off-heap", "true");
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Inject
+    Session session;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testRegions() throws Exception {
+        CaffeineStorageAccess entityRegion = region(CachedEntity.class.getName());
+        CaffeineStorageAccess queryRegion = region(QUERY_REGION);
+        assertThat(entityRegion).isNotNull();
+        assertThat(queryRegion).isNotNull();
+
+        transaction.begin();
+        session.persist(new CachedEntity(1L, "one"));
+        session.persist(new CachedEntity(2L, "two"));
+        transaction.commit();
+
+        // the entity region is bounded by size, and serves the next loads
+        transaction.begin();
+        assertThat(session.find(CachedEntity.class, 1L).name).isEqualTo("one");
+        transaction.commit();
+        long hits = entityRegion.getStats().hitCount();
+        transaction.begin();
+        assertThat(session.find(CachedEntity.class, 1L).name).isEqualTo("one");
+        transaction.commit();
+        assertThat(entityRegion.getStats().hitCount()).isGreaterThan(hits);
+        assertThat(entityRegion.getWeightedSize()).isPositive();
+
+        // the query results are kept off-heap, and deserialized on each read
+        for (int i = 0; i < 2; i++) {
+            transaction.begin();
+            List<String> names = session.createQuery("select name from CachedEntity order by id", String.class)
+                    .setCacheable(true)
+                    .getResultList();
+            transaction.commit();
+            assertThat(names).containsExactly("one", "two");
+        }
+        assertThat(queryRegion.getStats().hitCount()).isPositive();
+        assertThat(queryRegion.getWeightedSize()).isEqualTo(-1);
+
+        // an update is visible to the next loads once committed
+        transaction.begin();
+        session.find(CachedEntity.class, 1L).name = "uno";
+        transaction.commit();
+        transaction.begin();
+        assertThat(session.find(CachedEntity.class, 1L).name).isEqualTo("uno");
+        transaction.commit();
+    }
+
+    @Test
+    public void testEvictionOverMaxSize() throws Exception {
+        CaffeineStorageAccess region = region(SmallRegionEntity.class.getName());
+
+        // about 300 bytes per entry, far more than the 4 KB of the region
+        transaction.begin();
+        for (long i = 0; i < 100; i++) {
+            session.persist(new SmallRegionEntity(i, "x".repeat(200)));
+        }
+        transaction.commit();
+        transaction.begin();
+        for (long i = 0; i < 100; i++) {
+            assertThat(session.find(SmallRegionEntity.class, i)).isNotNull();
+        }
+        transaction.commit();
+
+        // the eviction runs asynchronously
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(region.getStats().evictionCount()).isPositive();
+            assertThat(region.getWeightedSize()).isPositive().isLessThanOrEqualTo(4096);
+        });
+        assertThat(region.getSize()).isLessThan(100);
+    }
+
+    @Test
+    public void testDeferredInvalidation() throws Exception {
+        CaffeineStorageAccess region = region(CachedEntity.class.getName());
+        region.putIntoCache("deferred-1", "one", null);
+        region.putIntoCache("deferred-2", "two", null);
+
+        transaction.begin();
+        SharedSessionContractImplementor transactionSession = session.unwrap(SharedSessionContractImplementor.class);
+        region.removeFromCache("deferred-1", transactionSession);
+        region.removeFromCache("deferred-2", transactionSession);
+        // the other sessions still read the committed state until the transaction completes
+        assertThat(region.getFromCache("deferred-1", null)).isEqualTo("one");
+        assertThat(region.getFromCache("deferred-2", null)).isEqualTo("two");
+        transaction.commit();
+        // then both entries are invalidated
+        assertThat(region.contains("deferred-1")).isFalse();
+        assertThat(region.contains("deferred-2")).isFalse();
+
+        // a rollback invalidates the entries too
+        region.putIntoCache("deferred-1", "one", null);
+        transaction.begin();
+        region.removeFromCache("deferred-1", session.unwrap(SharedSessionContractImplementor.class));
+        assertThat(region.getFromCache("deferred-1", null)).isEqualTo("one");
+        transaction.rollback();
+        assertThat(region.contains("deferred-1")).isFalse();
+
+        // outside a transaction, the entries are invalidated immediately
+        region.putIntoCache("deferred-1", "one", null);
+        region.removeFromCache("deferred-1", null);
+        assertThat(region.contains("deferred-1")).isFalse();
+    }
+
+    private CaffeineStorageAccess region(String name) {
+        QuarkusCaffeineRegionFactory regionFactory = (QuarkusCaffeineRegionFactory) sessionFactory
+                .unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        CaffeineStorageAccess region = regionFactory.getRegions().get(name);
+        assertThat(region).isNotNull();
+        return region;
+    }
+
+    @Entity(name = "CachedEntity")
+    @Cacheable
+    public static class CachedEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+
+        public CachedEntity() {
+        }
+
+        public CachedEntity(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "SmallRegionEntity")
+    @Cacheable
+    public static class SmallRegionEntity {
+
+        @Id
+        public Long id;
+
+        public String name;
+
+        public SmallRegionEntity() {
+        }
+
+        public SmallRegionEntity(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
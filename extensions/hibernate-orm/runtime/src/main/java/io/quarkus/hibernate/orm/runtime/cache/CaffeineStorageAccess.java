@@ -0,0 +1,246 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.transaction.Synchronization;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * The storage of a second-level cache region in a Caffeine cache.
+ * <p>
+ * The entries removed by a session while its transaction is in progress are only invalidated when the transaction
+ * completes, all at once: until then, the other transactions still read the committed state that the cache holds.
+ * <p>
+ * The direct buffers of the entries kept off-heap are recycled when the entries are removed, once the reads in progress
+ * are done. The direct memory of a region kept off-heap is bounded by its maximum size when it is set, otherwise only by
+ * the number of its entries and the maximum direct memory of the JVM.
+ */
+public final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+    private static final Logger LOG = Logger.getLogger(CaffeineStorageAccess.class);
+
+    private final String regionName;
+    private final boolean offHeap;
+    private final boolean weighted;
+    private final Cache<Object, Object> cache;
+    private final DirectBufferPool bufferPool;
+    private final Map<SharedSessionContractImplementor, Set<Object>> pendingInvalidations = new ConcurrentHashMap<>();
+
+    CaffeineStorageAccess(String regionName, Duration maxIdle, long objectCount, long maxSize, boolean offHeap) {
+        this.regionName = regionName;
+        this.offHeap = offHeap;
+        this.weighted = maxSize >= 0;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (maxIdle != null) {
+            builder.expireAfterAccess(maxIdle);
+        }
+        if (weighted) {
+            builder.maximumWeight(maxSize).weigher((key, value) -> weigh(value));
+        } else if (objectCount >= 0) {
+            builder.maximumSize(objectCount);
+        }
+        if (offHeap) {
+            this.bufferPool = new DirectBufferPool();
+            // called for the evicted, expired, invalidated and replaced entries
+            builder.removalListener((key, value, cause) -> {
+                if (value instanceof OffHeapValue offHeapValue) {
+                    offHeapValue.release();
+                }
+            });
+        } else {
+            this.bufferPool = null;
+        }
+        this.cache = builder.build();
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Object value = cache.getIfPresent(key);
+        if (value instanceof OffHeapValue offHeapValue) {
+            // null if the entry has been removed meanwhile, like a miss
+            return offHeapValue.deserialize();
+        }
+        return value;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        cache.put(key, offHeap ? toOffHeap(value) : value);
+    }
+
+    @Override
+    public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        if (session == null || !session.isTransactionInProgress()) {
+            cache.invalidate(key);
+            return;
+        }
+        pendingInvalidations.computeIfAbsent(session, this::registerInvalidation).add(key);
+    }
+
+    private Set<Object> registerInvalidation(SharedSessionContractImplementor session) {
+        session.getTransactionCoordinator().getLocalSynchronizations().registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // also invalidate after a rollback, like the removals that are not deferred
+                Set<Object> keys = pendingInvalidations.remove(session);
+                if (keys != null) {
+                    cache.invalidateAll(keys);
+                }
+            }
+        });
+        return ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public void clearCache(SharedSessionContractImplementor session) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return cache.asMap().containsKey(key);
+    }
+
+    @Override
+    public void evictData() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void evictData(Object key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void release() {
+        cache.invalidateAll();
+        cache.cleanUp();
+        pendingInvalidations.clear();
+        if (bufferPool != null) {
+            bufferPool.clear();
+        }
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    /**
+     * @return the cache statistics: hits, misses and evictions
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return the number of entries of the region
+     */
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * @return the estimated memory footprint of the region in bytes, or {@code -1} if the region is not bounded by size
+     */
+    public long getWeightedSize() {
+        if (!weighted) {
+            return -1;
+        }
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(-1)).orElse(-1L);
+    }
+
+    /**
+     * @return the pool of the direct buffers of the region, or {@code null} if the region is kept on the heap
+     */
+    DirectBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    private Object toOffHeap(Object value) {
+        if (value instanceof SoftLock) {
+            // soft locks are compared by the access strategies
+            return value;
+        }
+        try {
+            byte[] bytes = SerializationHelper.serialize((Serializable) value);
+            ByteBuffer buffer = bufferPool.allocate(bytes.length);
+            buffer.put(0, bytes);
+            return new OffHeapValue(buffer, bytes.length);
+        } catch (RuntimeException e) {
+            // entries holding non-serializable values stay on the heap
+            LOG.debugf(e, "Keeping a value of region '%s' on the heap", regionName);
+            return value;
+        }
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof OffHeapValue offHeapValue) {
+            return OffHeapValue.OVERHEAD + offHeapValue.buffer.capacity();
+        }
+        long size = ObjectSizeEstimator.estimate(value);
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A value serialized in a direct buffer, which is recycled when the value is removed from the cache and no longer read.
+     */
+    private final class OffHeapValue {
+
+        static final int OVERHEAD = 64;
+
+        private final ByteBuffer buffer;
+        private final int length;
+        // one for the cache, plus one per read in progress
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        OffHeapValue(ByteBuffer buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        /**
+         * @return the value, or {@code null} if the value has been removed from the cache and its buffer recycled
+         */
+        Object deserialize() {
+            int count;
+            do {
+                count = references.get();
+                if (count == 0) {
+                    return null;
+                }
+            } while (!references.compareAndSet(count, count + 1));
+            byte[] bytes = new byte[length];
+            try {
+                buffer.get(0, bytes);
+            } finally {
+                release();
+            }
+            return SerializationHelper.deserialize(bytes, Thread.currentThread().getContextClassLoader());
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) {
+                bufferPool.recycle(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The direct buffers of a region kept off-heap, recycled when the entries are removed from the region.
+ * <p>
+ * The JDK only frees a direct buffer when it is garbage collected, which may take long since the buffers are small on the
+ * heap: the removed entries would hold their direct memory until then. The buffers are allocated with a power of two
+ * capacity, and the free buffers of each capacity are kept for the next entries, up to {@link #MAX_FREE_BYTES} in total.
+ * The buffers larger than {@link #MAX_POOLED_CAPACITY} are not recycled.
+ */
+final class DirectBufferPool {
+
+    static final int MIN_CAPACITY = 64;
+    static final int MAX_POOLED_CAPACITY = 64 * 1024;
+    static final long MAX_FREE_BYTES = 4 * 1024 * 1024;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_CAPACITY);
+
+    // the free buffers by capacity, from MIN_CAPACITY to MAX_POOLED_CAPACITY
+    private final Queue<ByteBuffer>[] freeBuffers;
+    private final AtomicLong freeBytes = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    DirectBufferPool() {
+        freeBuffers = new Queue[sizeClass(MAX_POOLED_CAPACITY) + 1];
+        for (int i = 0; i < freeBuffers.length; i++) {
+            freeBuffers[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * @return a direct buffer of at least the given capacity
+     */
+    ByteBuffer allocate(int length) {
+        if (length > MAX_POOLED_CAPACITY) {
+            return ByteBuffer.allocateDirect(length);
+        }
+        int sizeClass = sizeClass(length);
+        ByteBuffer buffer = freeBuffers[sizeClass].poll();
+        if (buffer == null) {
+            return ByteBuffer.allocateDirect(MIN_CAPACITY << sizeClass);
+        }
+        freeBytes.addAndGet(-buffer.capacity());
+        return buffer.clear();
+    }
+
+    /**
+     * Keeps a buffer which is no longer used for the next allocations, unless too many bytes are free already.
+     */
+    void recycle(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (capacity > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        if (freeBytes.addAndGet(capacity) > MAX_FREE_BYTES) {
+            freeBytes.addAndGet(-capacity);
+            return;
+        }
+        freeBuffers[sizeClass(capacity)].offer(buffer);
+    }
+
+    /**
+     * Drops the free buffers, which are then freed when they are garbage collected.
+     */
+    void clear() {
+        for (Queue<ByteBuffer> buffers : freeBuffers) {
+            ByteBuffer buffer;
+            while ((buffer = buffers.poll()) != null) {
+                freeBytes.addAndGet(-buffer.capacity());
+            }
+        }
+    }
+
+    /**
+     * @return the number of bytes of the free buffers
+     */
+    long getFreeBytes() {
+        return freeBytes.get();
+    }
+
+    private static int sizeClass(int length) {
+        // the smallest power of two holding the given length
+        return 32 - Integer.numberOfLeadingZeros(Math.max(length, MIN_CAPACITY) - 1) - MIN_SHIFT;
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+
+/**
+ * Estimates the memory footprint of the values of the second-level cache, to bound the regions by size.
+ * <p>
+ * The values that Hibernate ORM caches are mostly the disassembled state of entities, made of strings, numbers and
+ * arrays, possibly wrapped in the items of the read-write access strategy, which are estimated from their content. The
+ * other values are estimated from the size of their serialized form, which is only computed when they are put into the
+ * cache.
+ * <p>
+ * This includes the query results, which Hibernate ORM caches in an internal item type that cannot be inspected: each
+ * query result put into a region bounded by size is serialized once to be weighed. The regions kept off-heap are weighed
+ * from the size of their serialized values instead, so a query results region bounded by size should preferably be kept
+ * off-heap too.
+ */
+final class ObjectSizeEstimator {
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int UNKNOWN_SIZE = 64;
+    private static final int MAX_DEPTH = 8;
+
+    private ObjectSizeEstimator() {
+    }
+
+    static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (depth > MAX_DEPTH) {
+            return UNKNOWN_SIZE;
+        }
+        if (value instanceof String string) {
+            return OBJECT_OVERHEAD + 24 + string.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_OVERHEAD + 8;
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_OVERHEAD + bytes.length;
+        }
+        if (value instanceof char[] chars) {
+            return OBJECT_OVERHEAD + 2L * chars.length;
+        }
+        if (value instanceof Object[] array) {
+            long size = OBJECT_OVERHEAD + (long) REFERENCE_SIZE * array.length;
+            for (Object element : array) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_OVERHEAD * 2 + (long) (REFERENCE_SIZE + OBJECT_OVERHEAD) * collection.size();
+            for (Object element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = OBJECT_OVERHEAD * 2 + (long) (REFERENCE_SIZE * 2 + OBJECT_OVERHEAD) * map.size();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof CacheEntry entry) {
+            return OBJECT_OVERHEAD + REFERENCE_SIZE * 3 + estimate(entry.getDisassembledState(), depth + 1);
+        }
+        if (value instanceof AbstractReadWriteAccess.Item item) {
+            // the item holds the value, a boxed version and a timestamp
+            return OBJECT_OVERHEAD + REFERENCE_SIZE * 2 + 8 + (OBJECT_OVERHEAD + 8) + estimate(item.getValue(), depth + 1);
+        }
+        if (value instanceof Serializable serializable) {
+            return serializedSize(serializable);
+        }
+        return UNKNOWN_SIZE;
+    }
+
+    private static long serializedSize(Serializable value) {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+            out.writeObject(value);
+        } catch (IOException | RuntimeException e) {
+            return UNKNOWN_SIZE;
+        }
+        return Math.max(counter.count, UNKNOWN_SIZE);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A region factory keeping the second-level cache regions in Caffeine caches, which can be bounded by their memory
+ * footprint instead of their number of objects, and keep their values serialized outside the Java heap.
+ * <p>
+ * The regions are configured with the same {@code hibernate.cache.<region>.*} properties as the default region factory,
+ * plus {@link #MEMORY_MAX_SIZE} and {@link #MEMORY_OFF_HEAP}: this factory is only used when one of the regions sets them.
+ */
+public final class QuarkusCaffeineRegionFactory extends RegionFactoryTemplate {
+
+    public static final String HIBERNATE_CACHE_PREFIX = "hibernate.cache.";
+    public static final String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
+    public static final String MEMORY_OBJECT_COUNT = ".memory.object-count";
+    public static final String MEMORY_MAX_SIZE = ".memory.max-size";
+    public static final String MEMORY_OFF_HEAP = ".memory.off-heap";
+
+    private static final Duration DEFAULT_MAX_IDLE = Duration.ofSeconds(100);
+    private static final long DEFAULT_OBJECT_COUNT = 10_000;
+
+    private final Map<String, CaffeineStorageAccess> regions = new ConcurrentHashMap<>();
+    private volatile Map<String, Object> configValues = Collections.emptyMap();
+
+    /**
+     * @return whether one of the regions of the given configuration needs this region factory
+     */
+    public static boolean isRequired(Map<?, ?> configurationValues) {
+        for (Object key : configurationValues.keySet()) {
+            if (key instanceof String name && name.startsWith(HIBERNATE_CACHE_PREFIX)
+                    && (name.endsWith(MEMORY_MAX_SIZE) || name.endsWith(MEMORY_OFF_HEAP))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        this.configValues = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        for (CaffeineStorageAccess region : regions.values()) {
+            region.release();
+        }
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createStorageAccess(regionConfig.getRegionName(), true);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createStorageAccess(regionName, true);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        // A missing timestamp lets the cached query results of a table be considered up-to-date:
+        // the timestamps, one per table, must never be evicted
+        return createStorageAccess(regionName, false);
+    }
+
+    private CaffeineStorageAccess createStorageAccess(String regionName, boolean bounded) {
+        CaffeineStorageAccess region;
+        if (bounded) {
+            region = new CaffeineStorageAccess(regionName,
+                    getDuration(regionName + EXPIRATION_MAX_IDLE, DEFAULT_MAX_IDLE),
+                    getLong(regionName + MEMORY_OBJECT_COUNT, DEFAULT_OBJECT_COUNT),
+                    getLong(regionName + MEMORY_MAX_SIZE, -1),
+                    Boolean.parseBoolean(getValue(regionName + MEMORY_OFF_HEAP)));
+        } else {
+            region = new CaffeineStorageAccess(regionName, null, -1, -1, false);
+        }
+        regions.put(regionName, region);
+        return region;
+    }
+
+    /**
+     * @return the regions of this factory, by name
+     */
+    public Map<String, CaffeineStorageAccess> getRegions() {
+        return Collections.unmodifiableMap(regions);
+    }
+
+    private String getValue(String regionKey) {
+        Object value = configValues.get(HIBERNATE_CACHE_PREFIX + regionKey);
+        return value == null ? null : value.toString();
+    }
+
+    private long getLong(String regionKey, long defaultValue) {
+        String value = getValue(regionKey);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    private Duration getDuration(String regionKey, Duration defaultValue) {
+        // the max idle is configured in seconds, like for the default region factory
+        String value = getValue(regionKey);
+        return value == null ? defaultValue : Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,101 @@
+package io.quarkus.hibernate.orm.runtime.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.AbstractDelegatingSessionFactoryOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Collects the JDBC batches sent when the sessions of a persistence unit are flushed, which Hibernate ORM statistics do
+ * not report.
+ * <p>
+ * A single instance is registered on all the sessions of a session factory, along with the baseline session event
+ * listeners, so it only keeps global counters: the number of batches and entities per flush are derived from
+ * {@link org.hibernate.stat.Statistics#getFlushCount()}.
+ */
+public final class FlushBatchStatistics implements SessionEventListener {
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder flushedEntities = new LongAdder();
+    private final LongAdder flushedCollections = new LongAdder();
+
+    /**
+     * @return the options to build a session factory with, which register new statistics on all the sessions, or the given
+     *         options if the statistics are disabled
+     */
+    public static SessionFactoryOptions register(SessionFactoryOptions options) {
+        if (!options.isStatisticsEnabled()) {
+            return options;
+        }
+        return new StatisticsSessionFactoryOptions(options, new FlushBatchStatistics());
+    }
+
+    /**
+     * @return the statistics of the given session factory, or {@code null} if its statistics are disabled
+     */
+    public static FlushBatchStatistics of(SessionFactory sessionFactory) {
+        if (sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions() instanceof StatisticsSessionFactoryOptions options) {
+            return options.statistics;
+        }
+        return null;
+    }
+
+    private FlushBatchStatistics() {
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        batches.increment();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        flushedEntities.add(numberOfEntities);
+        flushedCollections.add(numberOfCollections);
+    }
+
+    /**
+     * @return the number of JDBC batches executed
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * @return the number of entities processed by the flushes
+     */
+    public long getFlushedEntityCount() {
+        return flushedEntities.sum();
+    }
+
+    /**
+     * @return the number of collections processed by the flushes
+     */
+    public long getFlushedCollectionCount() {
+        return flushedCollections.sum();
+    }
+
+    private static final class StatisticsSessionFactoryOptions extends AbstractDelegatingSessionFactoryOptions {
+
+        private final FlushBatchStatistics statistics;
+
+        StatisticsSessionFactoryOptions(SessionFactoryOptions delegate, FlushBatchStatistics statistics) {
+            super(delegate);
+            this.statistics = statistics;
+        }
+
+        @Override
+        public SessionEventListener[] buildSessionEventListeners() {
+            // called for each session, including the stateless sessions and the sessions opened without the JTA opener
+            SessionEventListener[] baseline = super.buildSessionEventListeners();
+            SessionEventListener[] listeners = Arrays.copyOf(baseline, baseline.length + 1);
+            listeners[baseline.length] = statistics;
+            return listeners;
+        }
+    }
+}
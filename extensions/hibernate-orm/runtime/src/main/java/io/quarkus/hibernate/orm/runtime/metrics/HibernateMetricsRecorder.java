@@ -8,11 +8,15 @@
 import jakarta.persistence.EntityManagerFactory;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -34,6 +38,15 @@ public void accept(MetricsFactory metricsFactory) {
                     SessionFactory sessionFactory = emf.getItem2().unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, emf.getItem1(), sessionFactory.getStatistics());
+                        FlushBatchStatistics flushBatchStatistics = FlushBatchStatistics.of(sessionFactory);
+                        if (flushBatchStatistics != null) {
+                            registerFlushMetrics(metricsFactory, emf.getItem1(), flushBatchStatistics);
+                        }
+                        RegionFactory regionFactory = sessionFactory.unwrap(SessionFactoryImplementor.class).getCache()
+                                .getRegionFactory();
+                        if (regionFactory instanceof QuarkusCaffeineRegionFactory caffeineRegionFactory) {
+                            registerCacheRegionMetrics(metricsFactory, emf.getItem1(), caffeineRegionFactory);
+                        }
                     }
                 }
             }
@@ -206,6 +219,59 @@ void registerMetrics(MetricsFactory metricsFactory, String puName, Statistics st
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register the metrics of the JDBC batches sent by the flushes
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param statistics Flush batch statistics for persistence unit
+     */
+    void registerFlushMetrics(MetricsFactory metricsFactory, String puName, FlushBatchStatistics statistics) {
+        createStatisticsCounter(metricsFactory, "hibernate.flush.batches",
+                "Global number of JDBC batches executed (divide by hibernate.flushes for the batches per flush)",
+                puName, statistics, FlushBatchStatistics::getBatchCount);
+        createStatisticsCounter(metricsFactory, "hibernate.flush.entities",
+                "Global number of entities processed by flush operations",
+                puName, statistics, FlushBatchStatistics::getFlushedEntityCount);
+        createStatisticsCounter(metricsFactory, "hibernate.flush.collections",
+                "Global number of collections processed by flush operations",
+                puName, statistics, FlushBatchStatistics::getFlushedCollectionCount);
+    }
+
+    /**
+     * Register the metrics of the regions of the Caffeine region factory
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param regionFactory Region factory of the persistence unit
+     */
+    void registerCacheRegionMetrics(MetricsFactory metricsFactory, String puName, QuarkusCaffeineRegionFactory regionFactory) {
+        for (CaffeineStorageAccess region : regionFactory.getRegions().values()) {
+            String regionName = region.getRegionName();
+            createStatisticsCounter(metricsFactory, "hibernate.cache.region.requests",
+                    "The number of requests made to a cache region (see result for hit or miss)",
+                    puName, region, r -> r.getStats().hitCount(),
+                    "result", "hit", "region", regionName);
+            createStatisticsCounter(metricsFactory, "hibernate.cache.region.requests",
+                    "The number of requests made to a cache region (see result for hit or miss)",
+                    puName, region, r -> r.getStats().missCount(),
+                    "result", "miss", "region", regionName);
+            createStatisticsCounter(metricsFactory, "hibernate.cache.region.evictions",
+                    "The number of entries evicted from a cache region because of its size or expiration",
+                    puName, region, r -> r.getStats().evictionCount(),
+                    "region", regionName);
+            createBuilder(metricsFactory, "hibernate.cache.region.size",
+                    "The number of entries of a cache region", puName, "region", regionName)
+                    .buildGauge(region, CaffeineStorageAccess::getSize);
+            if (region.getWeightedSize() >= 0) {
+                createBuilder(metricsFactory, "hibernate.cache.region.memory",
+                        "The estimated memory footprint of the entries of a cache region", puName, "region", regionName)
+                        .unit("bytes")
+                        .buildGauge(region, CaffeineStorageAccess::getWeightedSize);
+            }
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
@@ -12,6 +12,8 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+
 public final class QuarkusRegionFactoryInitiator implements StandardServiceInitiator<RegionFactory> {
 
     public static final QuarkusRegionFactoryInitiator INSTANCE = new QuarkusRegionFactoryInitiator();
@@ -44,6 +46,10 @@ public RegionFactory initiateService(Map configurationValues, ServiceRegistryImp
             }
         }
 
+        // Only bounding regions by size or keeping them off-heap requires our own region factory
+        if (QuarkusCaffeineRegionFactory.isRequired(configurationValues)) {
+            return new QuarkusCaffeineRegionFactory();
+        }
         return new QuarkusInfinispanRegionFactory();
     }
 
@@ -0,0 +1,73 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+public class CaffeineStorageAccessTestCase {
+
+    @Test
+    public void bufferPoolTest() {
+        DirectBufferPool pool = new DirectBufferPool();
+        ByteBuffer small = pool.allocate(10);
+        assertThat(small.isDirect()).isTrue();
+        assertThat(small.capacity()).isEqualTo(DirectBufferPool.MIN_CAPACITY);
+        ByteBuffer medium = pool.allocate(100);
+        assertThat(medium.capacity()).isEqualTo(128);
+
+        // the free buffers are reused for the lengths of their capacity
+        pool.recycle(medium);
+        assertThat(pool.getFreeBytes()).isEqualTo(128);
+        assertThat(pool.allocate(70)).isSameAs(medium);
+        assertThat(pool.getFreeBytes()).isZero();
+
+        // the large buffers are not recycled
+        ByteBuffer large = pool.allocate(DirectBufferPool.MAX_POOLED_CAPACITY + 1);
+        assertThat(large.capacity()).isEqualTo(DirectBufferPool.MAX_POOLED_CAPACITY + 1);
+        pool.recycle(large);
+        assertThat(pool.getFreeBytes()).isZero();
+
+        // nor the buffers beyond the maximum of free bytes
+        long buffers = DirectBufferPool.MAX_FREE_BYTES / DirectBufferPool.MAX_POOLED_CAPACITY;
+        for (long i = 0; i <= buffers; i++) {
+            pool.recycle(pool.allocate(DirectBufferPool.MAX_POOLED_CAPACITY));
+            pool.recycle(ByteBuffer.allocateDirect(DirectBufferPool.MAX_POOLED_CAPACITY));
+        }
+        assertThat(pool.getFreeBytes()).isEqualTo(DirectBufferPool.MAX_FREE_BYTES);
+
+        pool.clear();
+        assertThat(pool.getFreeBytes()).isZero();
+    }
+
+    @Test
+    public void offHeapBuffersAreRecycledTest() throws Exception {
+        CaffeineStorageAccess region = new CaffeineStorageAccess("region", null, -1, -1, true);
+        DirectBufferPool pool = region.getBufferPool();
+        assertThat(pool).isNotNull();
+
+        // the replaced and invalidated values give their buffers to the next values, which are read back unchanged
+        for (int i = 0; i < 1000; i++) {
+            region.putIntoCache("key", "value " + i, null);
+            region.putIntoCache("other", "other value " + i, null);
+            assertThat(region.getFromCache("key", null)).isEqualTo("value " + i);
+            assertThat(region.getFromCache("other", null)).isEqualTo("other value " + i);
+            if (i % 2 == 0) {
+                region.evictData("other");
+            }
+        }
+
+        // the removal listener runs asynchronously
+        region.evictData();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (pool.getFreeBytes() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pool.getFreeBytes()).isPositive();
+        assertThat(region.getFromCache("key", null)).isNull();
+
+        region.release();
+        assertThat(new CaffeineStorageAccess("heap", null, -1, -1, false).getBufferPool()).isNull();
+    }
+}
@@ -0,0 +1,30 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An overload detection algorithm based on additive increase, multiplicative decrease,
+ * as implemented by <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is decreased by the configured backoff ratio when a request takes longer than the configured timeout,
+ * and increased by one when the application uses at least half of the limit.
+ */
+final class AimdLimitAlgorithm extends LimitAlgorithm {
+    private final double backoffRatio;
+    private final long timeoutInMicros;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        super(config.maxLimit());
+        backoffRatio = config.aimd().backoffRatio();
+        timeoutInMicros = config.aimd().timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    long update(long currentLimit, long requestTime, int currentRequests, int samples) {
+        if (requestTime > timeoutInMicros) {
+            return clamp((long) (currentLimit * backoffRatio));
+        }
+        if (2L * currentRequests >= currentLimit) {
+            return clamp(currentLimit + 1);
+        }
+        return currentLimit;
+    }
+}
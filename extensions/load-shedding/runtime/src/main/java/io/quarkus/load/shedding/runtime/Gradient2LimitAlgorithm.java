@@ -0,0 +1,63 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An overload detection algorithm based on the Gradient2 algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is adjusted based on the gradient between a long-term exponential average of request times
+ * and the current request time. When the current request time exceeds the long-term average by more
+ * than the configured tolerance, the limit decreases; otherwise, it grows by the square root of the limit.
+ */
+final class Gradient2LimitAlgorithm extends LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRequestTime;
+    private int longRequestTimeSamples;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        super(config.maxLimit());
+        tolerance = config.gradient2().tolerance();
+        smoothing = config.gradient2().smoothing();
+        longWindowFactor = 2.0 / (config.gradient2().longWindow() + 1);
+        estimatedLimit = config.initialLimit();
+    }
+
+    @Override
+    long update(long currentLimit, long requestTime, int currentRequests, int samples) {
+        double shortRequestTime = Math.max(1, requestTime);
+        double longRequestTime = updateLongRequestTime(shortRequestTime);
+
+        // the long-term average may drift when the request times go up and stay high,
+        // in which case we let it decay faster so that the limit may grow again
+        if (longRequestTime / shortRequestTime > 2) {
+            this.longRequestTime = longRequestTime * 0.95;
+        }
+
+        // don't grow the limit when the application doesn't use it
+        if (currentRequests < estimatedLimit / 2) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        return clamp((long) estimatedLimit);
+    }
+
+    private double updateLongRequestTime(double requestTime) {
+        if (longRequestTimeSamples < WARMUP_SAMPLES) {
+            longRequestTimeSamples++;
+            longRequestTime += (requestTime - longRequestTime) / longRequestTimeSamples;
+        } else {
+            longRequestTime = longRequestTime * (1 - longWindowFactor) + requestTime * longWindowFactor;
+        }
+        return longRequestTime;
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * Computes the limit of concurrent requests from observed request times.
+ * <p>
+ * Implementations are stateful and not thread safe, the {@link OverloadDetector} guarantees
+ * that {@link #update(long, long, int, int) update()} is never called concurrently.
+ */
+abstract class LimitAlgorithm {
+    final int maxLimit;
+
+    LimitAlgorithm(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @param currentLimit the current limit of concurrent requests
+     * @param requestTime the request time in microseconds, averaged over all the samples
+     * @param currentRequests the highest number of concurrent requests observed while taking the samples
+     * @param samples the number of requests that were sampled, always 1 unless striped sampling is enabled
+     * @return the new limit of concurrent requests
+     */
+    abstract long update(long currentLimit, long requestTime, int currentRequests, int samples);
+
+    final long clamp(long limit) {
+        return Math.max(1, Math.min(maxLimit, limit));
+    }
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasLimitAlgorithm(config);
+            case GRADIENT2 -> new Gradient2LimitAlgorithm(config);
+            case AIMD -> new AimdLimitAlgorithm(config);
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +18,12 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,6 +54,21 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Configuration of striped sampling of request times.
+     */
+    StripedSampling striped();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +82,76 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, which estimates the size of the request queue
+         * from the difference between the current and the lowest request time.
+         */
+        VEGAS,
+        /**
+         * The Gradient2 algorithm, which adjusts the limit based on the ratio between
+         * a long-term average of request times and the current request time.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease: the limit is increased by one as long as requests
+         * complete within a timeout, and decreased by a backoff ratio otherwise.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * How much the current request time may exceed the long-term average before the limit is decreased.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * How fast the limit follows the computed target, between 0.0 (never) and 1.0 (immediately).
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The number of samples over which the long-term average of request times is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request takes longer than the timeout.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request time after which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
+    @ConfigGroup
+    interface StripedSampling {
+        /**
+         * Whether request times should be sampled into striped counters and merged into the limit
+         * once per sampling window, instead of updating the limit after each request.
+         * This avoids contention on the overload detector when many threads complete requests concurrently,
+         * at the expense of a limit that adapts less quickly.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The duration of a sampling window.
+         */
+        @WithDefault("10ms")
+        Duration window();
+    }
 }
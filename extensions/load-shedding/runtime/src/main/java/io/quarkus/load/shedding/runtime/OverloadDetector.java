@@ -1,46 +1,55 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector that maintains a dynamic limit of concurrent requests. The limit is computed
+ * by the configured {@linkplain LoadSheddingRuntimeConfig#algorithm() algorithm}, by default
+ * an adaptation of TCP Vegas.
+ * <p>
+ * By default, the limit is updated after each request. When striped sampling is enabled, request times
+ * are instead accumulated in striped counters that are contended only when multiple threads hit the same
+ * stripe, and the limit is updated once per sampling window from the aggregated samples.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final LimitAlgorithm algorithm;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    private final boolean striped;
+    private final long windowInNanos;
+    private final AtomicLong nextWindow;
+    private final LongAdder windowSamples;
+    private final LongAdder windowRequestTime;
+    private final LongAccumulator windowMaxRequests;
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
+        algorithm = LimitAlgorithm.create(config);
         currentLimit = config.initialLimit();
-        resetProbeJitter();
+
+        striped = config.striped().enabled();
+        if (striped) {
+            windowInNanos = config.striped().window().toNanos();
+            nextWindow = new AtomicLong(System.nanoTime() + windowInNanos);
+            windowSamples = new LongAdder();
+            windowRequestTime = new LongAdder();
+            windowMaxRequests = new LongAccumulator(Math::max, 0);
+        } else {
+            windowInNanos = 0;
+            nextWindow = null;
+            windowSamples = null;
+            windowRequestTime = null;
+            windowMaxRequests = null;
+        }
     }
 
     public boolean isOverloaded() {
@@ -54,56 +63,39 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        if (striped) {
+            sample(timeInMicros, current);
+        } else {
+            update(timeInMicros, current);
+        }
     }
 
     private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
+        currentLimit = algorithm.update(currentLimit, requestTime, currentRequests, 1);
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    private void sample(long requestTime, int currentRequests) {
+        windowSamples.increment();
+        windowRequestTime.add(requestTime);
+        windowMaxRequests.accumulate(currentRequests);
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        long next = nextWindow.get();
+        long now = System.nanoTime();
+        // only the thread that moves the window forward merges the samples
+        if (now - next >= 0 && nextWindow.compareAndSet(next, now + windowInNanos)) {
+            merge();
         }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
+    }
 
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
+    // only contended when merging takes longer than the sampling window
+    private synchronized void merge() {
+        long samples = windowSamples.sumThenReset();
+        long requestTime = windowRequestTime.sumThenReset();
+        long maxRequests = windowMaxRequests.getThenReset();
+        if (samples == 0) {
             return;
         }
-
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
-    }
-
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+        currentLimit = algorithm.update(currentLimit, requestTime / samples, (int) maxRequests,
+                (int) Math.min(samples, Integer.MAX_VALUE));
     }
 }
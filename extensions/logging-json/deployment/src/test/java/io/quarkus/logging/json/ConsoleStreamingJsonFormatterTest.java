@@ -0,0 +1,144 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Handler;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.logging.InitialConfigurator;
+import io.quarkus.logging.json.runtime.AdditionalField;
+import io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig;
+import io.quarkus.logging.json.runtime.JsonLogConfig.JsonConfig.LogFormat;
+import io.quarkus.logging.json.runtime.StreamingJsonFormatter;
+import io.quarkus.runtime.logging.ByteChannelHandler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ConsoleStreamingJsonFormatterTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withConfigurationResource("application-console-json-formatter-streaming.properties");
+
+    @Test
+    public void streamingHandlerTest() {
+        Handler handler = Arrays.stream(InitialConfigurator.DELAYED_HANDLER.getHandlers())
+                .filter(h -> (h instanceof ByteChannelHandler))
+                .findFirst().orElse(null);
+        assertThat(handler).isNotNull();
+        assertThat(handler.getLevel()).isEqualTo(Level.WARNING);
+        assertThat(handler.getFormatter()).isInstanceOf(StreamingJsonFormatter.class);
+
+        // The ECS output, including the formatted stack trace, is encoded without the string formatter
+        StreamingJsonFormatter formatter = (StreamingJsonFormatter) handler.getFormatter();
+        assertThat(formatter.getExceptionOutputType()).isEqualTo(StructuredFormatter.ExceptionOutputType.FORMATTED);
+        for (ExtLogRecord record : records()) {
+            assertSameOutput(formatter, record);
+        }
+
+        // The tests redirect the standard output, which the handler writes through
+        PrintStream out = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+        try {
+            handler.publish(records().get(0));
+        } finally {
+            System.setOut(out);
+        }
+        assertThat(captured.toString(StandardCharsets.UTF_8)).contains("Hello, World!");
+    }
+
+    @Test
+    public void sameOutputTest() {
+        StreamingJsonFormatter formatter = new StreamingJsonFormatter();
+        formatter.setAdditionalFields(Map.of("foo", new AdditionalField("42", AdditionalFieldConfig.Type.INT)));
+        formatter.setMetaData("env=prod");
+        for (ExtLogRecord record : records()) {
+            assertSameOutput(formatter, record);
+        }
+
+        // The records with a detailed exception and the pretty printed records are formatted as a string first
+        formatter.setPrintDetails(true);
+        formatter.setRecordDelimiter("\n;");
+        formatter.setPrettyPrint(true);
+        for (ExtLogRecord record : records()) {
+            assertSameOutput(formatter, record);
+        }
+    }
+
+    @Test
+    public void excludedKeysTest() {
+        StreamingJsonFormatter formatter = new StreamingJsonFormatter("level=severity");
+        formatter.setExcludedKeys(Set.of("timestamp", "mdc", "stackTrace"));
+        formatter.setExceptionOutputType(StructuredFormatter.ExceptionOutputType.FORMATTED);
+        for (ExtLogRecord record : records()) {
+            String output = assertSameOutput(formatter, record);
+            assertThat(output).contains("\"severity\":").doesNotContain("\"timestamp\":", "\"mdc\":", "\"stackTrace\":");
+        }
+    }
+
+    @Test
+    public void reconfigurationTest() {
+        StreamingJsonFormatter formatter = new StreamingJsonFormatter();
+        formatter.setExceptionOutputType(StructuredFormatter.ExceptionOutputType.FORMATTED);
+        for (ExtLogRecord record : records()) {
+            assertSameOutput(formatter, record);
+        }
+
+        // The changes apply to the threads which already formatted records
+        formatter.setExcludedKeys(Set.of("timestamp", "mdc"));
+        formatter.setLogFormat(LogFormat.ECS);
+        for (ExtLogRecord record : records()) {
+            String output = assertSameOutput(formatter, record);
+            assertThat(output).doesNotContain("\"timestamp\":", "\"mdc\":");
+        }
+    }
+
+    private static String assertSameOutput(StreamingJsonFormatter formatter, ExtLogRecord record) {
+        // The encoding of the string replaces the unpaired surrogates, like the streaming formatter
+        String expected = new String(formatter.format(record).getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        ByteBuffer buffer = formatter.formatToBuffer(record);
+        String output = StandardCharsets.UTF_8.decode(buffer).toString();
+        assertThat(output).isEqualTo(expected);
+        return output;
+    }
+
+    private static List<ExtLogRecord> records() {
+        List<ExtLogRecord> records = new ArrayList<>();
+        Function<String, ExtLogRecord> record = message -> {
+            ExtLogRecord r = new ExtLogRecord(Level.WARN, message, ConsoleStreamingJsonFormatterTest.class.getName());
+            r.setLoggerName("org.acme.Service");
+            records.add(r);
+            return r;
+        };
+        record.apply("Hello, World!");
+        record.apply("quote \" backslash \\ slash / control \n\t\r\b\f\u0001\u001f non-ASCII é € 😀 unpaired \uD800");
+        ExtLogRecord mdc = record.apply("with MDC");
+        mdc.putMdc("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        mdc.putMdc("key \"with\" quotes", "value\nwith\nnewlines");
+        mdc.setNdc("ndc");
+        mdc.setHostName("localhost");
+        ExtLogRecord parameters = new ExtLogRecord(Level.ERROR, "%s failed after %d attempts",
+                ExtLogRecord.FormatStyle.PRINTF, ConsoleStreamingJsonFormatterTest.class.getName());
+        parameters.setParameters(new Object[] { "Upload", 3 });
+        records.add(parameters);
+        record.apply("with exception").setThrown(new IllegalStateException("This is a startup exception",
+                new IllegalArgumentException("cause")));
+        record.apply(null);
+        return records;
+    }
+}
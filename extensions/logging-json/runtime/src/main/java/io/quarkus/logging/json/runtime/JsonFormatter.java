@@ -127,9 +127,19 @@ public void setTracePrefix(String tracePrefix) {
         this.tracePrefix = tracePrefix;
     }
 
+    LogFormat getLogFormat() {
+        return logFormat;
+    }
+
     @Override
     protected Generator createGenerator(final Writer writer) {
-        Generator superGenerator = super.createGenerator(writer);
+        return wrap(super.createGenerator(writer));
+    }
+
+    /**
+     * Wraps a generator to apply the excluded keys and the ECS adjustments.
+     */
+    Generator wrap(final Generator superGenerator) {
         // In ECS mode, pass the resolved stack trace key so the generator can strip
         // the leading ": " that jboss's StackTraceFormatter unconditionally prepends
         // to the rendered stack trace string.
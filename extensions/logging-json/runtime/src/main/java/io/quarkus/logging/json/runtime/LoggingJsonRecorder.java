@@ -131,7 +131,10 @@ private RuntimeValue<Optional<Formatter>> getDefaultFormatter(JsonConfig config,
         }
 
         final JsonFormatter formatter;
-        if (overridableJsonConfig.keyOverrides() == null) {
+        if (config.streaming()) {
+            formatter = overridableJsonConfig.keyOverrides() == null ? new StreamingJsonFormatter()
+                    : new StreamingJsonFormatter(overridableJsonConfig.keyOverrides());
+        } else if (overridableJsonConfig.keyOverrides() == null) {
             formatter = new JsonFormatter();
         } else {
             formatter = new JsonFormatter(overridableJsonConfig.keyOverrides());
@@ -0,0 +1,690 @@
+package io.quarkus.logging.json.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jakarta.json.JsonValue;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.PropertyValues;
+import org.jboss.logmanager.formatters.StackTraceFormatter;
+
+import io.quarkus.logging.json.runtime.JsonLogConfig.JsonConfig.LogFormat;
+import io.quarkus.runtime.logging.BinaryFormatter;
+
+/**
+ * A JSON formatter that encodes the records straight into a reusable per-thread byte buffer, without building a
+ * {@code String} for each record.
+ * <p>
+ * The output is the same as the output of the {@link JsonFormatter}. The field names, including the MDC keys, are
+ * encoded once. The records are written to the console or the file by a {@link io.quarkus.runtime.logging.ByteChannelHandler}.
+ * <p>
+ * A virtual thread usually lives for a single task, so a per-thread buffer would be allocated for almost every record.
+ * The virtual threads borrow a buffer from a few shared slots instead, and get a copy of the encoded record.
+ * <p>
+ * The pretty printed records and the records with a detailed exception are rare enough to be formatted as a
+ * {@code String} first.
+ */
+public class StreamingJsonFormatter extends JsonFormatter implements BinaryFormatter {
+
+    private static final MethodHandle IS_VIRTUAL = Runtime.version().feature() >= 21 ? findIsVirtual() : null;
+
+    private final ConcurrentHashMap<String, byte[]> encodedKeys = new ConcurrentHashMap<>();
+    private final ThreadLocal<Encoder> encoders = ThreadLocal.withInitial(Encoder::new);
+    // at least as many slots as processors, rounded up to a power of two
+    private final AtomicReferenceArray<Encoder> sharedEncoders = new AtomicReferenceArray<>(
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+    private final int sharedEncodersMask = sharedEncoders.length() - 1;
+    private volatile StandardKeys standardKeys;
+    private volatile Map<String, String> metaDataMap;
+
+    /**
+     * Creates a new streaming JSON formatter.
+     */
+    public StreamingJsonFormatter() {
+        super();
+        encodeKeys();
+    }
+
+    /**
+     * Creates a new streaming JSON formatter.
+     *
+     * @param keyOverrides a string representation of a map to override keys
+     */
+    public StreamingJsonFormatter(final String keyOverrides) {
+        super(keyOverrides);
+        encodeKeys();
+    }
+
+    private void encodeKeys() {
+        for (Key key : Key.values()) {
+            encodedKeys.put(getKey(key), JsonByteGenerator.encodeKey(getKey(key)));
+        }
+        standardKeys = new StandardKeys();
+    }
+
+    @Override
+    public void setExcludedKeys(final Set<String> excludedKeys) {
+        super.setExcludedKeys(excludedKeys);
+        standardKeys = new StandardKeys();
+    }
+
+    @Override
+    public void setLogFormat(final LogFormat logFormat) {
+        super.setLogFormat(logFormat);
+        standardKeys = new StandardKeys();
+    }
+
+    @Override
+    public synchronized void setMetaData(final String metaData) {
+        super.setMetaData(metaData);
+        this.metaDataMap = metaData == null || metaData.isEmpty() ? null : PropertyValues.stringToMap(metaData);
+    }
+
+    @Override
+    public ByteBuffer formatToBuffer(final ExtLogRecord record) {
+        if (isPrettyPrint() || (record.getThrown() != null && isDetailedExceptionOutputType())) {
+            return ByteBuffer.wrap(format(record).getBytes(StandardCharsets.UTF_8));
+        }
+        if (isVirtualThread()) {
+            Encoder encoder = borrowEncoder();
+            try {
+                encode(encoder, record);
+                // the encoder is shared, the bytes must not be overwritten before the caller has written them
+                return ByteBuffer.wrap(encoder.bytes.toByteArray());
+            } finally {
+                releaseEncoder(encoder);
+            }
+        }
+        Encoder encoder = encoders.get();
+        encode(encoder, record);
+        return encoder.bytes.toByteBuffer();
+    }
+
+    private void encode(final Encoder encoder, final ExtLogRecord record) {
+        encoder.bytes.reset();
+        try {
+            encode(encoder, standardKeys, record);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Writes the fields in the same order and under the same conditions as
+     * {@link org.jboss.logmanager.formatters.StructuredFormatter#format(ExtLogRecord)}, the standard fields with their
+     * encoded names and the other fields through the generator wrapped like the generator of the {@link JsonFormatter}.
+     */
+    private void encode(final Encoder encoder, final StandardKeys standardKeys, final ExtLogRecord record)
+            throws Exception {
+        final JsonByteGenerator bytes = encoder.bytes;
+        final Generator generator = encoder.generator(standardKeys);
+        final byte[][] keys = standardKeys.keys;
+
+        generator.begin();
+        before(generator, record);
+        if (keys[Key.TIMESTAMP.ordinal()] != null) {
+            getDateTimeFormatter().formatTo(record.getInstant(), bytes.chars());
+            bytes.addChars(keys[Key.TIMESTAMP.ordinal()], 0);
+        }
+        bytes.add(keys[Key.SEQUENCE.ordinal()], record.getSequenceNumber());
+        bytes.add(keys[Key.LOGGER_CLASS_NAME.ordinal()], record.getLoggerClassName(), 0);
+        bytes.add(keys[Key.LOGGER_NAME.ordinal()], record.getLoggerName(), 0);
+        bytes.add(keys[Key.LEVEL.ordinal()], record.getLevel().getName(), 0);
+        bytes.add(keys[Key.MESSAGE.ordinal()], formatMessage(record), 0);
+        bytes.add(keys[Key.THREAD_NAME.ordinal()], record.getThreadName(), 0);
+        bytes.add(keys[Key.THREAD_ID.ordinal()], record.getThreadID());
+        if (keys[Key.MDC.ordinal()] != null) {
+            bytes.add(keys[Key.MDC.ordinal()], record.getMdcCopy());
+        }
+        bytes.add(keys[Key.NDC.ordinal()], record.getNdc(), 0);
+        final String hostName = record.getHostName();
+        if (isNotNullOrEmpty(hostName)) {
+            bytes.add(keys[Key.HOST_NAME.ordinal()], hostName, 0);
+        }
+        final String processName = record.getProcessName();
+        if (isNotNullOrEmpty(processName)) {
+            // Same as JsonFormatter, ECS requires the basename of the process
+            bytes.add(keys[Key.PROCESS_NAME.ordinal()], processName,
+                    standardKeys.ecs ? processName.lastIndexOf('/') + 1 : 0);
+        }
+        final long pid = record.getProcessId();
+        if (pid >= 0) {
+            bytes.add(keys[Key.PROCESS_ID.ordinal()], pid);
+        }
+        final Throwable thrown = record.getThrown();
+        if (thrown != null && isFormattedExceptionOutputType() && keys[Key.STACK_TRACE.ordinal()] != null) {
+            StringBuilder stackTrace = bytes.chars();
+            StackTraceFormatter.renderStackTrace(stackTrace, thrown, -1);
+            // Same as JsonFormatter, ECS requires the stack trace without the leading ": "
+            boolean trim = standardKeys.ecs && stackTrace.length() >= 2 && stackTrace.charAt(0) == ':'
+                    && stackTrace.charAt(1) == ' ';
+            bytes.addChars(keys[Key.STACK_TRACE.ordinal()], trim ? 2 : 0);
+        }
+        if (isPrintDetails()) {
+            bytes.add(keys[Key.SOURCE_CLASS_NAME.ordinal()], record.getSourceClassName(), 0);
+            bytes.add(keys[Key.SOURCE_FILE_NAME.ordinal()], record.getSourceFileName(), 0);
+            bytes.add(keys[Key.SOURCE_METHOD_NAME.ordinal()], record.getSourceMethodName(), 0);
+            bytes.add(keys[Key.SOURCE_LINE_NUMBER.ordinal()], record.getSourceLineNumber());
+            bytes.add(keys[Key.SOURCE_MODULE_NAME.ordinal()], record.getSourceModuleName(), 0);
+            bytes.add(keys[Key.SOURCE_MODULE_VERSION.ordinal()], record.getSourceModuleVersion(), 0);
+        }
+        final Map<String, String> metaDataMap = this.metaDataMap;
+        if (metaDataMap != null) {
+            generator.addMetaData(metaDataMap);
+        }
+        after(generator, record);
+        generator.end();
+        final String recordDelimiter = getRecordDelimiter();
+        if (recordDelimiter != null) {
+            bytes.appendRaw(recordDelimiter);
+        }
+    }
+
+    private static boolean isNotNullOrEmpty(final String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private Encoder borrowEncoder() {
+        int start = start();
+        for (int i = 0; i < sharedEncoders.length(); i++) {
+            Encoder encoder = sharedEncoders.getAndSet((start + i) & sharedEncodersMask, null);
+            if (encoder != null) {
+                return encoder;
+            }
+        }
+        return new Encoder();
+    }
+
+    private void releaseEncoder(final Encoder encoder) {
+        int start = start();
+        for (int i = 0; i < sharedEncoders.length(); i++) {
+            if (sharedEncoders.compareAndSet((start + i) & sharedEncodersMask, null, encoder)) {
+                return;
+            }
+        }
+        // All the slots are taken, the encoder is dropped
+    }
+
+    @SuppressWarnings("deprecation")
+    private static int start() {
+        // Virtual thread ids are sequential, spread them over the slots
+        return Long.hashCode(Thread.currentThread().getId() * 0x9E3779B97F4A7C15L);
+    }
+
+    private static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual",
+                    MethodType.methodType(boolean.class));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * The configuration of the standard fields, rebuilt when the excluded keys or the log format change.
+     */
+    private final class StandardKeys {
+
+        // the encoded names of the standard fields by ordinal, null for the excluded keys
+        private final byte[][] keys = new byte[Key.values().length][];
+        private final boolean ecs = getLogFormat() == LogFormat.ECS;
+
+        StandardKeys() {
+            Set<String> excludedKeys = getExcludedKeys();
+            for (Key key : Key.values()) {
+                if (!excludedKeys.contains(getKey(key))) {
+                    keys[key.ordinal()] = encodedKeys.get(getKey(key));
+                }
+            }
+        }
+    }
+
+    /**
+     * The buffers of a thread, or of one of the shared slots of the virtual threads.
+     */
+    private final class Encoder {
+
+        private final JsonByteGenerator bytes = new JsonByteGenerator(encodedKeys);
+        // the generator of the additional fields and the providers, which applies the excluded keys and the log format
+        private Generator generator;
+        private StandardKeys generatorKeys;
+
+        Generator generator(final StandardKeys standardKeys) {
+            if (generatorKeys != standardKeys) {
+                generator = wrap(bytes);
+                generatorKeys = standardKeys;
+            }
+            return generator;
+        }
+    }
+
+    /**
+     * A JSON generator that encodes the fields in UTF-8 straight into a reusable byte array.
+     * <p>
+     * The output is the same as the output of the {@code jakarta.json} generator used by the
+     * {@link org.jboss.logmanager.formatters.JsonFormatter}, without pretty printing. The field names are encoded once, with
+     * their quotes and the colon, and cached in a map shared by the generators of a formatter, so that the names of the
+     * additional fields and the MDC keys are copied as bytes too.
+     * <p>
+     * A generator is not thread-safe, the formatter keeps one per thread and lends the others to the virtual threads.
+     */
+    private static final class JsonByteGenerator implements Generator {
+
+        // an application that puts unique values in the MDC keys must not fill the memory
+        static final int MAX_CACHED_KEYS = 1024;
+
+        private static final int INITIAL_SIZE = 1024;
+        private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+        private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+        private final ConcurrentHashMap<String, byte[]> encodedKeys;
+        private final StringBuilder builder = new StringBuilder(64);
+        private char[] chars = new char[INITIAL_SIZE];
+        private byte[] bytes = new byte[INITIAL_SIZE];
+        private int size;
+        // whether the current object or array already has a member, i.e. whether the next one needs a comma
+        private boolean[] hasMember = new boolean[8];
+        private int depth;
+
+        JsonByteGenerator(ConcurrentHashMap<String, byte[]> encodedKeys) {
+            this.encodedKeys = encodedKeys;
+        }
+
+        /**
+         * Discards the encoded bytes.
+         */
+        void reset() {
+            if (bytes.length > MAX_RETAINED_SIZE) {
+                // do not keep the memory of an exceptionally large record, e.g. a huge message, for the life of the thread
+                bytes = new byte[INITIAL_SIZE];
+                chars = new char[INITIAL_SIZE];
+                builder.setLength(0);
+                builder.trimToSize();
+            }
+            size = 0;
+            depth = 0;
+        }
+
+        /**
+         * @return the encoded bytes, valid until the next call of {@link #reset()}
+         */
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(bytes, 0, size);
+        }
+
+        /**
+         * @return a copy of the encoded bytes
+         */
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        /**
+         * @return a builder to append the characters of a value without creating a {@code String}, to be written with
+         *         {@link #addChars(byte[], int)}
+         */
+        StringBuilder chars() {
+            builder.setLength(0);
+            return builder;
+        }
+
+        /**
+         * Adds the characters appended to {@link #chars()}, starting at the given index.
+         *
+         * @param key the encoded name, see {@link #encodeKey(String)}
+         */
+        void addChars(byte[] key, int start) {
+            writeName(key);
+            int length = builder.length() - start;
+            builder.getChars(start, builder.length(), chars(length), 0);
+            writeString(length);
+        }
+
+        /**
+         * Adds a string, starting at the given index.
+         *
+         * @param key the encoded name, see {@link #encodeKey(String)}, or {@code null} if the key is excluded
+         */
+        void add(byte[] key, String value, int start) {
+            if (key != null) {
+                writeName(key);
+                writeString(value, start);
+            }
+        }
+
+        /**
+         * @param key the encoded name, see {@link #encodeKey(String)}, or {@code null} if the key is excluded
+         */
+        void add(byte[] key, long value) {
+            if (key != null) {
+                writeName(key);
+                writeLong(value);
+            }
+        }
+
+        /**
+         * @param key the encoded name, see {@link #encodeKey(String)}
+         */
+        void add(byte[] key, Map<String, ?> value) {
+            writeName(key);
+            writeMap(value);
+        }
+
+        /**
+         * Appends raw text, e.g. the record delimiter, after the end of the record.
+         */
+        void appendRaw(String text) {
+            text.getChars(0, text.length(), chars(text.length()), 0);
+            writeChars(text.length(), false);
+        }
+
+        @Override
+        public Generator begin() {
+            return startObject(null);
+        }
+
+        @Override
+        public Generator add(String key, int value) {
+            writeKey(key);
+            writeLong(value);
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, long value) {
+            writeKey(key);
+            writeLong(value);
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, Map<String, ?> value) {
+            writeKey(key);
+            writeMap(value);
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, String value) {
+            writeKey(key);
+            writeString(value, 0);
+            return this;
+        }
+
+        @Override
+        public Generator startObject(String key) {
+            writeKey(key);
+            writeByte('{');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endObject() {
+            depth--;
+            writeByte('}');
+            return this;
+        }
+
+        @Override
+        public Generator startArray(String key) {
+            writeKey(key);
+            writeByte('[');
+            push();
+            return this;
+        }
+
+        @Override
+        public Generator endArray() {
+            depth--;
+            writeByte(']');
+            return this;
+        }
+
+        @Override
+        public Generator end() {
+            return endObject();
+        }
+
+        private void writeMap(Map<String, ?> value) {
+            writeByte('{');
+            push();
+            if (value != null) {
+                for (Map.Entry<String, ?> entry : value.entrySet()) {
+                    writeValue(entry.getKey(), entry.getValue());
+                }
+            }
+            endObject();
+        }
+
+        private void writeValue(String key, Object value) {
+            writeKey(key);
+            if (value == null) {
+                writeRaw(NULL);
+            } else if (value instanceof Boolean b) {
+                writeRaw(b ? TRUE : FALSE);
+            } else if (value instanceof Integer || value instanceof Long) {
+                writeLong(((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof BigInteger || value instanceof BigDecimal
+                    || value instanceof JsonValue) {
+                appendRaw(value.toString());
+            } else {
+                writeString(String.valueOf(value), 0);
+            }
+        }
+
+        private void push() {
+            if (depth == hasMember.length) {
+                hasMember = Arrays.copyOf(hasMember, depth * 2);
+            }
+            hasMember[depth++] = false;
+        }
+
+        /**
+         * Writes the separator of the members.
+         */
+        private void writeSeparator() {
+            if (depth > 0) {
+                if (hasMember[depth - 1]) {
+                    writeByte(',');
+                } else {
+                    hasMember[depth - 1] = true;
+                }
+            }
+        }
+
+        private void writeName(byte[] key) {
+            writeSeparator();
+            writeRaw(key);
+        }
+
+        /**
+         * Writes the separator and the name of a member, the name is {@code null} for the elements of an array and the root
+         * object.
+         */
+        private void writeKey(String key) {
+            if (key == null) {
+                writeSeparator();
+                return;
+            }
+            byte[] encoded = encodedKeys.get(key);
+            if (encoded == null) {
+                encoded = encodeKey(key);
+                if (encodedKeys.size() < MAX_CACHED_KEYS) {
+                    encodedKeys.putIfAbsent(key, encoded);
+                }
+            }
+            writeName(encoded);
+        }
+
+        /**
+         * @return the key as a JSON member name, i.e. with its quotes and followed by a colon
+         */
+        static byte[] encodeKey(String key) {
+            JsonByteGenerator generator = new JsonByteGenerator(null);
+            generator.writeString(key, 0);
+            generator.writeByte(':');
+            return Arrays.copyOf(generator.bytes, generator.size);
+        }
+
+        private void writeLong(long value) {
+            if (value == Long.MIN_VALUE) {
+                appendRaw(Long.toString(value));
+                return;
+            }
+            if (value < 0) {
+                writeByte('-');
+                value = -value;
+            }
+            int digits = 1;
+            for (long v = value; v >= 10; v /= 10) {
+                digits++;
+            }
+            ensureCapacity(digits);
+            for (int i = size + digits - 1; i >= size; i--) {
+                bytes[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            size += digits;
+        }
+
+        private void writeString(String value, int start) {
+            if (value == null) {
+                writeRaw(NULL);
+                return;
+            }
+            int length = value.length() - start;
+            value.getChars(start, value.length(), chars(length), 0);
+            writeString(length);
+        }
+
+        /**
+         * Writes the first characters of {@link #chars} as a string.
+         */
+        private void writeString(int length) {
+            writeByte('"');
+            writeChars(length, true);
+            writeByte('"');
+        }
+
+        /**
+         * @return the array of chars, large enough for the given length
+         */
+        private char[] chars(int length) {
+            if (chars.length < length) {
+                chars = new char[Math.max(chars.length * 2, length)];
+            }
+            return chars;
+        }
+
+        /**
+         * Encodes the first characters of {@link #chars}, which are copied from the strings to iterate on an array.
+         */
+        private void writeChars(int length, boolean escape) {
+            // at most 3 bytes per char, a surrogate pair is 4 bytes for 2 chars and an escaped control char is 6 bytes
+            ensureCapacity(length * 6);
+            final char[] chars = this.chars;
+            final byte[] bytes = this.bytes;
+            int size = this.size;
+            int i = 0;
+            // the common case of the characters that are copied as is
+            for (; i < length; i++) {
+                char c = chars[i];
+                if (c >= 0x80 || (escape && (c < 0x20 || c == '"' || c == '\\'))) {
+                    break;
+                }
+                bytes[size++] = (byte) c;
+            }
+            for (; i < length; i++) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    if (escape && (c < 0x20 || c == '"' || c == '\\')) {
+                        size = writeEscaped(bytes, size, c);
+                    } else {
+                        bytes[size++] = (byte) c;
+                    }
+                } else if (c < 0x800) {
+                    bytes[size++] = (byte) (0xC0 | c >> 6);
+                    bytes[size++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars[i + 1])) {
+                    int codePoint = Character.toCodePoint(c, chars[++i]);
+                    bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+                    bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+                } else if (Character.isSurrogate(c)) {
+                    // an unpaired surrogate, replaced like String.getBytes() does
+                    bytes[size++] = '?';
+                } else {
+                    bytes[size++] = (byte) (0xE0 | c >> 12);
+                    bytes[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    bytes[size++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            this.size = size;
+        }
+
+        private static int writeEscaped(byte[] bytes, int size, char c) {
+            bytes[size++] = '\\';
+            switch (c) {
+                case '"', '\\' -> bytes[size++] = (byte) c;
+                case '\b' -> bytes[size++] = 'b';
+                case '\f' -> bytes[size++] = 'f';
+                case '\n' -> bytes[size++] = 'n';
+                case '\r' -> bytes[size++] = 'r';
+                case '\t' -> bytes[size++] = 't';
+                default -> {
+                    bytes[size++] = 'u';
+                    bytes[size++] = '0';
+                    bytes[size++] = '0';
+                    bytes[size++] = HEX[c >> 4];
+                    bytes[size++] = HEX[c & 0xF];
+                }
+            }
+            return size;
+        }
+
+        private void writeRaw(byte[] raw) {
+            ensureCapacity(raw.length);
+            System.arraycopy(raw, 0, bytes, size, raw.length);
+            size += raw.length;
+        }
+
+        private void writeByte(char c) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) c;
+        }
+
+        private void ensureCapacity(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Collection;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+
+public class RestClientEventLoopPoolsTest {
+
+    final static SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(
+                    jar -> jar.addClasses(Resource.class, Client.class))
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.rest-client.\"client\".url", "http://localhost:${quarkus.http.test-port:8081}")
+            .overrideConfigKey("quarkus.rest-client.\"client\".event-loop-pools", "true");
+
+    @BeforeAll
+    static void setRegistry() {
+        Metrics.addRegistry(registry);
+    }
+
+    @AfterAll()
+    static void removeRegistry() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    public void testEventLoopMeters() {
+        // the client is called from the event loop of the reactive endpoint
+        RestAssured.get("/example/call").then().statusCode(200);
+
+        Collection<FunctionCounter> requests = registry.find("http.client.event-loop.requests")
+                .tag("clientName", "client").functionCounters();
+        assertFalse(requests.isEmpty());
+        assertEquals(1, requests.stream().mapToDouble(FunctionCounter::count).sum());
+
+        Collection<Gauge> connections = registry.find("http.client.event-loop.connections")
+                .tag("clientName", "client").gauges();
+        assertEquals(requests.size(), connections.size());
+        assertEquals(1, connections.stream().mapToDouble(Gauge::value).sum());
+
+        Collection<Gauge> pending = registry.find("http.client.event-loop.pending")
+                .tag("clientName", "client").gauges();
+        assertEquals(requests.size(), pending.size());
+        assertEquals(0, pending.stream().mapToDouble(Gauge::value).sum());
+    }
+
+    @Path("/example")
+    @RegisterRestClient(configKey = "client")
+    public interface Client {
+
+        @GET
+        @Path("/hello")
+        Uni<String> hello();
+    }
+
+    @Path("/example")
+    public static class Resource {
+
+        @RestClient
+        Client client;
+
+        @GET
+        @Path("/hello")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String hello() {
+            return "hello";
+        }
+
+        @GET
+        @Path("/call")
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> call() {
+            return client.hello();
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import jakarta.inject.Inject;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientResponseContext;
 import jakarta.ws.rs.ext.Provider;
 
+import org.jboss.resteasy.reactive.client.impl.ClientImpl;
+import org.jboss.resteasy.reactive.client.impl.EventLoopHttpClients;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientResponseFilter;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
@@ -55,6 +62,45 @@ public void filter(ResteasyReactiveClientRequestContext requestContext) {
         RequestMetricInfo requestMetric = new RestClientMetricInfo(requestContext);
         requestMetric.setSample(Timer.start(registry));
         requestContext.setProperty(REQUEST_METRIC_PROPERTY, requestMetric);
+
+        if (requestContext.getClient() instanceof ClientImpl client) {
+            EventLoopHttpClients eventLoopHttpClients = client.getEventLoopHttpClients();
+            if (eventLoopHttpClients != null) {
+                Tag clientName = clientName(requestContext);
+                eventLoopHttpClients.registerMetrics(clients -> registerEventLoopMetrics(clients, clientName));
+            }
+        }
+    }
+
+    /**
+     * Registers the meters of the connection pools of the event loops of a REST client, tagged with the index of the
+     * event loop.
+     *
+     * @return the task which removes the meters
+     */
+    private Runnable registerEventLoopMetrics(EventLoopHttpClients clients, Tag clientName) {
+        List<Meter> meters = new ArrayList<>();
+        for (int i = 0; i < clients.size(); i++) {
+            int eventLoop = i;
+            Tags tags = Tags.of(clientName, Tag.of("eventLoop", Integer.toString(eventLoop)));
+            meters.add(Gauge.builder("http.client.event-loop.connections", clients, c -> c.getConnections(eventLoop))
+                    .description("Number of open connections of the connection pool of the event loop")
+                    .tags(tags)
+                    .register(registry));
+            meters.add(Gauge.builder("http.client.event-loop.pending", clients, c -> c.getPendingRequests(eventLoop))
+                    .description("Number of requests sent on the event loop and waiting for a response")
+                    .tags(tags)
+                    .register(registry));
+            meters.add(FunctionCounter.builder("http.client.event-loop.requests", clients, c -> c.getRequests(eventLoop))
+                    .description("Number of requests sent with the connection pool of the event loop")
+                    .tags(tags)
+                    .register(registry));
+        }
+        return () -> {
+            for (Meter meter : meters) {
+                registry.remove(meter);
+            }
+        };
     }
 
     @Override
@@ -0,0 +1,137 @@
+package io.quarkus.oidc.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.FormParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.security.Authenticated;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+
+/**
+ * Tests that concurrent requests with the same opaque token share a single introspection when the token
+ * introspection cache is enabled.
+ */
+public class ConcurrentTokenIntrospectionTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(ProtectedEndpoint.class, CountingIntrospectionEndpoint.class))
+            .withConfiguration("""
+                    quarkus.keycloak.devservices.enabled=false
+                    quarkus.http.auth.proactive=false
+                    """)
+            .withRuntimeConfiguration("""
+                    quarkus.oidc.auth-server-url=http://localhost:8081
+                    quarkus.oidc.discovery-enabled=false
+                    quarkus.oidc.introspection-path=/introspect
+                    quarkus.oidc.client-id=test-client
+                    quarkus.oidc.credentials.secret=test-secret
+                    quarkus.oidc.token-cache.max-size=10
+                    """);
+
+    @TestHTTPResource("/protected")
+    URL protectedUrl;
+
+    @Test
+    public void testConcurrentRequestsShareIntrospection() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(protectedUrl.toString()))
+                .header("Authorization", "Bearer shared-token")
+                .build();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get(10, TimeUnit.SECONDS).statusCode());
+            assertEquals("alice", response.get().body());
+        }
+        assertEquals(1, getIntrospectionCount("shared-token"));
+
+        // the result has been cached
+        callProtectedEndpoint("shared-token", 200);
+        assertEquals(1, getIntrospectionCount("shared-token"));
+    }
+
+    @Test
+    public void testFailedIntrospectionIsNotKept() {
+        // the first introspection of this token fails
+        callProtectedEndpoint("failing-token", 401);
+        assertEquals(1, getIntrospectionCount("failing-token"));
+
+        // the failure is neither cached nor shared with the next requests
+        callProtectedEndpoint("failing-token", 200);
+        assertEquals(2, getIntrospectionCount("failing-token"));
+    }
+
+    private static void callProtectedEndpoint(String token, int expectedStatus) {
+        RestAssured.given().auth().oauth2(token).get("/protected").then().statusCode(expectedStatus);
+    }
+
+    private static int getIntrospectionCount(String token) {
+        return Integer.parseInt(RestAssured.get("/introspect/count/" + token).then().statusCode(200).extract().asString());
+    }
+
+    @Path("/protected")
+    @Authenticated
+    public static class ProtectedEndpoint {
+
+        @GET
+        public String get() {
+            return "alice";
+        }
+    }
+
+    @Path("/introspect")
+    public static class CountingIntrospectionEndpoint {
+
+        static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+
+        @POST
+        @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+        @Produces(MediaType.APPLICATION_JSON)
+        public String introspect(@FormParam("token") String token) throws InterruptedException {
+            int count = COUNTS.computeIfAbsent(token, t -> new AtomicInteger()).incrementAndGet();
+            // keep the introspection in progress while the concurrent requests arrive
+            Thread.sleep(500);
+            if (token.startsWith("failing") && count == 1) {
+                throw new WebApplicationException(500);
+            }
+            return "{\"active\":true,\"sub\":\"alice\",\"username\":\"alice\",\"exp\":"
+                    + (System.currentTimeMillis() / 1000 + 300) + "}";
+        }
+
+        @GET
+        @Path("/count/{token}")
+        public int count(@PathParam("token") String token) {
+            AtomicInteger count = COUNTS.get(token);
+            return count == null ? 0 : count.get();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.oidc.runtime;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import jakarta.enterprise.event.Observes;
 
 import org.jboss.logging.Logger;
@@ -31,21 +33,39 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     private static final Uni<UserInfo> NULL_USERINFO_UNI = Uni.createFrom().nullItem();
 
     final MemoryCache<CacheEntry> cache;
+    private final LongAdder introspectionHitCount = new LongAdder();
+    private final LongAdder introspectionMissCount = new LongAdder();
+    private final LongAdder introspectionEvictionCount = new LongAdder();
+    private final LongAdder userInfoHitCount = new LongAdder();
+    private final LongAdder userInfoMissCount = new LongAdder();
+    private final LongAdder userInfoEvictionCount = new LongAdder();
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
         cache = new MemoryCache<CacheEntry>(vertx, oidcConfig.tokenCache().cleanUpTimerInterval(),
-                oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize());
+                oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize(), this::evicted);
+    }
+
+    private void evicted(CacheEntry entry) {
+        // A single entry can keep both values
+        if (entry.introspection != null) {
+            introspectionEvictionCount.increment();
+        }
+        if (entry.userInfo != null) {
+            userInfoEvictionCount.increment();
+        }
     }
 
     @Override
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.introspection = introspection;
         } else {
-            cache.add(token, new CacheEntry(introspection));
+            entry = new CacheEntry(introspection);
         }
+        // The entry expires with the token
+        cache.add(token, entry, getExpiresAt(introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP), oidcTenantConfig));
 
         return CodeAuthenticationMechanism.VOID_UNI;
     }
@@ -55,27 +75,42 @@ public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig o
             OidcRequestContext<TokenIntrospection> requestContext) {
         CacheEntry entry = cache.get(token);
         if (entry == null || entry.introspection == null) {
+            introspectionMissCount.increment();
             return NULL_INTROSPECTION_UNI;
         }
         if (isTokenExpired(entry.introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP), oidcConfig)) {
             LOG.debug("Introspected token has expired, removing it from the token introspection cache");
             cache.remove(token);
+            introspectionMissCount.increment();
             return NULL_INTROSPECTION_UNI;
         }
 
+        introspectionHitCount.increment();
         return Uni.createFrom().item(entry.introspection);
     }
 
     private static boolean isTokenExpired(Long exp, OidcTenantConfig oidcConfig) {
-        final long lifespanGrace = oidcConfig != null ? oidcConfig.token().lifespanGrace().orElse(0) : 0;
+        final long lifespanGrace = getLifespanGrace(oidcConfig);
         return exp != null
                 && System.currentTimeMillis() / 1000 > (exp + lifespanGrace);
     }
 
+    private static long getExpiresAt(Long exp, OidcTenantConfig oidcConfig) {
+        if (exp == null) {
+            return Long.MAX_VALUE;
+        }
+        // Last millisecond of the last second the token is still valid for
+        return (exp + getLifespanGrace(oidcConfig)) * 1000 + 999;
+    }
+
+    private static long getLifespanGrace(OidcTenantConfig oidcConfig) {
+        return oidcConfig != null ? oidcConfig.token().lifespanGrace().orElse(0) : 0;
+    }
+
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.userInfo = userInfo;
         } else {
@@ -89,7 +124,12 @@ public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig o
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
         CacheEntry entry = cache.get(token);
-        return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
+        if (entry == null || entry.userInfo == null) {
+            userInfoMissCount.increment();
+            return NULL_USERINFO_UNI;
+        }
+        userInfoHitCount.increment();
+        return Uni.createFrom().item(entry.userInfo);
     }
 
     private static class CacheEntry {
@@ -113,6 +153,60 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    /**
+     * @return the number of token introspection reads which have found a valid introspection
+     */
+    public long getIntrospectionHitCount() {
+        return introspectionHitCount.sum();
+    }
+
+    /**
+     * @return the number of token introspection reads which have not found a valid introspection
+     */
+    public long getIntrospectionMissCount() {
+        return introspectionMissCount.sum();
+    }
+
+    /**
+     * @return the number of evicted entries which were keeping a token introspection
+     */
+    public long getIntrospectionEvictionCount() {
+        return introspectionEvictionCount.sum();
+    }
+
+    /**
+     * @return the number of UserInfo reads which have found a UserInfo
+     */
+    public long getUserInfoHitCount() {
+        return userInfoHitCount.sum();
+    }
+
+    /**
+     * @return the number of UserInfo reads which have not found a UserInfo
+     */
+    public long getUserInfoMissCount() {
+        return userInfoMissCount.sum();
+    }
+
+    /**
+     * @return the number of evicted entries which were keeping a UserInfo
+     */
+    public long getUserInfoEvictionCount() {
+        return userInfoEvictionCount.sum();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
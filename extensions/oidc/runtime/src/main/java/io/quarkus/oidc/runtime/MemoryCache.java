@@ -5,23 +5,53 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * Bounded memory cache.
+ * <p>
+ * When the cache is full, the entries are evicted one at a time with a segmented LRU policy: new entries are added to a
+ * probation segment and the entries which have been read while on probation are promoted to a protected segment when an
+ * eviction is required. The least recently added or promoted entry on probation is evicted first, so that the entries
+ * which are read repeatedly survive the entries which are added and never read again.
+ * <p>
+ * Reads do not lock: they only mark the entry as accessed. Writes and evictions are serialized.
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
     private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Segment<T> probation = new Segment<>();
+    private final Segment<T> protectedSegment = new Segment<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
     private final Duration cacheTimeToLive;
     private final int cacheSize;
+    private final int protectedSize;
+    private final Consumer<T> evictionListener;
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
+        this(vertx, cleanUpTimerInterval, cacheTimeToLive, cacheSize, null);
+    }
+
+    /**
+     * @param evictionListener called with the value of each entry evicted because the cache was full, with the lock held,
+     *        or {@code null}
+     */
+    public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
+            Duration cacheTimeToLive, int cacheSize, Consumer<T> evictionListener) {
         this.cacheTimeToLive = cacheTimeToLive;
         this.cacheSize = cacheSize;
+        this.protectedSize = (int) (cacheSize * 0.8);
+        this.evictionListener = evictionListener;
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -38,66 +68,130 @@ public void handle(Long event) {
     }
 
     public void add(String key, T result) {
+        add(key, result, Long.MAX_VALUE);
+    }
+
+    /**
+     * Adds an entry which expires at the given time or when the cache time to live elapses, whichever comes first.
+     *
+     * @param key the key
+     * @param result the value
+     * @param expiresAt the expiry time in milliseconds since the epoch
+     */
+    public void add(String key, T result, long expiresAt) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
+            long now = now();
+            CacheEntry<T> entry = new CacheEntry<T>(key, result,
+                    Math.min(expiresAt, now + cacheTimeToLive.toMillis()));
+            lock.lock();
+            try {
+                CacheEntry<T> previous = cacheMap.remove(key);
+                if (previous != null) {
+                    previous.segment.unlink(previous);
+                }
+                while (probation.size + protectedSegment.size >= cacheSize) {
+                    evictOne(now);
+                }
+                cacheMap.put(key, entry);
+                probation.addLast(entry);
+            } finally {
+                lock.unlock();
             }
-            cacheMap.put(key, new CacheEntry<T>(result));
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        lock.lock();
+        try {
+            CacheEntry<T> entry = cacheMap.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.segment.unlink(entry);
+            return entry.result;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public T get(String key) {
         CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        if (entry != null) {
+            if (entry.isExpired(now())) {
+                removeExpiredEntry(entry);
+            } else {
+                if (!entry.accessed) {
+                    entry.accessed = true;
+                }
+                hitCount.increment();
+                return entry.result;
+            }
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * Returns the value without recording a read, i.e. the entry is not promoted and the hit and miss counts are not
+     * updated.
+     */
+    public T peek(String key) {
+        CacheEntry<T> entry = cacheMap.get(key);
+        return entry == null || entry.isExpired(now()) ? null : entry.result;
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
+        CacheEntry<T> entry = cacheMap.get(key);
+        return entry != null && !entry.isExpired(now());
     }
 
     private void removeInvalidEntries() {
         long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
+        for (Iterator<CacheEntry<T>> it = cacheMap.values().iterator(); it.hasNext();) {
+            CacheEntry<T> next = it.next();
+            if (next != null && next.isExpired(now)) {
+                removeExpiredEntry(next);
             }
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
+    private void removeExpiredEntry(CacheEntry<T> entry) {
+        lock.lock();
+        try {
+            // The entry may have been replaced or evicted concurrently
+            if (cacheMap.remove(entry.key, entry)) {
+                entry.segment.unlink(entry);
             }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
-    }
-
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
+        } finally {
+            lock.unlock();
         }
-        return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    // Must be called with the lock held and a non empty cache
+    private void evictOne(long now) {
+        while (true) {
+            CacheEntry<T> candidate = probation.head != null ? probation.head : protectedSegment.head;
+            if (candidate.accessed && !candidate.isExpired(now)) {
+                // The entry has been read since it was added or last promoted, give it another chance
+                candidate.accessed = false;
+                candidate.segment.unlink(candidate);
+                protectedSegment.addLast(candidate);
+                if (protectedSegment.size > protectedSize) {
+                    CacheEntry<T> demoted = protectedSegment.head;
+                    demoted.accessed = false;
+                    protectedSegment.unlink(demoted);
+                    probation.addLast(demoted);
+                }
+            } else {
+                candidate.segment.unlink(candidate);
+                cacheMap.remove(candidate.key, candidate);
+                evictionCount.increment();
+                if (evictionListener != null) {
+                    evictionListener.accept(candidate.result);
+                }
+                return;
+            }
+        }
     }
 
     private static long now() {
@@ -105,11 +199,67 @@ private static long now() {
     }
 
     private static class CacheEntry<T> {
+        final String key;
         volatile T result;
-        long createdTime = System.currentTimeMillis();
+        final long expiresAt;
+        volatile boolean accessed;
+
+        // Guarded by the cache lock
+        Segment<T> segment;
+        CacheEntry<T> prev;
+        CacheEntry<T> next;
 
-        public CacheEntry(T result) {
+        public CacheEntry(String key, T result, long expiresAt) {
+            this.key = key;
             this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt < now;
+        }
+    }
+
+    // A doubly linked list of entries, from the least to the most recently added, guarded by the cache lock
+    private static class Segment<T> {
+        CacheEntry<T> head;
+        CacheEntry<T> tail;
+        int size;
+
+        void addLast(CacheEntry<T> entry) {
+            entry.segment = this;
+            entry.prev = tail;
+            entry.next = null;
+            if (tail == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+            }
+            tail = entry;
+            size++;
+        }
+
+        void unlink(CacheEntry<T> entry) {
+            if (entry.prev == null) {
+                head = entry.next;
+            } else {
+                entry.prev.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.prev;
+            } else {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            entry.segment = null;
+            size--;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
         }
     }
 
@@ -117,9 +267,36 @@ public int getCacheSize() {
         return cacheMap.size();
     }
 
+    /**
+     * @return the number of reads which have found a valid entry
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of reads which have not found a valid entry
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of entries which have been evicted because the cache was full
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        lock.lock();
+        try {
+            cacheMap.clear();
+            probation.clear();
+            protectedSegment.clear();
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void stopTimer(Vertx vertx) {
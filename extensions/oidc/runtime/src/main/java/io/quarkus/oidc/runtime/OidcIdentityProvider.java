@@ -6,6 +6,8 @@
 import java.security.NoSuchAlgorithmException;
 import java.security.Principal;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,6 +43,8 @@
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
 import io.quarkus.security.spi.runtime.BlockingSecurityExecutor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
 @ApplicationScoped
@@ -57,12 +61,15 @@ public class OidcIdentityProvider implements IdentityProvider<TokenAuthenticatio
     private final BlockingTaskRunner<Void> uniVoidOidcContext;
     private final BlockingTaskRunner<TokenIntrospection> getIntrospectionRequestContext;
     private final BlockingTaskRunner<UserInfo> getUserInfoRequestContext;
+    // Token introspections in progress, keyed by the provider and the token
+    private final ConcurrentMap<Map.Entry<OidcProvider, String>, Uni<TokenIntrospection>> pendingIntrospections;
 
     OidcIdentityProvider(DefaultTenantConfigResolver tenantResolver, BlockingSecurityExecutor blockingExecutor) {
         this.tenantResolver = tenantResolver;
         this.uniVoidOidcContext = new BlockingTaskRunner<>(blockingExecutor);
         this.getIntrospectionRequestContext = new BlockingTaskRunner<>(blockingExecutor);
         this.getUserInfoRequestContext = new BlockingTaskRunner<>(blockingExecutor);
+        this.pendingIntrospections = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -760,21 +767,43 @@ public Uni<TokenIntrospection> get() {
 
     private Uni<TokenIntrospection> newTokenIntrospectionUni(TenantConfigContext resolvedContext, String token, boolean idToken,
             Long expiresIn, boolean fallbackFromJwkMatch) {
-        Uni<TokenIntrospection> tokenIntrospectionUni = resolvedContext.provider().introspectToken(token, idToken, expiresIn,
-                fallbackFromJwkMatch);
         if (tenantResolver.getTokenIntrospectionCache() == null
                 || !resolvedContext.oidcConfig().allowTokenIntrospectionCache()) {
-            return tokenIntrospectionUni;
-        } else {
-            return tokenIntrospectionUni.call(new Function<TokenIntrospection, Uni<?>>() {
-
-                @Override
-                public Uni<?> apply(TokenIntrospection introspection) {
-                    return tenantResolver.getTokenIntrospectionCache().addIntrospection(token, introspection,
-                            resolvedContext.oidcConfig(), uniVoidOidcContext);
-                }
-            });
+            return resolvedContext.provider().introspectToken(token, idToken, expiresIn, fallbackFromJwkMatch);
         }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends TokenIntrospection>>() {
+            @Override
+            public Uni<? extends TokenIntrospection> get() {
+                // Concurrent requests with the same token share a single introspection
+                // instead of all missing the cache and introspecting the token
+                Map.Entry<OidcProvider, String> key = Map.entry(resolvedContext.provider(), token);
+                Uni<TokenIntrospection> pending = pendingIntrospections.get(key);
+                if (pending == null) {
+                    Uni<TokenIntrospection> introspection = resolvedContext.provider()
+                            .introspectToken(token, idToken, expiresIn, fallbackFromJwkMatch)
+                            .call(new Function<TokenIntrospection, Uni<?>>() {
+
+                                @Override
+                                public Uni<?> apply(TokenIntrospection result) {
+                                    return tenantResolver.getTokenIntrospectionCache().addIntrospection(token, result,
+                                            resolvedContext.oidcConfig(), uniVoidOidcContext);
+                                }
+                            })
+                            // The result is cached by now, the next requests find it in the cache
+                            .eventually(() -> {
+                                pendingIntrospections.remove(key);
+                            })
+                            .memoize().indefinitely();
+                    pending = pendingIntrospections.putIfAbsent(key, introspection);
+                    if (pending == null) {
+                        return introspection;
+                    }
+                }
+                // The shared introspection completes on the context of the request which has started it
+                Context context = Vertx.currentContext();
+                return context == null ? pending : pending.emitOn(command -> context.runOnContext(v -> command.run()));
+            }
+        });
     }
 
     private static Uni<SecurityIdentity> validateTokenWithoutOidcServer(TokenAuthenticationRequest request,
@@ -24,6 +24,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.runtime.SecurityConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
@@ -54,6 +55,50 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (oidcConfig.getValue().tokenCache().maxSize() <= 0) {
+                    LOG.debug("Not registering the token cache metrics as the token cache is disabled");
+                    return;
+                }
+                DefaultTokenIntrospectionUserInfoCache cache = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Number of entries in the token introspection and UserInfo cache.")
+                        .buildGauge(cache::getCacheSize);
+
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of reads which have found a valid value in the cache.")
+                        .tag("cache", "introspection")
+                        .buildCounter(cache::getIntrospectionHitCount);
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of reads which have not found a valid value in the cache.")
+                        .tag("cache", "introspection")
+                        .buildCounter(cache::getIntrospectionMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of values evicted from the cache because it was full.")
+                        .tag("cache", "introspection")
+                        .buildCounter(cache::getIntrospectionEvictionCount);
+
+                metricsFactory.builder("oidc.token.cache.hits")
+                        .description("Number of reads which have found a valid value in the cache.")
+                        .tag("cache", "userinfo")
+                        .buildCounter(cache::getUserInfoHitCount);
+                metricsFactory.builder("oidc.token.cache.misses")
+                        .description("Number of reads which have not found a valid value in the cache.")
+                        .tag("cache", "userinfo")
+                        .buildCounter(cache::getUserInfoMissCount);
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("Number of values evicted from the cache because it was full.")
+                        .tag("cache", "userinfo")
+                        .buildCounter(cache::getUserInfoEvictionCount);
+            }
+        };
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
@@ -7,6 +7,8 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 
@@ -80,17 +82,92 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
+        assertEquals(1, cache.getEvictionCount());
 
+        // The oldest entry is evicted
         assertNull(cache.get("1"));
-        assertNull(cache.get("2"));
+        assertEquals("2", cache.get("2").name);
         assertEquals("3", cache.get("3").name);
     }
 
+    @Test
+    public void testRecentlyReadEntriesAreKept() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 3);
+
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
+        cache.add("3", new Bean("3"));
+        assertEquals("1", cache.get("1").name);
+
+        // "2" is the least recently added entry which has not been read since it was added
+        cache.add("4", new Bean("4"));
+        assertEquals(3, cache.getCacheSize());
+        assertNull(cache.peek("2"));
+        assertEquals("1", cache.peek("1").name);
+
+        // The entries which are never read are evicted first
+        cache.add("5", new Bean("5"));
+        cache.add("6", new Bean("6"));
+        assertEquals("1", cache.peek("1").name);
+        assertNull(cache.peek("3"));
+        assertNull(cache.peek("4"));
+        assertEquals(3, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testEntryExpiry() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 10);
+
+        cache.add("1", new Bean("1"), System.currentTimeMillis() - 1);
+        cache.add("2", new Bean("2"), System.currentTimeMillis() + 60_000);
+        assertFalse(cache.containsKey("1"));
+        assertNull(cache.get("1"));
+        assertEquals(1, cache.getCacheSize());
+        assertEquals("2", cache.get("2").name);
+
+        // The entry expires when the cache time to live elapses if it is earlier than the entry expiry time
+        MemoryCache<Bean> shortLivedCache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMillis(1), 10);
+        shortLivedCache.add("1", new Bean("1"), Long.MAX_VALUE);
+        await().atMost(Duration.ofSeconds(5)).until(() -> shortLivedCache.get("1") == null);
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 1);
+
+        cache.add("1", new Bean("1"));
+        cache.get("1");
+        cache.get("1");
+        cache.get("2");
+        cache.peek("2");
+        cache.add("2", new Bean("2"));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testEvictionListener() throws Exception {
+
+        List<String> evicted = new ArrayList<>();
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 1,
+                bean -> evicted.add(bean.name));
+
+        cache.add("1", new Bean("1"));
+        cache.add("2", new Bean("2"));
+        // Removed and replaced entries are not evicted
+        cache.add("2", new Bean("2"));
+        cache.remove("2");
+
+        assertEquals(List.of("1"), evicted);
+    }
+
     static class Bean {
         String name;
 
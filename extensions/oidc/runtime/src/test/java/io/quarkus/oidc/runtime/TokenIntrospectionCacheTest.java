@@ -3,6 +3,7 @@
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.Map;
@@ -14,6 +15,8 @@
 
 import io.quarkus.oidc.TokenIntrospection;
 import io.quarkus.oidc.TokenIntrospectionCache;
+import io.quarkus.oidc.UserInfo;
+import io.quarkus.oidc.UserInfoCache;
 
 public class TokenIntrospectionCacheTest {
     TokenIntrospectionCache cache = new DefaultTokenIntrospectionUserInfoCache(createOidcConfig(), null);
@@ -47,6 +50,35 @@ public Boolean call() throws Exception {
         assertNull(cache.getIntrospection("tokenValidFor3secs", null, null).await().indefinitely());
     }
 
+    @Test
+    public void testEntryExpiresWithToken() {
+        long now = System.currentTimeMillis() / 1000;
+        TokenIntrospection introspection = new TokenIntrospection("{\"active\": true,\"exp\":" + (now + 1) + "}");
+        io.quarkus.oidc.OidcTenantConfig tenantWithGrace = io.quarkus.oidc.OidcTenantConfig.builder().tenantId("grace").token()
+                .lifespanGrace(3).end()
+                .build();
+        cache.addIntrospection("token", introspection, null, null);
+        cache.addIntrospection("tokenWithGrace", introspection, tenantWithGrace, null);
+        ((UserInfoCache) cache).addUserInfo("token", new UserInfo("{\"sub\": \"alice\"}"), null, null);
+
+        MemoryCache<?> memoryCache = ((DefaultTokenIntrospectionUserInfoCache) cache).cache;
+        assertTrue(memoryCache.containsKey("token"));
+        assertTrue(memoryCache.containsKey("tokenWithGrace"));
+
+        // the entry expires with the token even though the time to live is 3 minutes,
+        // together with the UserInfo kept in the same entry
+        await().atMost(Duration.ofSeconds(5)).pollInterval(200, TimeUnit.MILLISECONDS)
+                .until(() -> !memoryCache.containsKey("token"));
+        assertNull(((UserInfoCache) cache).getUserInfo("token", null, null).await().indefinitely());
+        assertTrue(System.currentTimeMillis() / 1000 > now + 1);
+
+        // the lifespan grace is added to the token expiry time
+        assertTrue(memoryCache.containsKey("tokenWithGrace"));
+        await().atMost(Duration.ofSeconds(8)).pollInterval(200, TimeUnit.MILLISECONDS)
+                .until(() -> !memoryCache.containsKey("tokenWithGrace"));
+        assertTrue(System.currentTimeMillis() / 1000 > now + 4);
+    }
+
     private static OidcConfig createOidcConfig() {
         record OidcConfigImpl(OidcTenantConfig defaultTenant, Map<String, OidcTenantConfig> namedTenants, TokenCache tokenCache,
                 boolean resolveTenantsWithIssuer, int priority) implements OidcConfig {
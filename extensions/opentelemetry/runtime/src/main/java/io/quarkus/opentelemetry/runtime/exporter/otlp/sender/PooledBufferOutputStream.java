@@ -0,0 +1,51 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import java.io.OutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Writes the exported messages to a pooled direct {@link ByteBuf}.
+ * <p>
+ * Netty writes the content of heap buffers to the socket through a temporary direct buffer, so encoding the messages
+ * directly to a direct buffer avoids both the allocation of a heap buffer of the size of the message for each export and
+ * the copy. The buffer is not released by Vert.x, it must be {@link #release() released} once the request has been
+ * written.
+ */
+final class PooledBufferOutputStream extends OutputStream {
+
+    private final ByteBuf buffer;
+
+    PooledBufferOutputStream(int initialCapacity) {
+        this.buffer = PooledByteBufAllocator.DEFAULT.directBuffer(Math.max(initialCapacity, 0));
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.writeByte(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        buffer.writeBytes(b, off, len);
+    }
+
+    /**
+     * @return a Vert.x buffer which shares the content of the stream
+     */
+    Buffer toBuffer() {
+        return Buffer.buffer(buffer);
+    }
+
+    void release() {
+        if (buffer.refCnt() > 0) {
+            buffer.release();
+        }
+    }
+
+    boolean isReleased() {
+        return buffer.refCnt() == 0;
+    }
+}
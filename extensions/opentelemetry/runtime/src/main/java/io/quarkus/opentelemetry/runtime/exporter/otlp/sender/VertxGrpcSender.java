@@ -24,9 +24,9 @@
 import io.opentelemetry.sdk.common.export.MessageWriter;
 import io.opentelemetry.sdk.common.internal.ThrottlingLogger;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.common.annotation.SuppressForbidden;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -261,11 +261,21 @@ public void handle(GrpcClientRequest<Buffer, Buffer> request) {
             }
 
             try {
-                int messageSize = messageWriter.getContentLength();
-                Buffer buffer = Buffer.buffer(messageSize);
-                var os = new BufferOutputStream(buffer);
-                messageWriter.writeMessage(os);
-                request.send(buffer).onSuccess(new Handler<>() {
+                var os = new PooledBufferOutputStream(messageWriter.getContentLength());
+                try {
+                    messageWriter.writeMessage(os);
+                } catch (IOException | RuntimeException e) {
+                    os.release();
+                    throw e;
+                }
+                // The response handler is set below, the buffer can be released once the request has been written
+                request.end(os.toBuffer()).onComplete(new Handler<>() {
+                    @Override
+                    public void handle(AsyncResult<Void> event) {
+                        os.release();
+                    }
+                });
+                request.response().onSuccess(new Handler<>() {
                     @Override
                     public void handle(GrpcClientResponse<Buffer, Buffer> response) {
                         response.exceptionHandler(new Handler<>() {
@@ -292,7 +302,10 @@ public void accept(Throwable throwable) {
                             public void handle(GrpcError error) {
                                 handleError(error.status, response);
                             }
-                        }).endHandler(new Handler<>() {
+                        });
+                        // The end handler sometimes misses the end of a response which is received quickly, while the
+                        // end future is always completed
+                        response.end().onSuccess(new Handler<>() {
                             @Override
                             public void handle(Void ignored) {
                                 GrpcStatus status = getStatus(response);
@@ -3,7 +3,6 @@
 import static io.quarkus.opentelemetry.runtime.exporter.otlp.OTelExporterUtil.getPort;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
@@ -23,7 +22,6 @@
 import io.opentelemetry.sdk.common.export.HttpSender;
 import io.opentelemetry.sdk.common.export.MessageWriter;
 import io.opentelemetry.sdk.common.internal.ThrottlingLogger;
-import io.quarkus.vertx.core.runtime.BufferOutputStream;
 import io.smallrye.common.annotation.SuppressForbidden;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.AsyncResult;
@@ -309,21 +307,22 @@ public byte[] getResponseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(requestBodyWriter.getContentLength());
-            OutputStream os = new BufferOutputStream(buffer);
-            if (compressionEnabled) {
-                clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
-                    requestBodyWriter.writeMessage(gzos);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            } else {
-                try {
+            PooledBufferOutputStream os = new PooledBufferOutputStream(requestBodyWriter.getContentLength());
+            try {
+                if (compressionEnabled) {
+                    clientRequest.putHeader("Content-Encoding", "gzip");
+                    try (var gzos = new GZIPOutputStream(os)) {
+                        requestBodyWriter.writeMessage(gzos);
+                    }
+                } else {
                     requestBodyWriter.writeMessage(os);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
                 }
+            } catch (IOException e) {
+                os.release();
+                throw new IllegalStateException(e);
+            } catch (RuntimeException e) {
+                os.release();
+                throw e;
             }
 
             if (!headers.isEmpty()) {
@@ -332,7 +331,13 @@ public byte[] getResponseBody() {
                 }
             }
 
-            clientRequest.send(buffer);
+            // The response handler has been set above, the buffer can be released once the request has been written
+            clientRequest.end(os.toBuffer()).onComplete(new Handler<>() {
+                @Override
+                public void handle(AsyncResult<Void> event) {
+                    os.release();
+                }
+            });
         }
 
         public ClientRequestSuccessHandler newAttempt() {
@@ -0,0 +1,172 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.sdk.common.export.GrpcResponse;
+import io.opentelemetry.sdk.common.export.GrpcStatusCode;
+import io.opentelemetry.sdk.common.export.MessageWriter;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+
+/**
+ * Sends messages to a local stub of an OTLP gRPC receiver, which only records the decoded request messages, and checks
+ * that the pooled buffer the messages are written to is released.
+ */
+class VertxGrpcSenderTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private final List<byte[]> received = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startReceiver() throws Exception {
+        vertx = Vertx.vertx();
+        // Accepts HTTP/2 cleartext connections with prior knowledge, like the sender uses
+        server = vertx.createHttpServer().requestHandler(request -> request.body().onSuccess(body -> {
+            received.add(decode(body, "gzip".equals(request.getHeader("grpc-encoding"))));
+            request.response()
+                    .putHeader("content-type", "application/grpc")
+                    .putTrailer("grpc-status", "0")
+                    .end();
+        })).listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void stopReceiver() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testSend() throws Exception {
+        byte[] message = message(100_000);
+        VertxGrpcSender sender = sender(false);
+        try {
+            RecordingMessageWriter writer = new RecordingMessageWriter(message);
+            assertThat(send(sender, writer), is(GrpcStatusCode.OK));
+            assertThat(received.size(), is(1));
+            assertThat(Arrays.equals(received.get(0), message), is(true));
+            assertThat(writer.output.isReleased(), is(true));
+        } finally {
+            sender.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testSendCompressed() throws Exception {
+        byte[] message = message(100_000);
+        VertxGrpcSender sender = sender(true);
+        try {
+            RecordingMessageWriter writer = new RecordingMessageWriter(message);
+            assertThat(send(sender, writer), is(GrpcStatusCode.OK));
+            assertThat(received.size(), is(1));
+            assertThat(Arrays.equals(received.get(0), message), is(true));
+            assertThat(writer.output.isReleased(), is(true));
+        } finally {
+            sender.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testSerializationFailure() throws Exception {
+        VertxGrpcSender sender = sender(false);
+        try {
+            RecordingMessageWriter writer = new RecordingMessageWriter(message(100_000)) {
+                @Override
+                public void writeMessage(OutputStream output) throws IOException {
+                    super.writeMessage(output);
+                    throw new IOException("Unable to serialize");
+                }
+            };
+            try {
+                send(sender, writer);
+                throw new AssertionError("The export should have failed");
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+            }
+            assertThat(received.size(), is(0));
+            assertThat(writer.output.isReleased(), is(true));
+        } finally {
+            sender.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private VertxGrpcSender sender(boolean compressionEnabled) {
+        return new VertxGrpcSender(URI.create("http://localhost:" + server.actualPort()),
+                VertxGrpcSender.GRPC_TRACE_SERVICE_NAME, compressionEnabled, Duration.ofSeconds(10), Map.of(),
+                options -> {
+                }, vertx);
+    }
+
+    private static GrpcStatusCode send(VertxGrpcSender sender, MessageWriter writer) throws Exception {
+        CompletableFuture<GrpcStatusCode> status = new CompletableFuture<>();
+        sender.send(writer, (GrpcResponse response) -> status.complete(response.getStatusCode()),
+                status::completeExceptionally);
+        return status.get(10, TimeUnit.SECONDS);
+    }
+
+    private static byte[] decode(Buffer body, boolean compressed) {
+        // A gRPC message is prefixed with a compressed flag and its length
+        assertThat(body.getByte(0) == 1, is(compressed));
+        byte[] message = body.getBytes(5, 5 + body.getInt(1));
+        if (!compressed) {
+            return message;
+        }
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(message))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] message(int size) {
+        byte[] message = new byte[size];
+        new Random(42).nextBytes(message);
+        return message;
+    }
+
+    static class RecordingMessageWriter implements MessageWriter {
+
+        private final byte[] message;
+        volatile PooledBufferOutputStream output;
+
+        RecordingMessageWriter(byte[] message) {
+            this.message = message;
+        }
+
+        @Override
+        public void writeMessage(OutputStream output) throws IOException {
+            this.output = (PooledBufferOutputStream) output;
+            // Like the marshalers, write in chunks
+            for (int offset = 0; offset < message.length; offset += 8192) {
+                output.write(message, offset, Math.min(8192, message.length - offset));
+            }
+        }
+
+        @Override
+        public int getContentLength() {
+            return message.length;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.sender;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.sdk.common.export.HttpResponse;
+import io.opentelemetry.sdk.common.export.MessageWriter;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+
+/**
+ * Sends messages to a local stub of an OTLP receiver, which only records the request bodies.
+ */
+class VertxHttpSenderTest {
+
+    private Vertx vertx;
+    private HttpServer server;
+    private final List<byte[]> received = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void startReceiver() throws Exception {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer().requestHandler(request -> request.body().onSuccess(body -> {
+            received.add(body.getBytes());
+            request.response().setStatusCode(200).end();
+        })).listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void stopReceiver() throws Exception {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testSend() throws Exception {
+        byte[] message = message(100_000);
+        VertxHttpSender sender = sender(false);
+        try {
+            assertThat(send(sender, message), is(200));
+            assertThat(received.size(), is(1));
+            assertThat(Arrays.equals(received.get(0), message), is(true));
+        } finally {
+            sender.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testSendCompressed() throws Exception {
+        byte[] message = message(100_000);
+        VertxHttpSender sender = sender(true);
+        try {
+            assertThat(send(sender, message), is(200));
+            assertThat(received.size(), is(1));
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(received.get(0)))) {
+                assertThat(Arrays.equals(in.readAllBytes(), message), is(true));
+            }
+        } finally {
+            sender.shutdown().join(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private VertxHttpSender sender(boolean compressionEnabled) {
+        return new VertxHttpSender(URI.create("http://localhost:" + server.actualPort()), VertxHttpSender.TRACES_PATH,
+                compressionEnabled, Duration.ofSeconds(10), Map.of(), "application/x-protobuf", options -> {
+                }, vertx);
+    }
+
+    private static int send(VertxHttpSender sender, byte[] message) throws Exception {
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        sender.send(new MessageWriter() {
+            @Override
+            public void writeMessage(OutputStream output) throws IOException {
+                // Like the marshalers, write in chunks
+                for (int offset = 0; offset < message.length; offset += 8192) {
+                    output.write(message, offset, Math.min(8192, message.length - offset));
+                }
+            }
+
+            @Override
+            public int getContentLength() {
+                return message.length;
+            }
+        }, (HttpResponse response) -> status.complete(response.getStatusCode()), status::completeExceptionally);
+        return status.get(10, TimeUnit.SECONDS);
+    }
+
+    private static byte[] message(int size) {
+        byte[] message = new byte[size];
+        new Random(42).nextBytes(message);
+        return message;
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledTemplate} class.
+ */
+public final class GeneratedCompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String templateId;
+    private final String className;
+
+    public GeneratedCompiledTemplateBuildItem(String templateId, String className) {
+        this.templateId = templateId;
+        this.className = className;
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -151,6 +151,7 @@
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.Param;
+import io.quarkus.qute.generator.TemplateCompiler;
 import io.quarkus.qute.generator.TemplateGlobalGenerator;
 import io.quarkus.qute.generator.ValueResolverGenerator;
 import io.quarkus.qute.runtime.ContentTypes;
@@ -170,6 +171,7 @@
 import io.quarkus.qute.runtime.extensions.StringTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.TimeTemplateExtensions;
 import io.quarkus.qute.runtime.test.RenderedResultsCreator;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.runtime.util.StringUtil;
 import io.smallrye.common.annotation.SuppressForbidden;
 
@@ -183,6 +185,7 @@ public class QuteProcessor {
     private static final String CHECKED_TEMPLATE_REQUIRE_TYPE_SAFE = "requireTypeSafeExpressions";
     private static final String CHECKED_TEMPLATE_BASE_PATH = "basePath";
     private static final String CHECKED_TEMPLATE_DEFAULT_NAME = "defaultName";
+    private static final String COMPILED_TEMPLATES_PACKAGE = "io.quarkus.qute.generated";
     private static final String IGNORE_FRAGMENTS = "ignoreFragments";
     private static final String DEFAULT_ROOT_PATH = "templates";
 
@@ -2204,6 +2207,79 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config, LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<GeneratedCompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileTemplates() || launchMode.getLaunchMode().isDev() || !incorrectExpressions.isEmpty()) {
+            // Templates can be modified without a restart in the dev mode
+            return;
+        }
+
+        IndexView index = beanArchiveIndex.getIndex();
+        AssignabilityCheck assignabilityCheck = new AssignabilityCheck(index);
+        List<TemplateExtensionMethodBuildItem> regularExtensionMethods = templateExtensionMethods.stream()
+                .filter(Predicate.not(TemplateExtensionMethodBuildItem::hasNamespace)).toList();
+        TemplateCompiler compiler = new TemplateCompiler(index,
+                new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources, true),
+                // Properties matching a template extension method are not compiled
+                (type, name) -> {
+                    for (TemplateExtensionMethodBuildItem extensionMethod : regularExtensionMethods) {
+                        if (extensionMethod.matchesName(name)
+                                && assignabilityCheck.isAssignableFrom(extensionMethod.getMatchType(), type)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.path == null) {
+                continue;
+            }
+            // Collect the types of template parameters, i.e. the first parts of type-safe expressions
+            Map<String, Type> parameters = new HashMap<>();
+            for (Expression expression : analysis.expressions) {
+                if (expression.hasNamespace() || expression.isLiteral()) {
+                    continue;
+                }
+                Expression.Part root = expression.getParts().get(0);
+                String typeInfo = root.getTypeInfo();
+                // Skip loop aliases and other bindings with a hint, e.g. |java.util.List<org.acme.Item>|<loop-element>
+                if (typeInfo != null && typeInfo.length() > 1 && typeInfo.startsWith(TypeInfos.TYPE_INFO_SEPARATOR)
+                        && typeInfo.endsWith(TypeInfos.TYPE_INFO_SEPARATOR)) {
+                    parameters.put(root.getName(), TypeInfos.resolveTypeFromTypeInfo(typeInfo));
+                }
+            }
+            if (parameters.isEmpty()) {
+                continue;
+            }
+            String className = COMPILED_TEMPLATES_PACKAGE + "." + toClassName(analysis.path) + "_"
+                    + HashUtil.sha1(analysis.path).substring(0, 8) + TemplateCompiler.SUFFIX;
+            if (compiler.compile(analysis.getTemplate(), parameters, className)) {
+                compiledTemplates.produce(new GeneratedCompiledTemplateBuildItem(analysis.path, className));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).build());
+            }
+        }
+        LOGGER.debugf("Compiled %s templates: %s", compiler.getGeneratedTypes().size(), compiler.getGeneratedTypes());
+    }
+
+    private static String toClassName(String path) {
+        StringBuilder name = new StringBuilder(path.length());
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            name.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return name.toString();
+    }
+
     /**
      * Tracks non-application value resolvers that have already been generated. There is no need to spend time
      * generating them again on a hot reload.
@@ -2779,12 +2855,15 @@ private String findDefaultVariant(QuteConfig config, List<String> variants) {
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<GeneratedCompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream().collect(Collectors.toMap(GeneratedCompiledTemplateBuildItem::getTemplateId,
+                        GeneratedCompiledTemplateBuildItem::getClassName)));
     }
 
     @BuildStep
@@ -107,6 +107,15 @@ public int compare(ParameterDeclaration pd1, ParameterDeclaration pd2) {
             return ret;
         }
 
+        /**
+         * Only intended to be used to compile the template.
+         *
+         * @return the parsed template
+         */
+        Template getTemplate() {
+            return template;
+        }
+
         Expression findExpression(int id) {
             for (Expression expression : expressions) {
                 if (expression.getGeneratedId() == id) {
@@ -0,0 +1,88 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateExtension;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Movie.class, Extensions.class, OtherMovie.class)
+                    .addAsResource(new StringAsset("<h1>{title}</h1>"
+                            + "{#for movie in movies}"
+                            + "<li>{movie.name}{#if movie.alwaysTrue}:{movie.alwaysFalsePrimitive}{/if}"
+                            + "{#each movie.mainCharacters}:{it}{/each}</li>"
+                            + "{#else}"
+                            + "<li>No movies</li>"
+                            + "{/for}"), "templates/CompiledTemplateTest/movies.html")
+                    .addAsResource(new StringAsset("{movie.name}:{movie.shout}"),
+                            "templates/CompiledTemplateTest/extension.html")
+                    .addAsResource(new StringAsset("{@io.quarkus.qute.deployment.typesafe.Movie movie}{movie.name}"),
+                            "templates/movie.txt")
+                    .addAsResource(new StringAsset("{movie.name}"), "templates/untyped.txt"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @Inject
+    QuteContext quteContext;
+
+    @Inject
+    Template movie;
+
+    @Test
+    public void testCompiledTemplates() {
+        // Properties resolved by a template extension method and templates without type-safe expressions are not compiled
+        assertEquals(Set.of("CompiledTemplateTest/movies.html", "movie.txt"),
+                quteContext.getCompiledTemplateClasses().keySet());
+
+        assertEquals("<h1>&lt;Movies&gt;</h1><li>Jason:false:Tom:Jerry</li><li>Jason:false</li>",
+                Templates.movies("<Movies>", List.of(new Movie("Tom", "Jerry"), new Movie())).render());
+        assertEquals("<h1>Movies</h1><li>No movies</li>", Templates.movies("Movies", List.of()).render());
+        assertEquals("Jason:JASON", Templates.extension(new Movie()).render());
+        assertEquals("Jason", movie.data("movie", new Movie()).render());
+        // Unexpected data type - the template is rendered by the interpreter
+        assertEquals("Jason", movie.data("movie", new OtherMovie()).render());
+    }
+
+    @CheckedTemplate
+    static class Templates {
+
+        static native TemplateInstance movies(String title, List<Movie> movies);
+
+        static native TemplateInstance extension(Movie movie);
+
+    }
+
+    @TemplateExtension
+    static class Extensions {
+
+        static String shout(Movie movie) {
+            return movie.getName().toUpperCase();
+        }
+
+    }
+
+    public static class OtherMovie {
+
+        public String getName() {
+            return "Jason";
+        }
+
+    }
+
+}
@@ -109,6 +109,20 @@ public interface QuteConfig {
     @WithDefault("false")
     boolean altExprSyntax();
 
+    /**
+     * If set to `true` then a dedicated class is generated for each type-safe template that only consists of text, output
+     * expressions, `if`, `for` and `each` sections, and whose expressions are properties of validated types.
+     *
+     * A compiled template invokes the members found during validation directly, i.e. without value resolvers. The template is
+     * rendered by the interpreter whenever the compiled class cannot render the data, e.g. if a parameter is missing, an
+     * intermediate value is `null` or the template was modified. Note that custom value resolvers are not used for the
+     * properties of a compiled template. Templates are never compiled in the development mode.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
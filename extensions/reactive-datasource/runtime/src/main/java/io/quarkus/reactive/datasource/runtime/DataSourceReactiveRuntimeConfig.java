@@ -26,6 +26,23 @@ public interface DataSourceReactiveRuntimeConfig {
     @ConfigDocDefault("true for PostgreSQL/MySQL/MariaDB/Db2, false otherwise")
     Optional<Boolean> cachePreparedStatements();
 
+    /**
+     * The maximum number of prepared statements cached on the client side, per connection.
+     * <p>
+     * Only used when prepared statements are cached.
+     */
+    @ConfigDocDefault("256")
+    OptionalInt preparedStatementCacheMaxSize();
+
+    /**
+     * The maximum length of the SQL of a prepared statement cached on the client side.
+     * <p>
+     * Prepared statements with longer SQL are prepared again for each execution.
+     * Only used when prepared statements are cached.
+     */
+    @ConfigDocDefault("2048")
+    OptionalInt preparedStatementCacheSqlLimit();
+
     /**
      * The datasource URLs.
      * <p>
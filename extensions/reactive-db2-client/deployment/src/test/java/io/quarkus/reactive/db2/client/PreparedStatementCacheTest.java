@@ -0,0 +1,45 @@
+package io.quarkus.reactive.db2.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.db2client.DB2ConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+public class PreparedStatementCacheTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(RecordingDB2PoolCreator.class)
+                    .addAsResource("application-default-datasource.properties", "application.properties"))
+            .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-max-size", "512")
+            .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-sql-limit", "4096");
+
+    @Test
+    public void testConnectOptions() {
+        // The pool is created on startup and only connects when used, so no database is needed
+        DB2ConnectOptions connectOptions = RecordingDB2PoolCreator.input.db2ConnectOptions();
+        assertTrue(connectOptions.getCachePreparedStatements());
+        assertEquals(512, connectOptions.getPreparedStatementCacheMaxSize());
+        assertEquals(4096, connectOptions.getPreparedStatementCacheSqlLimit());
+    }
+
+    @Singleton
+    public static class RecordingDB2PoolCreator implements DB2PoolCreator {
+
+        static volatile Input input;
+
+        @Override
+        public Pool create(Input input) {
+            RecordingDB2PoolCreator.input = input;
+            return Pool.pool(input.vertx(), input.db2ConnectOptions(), input.poolOptions());
+        }
+    }
+}
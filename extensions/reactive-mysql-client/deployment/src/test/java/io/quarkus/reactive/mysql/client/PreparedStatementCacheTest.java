@@ -0,0 +1,53 @@
+package io.quarkus.reactive.mysql.client;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Singleton;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.sqlclient.Pool;
+
+public class PreparedStatementCacheTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(CredentialsTestResource.class)
+                    .addClass(RecordingMySQLPoolCreator.class)
+                    .addAsResource("application-default-datasource.properties", "application.properties"))
+            .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-max-size", "512")
+            .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-sql-limit", "4096");
+
+    @Test
+    public void testConnect() {
+        given()
+                .when().get("/test")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.equalTo("OK"));
+
+        MySQLConnectOptions connectOptions = RecordingMySQLPoolCreator.input.mySQLConnectOptionsList().get(0);
+        assertTrue(connectOptions.getCachePreparedStatements());
+        assertEquals(512, connectOptions.getPreparedStatementCacheMaxSize());
+        assertEquals(4096, connectOptions.getPreparedStatementCacheSqlLimit());
+    }
+
+    @Singleton
+    public static class RecordingMySQLPoolCreator implements MySQLPoolCreator {
+
+        static volatile Input input;
+
+        @Override
+        public Pool create(Input input) {
+            RecordingMySQLPoolCreator.input = input;
+            return Pool.pool(input.vertx(), input.mySQLConnectOptionsList().get(0), input.poolOptions());
+        }
+    }
+}
@@ -228,6 +228,10 @@ private List<MySQLConnectOptions> toMySQLConnectOptions(String dataSourceName,
             mysqlConnectOptions
                     .setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements()
                             .orElse(SUPPORTS_CACHE_PREPARED_STATEMENTS));
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                    .ifPresent(mysqlConnectOptions::setPreparedStatementCacheMaxSize);
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                    .ifPresent(mysqlConnectOptions::setPreparedStatementCacheSqlLimit);
 
             dataSourceReactiveMySQLConfig.charset().ifPresent(mysqlConnectOptions::setCharset);
             dataSourceReactiveMySQLConfig.collation().ifPresent(mysqlConnectOptions::setCollation);
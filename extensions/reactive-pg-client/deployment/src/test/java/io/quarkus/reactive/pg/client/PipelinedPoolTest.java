@@ -0,0 +1,60 @@
+package io.quarkus.reactive.pg.client;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Singleton;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPoolOptions;
+import io.vertx.sqlclient.Pool;
+
+public class PipelinedPoolTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClass(CredentialsTestResource.class)
+                    .addClass(RecordingPgPoolCreator.class)
+                    .addAsResource("application-default-datasource.properties", "application.properties"))
+            .overrideConfigKey("quarkus.datasource.reactive.postgresql.pipelined-pool", "true")
+            .overrideConfigKey("quarkus.datasource.reactive.postgresql.pipelining-limit", "16")
+            .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-max-size", "512")
+            .overrideConfigKey("quarkus.datasource.reactive.prepared-statement-cache-sql-limit", "4096");
+
+    @Test
+    public void testConnect() {
+        given()
+                .when().get("/test")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.equalTo("OK"));
+
+        PgPoolOptions poolOptions = assertInstanceOf(PgPoolOptions.class, RecordingPgPoolCreator.input.poolOptions());
+        assertTrue(poolOptions.isPipelined());
+        PgConnectOptions connectOptions = RecordingPgPoolCreator.input.pgConnectOptionsList().get(0);
+        assertEquals(16, connectOptions.getPipeliningLimit());
+        assertTrue(connectOptions.getCachePreparedStatements());
+        assertEquals(512, connectOptions.getPreparedStatementCacheMaxSize());
+        assertEquals(4096, connectOptions.getPreparedStatementCacheSqlLimit());
+    }
+
+    @Singleton
+    public static class RecordingPgPoolCreator implements PgPoolCreator {
+
+        static volatile Input input;
+
+        @Override
+        public Pool create(Input input) {
+            RecordingPgPoolCreator.input = input;
+            return Pool.pool(input.vertx(), input.pgConnectOptionsList().get(0), input.poolOptions());
+        }
+    }
+}
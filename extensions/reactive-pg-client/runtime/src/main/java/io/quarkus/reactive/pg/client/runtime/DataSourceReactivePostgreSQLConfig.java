@@ -16,6 +16,17 @@ public interface DataSourceReactivePostgreSQLConfig {
      */
     OptionalInt pipeliningLimit();
 
+    /**
+     * Whether the pool can lend a connection to a query while the connection is still executing other queries.
+     * <p>
+     * The queries are then pipelined on the pooled connections, up to {@code pipelining-limit} inflight queries per
+     * connection, instead of each one waiting for a connection of its own.
+     * This saves round trips when the application is latency-bound, at the cost of queries possibly waiting for the
+     * result of a slow query sent before them on the same connection.
+     */
+    @WithDefault("false")
+    boolean pipelinedPool();
+
     /**
      * SSL operating mode of the client.
      * <p>
@@ -41,6 +41,7 @@
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
+import io.vertx.pgclient.PgPoolOptions;
 import io.vertx.pgclient.SslMode;
 import io.vertx.pgclient.spi.PgDriver;
 import io.vertx.sqlclient.PoolOptions;
@@ -122,7 +123,8 @@ private PgPool initialize(VertxInternal vertx,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
             DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig,
             SyntheticCreationalContext<PgPool> context) {
-        PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceReactiveRuntimeConfig);
+        PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceReactiveRuntimeConfig,
+                dataSourceReactivePostgreSQLConfig);
         List<PgConnectOptions> pgConnectOptionsList = toPgConnectOptions(dataSourceName, dataSourceRuntimeConfig,
                 dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
         Supplier<Future<PgConnectOptions>> databasesSupplier = toDatabasesSupplier(pgConnectOptionsList,
@@ -146,9 +148,15 @@ private Supplier<Future<PgConnectOptions>> toDatabasesSupplier(List<PgConnectOpt
     }
 
     private PoolOptions toPoolOptions(Integer eventLoopCount,
-            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig) {
+            DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
         PoolOptions poolOptions;
-        poolOptions = new PoolOptions();
+        if (dataSourceReactivePostgreSQLConfig.pipelinedPool()) {
+            // Each connection then handles up to pipelining-limit queries at once
+            poolOptions = new PgPoolOptions().setPipelined(true);
+        } else {
+            poolOptions = new PoolOptions();
+        }
 
         poolOptions.setMaxSize(dataSourceReactiveRuntimeConfig.maxSize());
 
@@ -219,6 +227,10 @@ private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSou
 
             pgConnectOptions.setCachePreparedStatements(
                     dataSourceReactiveRuntimeConfig.cachePreparedStatements().orElse(SUPPORTS_CACHE_PREPARED_STATEMENTS));
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                    .ifPresent(pgConnectOptions::setPreparedStatementCacheMaxSize);
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                    .ifPresent(pgConnectOptions::setPreparedStatementCacheSqlLimit);
 
             if (dataSourceReactivePostgreSQLConfig.pipeliningLimit().isPresent()) {
                 pgConnectOptions.setPipeliningLimit(dataSourceReactivePostgreSQLConfig.pipeliningLimit().getAsInt());
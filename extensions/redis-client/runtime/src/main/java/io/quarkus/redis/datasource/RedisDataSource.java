@@ -2,6 +2,7 @@
 
 import static io.quarkus.redis.runtime.datasource.Marshaller.STRING_TYPE_REFERENCE;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,6 +35,7 @@
 import io.quarkus.redis.datasource.value.ValueCommands;
 import io.smallrye.common.annotation.Experimental;
 import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 /**
@@ -1001,6 +1003,18 @@ default TimeSeriesCommands<String> timeseries() {
      */
     Response execute(io.vertx.redis.client.Command command, String... args);
 
+    /**
+     * Executes the given commands in a single batch.
+     * <p>
+     * The commands are written to a single connection at once and the responses are returned together, in the order of
+     * the commands. Unlike a transaction, a batch is not atomic, i.e. commands from other clients may be executed in
+     * between. If any of the commands fails then the whole batch fails.
+     *
+     * @param requests the commands, must not be {@code null}
+     * @return the responses
+     */
+    List<Response> batch(List<Request> requests);
+
     /**
      * @return the reactive data source.
      */
@@ -130,7 +130,9 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    RedisClientConfig config = runtimeConfig.getValue().clients().get(name);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, config.autoPipelining(),
+                            config.maxWaitingHandlers());
                 });
             }
         };
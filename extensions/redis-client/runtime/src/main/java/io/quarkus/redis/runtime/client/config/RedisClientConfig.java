@@ -121,6 +121,22 @@ public interface RedisClientConfig {
     @WithDefault("2048")
     int maxWaitingHandlers();
 
+    /**
+     * Whether the commands of the Redis data source issued on the same event loop during the same event loop iteration
+     * are pipelined.
+     * <p>
+     * If enabled, such commands are sent over a single connection without waiting for the replies of the previous commands,
+     * instead of acquiring a connection from the pool for each command. This is beneficial for applications that issue many
+     * small commands concurrently, such as {@code GET} or {@code HGET}. Each command still completes independently. At most
+     * {@link #maxWaitingHandlers()} commands are sent in a single pipeline.
+     * <p>
+     * Blocking commands, commands executed in a transaction or within
+     * {@link io.quarkus.redis.datasource.ReactiveRedisDataSource#withConnection(java.util.function.Function)}, and
+     * commands issued from a worker thread are never pipelined automatically.
+     */
+    @WithDefault("false")
+    boolean autoPipelining();
+
     /**
      * Tune how much nested arrays are allowed on a Redis response. This affects the parser performance.
      */
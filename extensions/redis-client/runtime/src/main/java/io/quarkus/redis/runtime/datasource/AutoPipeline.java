@@ -0,0 +1,130 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Redis;
+import io.vertx.redis.client.RedisConnection;
+
+/**
+ * Coalesces the commands issued on the same event loop during the same tick.
+ * <p>
+ * The first command issued on an event loop opens a new pipeline and schedules its flush on the event loop. All the
+ * commands issued before the flush are then sent over a single connection without waiting for the previous replies. The
+ * replies are matched to the commands in the order they arrive, i.e. each command completes independently and a failure
+ * of one command does not affect the others.
+ * <p>
+ * Commands issued from a thread that is not an event loop and blocking commands, such as {@code BLPOP}, are sent
+ * immediately, i.e. a blocking command never delays the other commands of a pipeline.
+ */
+class AutoPipeline {
+
+    private static final Set<Command> BLOCKING_COMMANDS = Set.of(Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH,
+            Command.BLMOVE, Command.BLMPOP, Command.BZPOPMIN, Command.BZPOPMAX, Command.BZMPOP, Command.XREAD,
+            Command.XREADGROUP, Command.WAIT);
+
+    private final Redis redis;
+    private final int maxCommands;
+
+    /**
+     *
+     * @param redis the client
+     * @param maxCommands the maximum number of commands sent in a single pipeline
+     */
+    AutoPipeline(Redis redis, int maxCommands) {
+        this.redis = redis;
+        this.maxCommands = maxCommands;
+    }
+
+    Uni<Response> send(Request request) {
+        return Uni.createFrom().emitter(emitter -> {
+            Context context = io.vertx.core.Vertx.currentContext();
+            if (context == null || !context.isEventLoopContext()
+                    || BLOCKING_COMMANDS.contains(request.getDelegate().command())) {
+                redis.send(request.getDelegate()).onComplete(ar -> complete(emitter, ar));
+                return;
+            }
+            // The pipeline is shared by all duplicated contexts of the event loop
+            ContextInternal eventLoop = ((ContextInternal) context).unwrap();
+            ConcurrentMap<Object, Object> data = eventLoop.contextData();
+            Pipeline pipeline = (Pipeline) data.get(this);
+            if (pipeline == null) {
+                Pipeline created = new Pipeline();
+                data.put(this, created);
+                eventLoop.runOnContext(v -> {
+                    data.remove(this, created);
+                    created.flush();
+                });
+                pipeline = created;
+            }
+            pipeline.add(request, emitter);
+            if (pipeline.size() >= maxCommands) {
+                // The pipeline is flushed as scheduled but the subsequent commands are added to a new pipeline
+                data.remove(this, pipeline);
+            }
+        });
+    }
+
+    private static void complete(UniEmitter<? super Response> emitter, AsyncResult<io.vertx.redis.client.Response> result) {
+        if (result.succeeded()) {
+            emitter.complete(Response.newInstance(result.result()));
+        } else {
+            emitter.fail(result.cause());
+        }
+    }
+
+    // Only accessed from the event loop thread
+    private final class Pipeline {
+
+        private final List<Request> requests = new ArrayList<>();
+        private final List<UniEmitter<? super Response>> emitters = new ArrayList<>();
+
+        void add(Request request, UniEmitter<? super Response> emitter) {
+            requests.add(request);
+            emitters.add(emitter);
+        }
+
+        int size() {
+            return requests.size();
+        }
+
+        void flush() {
+            if (requests.size() == 1) {
+                redis.send(requests.get(0).getDelegate()).onComplete(ar -> complete(emitters.get(0), ar));
+                return;
+            }
+            redis.connect().onComplete(ar -> {
+                if (ar.failed()) {
+                    for (UniEmitter<? super Response> emitter : emitters) {
+                        emitter.fail(ar.cause());
+                    }
+                    return;
+                }
+                RedisConnection connection = ar.result();
+                AtomicInteger remaining = new AtomicInteger(requests.size());
+                for (int i = 0; i < requests.size(); i++) {
+                    UniEmitter<? super Response> emitter = emitters.get(i);
+                    connection.send(requests.get(i).getDelegate()).onComplete(r -> {
+                        complete(emitter, r);
+                        if (remaining.decrementAndGet() == 0) {
+                            // Return the connection to the pool
+                            connection.close();
+                        }
+                    });
+                }
+            });
+        }
+    }
+
+}
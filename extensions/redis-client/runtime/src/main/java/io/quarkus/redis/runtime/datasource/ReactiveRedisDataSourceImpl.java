@@ -50,14 +50,31 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    // null if auto-pipelining is disabled
+    private final AutoPipeline pipeline;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, false, 0);
+    }
+
+    /**
+     * Creates a data source issuing its commands on the given Redis client, optionally pipelining them.
+     *
+     * @param vertx the Vert.x instance
+     * @param redis the Redis client
+     * @param api the Redis API wrapping the client
+     * @param autoPipelining whether the commands issued on the same event loop are pipelined automatically
+     * @param maxPipelinedCommands the maximum number of commands sent in a single pipeline
+     */
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean autoPipelining,
+            int maxPipelinedCommands) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = autoPipelining ? new AutoPipeline(redis.getDelegate(), maxPipelinedCommands) : null;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -67,6 +84,7 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
     }
 
     @Override
@@ -74,9 +92,25 @@ public Uni<Response> execute(Request request) {
         if (connection != null) {
             return connection.send(request);
         }
+        if (pipeline != null) {
+            return pipeline.send(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public Uni<List<Response>> batch(List<Request> requests) {
+        nonNull(requests, "requests");
+        doesNotContainNull(requests, "requests");
+        if (requests.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        if (connection != null) {
+            return connection.batch(requests);
+        }
+        return redis.batch(requests);
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> tx) {
         nonNull(tx, "tx");
@@ -0,0 +1,105 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Tests the batches and the auto-pipelining. The throughput is measured by {@link AutoPipeliningBenchmark}.
+ */
+public class PipeliningTest extends DatasourceTestBase {
+
+    @AfterEach
+    void clear() {
+        new ReactiveRedisDataSourceImpl(vertx, redis, api).flushall().await().indefinitely();
+    }
+
+    @Test
+    void testBatch() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+        ds.value(String.class).set(key, "hello");
+
+        List<Response> responses = ds.batch(List.of(
+                Request.cmd(Command.GET).arg(key),
+                Request.cmd(Command.HSET).arg(key + "-hash").arg("field").arg("value"),
+                Request.cmd(Command.HGET).arg(key + "-hash").arg("field")));
+        assertThat(responses).hasSize(3);
+        assertThat(responses.get(0).toString()).isEqualTo("hello");
+        assertThat(responses.get(1).toInteger()).isEqualTo(1);
+        assertThat(responses.get(2).toString()).isEqualTo("value");
+
+        assertThat(ds.batch(List.of())).isEmpty();
+    }
+
+    @Test
+    void testBatchWithConnection() {
+        RedisDataSource ds = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+        ds.withConnection(connection -> {
+            List<Response> responses = connection.batch(List.of(
+                    Request.cmd(Command.SET).arg(key).arg("1"),
+                    Request.cmd(Command.INCR).arg(key)));
+            assertThat(responses.get(1).toInteger()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void testAutoPipelining() throws Exception {
+        ReactiveRedisDataSourceImpl pipelined = new ReactiveRedisDataSourceImpl(vertx, redis, api, true, 2048);
+        ReactiveValueCommands<String, String> strings = pipelined.value(String.class, String.class);
+        strings.set(key, "value").await().indefinitely();
+
+        List<String> values = executeOnEventLoop(() -> {
+            List<Uni<String>> unis = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                unis.add(strings.get(i % 2 == 0 ? key : "missing"));
+            }
+            return unis;
+        });
+        assertThat(values).hasSize(100);
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(values.get(i)).isEqualTo(i % 2 == 0 ? "value" : null);
+        }
+    }
+
+    @Test
+    void testAutoPipeliningFailureIsolated() {
+        ReactiveRedisDataSourceImpl pipelined = new ReactiveRedisDataSourceImpl(vertx, redis, api, true, 2048);
+        pipelined.value(String.class).set(key, "not-a-number").await().indefinitely();
+
+        CompletableFuture<Response> failed = new CompletableFuture<>();
+        CompletableFuture<Response> succeeded = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(() -> {
+            pipelined.execute(Command.INCR, key).subscribe().with(failed::complete, failed::completeExceptionally);
+            pipelined.execute(Command.GET, key).subscribe().with(succeeded::complete, succeeded::completeExceptionally);
+        });
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasMessageContaining("not an integer");
+        assertThat(succeeded.join().toString()).isEqualTo("not-a-number");
+    }
+
+    private List<String> executeOnEventLoop(Supplier<List<Uni<String>>> commands) throws Exception {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(() -> {
+            Uni.join().all(commands.get()).andFailFast()
+                    .subscribe().with(result::complete, result::completeExceptionally);
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+
+}
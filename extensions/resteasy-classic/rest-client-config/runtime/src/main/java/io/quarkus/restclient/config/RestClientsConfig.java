@@ -321,6 +321,31 @@ public interface RestClientsConfig {
     @ConfigDocDefault("64K")
     Optional<MemorySize> http2UpgradeMaxContentLength();
 
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection, before the client opens another connection.
+     * By default, the limit advertised by the server is used.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    OptionalInt http2MaxConcurrentStreams();
+
+    /**
+     * If this is true, the client keeps a connection pool per event loop. The requests issued on an event loop are then
+     * sent on the connections of this event loop and their responses are handled there, without switching to the event
+     * loop of a connection shared with the other event loops. The connection pool size applies to each event loop.
+     * <p>
+     * With Micrometer, the connections, the pending requests and the requests of each event loop are reported by the
+     * {@code http.client.event-loop.*} meters, tagged with the index of the event loop.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     */
+    @WithDefault("false")
+    boolean eventLoopPools();
+
     /**
      * Configures two different things:
      * <ul>
@@ -726,6 +751,23 @@ default Optional<String> uriReload() {
         @ConfigDocDefault("64K")
         Optional<MemorySize> http2UpgradeMaxContentLength();
 
+        /**
+         * The maximum number of concurrent streams of an HTTP/2 connection, before the client opens another connection.
+         * By default, the limit advertised by the server is used.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        OptionalInt http2MaxConcurrentStreams();
+
+        /**
+         * If this is true, the client keeps a connection pool per event loop. The requests issued on an event loop are
+         * then sent on the connections of this event loop and their responses are handled there. The connection pool size
+         * applies to each event loop.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        Optional<Boolean> eventLoopPools();
+
         /**
          * Configures two different things:
          * <ul>
@@ -24,6 +24,7 @@
 import io.quarkus.rest.client.reactive.ClientQueryParam;
 import io.quarkus.rest.client.reactive.ClientQueryParams;
 import io.quarkus.rest.client.reactive.ClientRedirectHandler;
+import io.quarkus.rest.client.reactive.Coalesce;
 
 public class DotNames {
 
@@ -44,6 +45,8 @@ public class DotNames {
 
     public static final DotName CLIENT_BASIC_AUTH = DotName.createSimple(ClientBasicAuth.class.getName());
 
+    public static final DotName COALESCE = DotName.createSimple(Coalesce.class.getName());
+
     public static final DotName RESPONSE_EXCEPTION_MAPPER = DotName.createSimple(ResponseExceptionMapper.class.getName());
 
     static final DotName METHOD = DotName.createSimple(Method.class.getName());
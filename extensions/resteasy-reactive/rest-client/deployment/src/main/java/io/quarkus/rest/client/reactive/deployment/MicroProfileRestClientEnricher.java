@@ -9,6 +9,7 @@
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAMS;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_QUERY_PARAM;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_QUERY_PARAMS;
+import static io.quarkus.rest.client.reactive.deployment.DotNames.COALESCE;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_CLIENT_HEADERS;
 import static org.jboss.resteasy.reactive.client.impl.RestClientRequestContext.INVOKED_METHOD_PARAMETERS_PROP;
 import static org.jboss.resteasy.reactive.client.impl.RestClientRequestContext.INVOKED_METHOD_PROP;
@@ -53,6 +54,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.ClientMultipartForm;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.impl.WebTargetImpl;
 import org.jboss.resteasy.reactive.client.impl.multipart.QuarkusMultipartForm;
 import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
@@ -521,6 +523,7 @@ public void forMethod(ClassCreator classCreator, MethodCreator constructor,
             BuildProducer<GeneratedClassBuildItem> generatedClasses, int methodIndex, FieldDescriptor javaMethodField) {
 
         addJavaMethodToContext(javaMethodField, methodCreator, invocationBuilder);
+        addCoalesceToContext(interfaceClass, method, methodCreator, invocationBuilder);
 
         // header filler
 
@@ -734,6 +737,31 @@ private void addJavaMethodToContext(FieldDescriptor javaMethodField, MethodCreat
                         methodCreator.load(INVOKED_METHOD_PROP), javaMethodAsObject));
     }
 
+    /**
+     * Sets the cache TTL of {@code @Coalesce} in the request context, the handler chain of the client coalesces the
+     * invocations that have it
+     */
+    private void addCoalesceToContext(ClassInfo interfaceClass, MethodInfo method, MethodCreator methodCreator,
+            AssignableResultHandle invocationBuilder) {
+        AnnotationInstance coalesce = method.annotation(COALESCE);
+        if (coalesce != null) {
+            if (!method.hasDeclaredAnnotation(ResteasyReactiveDotNames.GET)) {
+                throw new RestClientDefinitionException("Method " + interfaceClass.name() + "#" + method.name()
+                        + " is annotated with @Coalesce but only the GET methods can be coalesced");
+            }
+        } else if (method.hasDeclaredAnnotation(ResteasyReactiveDotNames.GET)) {
+            coalesce = interfaceClass.declaredAnnotation(COALESCE);
+        }
+        if (coalesce == null) {
+            return;
+        }
+        AnnotationValue cacheTtl = coalesce.value("cacheTtl");
+        methodCreator.assign(invocationBuilder,
+                methodCreator.invokeInterfaceMethod(INVOCATION_BUILDER_PROPERTY_METHOD, invocationBuilder,
+                        methodCreator.load(QuarkusRestClientProperties.COALESCE),
+                        methodCreator.load(String.valueOf(cacheTtl == null ? 0L : cacheTtl.asLong()))));
+    }
+
     private void putAllHeaderAnnotations(Map<String, ParamData> headerMap, ClassInfo interfaceClass,
             AnnotationInstance[] annotations) {
         for (AnnotationInstance annotation : annotations) {
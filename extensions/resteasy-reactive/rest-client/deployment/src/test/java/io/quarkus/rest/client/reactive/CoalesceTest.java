@@ -0,0 +1,121 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Uni;
+
+public class CoalesceTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, Resource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    public void shouldShareInFlightRequests() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+
+        List<String> responses = join(IntStream.range(0, 20).mapToObj(i -> client.coalesced("a")).toList());
+        assertThat(responses).hasSize(20).containsOnly("a-1");
+
+        // a different query is another request
+        assertThat(join(List.of(client.coalesced("b"), client.coalesced("b")))).containsOnly("b-2");
+
+        // the completed request is not kept without cache TTL
+        assertThat(client.coalesced("a").await().atMost(Duration.ofSeconds(10))).isEqualTo("a-3");
+    }
+
+    @Test
+    public void shouldKeepResponseDuringCacheTtl() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+
+        String first = client.cached().await().atMost(Duration.ofSeconds(10));
+        assertThat(client.cached().await().atMost(Duration.ofSeconds(10))).isEqualTo(first);
+        assertThat(client.blockingCached()).isEqualTo(first);
+    }
+
+    @Test
+    public void shouldNotCoalesceWithoutAnnotation() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+
+        long before = Resource.NOT_COALESCED.get();
+        join(List.of(client.notCoalesced(), client.notCoalesced(), client.notCoalesced()));
+        assertThat(Resource.NOT_COALESCED.get() - before).isEqualTo(3);
+    }
+
+    private static List<String> join(List<Uni<String>> unis) {
+        return Uni.join().all(unis).andFailFast().await().atMost(Duration.ofSeconds(10));
+    }
+
+    @Path("resource")
+    public interface Client {
+
+        @GET
+        @Path("coalesced")
+        @Coalesce
+        Uni<String> coalesced(@QueryParam("name") String name);
+
+        @GET
+        @Path("cached")
+        @Coalesce(cacheTtl = 60_000)
+        Uni<String> cached();
+
+        @GET
+        @Path("cached")
+        @Coalesce(cacheTtl = 60_000)
+        String blockingCached();
+
+        @GET
+        @Path("not-coalesced")
+        Uni<String> notCoalesced();
+    }
+
+    @Path("resource")
+    public static class Resource {
+
+        private static final AtomicLong COALESCED = new AtomicLong();
+        private static final AtomicLong CACHED = new AtomicLong();
+        private static final AtomicLong NOT_COALESCED = new AtomicLong();
+
+        @GET
+        @Path("coalesced")
+        public String coalesced(@QueryParam("name") String name) throws InterruptedException {
+            long count = COALESCED.incrementAndGet();
+            // make sure that all the client invocations start while the request is in flight
+            Thread.sleep(500);
+            return name + "-" + count;
+        }
+
+        @GET
+        @Path("cached")
+        public String cached() {
+            return "cached-" + CACHED.incrementAndGet();
+        }
+
+        @GET
+        @Path("not-coalesced")
+        public String notCoalesced() throws InterruptedException {
+            NOT_COALESCED.incrementAndGet();
+            Thread.sleep(200);
+            return "not-coalesced";
+        }
+    }
+}
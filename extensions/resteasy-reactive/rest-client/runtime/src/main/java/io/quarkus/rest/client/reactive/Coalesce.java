@@ -0,0 +1,44 @@
+package io.quarkus.rest.client.reactive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Used to let the concurrent identical invocations of a {@code GET} method share a single HTTP request.
+ * <p>
+ * While an invocation is in flight, the next invocations with the same URI, request headers and return type do not send
+ * a request: they complete with the response of the first invocation, so the response entity is read once and the same
+ * instance is handed to every caller. Only the methods returning an entity can be coalesced, not the ones returning a
+ * {@link jakarta.ws.rs.core.Response}, a stream or a file.
+ * <p>
+ * When placed on the interface, all its {@code GET} methods are coalesced.
+ *
+ * <pre>
+ * {@code
+ * &#64;Path("/prices")
+ * public interface PriceClient {
+ *
+ *     &#64;GET
+ *     &#64;Path("/{symbol}")
+ *     &#64;Coalesce(cacheTtl = 100)
+ *     Uni<Price> get(String symbol);
+ * }
+ * }
+ * </pre>
+ *
+ * The response filters of the client only run for the invocation that sent the request.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+
+    /**
+     * How long, in milliseconds, a successful response is also handed to the identical invocations that start after it was
+     * received. By default, only the invocations started while the request is in flight share it.
+     */
+    long cacheTtl() default 0;
+}
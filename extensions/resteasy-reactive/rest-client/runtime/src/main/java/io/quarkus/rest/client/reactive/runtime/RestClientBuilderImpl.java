@@ -59,6 +59,7 @@
 import io.quarkus.restclient.config.RestClientsConfig;
 import io.quarkus.tls.TlsConfiguration;
 import io.smallrye.config.SmallRyeConfig;
+import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.net.KeyCertOptions;
@@ -633,6 +634,16 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             clientBuilder.http2UpgradeMaxContentLength((int) restClients.http2UpgradeMaxContentLength().get().asLongValue());
         }
 
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS)
+                && restClients.http2MaxConcurrentStreams().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS,
+                    restClients.http2MaxConcurrentStreams().getAsInt());
+        }
+
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.EVENT_LOOP_POOLS) && restClients.eventLoopPools()) {
+            clientBuilder.property(QuarkusRestClientProperties.EVENT_LOOP_POOLS, true);
+        }
+
         if (getConfiguration().hasProperty(QuarkusRestClientProperties.ALPN)) {
             clientBuilder.alpn((Boolean) getConfiguration().getProperty(QuarkusRestClientProperties.ALPN));
         } else if (restClients.alpn().isPresent()) {
@@ -701,7 +712,9 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
         ClientImpl clientImpl = clientBuilder.build();
         TlsConfig tlsConfig = clientBuilder.getTlsConfig();
         if (tlsConfig != null && tlsConfig.getName().isPresent()) {
-            RestClientRecorder.registerReloadableHttpClient(tlsConfig.getName().get(), clientImpl.getVertxHttpClient());
+            for (HttpClient httpClient : clientImpl.getVertxHttpClients()) {
+                RestClientRecorder.registerReloadableHttpClient(tlsConfig.getName().get(), httpClient);
+            }
         }
         WebTargetImpl target = (WebTargetImpl) clientImpl.target(uri);
         target.setParamConverterProviders(paramConverterProviders);
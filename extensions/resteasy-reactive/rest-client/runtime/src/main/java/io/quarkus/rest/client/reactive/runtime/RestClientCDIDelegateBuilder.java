@@ -172,6 +172,16 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
                     (int) http2UpgradeMaxContentLength.get().asLongValue());
         }
 
+        OptionalInt http2MaxConcurrentStreams = oneOf(restClientConfig.http2MaxConcurrentStreams(),
+                configRoot.http2MaxConcurrentStreams());
+        if (http2MaxConcurrentStreams.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS,
+                    http2MaxConcurrentStreams.getAsInt());
+        }
+
+        Boolean eventLoopPools = oneOf(restClientConfig.eventLoopPools()).orElse(configRoot.eventLoopPools());
+        builder.property(QuarkusRestClientProperties.EVENT_LOOP_POOLS, eventLoopPools);
+
         Optional<Boolean> alpn = oneOf(restClientConfig.alpn(), configRoot.alpn());
         if (alpn.isPresent()) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
@@ -4,6 +4,7 @@
 import org.jboss.resteasy.reactive.client.impl.RestClientClosingTask;
 
 import io.quarkus.rest.client.reactive.runtime.RestClientRecorder;
+import io.vertx.core.http.HttpClient;
 
 /**
  * Cleans up any the TLS config bookkeeping related that relates to a REST Client instance.
@@ -15,6 +16,8 @@ public class TlsRegistryCleanupRestClientClosingTask implements RestClientClosin
     @Override
     public void close(Context context) {
         ClientImpl clientImpl = context.baseTarget().getRestClient();
-        RestClientRecorder.removeClientFromTlsConfigMap(clientImpl.getTlsConfigName(), clientImpl.getVertxHttpClient());
+        for (HttpClient httpClient : clientImpl.getVertxHttpClients()) {
+            RestClientRecorder.removeClientFromTlsConfigMap(clientImpl.getTlsConfigName(), httpClient);
+        }
     }
 }
@@ -90,6 +90,17 @@ public interface ResteasyReactiveConfig {
     @WithDefault("true")
     boolean removesTrailingSlash();
 
+    /**
+     * If enabled, the resource paths that share a common literal prefix are compiled into a trie when the application
+     * starts, so that the cost of matching a request path depends on the length of the path instead of the number of
+     * endpoints.
+     * <p>
+     * This is mostly useful for applications that expose a very large number of endpoints.
+     */
+    @WithDefault("false")
+    @Experimental("The compiled path matching is experimental and may change in the future")
+    boolean compiledPathMatching();
+
     /**
      * Configuration for exception mapping.
      */
@@ -9,6 +9,7 @@
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -135,7 +136,11 @@ public Collection<String> create(Collection<ClassInfo> classInfos) {
 
     private Optional<String> create(ClassInfo classInfo) {
         String beanClassName = classInfo.name().toString();
-        if (vetoedClass(classInfo, beanClassName) || !generatedClassNames.add(beanClassName)) {
+        if (vetoedClass(classInfo, beanClassName)) {
+            registerPolymorphicSubTypes(classInfo);
+            return Optional.empty();
+        }
+        if (!generatedClassNames.add(beanClassName)) {
             return Optional.empty();
         }
         Optional<String> unknownAnnotation = findUnknownAnnotation(classInfo);
@@ -324,6 +329,7 @@ private void registerTypeToBeGenerated(String typeName) {
                     registerTypeToBeGenerated(subClassName.toString());
                 }
             }
+            registerPolymorphicSubTypes(classInfo);
             return;
         }
         if (shouldGenerateCodeFor(classInfo)) {
@@ -331,6 +337,20 @@ private void registerTypeToBeGenerated(String typeName) {
         }
     }
 
+    private void registerPolymorphicSubTypes(ClassInfo classInfo) {
+        for (DotName subTypeName : polymorphicSubTypes(classInfo)) {
+            registerTypeToBeGenerated(subTypeName.toString());
+        }
+    }
+
+    /**
+     * @return the subtypes of an abstract type or an interface that are handled by Jackson through its type id, and that
+     *         need code to be generated as well
+     */
+    protected Collection<DotName> polymorphicSubTypes(ClassInfo classInfo) {
+        return List.of();
+    }
+
     private static boolean isRuntimeAccessible(ClassInfo classInfo, String className) {
         return Modifier.isPublic(classInfo.flags()) || isApplicationClass(className);
     }
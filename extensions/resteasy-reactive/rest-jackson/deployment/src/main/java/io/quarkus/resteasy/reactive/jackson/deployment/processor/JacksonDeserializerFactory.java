@@ -7,6 +7,9 @@
 
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -16,7 +19,9 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -28,8 +33,10 @@
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -153,8 +160,68 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * Also note that this works only if the Java class to be deserialized has an empty constructor or a constructor which can
+ * be used by Jackson, like the one annotated with {@code @JsonCreator} or the canonical constructor of a record, while the
+ * generation of this deserializer is skipped in all other cases.
+ *
+ * The properties of a record are all passed to its canonical constructor, so a record is not read as a json tree first:
+ * the generated deserializer reads the tokens of the parser straight into local variables and then invokes the
+ * constructor. For instance for a record like {@code record Point(int x, int y, Address address)} it generates
+ *
+ * <pre>{@code
+ * public Object deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException, JacksonException {
+ *     JsonToken token = jsonParser.currentToken();
+ *     if (token == JsonToken.START_OBJECT) {
+ *         token = jsonParser.nextToken();
+ *     } else if (token == JsonToken.VALUE_NULL) {
+ *         return null;
+ *     } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+ *         return context.handleUnexpectedToken(Point.class, jsonParser);
+ *     }
+ *     JsonDeserializer[] valueDeserializers = this.valueDeserializers;
+ *     if (valueDeserializers == null) {
+ *         valueDeserializers = new JsonDeserializer[3];
+ *     }
+ *     int x = 0;
+ *     int y = 0;
+ *     Object address = null;
+ *     while (token == JsonToken.FIELD_NAME) {
+ *         String fieldName = jsonParser.currentName();
+ *         jsonParser.nextToken();
+ *         switch (fieldName) {
+ *             case "x":
+ *                 x = jsonParser.currentToken() == JsonToken.VALUE_NULL ? 0 : jsonParser.getValueAsInt();
+ *                 jsonParser.skipChildren();
+ *                 break;
+ *             case "y":
+ *                 y = jsonParser.currentToken() == JsonToken.VALUE_NULL ? 0 : jsonParser.getValueAsInt();
+ *                 jsonParser.skipChildren();
+ *                 break;
+ *             case "address":
+ *                 JsonDeserializer valueDeserializer = valueDeserializers[2];
+ *                 if (valueDeserializer == null) {
+ *                     valueDeserializer = context.findRootValueDeserializer(context.constructType(Address.class));
+ *                     valueDeserializers[2] = valueDeserializer;
+ *                 }
+ *                 address = valueDeserializer.deserialize(jsonParser, context);
+ *                 break;
+ *             default:
+ *                 if (context.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+ *                     throw new JsonMappingException("Unrecognized field \"" + fieldName + "\"");
+ *                 }
+ *                 jsonParser.skipChildren();
+ *         }
+ *         token = jsonParser.nextToken();
+ *     }
+ *     return new Point(x, y, (Address) address);
+ * }
+ * }</pre>
+ *
+ * The {@code valueDeserializers} array is created by {@code createContextual}, so that the deserializers of the
+ * properties are only looked up once per contextualized deserializer.
+ *
+ * The subtypes listed by the {@code @JsonSubTypes} annotation of a polymorphic type get a generated deserializer as well,
+ * which Jackson invokes once it has read the type id.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -236,7 +303,10 @@ protected String getClassSuffix() {
     }
 
     protected String[] getInterfacesNames(ClassInfo classInfo) {
-        return classInfo.typeParameters().isEmpty() ? new String[0] : new String[] { ContextualDeserializer.class.getName() };
+        return classInfo.typeParameters().isEmpty()
+                && findConstructor(classInfo).filter(ctor -> isReadFromTokens(classInfo, ctor)).isEmpty()
+                        ? new String[0]
+                        : new String[] { ContextualDeserializer.class.getName() };
     }
 
     @Override
@@ -261,11 +331,22 @@ protected boolean createSerializationMethod(ClassInfo classInfo, ClassCreator cl
             generateTranslatableFieldNamesStaticField(classCreator, translatableNames);
             reverseIndexHandle = buildReverseIndexHandle(deserialize, classCreator, strategyHandle);
         }
+        boolean readFromTokens = isReadFromTokens(classInfo, ctor);
+        Map<String, Integer> typeParametersIndex = parseTypeParameters(classInfo);
+        if (!typeParametersIndex.isEmpty() || readFromTokens) {
+            createContextualMethod(classCreator, !typeParametersIndex.isEmpty(),
+                    readFromTokens && hasValueDeserializers(ctor) ? ctor.parametersCount() : 0);
+        }
+        if (readFromTokens) {
+            DeserializationData deserData = new DeserializationData(classInfo, ctor, classCreator, deserialize, null,
+                    typeParametersIndex, new HashSet<>(), namingStrategy, strategyHandle, reverseIndexHandle, null);
+            return deserializeFromTokens(deserData);
+        }
         ResultHandle activeViewHandle = deserialize.invokeVirtualMethod(
                 ofMethod(DeserializationContext.class, "getActiveView", Class.class),
                 deserialize.getMethodParam(1));
         DeserializationData deserData = new DeserializationData(classInfo, ctor, classCreator, deserialize,
-                getJsonNode(deserialize), parseTypeParameters(classInfo, classCreator), new HashSet<>(),
+                getJsonNode(deserialize), typeParametersIndex, new HashSet<>(),
                 namingStrategy, strategyHandle, reverseIndexHandle, activeViewHandle);
 
         ResultHandle deserializedHandle = ctor.parametersCount() == 0
@@ -318,6 +399,229 @@ private ResultHandle createDeserializedObject(DeserializationData deserData) {
         return deserData.methodCreator.newInstance(deserData.constructor, params);
     }
 
+    /**
+     * A record can be read from the tokens of the parser when all its properties are passed to its canonical constructor,
+     * i.e. when it has no setter and no any setter.
+     */
+    private boolean isReadFromTokens(ClassInfo classInfo, MethodInfo constructor) {
+        if (!classInfo.isRecord() || constructor.parametersCount() != classInfo.recordComponents().size()
+                || findAnySetterMethod(classInfo) != null) {
+            return false;
+        }
+        for (MethodInfo methodInfo : classMethods(classInfo)) {
+            if (isSetterMethod(methodInfo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean deserializeFromTokens(DeserializationData deserData) {
+        MethodCreator deserialize = deserData.methodCreator;
+        ResultHandle jsonParser = deserialize.getMethodParam(0);
+        ResultHandle deserializationContext = deserialize.getMethodParam(1);
+
+        AssignableResultHandle token = deserialize.createVariable(JsonToken.class);
+        deserialize.assign(token, currentToken(deserialize, jsonParser));
+        BranchResult isStartObject = deserialize.ifReferencesEqual(token, jsonToken(deserialize, JsonToken.START_OBJECT));
+        isStartObject.trueBranch().assign(token, nextToken(isStartObject.trueBranch(), jsonParser));
+        BytecodeCreator notStartObject = isStartObject.falseBranch();
+        BranchResult isNull = notStartObject.ifReferencesEqual(token, jsonToken(notStartObject, JsonToken.VALUE_NULL));
+        isNull.trueBranch().returnNull();
+        // The subtype of a polymorphic type is read once its type id has been consumed, i.e. from the next field name
+        BytecodeCreator notNull = isNull.falseBranch();
+        BytecodeCreator notFieldName = notNull
+                .ifReferencesEqual(token, jsonToken(notNull, JsonToken.FIELD_NAME)).falseBranch();
+        BytecodeCreator unexpected = notFieldName
+                .ifReferencesEqual(token, jsonToken(notFieldName, JsonToken.END_OBJECT)).falseBranch();
+        unexpected.returnValue(unexpected.invokeVirtualMethod(
+                ofMethod(DeserializationContext.class, "handleUnexpectedToken", Object.class, Class.class, JsonParser.class),
+                deserializationContext, unexpected.loadClass(deserData.classInfo.name().toString()), jsonParser));
+
+        List<MethodParameterInfo> parameters = deserData.constructor.parameters();
+        AssignableResultHandle valueDeserializers = null;
+        if (hasValueDeserializers(deserData.constructor)) {
+            // Not contextualized, i.e. invoked directly, in which case the deserializers are looked up every time
+            valueDeserializers = deserialize.createVariable(JsonDeserializer[].class);
+            deserialize.assign(valueDeserializers,
+                    deserialize.readInstanceField(valueDeserializersField(deserData.classCreator), deserialize.getThis()));
+            BytecodeCreator notContextual = deserialize.ifNull(valueDeserializers).trueBranch();
+            notContextual.assign(valueDeserializers, notContextual.newArray(JsonDeserializer.class, parameters.size()));
+        }
+
+        AssignableResultHandle[] values = new AssignableResultHandle[parameters.size()];
+        FieldSpecs[] fieldSpecs = new FieldSpecs[parameters.size()];
+        for (int i = 0; i < parameters.size(); i++) {
+            Type type = parameters.get(i).type();
+            fieldSpecs[i] = fieldSpecsFromFieldParam(parameters.get(i), deserData.namingStrategy);
+            values[i] = type.kind() == Type.Kind.PRIMITIVE
+                    ? deserialize.createVariable(DescriptorUtils.typeToString(type))
+                    : deserialize.createVariable(Object.class);
+            deserialize.assign(values[i], JacksonSerializationUtils.getDefaultValue(deserialize, type));
+        }
+
+        BytecodeCreator loop = deserialize
+                .whileLoop(c -> c.ifReferencesEqual(token, jsonToken(c, JsonToken.FIELD_NAME))).block();
+        ResultHandle fieldName = loop.invokeVirtualMethod(ofMethod(JsonParser.class, "currentName", String.class),
+                jsonParser);
+        nextToken(loop, jsonParser);
+        Switch.StringSwitch strSwitch = loop.stringSwitch(translateFieldName(deserData, loop, fieldName));
+
+        AtomicBoolean valid = new AtomicBoolean(true);
+        Set<String> knownFields = new HashSet<>();
+        ResultHandle deserializers = valueDeserializers;
+        for (int i = 0; i < parameters.size(); i++) {
+            int index = i;
+            AssignableResultHandle value = values[i];
+            FieldSpecs specs = fieldSpecs[i];
+            List<String> names = new ArrayList<>();
+            names.add(specs.jsonName);
+            names.addAll(Arrays.asList(specs.aliases));
+            for (String name : names) {
+                if (knownFields.add(name)) {
+                    strSwitch.caseOf(name, bytecode -> {
+                        ResultHandle valueHandle = readValueFromParser(deserData, bytecode, jsonParser,
+                                deserializationContext, specs, deserializers, index);
+                        if (valueHandle == null) {
+                            valid.set(false);
+                        } else {
+                            bytecode.assign(value, valueHandle);
+                        }
+                    });
+                }
+            }
+        }
+        for (String ignoredProperty : getIgnoredProperties(deserData.classInfo)) {
+            if (knownFields.add(ignoredProperty)) {
+                strSwitch.caseOf(ignoredProperty, bytecode -> skipChildren(bytecode, jsonParser));
+            }
+        }
+        boolean ignoreUnknown = shouldIgnoreUnknownProperties(deserData.classInfo);
+        strSwitch.defaultCase(bytecode -> {
+            if (!ignoreUnknown) {
+                ResultHandle failOnUnknown = bytecode.invokeVirtualMethod(
+                        ofMethod(DeserializationContext.class, "isEnabled", boolean.class, DeserializationFeature.class),
+                        deserializationContext,
+                        bytecode.readStaticField(FieldDescriptor.of(DeserializationFeature.class,
+                                "FAIL_ON_UNKNOWN_PROPERTIES", DeserializationFeature.class)));
+                BytecodeCreator trueBranch = bytecode.ifTrue(failOnUnknown).trueBranch();
+                ResultHandle message = trueBranch.invokeVirtualMethod(
+                        ofMethod(String.class, "concat", String.class, String.class),
+                        trueBranch.load("Unrecognized field \""),
+                        trueBranch.invokeVirtualMethod(
+                                ofMethod(String.class, "concat", String.class, String.class),
+                                fieldName, trueBranch.load("\"")));
+                trueBranch.throwException(trueBranch.newInstance(
+                        MethodDescriptor.ofConstructor(JsonMappingException.class, String.class), message));
+            }
+            skipChildren(bytecode, jsonParser);
+        });
+        loop.assign(token, nextToken(loop, jsonParser));
+
+        deserialize.returnValue(deserialize.newInstance(MethodDescriptor.of(deserData.constructor), values));
+        return valid.get();
+    }
+
+    /**
+     * Returns {@code true} if a parameter of the constructor is neither a primitive nor a string.
+     */
+    private static boolean hasValueDeserializers(MethodInfo constructor) {
+        return constructor.parameterTypes().stream().anyMatch(type -> !JacksonSerializationUtils.isBasicJsonType(type));
+    }
+
+    /**
+     * Reads the value of a property from the current token. The deserializer of a property which is not a primitive or a
+     * string is looked up once and then kept in the given array.
+     */
+    private ResultHandle readValueFromParser(DeserializationData deserData, BytecodeCreator bytecode,
+            ResultHandle jsonParser, ResultHandle deserializationContext, FieldSpecs fieldSpecs,
+            ResultHandle valueDeserializers, int index) {
+        Type fieldType = fieldSpecs.fieldType;
+        if (JacksonSerializationUtils.isBasicJsonType(fieldType)) {
+            return readBasicValueFromParser(bytecode, fieldType, jsonParser);
+        }
+
+        FieldKind fieldKind = registerTypeToBeGenerated(fieldType, fieldType.name().toString());
+        if (fieldKind == FieldKind.TYPE_VARIABLE
+                && !deserData.typeParametersIndex.containsKey(fieldType.asTypeVariable().identifier())) {
+            return null;
+        }
+        AssignableResultHandle valueDeserializer = bytecode.createVariable(JsonDeserializer.class);
+        bytecode.assign(valueDeserializer, bytecode.readArrayValue(valueDeserializers, index));
+        BytecodeCreator notFound = bytecode.ifNull(valueDeserializer).trueBranch();
+        ResultHandle typeHandle = typeHandle(deserData.classCreator, notFound, deserializationContext, fieldType,
+                fieldKind, deserData.typeParametersIndex);
+        if (!isJavaType(fieldType, fieldKind)) {
+            typeHandle = notFound.invokeVirtualMethod(
+                    ofMethod(DeserializationContext.class, "constructType", JavaType.class, Class.class),
+                    deserializationContext, typeHandle);
+        }
+        notFound.assign(valueDeserializer, notFound.invokeVirtualMethod(
+                ofMethod(DeserializationContext.class, "findRootValueDeserializer", JsonDeserializer.class, JavaType.class),
+                deserializationContext, typeHandle));
+        notFound.writeArrayValue(valueDeserializers, index, valueDeserializer);
+        return bytecode.invokeVirtualMethod(
+                ofMethod(JsonDeserializer.class, "deserialize", Object.class, JsonParser.class, DeserializationContext.class),
+                valueDeserializer, jsonParser, deserializationContext);
+    }
+
+    /**
+     * Reads a primitive or a string from the current token, with the same coercions as the {@code JsonNode} accessors,
+     * and skips the value if it is an object or an array.
+     */
+    private static ResultHandle readBasicValueFromParser(BytecodeCreator bytecode, Type fieldType,
+            ResultHandle jsonParser) {
+        AssignableResultHandle result = bytecode.createVariable(DescriptorUtils.typeToString(fieldType));
+        bytecode.assign(result, JacksonSerializationUtils.getDefaultValue(bytecode, fieldType));
+
+        BytecodeCreator notNull = bytecode
+                .ifReferencesEqual(currentToken(bytecode, jsonParser), jsonToken(bytecode, JsonToken.VALUE_NULL))
+                .falseBranch();
+        ResultHandle convertedValue = switch (fieldType.name().toString()) {
+            case "java.lang.String" -> notNull.invokeVirtualMethod(
+                    ofMethod(JsonParser.class, "getValueAsString", String.class), jsonParser);
+            case "char" -> notNull.invokeVirtualMethod(ofMethod(String.class, "charAt", char.class, int.class),
+                    notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsString", String.class), jsonParser),
+                    notNull.load(0));
+            case "byte" -> notNull.convertPrimitive(
+                    notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsInt", int.class), jsonParser),
+                    byte.class);
+            case "short" -> notNull.convertPrimitive(
+                    notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsInt", int.class), jsonParser),
+                    short.class);
+            case "int" -> notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsInt", int.class), jsonParser);
+            case "long" -> notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsLong", long.class),
+                    jsonParser);
+            case "float" -> notNull.convertPrimitive(
+                    notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsDouble", double.class), jsonParser),
+                    float.class);
+            case "double" -> notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsDouble", double.class),
+                    jsonParser);
+            case "boolean" -> notNull.invokeVirtualMethod(ofMethod(JsonParser.class, "getValueAsBoolean", boolean.class),
+                    jsonParser);
+            default -> throw new IllegalStateException("Type " + fieldType + " should be handled by the switch");
+        };
+        notNull.assign(result, convertedValue);
+        skipChildren(bytecode, jsonParser);
+        return result;
+    }
+
+    private static ResultHandle currentToken(BytecodeCreator bytecode, ResultHandle jsonParser) {
+        return bytecode.invokeVirtualMethod(ofMethod(JsonParser.class, "currentToken", JsonToken.class), jsonParser);
+    }
+
+    private static ResultHandle nextToken(BytecodeCreator bytecode, ResultHandle jsonParser) {
+        return bytecode.invokeVirtualMethod(ofMethod(JsonParser.class, "nextToken", JsonToken.class), jsonParser);
+    }
+
+    private static void skipChildren(BytecodeCreator bytecode, ResultHandle jsonParser) {
+        bytecode.invokeVirtualMethod(ofMethod(JsonParser.class, "skipChildren", JsonParser.class), jsonParser);
+    }
+
+    private static ResultHandle jsonToken(BytecodeCreator bytecode, JsonToken token) {
+        return bytecode.readStaticField(FieldDescriptor.of(JsonToken.class, token.name(), JsonToken.class));
+    }
+
     /**
      * Looks up a field value from a JSON node by its primary name, falling back to any @JsonAlias names.
      * For fields without an explicit JSON name, the lookup name is dynamically resolved through
@@ -379,7 +683,8 @@ private boolean deserializeObjectFields(DeserializationData deserData, ResultHan
         ResultHandle fieldValue = loopCreator.checkCast(loopCreator
                 .invokeInterfaceMethod(ofMethod(Map.Entry.class, "getValue", Object.class), mapEntry), JsonNode.class);
 
-        ResultHandle fieldName = translateFieldName(deserData, loopCreator, mapEntry);
+        ResultHandle fieldName = translateFieldName(deserData, loopCreator,
+                loopCreator.invokeInterfaceMethod(ofMethod(Map.Entry.class, "getKey", Object.class), mapEntry));
         Switch.StringSwitch strSwitch = loopCreator.stringSwitch(fieldName);
 
         // save constructor field names before deserializeFields modifies the set
@@ -477,10 +782,7 @@ private static ResultHandle buildReverseIndexHandle(MethodCreator deserialize, C
     }
 
     private static ResultHandle translateFieldName(DeserializationData deserData, BytecodeCreator fieldReader,
-            ResultHandle mapEntry) {
-        ResultHandle rawFieldName = fieldReader
-                .invokeInterfaceMethod(ofMethod(Map.Entry.class, "getKey", Object.class), mapEntry);
-
+            ResultHandle rawFieldName) {
         if (deserData.reverseIndexHandle == null) {
             return rawFieldName;
         }
@@ -539,14 +841,12 @@ private BranchResult iteratorHasNext(BytecodeCreator creator, ResultHandle itera
         return creator.ifTrue(creator.invokeInterfaceMethod(ofMethod(Iterator.class, "hasNext", boolean.class), iterator));
     }
 
-    private Map<String, Integer> parseTypeParameters(ClassInfo classInfo, ClassCreator classCreator) {
+    private static Map<String, Integer> parseTypeParameters(ClassInfo classInfo) {
         List<TypeVariable> typeParameters = classInfo.typeParameters();
         if (typeParameters.isEmpty()) {
             return Map.of();
         }
 
-        createContextualMethod(classCreator);
-
         Map<String, Integer> typeParametersIndex = new HashMap<>();
         int index = 0;
         for (TypeVariable typeParameter : typeParameters) {
@@ -555,26 +855,43 @@ private Map<String, Integer> parseTypeParameters(ClassInfo classInfo, ClassCreat
         return typeParametersIndex;
     }
 
-    private static void createContextualMethod(ClassCreator classCreator) {
-        FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes", JavaType[].class);
-        classCreator.getFieldCreator(valueTypesField);
-
+    /**
+     * The contextual deserializer holds the actual types of the type parameters of a generic class and, for a class read
+     * from the tokens of the parser, the deserializers of its properties, which are looked up on first use. As the
+     * generated deserializers are registered once and shared by all the object mappers, these are never stored in the
+     * registered instance.
+     */
+    private static void createContextualMethod(ClassCreator classCreator, boolean generic, int valueDeserializers) {
         MethodCreator createContextual = classCreator
                 .getMethodCreator("createContextual", JsonDeserializer.class, DeserializationContext.class, BeanProperty.class)
                 .setModifiers(ACC_PUBLIC);
-
-        ResultHandle deserializationContext = createContextual.getMethodParam(0);
-        ResultHandle beanProperty = createContextual.getMethodParam(1);
-        MethodDescriptor getGenericsJavaTypes = ofMethod(JacksonMapperUtil.class, "getGenericsJavaTypes",
-                JavaType[].class, DeserializationContext.class, BeanProperty.class);
-        ResultHandle valueTypes = createContextual.invokeStaticMethod(getGenericsJavaTypes, deserializationContext,
-                beanProperty);
-
         ResultHandle deserializer = createContextual.newInstance(MethodDescriptor.ofConstructor(classCreator.getClassName()));
-        createContextual.writeInstanceField(valueTypesField, deserializer, valueTypes);
+
+        if (generic) {
+            FieldDescriptor valueTypesField = FieldDescriptor.of(classCreator.getClassName(), "valueTypes",
+                    JavaType[].class);
+            classCreator.getFieldCreator(valueTypesField);
+            ResultHandle deserializationContext = createContextual.getMethodParam(0);
+            ResultHandle beanProperty = createContextual.getMethodParam(1);
+            MethodDescriptor getGenericsJavaTypes = ofMethod(JacksonMapperUtil.class, "getGenericsJavaTypes",
+                    JavaType[].class, DeserializationContext.class, BeanProperty.class);
+            ResultHandle valueTypes = createContextual.invokeStaticMethod(getGenericsJavaTypes, deserializationContext,
+                    beanProperty);
+            createContextual.writeInstanceField(valueTypesField, deserializer, valueTypes);
+        }
+        if (valueDeserializers > 0) {
+            FieldDescriptor valueDeserializersField = valueDeserializersField(classCreator);
+            classCreator.getFieldCreator(valueDeserializersField);
+            createContextual.writeInstanceField(valueDeserializersField, deserializer,
+                    createContextual.newArray(JsonDeserializer.class, valueDeserializers));
+        }
         createContextual.returnValue(deserializer);
     }
 
+    private static FieldDescriptor valueDeserializersField(ClassCreator classCreator) {
+        return FieldDescriptor.of(classCreator.getClassName(), "valueDeserializers", JsonDeserializer[].class);
+    }
+
     private boolean deserializeFields(DeserializationData deserData, ResultHandle deserializationContext,
             ResultHandle objHandle, ResultHandle fieldValue, Set<String> deserializedFields, Switch.StringSwitch strSwitch) {
 
@@ -698,7 +1015,22 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
         }
 
         FieldKind fieldKind = registerTypeToBeGenerated(fieldType, fieldTypeName);
-        ResultHandle typeHandle = switch (fieldKind) {
+        ResultHandle typeHandle = typeHandle(classCreator, bytecode, deserializationContext, fieldType, fieldKind,
+                typeParametersIndex);
+        if (typeHandle == null) {
+            return null;
+        }
+
+        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
+                Object.class, JsonNode.class, isJavaType(fieldType, fieldKind) ? JavaType.class : Class.class);
+        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
+    }
+
+    private static ResultHandle typeHandle(ClassCreator classCreator, BytecodeCreator bytecode,
+            ResultHandle deserializationContext, Type fieldType, FieldKind fieldKind,
+            Map<String, Integer> typeParametersIndex) {
+        String fieldTypeName = fieldType.name().toString();
+        return switch (fieldKind) {
             case TYPE_VARIABLE -> {
                 Integer parameterIndex = typeParametersIndex.get(fieldType.asTypeVariable().identifier());
                 if (parameterIndex == null) {
@@ -709,42 +1041,32 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
                 ResultHandle valueTypes = bytecode.readInstanceField(valueTypesField, bytecode.getThis());
                 yield bytecode.readArrayValue(valueTypes, parameterIndex);
             }
-            case LIST, SET, OPTIONAL -> {
-                Type contentType = ((ParameterizedType) fieldType).arguments().get(0);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructParametricType = ofMethod(TypeFactory.class,
-                        "constructParametricType", JavaType.class, Class.class, Class[].class);
-                ResultHandle paramTypes = bytecode.newArray(Class.class, 1);
-                bytecode.writeArrayValue(paramTypes, 0, bytecode.loadClass(contentType.name().toString()));
-                yield bytecode.invokeVirtualMethod(constructParametricType, typeFactory,
-                        bytecode.loadClass(fieldTypeName), paramTypes);
-            }
-            case MAP -> {
-                Type keyType = ((ParameterizedType) fieldType).arguments().get(0);
-                Type valueType = ((ParameterizedType) fieldType).arguments().get(1);
-                MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory",
-                        TypeFactory.class);
-                ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
-                MethodDescriptor constructParametricType = ofMethod(TypeFactory.class,
-                        "constructParametricType", JavaType.class, Class.class, Class[].class);
-                ResultHandle paramTypes = bytecode.newArray(Class.class, 2);
-                bytecode.writeArrayValue(paramTypes, 0, bytecode.loadClass(keyType.name().toString()));
-                bytecode.writeArrayValue(paramTypes, 1, bytecode.loadClass(valueType.name().toString()));
-                yield bytecode.invokeVirtualMethod(constructParametricType, typeFactory,
-                        bytecode.loadClass(fieldTypeName), paramTypes);
-            }
-            default -> bytecode.loadClass(fieldTypeName);
+            default -> isJavaType(fieldType, fieldKind)
+                    ? parametricTypeHandle(bytecode, deserializationContext, fieldTypeName,
+                            ((ParameterizedType) fieldType).arguments())
+                    : bytecode.loadClass(fieldTypeName);
         };
+    }
 
-        if (typeHandle == null) {
-            return null;
-        }
+    /**
+     * The generic types, including the parameterized types of the generated classes, are read through a {@code JavaType}
+     * which carries their type arguments, while the other types are read through their class.
+     */
+    private static boolean isJavaType(Type fieldType, FieldKind fieldKind) {
+        return fieldKind.isGeneric() || fieldType.kind() == Type.Kind.PARAMETERIZED_TYPE;
+    }
 
-        MethodDescriptor readTreeAsValue = ofMethod(DeserializationContext.class, "readTreeAsValue",
-                Object.class, JsonNode.class, fieldKind.isGeneric() ? JavaType.class : Class.class);
-        return bytecode.invokeVirtualMethod(readTreeAsValue, deserializationContext, valueNode, typeHandle);
+    private static ResultHandle parametricTypeHandle(BytecodeCreator bytecode, ResultHandle deserializationContext,
+            String typeName, List<Type> arguments) {
+        MethodDescriptor getTypeFactory = ofMethod(DeserializationContext.class, "getTypeFactory", TypeFactory.class);
+        ResultHandle typeFactory = bytecode.invokeVirtualMethod(getTypeFactory, deserializationContext);
+        MethodDescriptor constructParametricType = ofMethod(TypeFactory.class,
+                "constructParametricType", JavaType.class, Class.class, Class[].class);
+        ResultHandle paramTypes = bytecode.newArray(Class.class, arguments.size());
+        for (int i = 0; i < arguments.size(); i++) {
+            bytecode.writeArrayValue(paramTypes, i, bytecode.loadClass(arguments.get(i).name().toString()));
+        }
+        return bytecode.invokeVirtualMethod(constructParametricType, typeFactory, bytecode.loadClass(typeName), paramTypes);
     }
 
     private void writeValueToObject(ClassInfo classInfo, ResultHandle objHandle, FieldSpecs fieldSpecs,
@@ -825,9 +1147,22 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
         return result;
     }
 
+    @Override
+    protected Collection<DotName> polymorphicSubTypes(ClassInfo classInfo) {
+        AnnotationInstance jsonSubTypes = classInfo.declaredAnnotation(JsonSubTypes.class);
+        if (jsonSubTypes == null || jsonSubTypes.value() == null) {
+            return List.of();
+        }
+        List<DotName> subTypes = new ArrayList<>();
+        for (AnnotationInstance subType : jsonSubTypes.value().asNestedArray()) {
+            subTypes.add(subType.value().asClass().name());
+        }
+        return subTypes;
+    }
+
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        return super.shouldGenerateCodeFor(classInfo) && (classInfo.hasNoArgsConstructor() || classInfo.isRecord());
     }
 
     private static final String TRANSLATABLE_FIELD_NAMES = "TRANSLATABLE_FIELD_NAMES";
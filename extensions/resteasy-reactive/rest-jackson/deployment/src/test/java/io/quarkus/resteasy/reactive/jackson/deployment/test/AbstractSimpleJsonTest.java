@@ -1280,6 +1280,32 @@ void polymorphicItem_shouldIncludeTypeDiscriminator() {
                 .body("item.value", CoreMatchers.is("hello"));
     }
 
+    @Test
+    void drawing_shouldDeserializeRecordsCollectionsEnumsAndSubTypes() {
+        given()
+                .contentType("application/json")
+                .body("""
+                        {
+                          "title": "Sketch",
+                          "visibility": "PRIVATE",
+                          "shapes": [
+                            {"kind": "circle", "radius": 1.5},
+                            {"kind": "rectangle", "width": 2, "height": 3},
+                            {"radius": 4, "kind": "circle"}
+                          ],
+                          "anchors": {"b": {"x": 3, "y": 4}, "a": {"y": 2, "x": 1}},
+                          "origin": {"label": "center", "value": {"x": 0, "y": 0}},
+                          "notes": [{"label": "author", "value": "Bob"}, {"label": "empty", "value": null}]
+                        }
+                        """)
+                .when()
+                .post("/simple/drawing")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("Sketch PRIVATE circle(1.5),rectangle(2x3),circle(4.0) {a=(1,2), b=(3,4)} "
+                        + "center=(0,0) author=Bob,empty=null"));
+    }
+
     @Test
     void sensor_metadata_shouldDeserialize() {
         given()
@@ -0,0 +1,34 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+public record Drawing(String title, Visibility visibility, List<Shape> shapes, Map<String, Point> anchors,
+        Labeled<Point> origin, List<Labeled<String>> notes) {
+
+    public String describe() {
+        return title + " " + visibility
+                + " " + shapes.stream().map(Shape::describe).collect(Collectors.joining(","))
+                + " " + new TreeMap<>(anchors)
+                + " " + origin.label() + "=" + origin.value()
+                + " " + notes.stream().map(note -> note.label() + "=" + note.value()).collect(Collectors.joining(","));
+    }
+
+    public enum Visibility {
+        PUBLIC,
+        PRIVATE
+    }
+
+    public record Point(int x, int y) {
+
+        @Override
+        public String toString() {
+            return "(" + x + "," + y + ")";
+        }
+    }
+
+    public record Labeled<T>(String label, T value) {
+    }
+}
@@ -0,0 +1,49 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "kind")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = Shape.Circle.class, name = "circle"),
+        @JsonSubTypes.Type(value = Shape.Rectangle.class, name = "rectangle")
+})
+public interface Shape {
+
+    String describe();
+
+    record Circle(double radius) implements Shape {
+
+        @Override
+        public String describe() {
+            return "circle(" + radius + ")";
+        }
+    }
+
+    class Rectangle implements Shape {
+
+        private int width;
+        private int height;
+
+        public int getWidth() {
+            return width;
+        }
+
+        public void setWidth(int width) {
+            this.width = width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        public void setHeight(int height) {
+            this.height = height;
+        }
+
+        @Override
+        public String describe() {
+            return "rectangle(" + width + "x" + height + ")";
+        }
+    }
+}
@@ -34,7 +34,9 @@ public JavaArchive get() {
                                     ProductPrice.class, DefaultValueHolder.class, OptionalHolder.class, AnySetterRequest.class,
                                     UnwrappedResult.class, UnwrappedResultsResponse.class, Detail.class, ErrorInfo.class,
                                     PolymorphicItemResponse.class, PolymorphicItem.class,
-                                    SensorMetadata.class, SensorMetadata.ComponentMetadata.class, SensorUnit.class)
+                                    SensorMetadata.class, SensorMetadata.ComponentMetadata.class, SensorUnit.class,
+                                    Shape.class, Shape.Circle.class, Shape.Rectangle.class, Drawing.class,
+                                    Drawing.Visibility.class, Drawing.Point.class, Drawing.Labeled.class)
                             .addAsResource(new StringAsset("admin-expression=admin\n" +
                                     "user-expression=user\n" +
                                     "birth-date-roles=alice,bob\n" +
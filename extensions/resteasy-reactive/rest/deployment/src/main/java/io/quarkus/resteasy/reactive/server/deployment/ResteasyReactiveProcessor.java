@@ -1726,7 +1726,8 @@ private org.jboss.resteasy.reactive.common.ResteasyReactiveConfig createRestReac
                 config.minChunkSize(),
                 config.outputBufferSize(),
                 config.singleDefaultProduces(),
-                config.defaultProduces());
+                config.defaultProduces(),
+                config.compiledPathMatching());
     }
 
     @BuildStep
@@ -53,12 +53,61 @@ public void testContinueMatching() {
         Assertions.assertNull(result);
     }
 
+    @Test
+    public void testCompiledMatchesLinear() {
+        String[] templates = { "/", "/id", "/id/{param}", "/id/{param}/", "/bar/{p1}/{p2}", "/bar/{p1}", "/bar/fixed",
+                "/{tenant}", "/{tenant}/items", "/{tenant}/items/{id}", "/{tenant}/items/{id: [0-9]+}/details",
+                "/{tenant}/{type}/{id}", "/foo{x}", "/foo-{x}/bar", "/foo/{x}.json", "/files/{path: .+}",
+                "/regex/{a: [a-z]+}-{b}", "/hello/" };
+        String[] paths = { "/", "/id", "/id/", "/id/34", "/id/34/", "/id/34/more", "/bar/34/44", "/bar/34", "/bar/fixed",
+                "/bar/fixed/", "/acme", "/acme/", "/acme/items", "/acme/items/12", "/acme/items/12/details",
+                "/acme/items/abc/details", "/acme/other/12", "/acme/other/12/x", "/foo", "/foo1", "/foo-1/bar", "/foo-1/baz",
+                "/foo/1.json", "/foo/1.xml", "/files/a/b/c", "/files/", "/regex/abc-1", "/regex/ABC-1", "/hello",
+                "/hello/", "//", "/id//", "/acme//12" };
+        for (boolean prefix : new boolean[] { false, true }) {
+            RequestMapper<String> linear = mapper(prefix, false, templates);
+            RequestMapper<String> compiled = mapper(prefix, true, templates);
+            for (String path : paths) {
+                RequestMapper.RequestMatch<String> expected = linear.map(path);
+                RequestMapper.RequestMatch<String> actual = compiled.map(path);
+                if (expected == null) {
+                    Assertions.assertNull(actual, path);
+                } else {
+                    Assertions.assertNotNull(actual, path);
+                    Assertions.assertEquals(expected.value, actual.value, path);
+                    Assertions.assertEquals(expected.remaining, actual.remaining, path);
+                    Assertions.assertArrayEquals(expected.pathParamValues, actual.pathParamValues, path);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledPrecedence() {
+        RequestMapper<String> mapper = mapper(false, true, "/{tenant}/items/{id}", "/{tenant}/items/special",
+                "/{a}/{b}/{c}");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/acme/items/special");
+        Assertions.assertEquals("/{tenant}/items/special", result.value);
+        Assertions.assertEquals("acme", result.pathParamValues[0]);
+        result = mapper.map("/acme/items/12");
+        Assertions.assertEquals("/{tenant}/items/{id}", result.value);
+        Assertions.assertEquals("12", result.pathParamValues[1]);
+        result = mapper.map("/acme/other/12");
+        Assertions.assertEquals("/{a}/{b}/{c}", result.value);
+        Assertions.assertNull(mapper.map("/acme/items"));
+    }
+
     RequestMapper<String> mapper(boolean prefixTemplates, String... vals) {
+        return mapper(prefixTemplates, false, vals);
+    }
+
+    RequestMapper<String> mapper(boolean prefixTemplates, boolean compiled, String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
             list.add(new RequestMapper.RequestPath<>(prefixTemplates, new URITemplate(i, false), i));
         }
-        return new RequestMapper<>(list);
+        return new RequestMapper<>(list, compiled);
     }
 
 }
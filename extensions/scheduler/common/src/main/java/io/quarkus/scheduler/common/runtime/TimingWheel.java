@@ -0,0 +1,183 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel.
+ * <p>
+ * The time is divided in ticks and every element is scheduled for a specific tick. The wheel has several levels of
+ * {@value #SLOTS} slots: a slot of the first level holds the elements due in a single tick, a slot of the second level holds
+ * the elements due in {@value #SLOTS} consecutive ticks, and so on. When the wheel reaches the beginning of the ticks
+ * covered by a slot of an upper level, the elements of this slot are moved down to the lower levels. As a consequence,
+ * advancing the wheel by one tick only touches the elements that are due during this tick, plus the elements that
+ * cascade from time to time, regardless of the total number of scheduled elements.
+ * <p>
+ * The elements due beyond the ticks covered by the highest level are kept aside and scheduled again when the highest
+ * level wraps around.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the scheduled elements
+ */
+public final class TimingWheel<T> {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int LEVELS = 5;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final int levels;
+    private final List<Entry<T>>[][] wheel;
+    private List<Entry<T>> overflow;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param currentTick the tick the wheel starts at, i.e. the first tick of {@link #advance(long, Consumer)} is the next
+     *        one
+     */
+    public TimingWheel(long currentTick) {
+        this(currentTick, LEVELS);
+    }
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long currentTick, int levels) {
+        this.levels = levels;
+        this.wheel = new List[levels][SLOTS];
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Schedules an element. If the tick has already been reached then the element is scheduled for the next tick.
+     *
+     * @param element the element
+     * @param tick the tick the element is due at
+     */
+    public void schedule(T element, long tick) {
+        insert(new Entry<>(element, Math.max(tick, currentTick + 1)));
+        size++;
+    }
+
+    /**
+     * Advances the wheel to the given tick and passes the elements that are due to the consumer. The consumer may
+     * schedule new elements, which are then due at the next tick at the earliest.
+     *
+     * @param tick the tick to advance to
+     * @param consumer the consumer of the due elements
+     */
+    public void advance(long tick, Consumer<T> consumer) {
+        while (currentTick < tick) {
+            long next = currentTick + 1;
+            List<Entry<T>> due = null;
+            if (overflow != null && (next & ((1L << (SLOT_BITS * levels)) - 1)) == 0) {
+                List<Entry<T>> overflowing = overflow;
+                overflow = null;
+                for (Entry<T> entry : overflowing) {
+                    insert(entry, next);
+                }
+            }
+            // Move the elements of the upper levels down, starting with the highest level
+            for (int level = levels - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((next & ((1L << shift) - 1)) == 0) {
+                    List<Entry<T>> cascading = take(level, (int) ((next >>> shift) & SLOT_MASK));
+                    if (cascading != null) {
+                        for (Entry<T> entry : cascading) {
+                            if (entry.tick <= next) {
+                                if (due == null) {
+                                    due = new ArrayList<>();
+                                }
+                                due.add(entry);
+                            } else {
+                                insert(entry, next);
+                            }
+                        }
+                    }
+                }
+            }
+            List<Entry<T>> slot = take(0, (int) (next & SLOT_MASK));
+            if (slot != null) {
+                if (due == null) {
+                    due = slot;
+                } else {
+                    due.addAll(slot);
+                }
+            }
+            currentTick = next;
+            if (due != null) {
+                size -= due.size();
+                for (Entry<T> entry : due) {
+                    consumer.accept(entry.element);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the last tick the wheel has advanced to
+     */
+    public long currentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return the number of scheduled elements
+     */
+    public int size() {
+        return size;
+    }
+
+    private void insert(Entry<T> entry) {
+        insert(entry, currentTick);
+    }
+
+    private void insert(Entry<T> entry, long current) {
+        // The level is the lowest one where the element and the current tick share the slot of the level above
+        for (int level = 0; level < levels; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if ((entry.tick >>> shift) == (current >>> shift)) {
+                add(level, (int) ((entry.tick >>> (SLOT_BITS * level)) & SLOT_MASK), entry);
+                return;
+            }
+        }
+        // Beyond the wheel
+        if (overflow == null) {
+            overflow = new ArrayList<>();
+        }
+        overflow.add(entry);
+    }
+
+    private void add(int level, int index, Entry<T> entry) {
+        List<Entry<T>> slot = wheel[level][index];
+        if (slot == null) {
+            slot = new ArrayList<>();
+            wheel[level][index] = slot;
+        }
+        slot.add(entry);
+    }
+
+    private List<Entry<T>> take(int level, int index) {
+        List<Entry<T>> slot = wheel[level][index];
+        if (slot == null || slot.isEmpty()) {
+            return null;
+        }
+        wheel[level][index] = null;
+        return slot;
+    }
+
+    private static final class Entry<T> {
+
+        final T element;
+        final long tick;
+
+        Entry(T element, long tick) {
+            this.element = element;
+            this.tick = tick;
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package io.quarkus.scheduler.common.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void testElementsAreDueAtTheirTick() {
+        // Two levels cover 4096 ticks
+        TimingWheel<Long> wheel = new TimingWheel<>(100, 2);
+        // First level, second level and beyond the wheel
+        long[] ticks = { 101, 163, 164, 165, 1_000, 4_095, 4_096, 4_097, 10_000, 300_000 };
+        for (long tick : ticks) {
+            wheel.schedule(tick, tick);
+        }
+        // Already reached
+        wheel.schedule(101L, 50);
+        assertEquals(ticks.length + 1, wheel.size());
+
+        List<Long> due = new ArrayList<>();
+        List<Long> dueTicks = new ArrayList<>();
+        wheel.advance(300_000, element -> {
+            due.add(element);
+            dueTicks.add(wheel.currentTick());
+        });
+        assertEquals(List.of(101L, 101L, 163L, 164L, 165L, 1_000L, 4_095L, 4_096L, 4_097L, 10_000L, 300_000L), due);
+        assertEquals(due, dueTicks);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testScheduleFromConsumer() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.schedule("foo", 1);
+        List<Long> fired = new ArrayList<>();
+        wheel.advance(1000, element -> {
+            fired.add(wheel.currentTick());
+            // Reschedule every 7 ticks, or at the next tick if the tick has already been reached
+            wheel.schedule(element, fired.size() % 2 == 0 ? wheel.currentTick() : wheel.currentTick() + 7);
+        });
+        assertEquals(250, fired.size());
+        for (int i = 1; i < fired.size(); i++) {
+            assertEquals(i % 2 == 0 ? 1 : 7, fired.get(i) - fired.get(i - 1));
+        }
+        assertEquals(1, wheel.size());
+    }
+
+    /**
+     * Simulates one hour of 10k jobs that fire every 1 to 60 minutes, with a tick every second. The time spent per tick
+     * is measured by {@link TimingWheelBenchmark}.
+     */
+    @Test
+    public void testManyJobs() {
+        int jobs = 10_000;
+        Random random = new Random(42);
+        long[] intervals = new long[jobs];
+        long[] fireTimes = new long[jobs];
+        for (int i = 0; i < jobs; i++) {
+            intervals[i] = 60 * (1 + random.nextInt(60));
+            fireTimes[i] = 1 + random.nextInt((int) intervals[i]);
+        }
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        for (int i = 0; i < jobs; i++) {
+            wheel.schedule(i, fireTimes[i]);
+        }
+        int executions = 0;
+        for (int i = 0; i < jobs; i++) {
+            // the executions during the first hour
+            executions += (3_600 - fireTimes[i]) / intervals[i] + 1;
+        }
+        int[] misfires = new int[1];
+        int[] fired = new int[1];
+        for (long tick = 1; tick <= 3_600; tick++) {
+            wheel.advance(tick, job -> {
+                if (fireTimes[job] != wheel.currentTick()) {
+                    misfires[0]++;
+                }
+                fired[0]++;
+                fireTimes[job] += intervals[job];
+                wheel.schedule(job, fireTimes[job]);
+            });
+        }
+        assertEquals(0, misfires[0]);
+        assertEquals(executions, fired[0]);
+        assertEquals(jobs, wheel.size());
+    }
+
+}
@@ -275,6 +275,15 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
         Map<String, AnnotationInstance> encounteredIdentities = new HashMap<>();
         Set<String> methodDescriptions = new HashSet<>();
 
+        // Validate the check period used for every() expressions
+        long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? config.simpleCheckPeriod().toMillis() : 50;
+        long simpleCheckPeriod = config.simpleCheckPeriod().toMillis();
+        if (simpleCheckPeriod < 1 || simpleCheckPeriod > SimpleScheduler.CHECK_PERIOD) {
+            errors.add(new IllegalStateException(String.format(
+                    "quarkus.scheduler.simple.check-period must be between 1 ms and %s ms: %s", SimpleScheduler.CHECK_PERIOD,
+                    config.simpleCheckPeriod())));
+        }
+
         for (ScheduledBusinessMethodItem scheduledMethod : scheduledMethods) {
             if (!methodDescriptions.add(scheduledMethod.getMethodDescription())) {
                 errors.add(new IllegalStateException("Multiple @Scheduled methods of the same name declared on the same class: "
@@ -323,7 +332,6 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
@@ -0,0 +1,37 @@
+package io.quarkus.scheduler.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class InvalidCheckPeriodTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .assertException(t -> {
+                assertThat(t).cause().isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("quarkus.scheduler.simple.check-period must be between 1 ms and 1000 ms");
+            })
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.simple.check-period=2s"),
+                            "application.properties"));
+
+    @Test
+    public void test() throws InterruptedException {
+    }
+
+    static class Jobs {
+
+        @Scheduled(every = "5s")
+        void ping() {
+        }
+
+    }
+
+}
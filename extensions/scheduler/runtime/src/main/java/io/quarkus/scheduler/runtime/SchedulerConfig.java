@@ -1,5 +1,7 @@
 package io.quarkus.scheduler.runtime;
 
+import java.time.Duration;
+
 import com.cronutils.model.CronType;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -47,4 +49,15 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * The period at which the simple scheduler checks the triggers. It must not be less than 1 millisecond and greater than 1
+     * second.
+     * <p>
+     * The triggers are kept in a timing wheel, i.e. a check only evaluates the triggers that are due. An `every()` value less
+     * than this period is not supported.
+     */
+    @WithName("simple.check-period")
+    @WithDefault("1S")
+    Duration simpleCheckPeriod();
+
 }
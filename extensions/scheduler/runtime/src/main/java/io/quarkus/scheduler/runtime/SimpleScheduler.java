@@ -13,6 +13,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -57,6 +58,7 @@
 import io.quarkus.scheduler.common.runtime.ScheduledMethod;
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
+import io.quarkus.scheduler.common.runtime.TimingWheel;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.spi.JobInstrumenter;
@@ -74,7 +76,13 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // Tasks that have not been added to the wheel yet
+    private final ConcurrentLinkedQueue<ScheduledTask> newTasks;
     private final SchedulerConfig schedulerConfig;
+    // milliseconds
+    private final long checkPeriod;
+    // Only accessed from the trigger check thread
+    private TimingWheel<ScheduledTask> wheel;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -89,7 +97,14 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
                 jobInstrumenter, blockingExecutor);
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.newTasks = new ConcurrentLinkedQueue<>();
         this.schedulerConfig = schedulerConfig;
+        this.checkPeriod = schedulerConfig.simpleCheckPeriod().toMillis();
+        if (checkPeriod < 1 || checkPeriod > CHECK_PERIOD) {
+            throw new IllegalStateException(
+                    "The check period must be between 1 ms and " + CHECK_PERIOD + " ms: "
+                            + schedulerConfig.simpleCheckPeriod());
+        }
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -123,7 +138,7 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
+        // This executor is used to check the triggers that are due every check period
         this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
@@ -157,7 +172,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    newTasks.add(task);
                 }
             }
         }
@@ -212,7 +229,7 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
+        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), checkPeriod,
                 TimeUnit.MILLISECONDS);
     }
 
@@ -233,10 +250,28 @@ void checkTriggers() {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long tick = now.toInstant().toEpochMilli() / checkPeriod;
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
+        if (wheel == null) {
+            wheel = new TimingWheel<>(tick - 1);
+        }
+        // New tasks are evaluated at the first check
+        ScheduledTask newTask;
+        while ((newTask = newTasks.poll()) != null) {
+            wheel.schedule(newTask, tick);
+        }
+        // Only the tasks that are due are evaluated, the ticks missed while the scheduler was paused are caught up
+        wheel.advance(tick, task -> {
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // Unscheduled
+                return;
+            }
             task.execute(now, vertx);
-        }
+            long nextCheck = task.trigger.isRunning() ? task.trigger.nextCheck()
+                    : now.toInstant().toEpochMilli() + CHECK_PERIOD;
+            // Round up to the first check after the next fire time
+            wheel.schedule(task, nextCheck == Long.MAX_VALUE ? Long.MAX_VALUE : (nextCheck + checkPeriod - 1) / checkPeriod);
+        });
     }
 
     @Override
@@ -369,7 +404,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, description));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, description,
+                    checkPeriod));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -426,6 +462,12 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the epoch milliseconds before which {@link #evaluate(ZonedDateTime)} does not fire, or
+         *         {@link Long#MAX_VALUE} if the trigger never fires again
+         */
+        abstract long nextCheck();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -460,16 +502,19 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // milliseconds
+        private final long checkPeriod;
 
         IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String methodDescription,
-                String description) {
+                String description, long checkPeriod) {
             super(id, start, methodDescription, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.checkPeriod = checkPeriod;
+            if (interval < checkPeriod) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        checkPeriod, description);
             }
         }
 
@@ -480,19 +525,34 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = truncate(now);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        long nextCheck() {
+            ZonedDateTime last = lastFireTime;
+            return last == null ? start.toInstant().toEpochMilli() : last.toInstant().toEpochMilli() + interval;
+        }
+
+        private ZonedDateTime truncate(ZonedDateTime time) {
+            if (interval >= CHECK_PERIOD) {
+                return time.truncatedTo(ChronoUnit.SECONDS);
+            }
+            // Sub-second intervals are aligned with the checks
+            long millis = time.toInstant().toEpochMilli();
+            return time.minus(Duration.ofMillis(millis % checkPeriod)).truncatedTo(ChronoUnit.MILLIS);
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -544,6 +604,12 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        long nextCheck() {
+            Instant next = getNextFireTime();
+            return next != null ? Math.max(next.toEpochMilli(), start.toInstant().toEpochMilli()) : Long.MAX_VALUE;
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -684,6 +750,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                newTasks.add(scheduledTask);
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Holds the static resources for which compressed variants were generated during the build.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> variants;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, String> variants) {
+        this.variants = Map.copyOf(variants);
+    }
+
+    /**
+     *
+     * @return the map of resource path to a comma-separated list of encodings, in the order of preference
+     */
+    public Map<String, String> getVariants() {
+        return variants;
+    }
+
+}
@@ -2,13 +2,25 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,20 +31,29 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.paths.PathVisitor;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
+    private static final int BROTLI_MAX_QUALITY = 11;
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +80,89 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws IOException {
+        if (staticResources.isEmpty()
+                || !httpBuildTimeConfig.enableCompression()
+                || !httpBuildTimeConfig.precompressStaticResources()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        long minSize = httpBuildTimeConfig.compressionMinSize().isPresent()
+                ? httpBuildTimeConfig.compressionMinSize().get().asLongValue()
+                : 0;
+        boolean brotli = httpBuildTimeConfig.compressors().isPresent()
+                && httpBuildTimeConfig.compressors().get().stream().anyMatch("br"::equalsIgnoreCase)
+                && isBrotliAvailable();
+        Set<String> paths = staticResources.get().getPaths();
+        Map<String, String> variants = new HashMap<>();
+
+        Map<String, byte[]> contents = new HashMap<>();
+        for (GeneratedStaticResourceBuildItem generated : generatedStaticResources) {
+            if (paths.contains(generated.getEndpoint())) {
+                contents.put(generated.getEndpoint(),
+                        generated.isFile() ? Files.readAllBytes(generated.getFile()) : generated.getContent());
+            }
+        }
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (!Files.isDirectory(visitPath) && rel.startsWith(prefix)) {
+                String path = rel.substring(prefix.length());
+                if (!contents.containsKey(path) && isCompressedMediaType(compressMediaTypes, path)) {
+                    try {
+                        contents.put(path, Files.readAllBytes(visitPath));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        });
+
+        for (Map.Entry<String, byte[]> e : contents.entrySet()) {
+            String path = e.getKey();
+            byte[] content = e.getValue();
+            if (content.length < minSize || !isCompressedMediaType(compressMediaTypes, path)) {
+                continue;
+            }
+            List<String> encodings = new ArrayList<>(2);
+            if (brotli) {
+                byte[] compressed = Encoder.compress(content, new Encoder.Parameters().setQuality(BROTLI_MAX_QUALITY));
+                if (produceVariant(path, PrecompressedStaticHandler.BROTLI, content, compressed, paths, generatedResources,
+                        nativeImageResources)) {
+                    encodings.add(PrecompressedStaticHandler.BROTLI);
+                }
+            }
+            if (produceVariant(path, PrecompressedStaticHandler.GZIP, content, gzip(content), paths, generatedResources,
+                    nativeImageResources)) {
+                encodings.add(PrecompressedStaticHandler.GZIP);
+            }
+            if (!encodings.isEmpty()) {
+                variants.put(path, String.join(",", encodings));
+            }
+        }
+        if (!variants.isEmpty()) {
+            LOG.debugf("Generated compressed variants for %s static resources", variants.size());
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(variants));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getVariants).orElse(Map.of()))));
         }
     }
 
@@ -100,6 +197,49 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static boolean produceVariant(String path, String encoding, byte[] content, byte[] compressed,
+            Set<String> paths, BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        String variantPath = path + PrecompressedStaticHandler.suffix(encoding);
+        if (compressed.length >= content.length || paths.contains(variantPath)) {
+            // The compression does not pay off or the application already contains a resource with the same name
+            return false;
+        }
+        String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + variantPath;
+        generatedResources.produce(new GeneratedResourceBuildItem(resourceName, compressed));
+        nativeImageResources.produce(new NativeImageResourceBuildItem(resourceName));
+        return true;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isCompressedMediaType(Set<String> compressMediaTypes, String path) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        return contentType != null && compressMediaTypes.contains(contentType);
+    }
+
+    private static boolean isBrotliAvailable() {
+        try {
+            if (Brotli4jLoader.isAvailable()) {
+                return true;
+            }
+            LOG.warn("Brotli variants of static resources are not generated: the native library is not available");
+        } catch (Throwable e) {
+            LOG.warn("Brotli variants of static resources are not generated: the native library cannot be loaded", e);
+        }
+        return false;
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
@@ -0,0 +1,60 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+public class CompressionMinSizeTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression-min-size=1K\n";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoute.class));
+
+    @Test
+    public void test() {
+        String large = CompressionTest.TEXT.repeat(2);
+        given().get("/compress/large").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(large));
+        given().get("/compress/small").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Integer::parseInt, equalTo(CompressionTest.TEXT.length()))
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        public void register(@Observes Router router) {
+            router.route("/compress/large").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(CompressionTest.TEXT.repeat(2));
+            });
+            router.route("/compress/small").handler(rc -> {
+                // The body is smaller than quarkus.http.compression-min-size
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(CompressionTest.TEXT);
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class PrecompressedStaticResourcesTest extends AbstractStaticResourcesTest {
+
+    @RegisterExtension
+    final static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/dir/file.txt")
+                    .addAsResource("static-file.html", "META-INF/resources/l'équipe.pdf")
+                    .addAsResource("static-file.html", "META-INF/resources/static file.txt")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/.hidden-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @Override
+    protected void assertEncodedResponse(String path) {
+        // The gzip variant generated during the build is sent as is
+        RestAssured.when().get(path)
+                .then()
+                .header("Content-Encoding", "gzip")
+                .header("Content-Length", notNullValue())
+                .header("Vary", "accept-encoding")
+                .body(containsString("This is the title of the webpage!"))
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldCompressIfVariantNotAccepted() {
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/static-file.html")
+                .then()
+                .header("Content-Encoding", is("deflate"))
+                .header("Vary", "accept-encoding")
+                .body(containsString("This is the title of the webpage!"))
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldNotSendVariantForRangeRequest() {
+        given().header("Range", "bytes=0-9")
+                .get("/static-file.html")
+                .then()
+                .body(is("<!doctype "))
+                .statusCode(206);
+    }
+
+    @Test
+    public void shouldAnswerConditionalRequests() {
+        ExtractableResponse<Response> response = RestAssured.when().get("/static-file.html")
+                .then()
+                .header("Content-Encoding", "gzip")
+                .header("ETag", notNullValue())
+                .header("Last-Modified", notNullValue())
+                .statusCode(200)
+                .extract();
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+
+        given().header("If-None-Match", etag)
+                .get("/static-file.html")
+                .then()
+                .header("ETag", etag)
+                .body(emptyString())
+                .statusCode(304);
+        given().header("If-Modified-Since", lastModified)
+                .get("/static-file.html")
+                .then()
+                .body(emptyString())
+                .statusCode(304);
+        // The entity tag of the gzip variant does not match the original resource
+        given().header("Accept-Encoding", "identity")
+                .header("If-None-Match", etag)
+                .get("/static-file.html")
+                .then()
+                .body(containsString("This is the title of the webpage!"))
+                .statusCode(200);
+    }
+
+    @Test
+    public void shouldNotExposeVariant() {
+        RestAssured.when().get("/static-file.html.gz")
+                .then()
+                .statusCode(404);
+        RestAssured.when().get("/image.svg")
+                .then()
+                .header("Vary", nullValue())
+                .statusCode(200);
+    }
+
+}
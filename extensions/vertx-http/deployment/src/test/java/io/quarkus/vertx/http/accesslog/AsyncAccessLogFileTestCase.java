@@ -0,0 +1,123 @@
+package io.quarkus.vertx.http.accesslog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.http.ProtocolVersion;
+import org.apache.http.params.CoreProtocolPNames;
+import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Tests writing the access log to a file with the asynchronous writer
+ */
+public class AsyncAccessLogFileTestCase {
+
+    @RegisterExtension
+    public static QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    Path logDirectory;
+                    try {
+                        logDirectory = Files.createTempDirectory("quarkus-tests");
+                        //backslash is an escape char, we need this to be properly formatted for windows
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.pattern", "long");
+                        p.setProperty("quarkus.http.access-log.async.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.async.flush-interval", "100ms");
+                        p.setProperty("quarkus.http.access-log.exclude-pattern", "^(/health|/liveliness)$");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testSingleLogMessageToFile() throws IOException, InterruptedException {
+        // issue the request with a specific HTTP protocol version, so that we can then verify
+        // the protocol value logged in the access log file
+        final RestAssuredConfig http10Config = RestAssured.config().httpClient(
+                new HttpClientConfig().setParam(CoreProtocolPNames.PROTOCOL_VERSION, new ProtocolVersion("HTTP", 1, 0)));
+        final RequestSpecification requestSpec = new RequestSpecBuilder().setConfig(http10Config).build();
+        final String paramValue = UUID.randomUUID().toString();
+        RestAssured.given(requestSpec).get("/health"); //should be ignored
+        // test a non-normalized path
+        RestAssured.given(requestSpec).get("/test/../health"); //should be ignored
+        RestAssured.given(requestSpec).get("/liveliness"); //should be ignored
+        RestAssured.given(requestSpec).get("/does-not-exist?foo=" + paramValue);
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(new ThrowingRunnable() {
+                    @Override
+                    public void run() throws Throwable {
+                        try (Stream<Path> files = Files.list(logDirectory)) {
+                            Assertions.assertEquals(1, (int) files.count());
+                        }
+                        Path path = logDirectory.resolve("server.log");
+                        Assertions.assertTrue(Files.exists(path));
+                        String data = Files.readString(path);
+                        assertThat(data).doesNotContain("/health", "/liveliness");
+                        assertThat(data).contains("/does-not-exist");
+                        assertThat(data).contains("?foo=" + paramValue).describedAs("access log is missing query params");
+                        assertThat(data).doesNotContain("?foo=" + paramValue + "?foo=" + paramValue)
+                                .describedAs("access log contains duplicated query params");
+                        assertThat(data).contains("HTTP/1.0")
+                                .describedAs("HTTP/1.0 protocol value is missing in the access log");
+                        assertThat(data).contains("Accept: */*").describedAs("Accept header is missing in the access log");
+                    }
+                });
+    }
+
+}
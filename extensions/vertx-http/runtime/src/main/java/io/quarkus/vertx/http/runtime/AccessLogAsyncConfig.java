@@ -0,0 +1,45 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.config.WithDefault;
+
+public interface AccessLogAsyncConfig {
+    /**
+     * If the access log entries should be written to the file by a dedicated thread.
+     * <p>
+     * The request threads only record the raw values of the attributes in an off-heap ring buffer, the writer thread
+     * formats them and writes them in batches. When the buffer is full, the entries are dropped and counted instead of
+     * slowing down the requests.
+     * <p>
+     * This is only used if the log is written to a separate file.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The size of the ring buffer which holds the entries until they are written.
+     */
+    @WithDefault("1M")
+    MemorySize bufferSize();
+
+    /**
+     * The maximum size of an entry in the ring buffer. The characters of the attributes take two bytes each. The entries
+     * which are larger are dropped.
+     */
+    @WithDefault("2K")
+    MemorySize maxRecordSize();
+
+    /**
+     * The number of bytes which are buffered before they are written to the file.
+     */
+    @WithDefault("64K")
+    MemorySize flushSize();
+
+    /**
+     * The maximum delay before an entry is written to the file.
+     */
+    @WithDefault("1s")
+    Duration flushInterval();
+}
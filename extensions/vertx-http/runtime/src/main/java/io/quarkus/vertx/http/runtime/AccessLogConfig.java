@@ -94,4 +94,9 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * Asynchronous access log file writer
+     */
+    AccessLogAsyncConfig async();
 }
@@ -2,15 +2,18 @@
 
 import static io.quarkus.vertx.http.runtime.RoutingUtils.*;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
@@ -39,7 +42,12 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the paths of the static resources found in the application, relative to {@code META-INF/resources}
+     * @param precompressed the map of resource path to a comma-separated list of encodings of the compressed variants
+     * @return the route customizer
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressed) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -94,6 +102,9 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final PrecompressedStaticHandler precompressedHandler = precompressed.isEmpty() ? null
+                    : new PrecompressedStaticHandler(precompressed, currentCl, StandardCharsets.UTF_8,
+                            config.cachingEnabled() ? config.maxAge().toSeconds() : -1);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -104,6 +115,11 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (precompressedHandler != null
+                                && precompressedHandler.handle(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel)) {
+                            // A compressed variant generated during the build is sent
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -6,6 +6,7 @@
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -116,6 +117,24 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * The minimum size of a response body that is compressed. A response with a known {@code Content-Length} smaller than
+     * this value is sent uncompressed, even if compression was enabled for the response. If not set then the size of the
+     * body is not considered.
+     */
+    Optional<MemorySize> compressionMinSize();
+
+    /**
+     * If enabled and the compression is enabled then compressed variants of the static resources with a compressed media
+     * type are generated during the build. The variants are stored alongside the original resources and served, without
+     * compressing the resource again, to the clients that accept the encoding.
+     * <p>
+     * A gzip variant is always generated. A brotli variant is only generated if {@code br} is one of the
+     * {@link #compressors() compressors}.
+     */
+    @WithDefault("false")
+    boolean precompressStaticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
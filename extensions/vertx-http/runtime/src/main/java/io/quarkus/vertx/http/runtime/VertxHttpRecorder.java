@@ -99,6 +99,7 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
@@ -116,6 +117,7 @@
 import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
@@ -425,7 +427,8 @@ public void finalizeRouter(
             String srcMainJava,
             List<String> knowClasses,
             List<ErrorPageAction> actions,
-            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher) {
+            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher,
+            ShutdownContext shutdown) {
         VertxHttpConfig httpConfig = this.httpConfig.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -460,7 +463,7 @@ public void finalizeRouter(
             defaultRouteHandler.accept(httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_DEFAULT));
         }
 
-        applyCompression(httpBuildTimeConfig.enableCompression(), httpRouteRouter);
+        applyCompression(httpBuildTimeConfig.enableCompression(), httpBuildTimeConfig.compressionMinSize(), httpRouteRouter);
         httpRouteRouter.route().last().failureHandler(
                 new QuarkusErrorHandler(launchMode.isDevOrTest(), decorateStacktrace(launchMode, logBuildTimeConfig),
                         httpConfig.unhandledErrorContentTypeDefault(), srcMainJava, knowClasses, actions));
@@ -516,8 +519,28 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                AccessLogAsyncConfig async = accessLog.async();
+                if (async.enabled()) {
+                    AsyncAccessLogReceiver asyncReceiver = new AsyncAccessLogReceiver(accessLog.pattern(),
+                            getClass().getClassLoader(), outputDir.toPath(), accessLog.baseFileName(), accessLog.logSuffix(),
+                            accessLog.rotate(), async.bufferSize().asBigInteger().intValueExact(),
+                            async.maxRecordSize().asBigInteger().intValueExact(),
+                            async.flushSize().asBigInteger().intValueExact(), async.flushInterval());
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                asyncReceiver.close();
+                            } catch (IOException e) {
+                                LOGGER.error("Failed to close the access log", e);
+                            }
+                        }
+                    });
+                    receiver = asyncReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
@@ -603,7 +626,7 @@ public void handle(RoutingContext event) {
             }
 
             HttpServerCommonHandlers.applyHeaders(managementConfig.getValue().header(), mr);
-            applyCompression(managementBuildTimeConfig.enableCompression(), mr);
+            applyCompression(managementBuildTimeConfig.enableCompression(), Optional.empty(), mr);
 
             Handler<HttpServerRequest> handler = HttpServerCommonHandlers.enforceDuplicatedContext(mr, mustResumeRequest);
             handler = HttpServerCommonHandlers.applyProxy(managementConfig.getValue().proxy(), handler, vertx,
@@ -673,20 +696,49 @@ private void addHotReplacementHandlerIfNeeded(Router router) {
         }
     }
 
-    private void applyCompression(boolean enableCompression, Router httpRouteRouter) {
+    private void applyCompression(boolean enableCompression, Optional<MemorySize> compressionMinSize,
+            Router httpRouteRouter) {
         if (enableCompression) {
+            long minSize = compressionMinSize.isPresent() ? compressionMinSize.get().asLongValue() : 0;
             httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_COMPRESSION).handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext ctx) {
                     // Add "Content-Encoding: identity" header that disables the compression
                     // This header can be removed to enable the compression
                     ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                    if (minSize > 0) {
+                        // Headers end handlers are executed in reverse order, i.e. this handler is executed after
+                        // the handlers that enable the compression for the current response
+                        ctx.addHeadersEndHandler(new Handler<Void>() {
+                            @Override
+                            public void handle(Void event) {
+                                disableCompressionIfTooSmall(ctx.response().headers(), minSize);
+                            }
+                        });
+                    }
                     ctx.next();
                 }
             });
         }
     }
 
+    static void disableCompressionIfTooSmall(MultiMap headers, long minSize) {
+        if (headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+            // Compression is disabled or the body is already encoded
+            return;
+        }
+        String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength) < minSize) {
+                    headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                }
+            } catch (NumberFormatException ignored) {
+                // Let the compressor decide
+            }
+        }
+    }
+
     private void warnIfProxyAddressForwardingAllowedWithMultipleHeaders(ProxyConfig proxyConfig) {
         boolean proxyAddressForwardingActivated = proxyConfig.proxyAddressForwarding();
         boolean forwardedActivated = proxyConfig.allowForwarded();
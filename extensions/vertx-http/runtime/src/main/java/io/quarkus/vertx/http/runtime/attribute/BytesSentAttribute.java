@@ -6,7 +6,7 @@
  * The bytes sent
  *
  */
-public class BytesSentAttribute implements ExchangeAttribute {
+public class BytesSentAttribute implements NumericExchangeAttribute {
 
     public static final String BYTES_SENT_SHORT_UPPER = "%B";
     public static final String BYTES_SENT_SHORT_LOWER = "%b";
@@ -20,12 +20,20 @@ public BytesSentAttribute(boolean dashIfZero) {
 
     @Override
     public String readAttribute(final RoutingContext exchange) {
-        if (dashIfZero) {
-            long bytesSent = exchange.response().bytesWritten();
-            return bytesSent == 0 ? "-" : Long.toString(bytesSent);
-        } else {
-            return Long.toString(exchange.response().bytesWritten());
+        return formatNumericAttribute(readNumericAttribute(exchange));
+    }
+
+    @Override
+    public long readNumericAttribute(RoutingContext exchange) {
+        return exchange.response().bytesWritten();
+    }
+
+    @Override
+    public String formatNumericAttribute(long value) {
+        if (value == ABSENT) {
+            return null;
         }
+        return dashIfZero && value == 0 ? "-" : Long.toString(value);
     }
 
     @Override
@@ -1,5 +1,7 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.util.List;
+
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -16,6 +18,13 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
         this.attributes = copy;
     }
 
+    /**
+     * @return the attributes, in the order their values are merged
+     */
+    public List<ExchangeAttribute> getAttributes() {
+        return List.of(attributes);
+    }
+
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
@@ -1,5 +1,6 @@
 package io.quarkus.vertx.http.runtime.attribute;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -11,7 +12,7 @@
  * The current time
  *
  */
-public class DateTimeAttribute implements ExchangeAttribute {
+public class DateTimeAttribute implements NumericExchangeAttribute {
 
     private static final String COMMON_LOG_PATTERN = "'['dd/MMM/yyyy:HH:mm:ss Z']'";
 
@@ -44,6 +45,22 @@ public String readAttribute(final RoutingContext exchange) {
         return formatter.format(ZonedDateTime.now());
     }
 
+    /**
+     * @return the current time in milliseconds since the epoch
+     */
+    @Override
+    public long readNumericAttribute(RoutingContext exchange) {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public String formatNumericAttribute(long value) {
+        if (value == ABSENT) {
+            return null;
+        }
+        return formatter.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(value), ZoneId.systemDefault()));
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         throw new ReadOnlyAttributeException("Date time", newValue);
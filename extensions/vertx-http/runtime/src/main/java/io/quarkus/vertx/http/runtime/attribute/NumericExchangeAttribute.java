@@ -0,0 +1,32 @@
+package io.quarkus.vertx.http.runtime.attribute;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * An attribute whose value is a number, which can be read from the exchange and formatted separately.
+ * <p>
+ * This allows to record the raw value on the request thread and to format it later on another thread.
+ */
+public interface NumericExchangeAttribute extends ExchangeAttribute {
+
+    /**
+     * The value of an attribute which is not present.
+     */
+    long ABSENT = Long.MIN_VALUE;
+
+    /**
+     * Resolve the raw value of the attribute from the HTTP server exchange.
+     *
+     * @param exchange The exchange
+     * @return The raw value, or {@link #ABSENT} if the attribute is not present
+     */
+    long readNumericAttribute(RoutingContext exchange);
+
+    /**
+     * Formats a raw value returned by {@link #readNumericAttribute(RoutingContext)}.
+     *
+     * @param value The raw value
+     * @return The attribute, or null if the value is {@link #ABSENT}
+     */
+    String formatNumericAttribute(long value);
+}
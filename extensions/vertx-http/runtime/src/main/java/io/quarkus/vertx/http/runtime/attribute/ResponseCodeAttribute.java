@@ -6,7 +6,7 @@
  * The request status code
  *
  */
-public class ResponseCodeAttribute implements ExchangeAttribute {
+public class ResponseCodeAttribute implements NumericExchangeAttribute {
 
     public static final String RESPONSE_CODE_SHORT = "%s";
     public static final String RESPONSE_CODE = "%{RESPONSE_CODE}";
@@ -22,6 +22,16 @@ public String readAttribute(final RoutingContext exchange) {
         return Integer.toString(exchange.response().getStatusCode());
     }
 
+    @Override
+    public long readNumericAttribute(RoutingContext exchange) {
+        return exchange.response().getStatusCode();
+    }
+
+    @Override
+    public String formatNumericAttribute(long value) {
+        return value == ABSENT ? null : Long.toString(value);
+    }
+
     @Override
     public void writeAttribute(final RoutingContext exchange, final String newValue) throws ReadOnlyAttributeException {
         exchange.response().setStatusCode(Integer.parseInt(newValue));
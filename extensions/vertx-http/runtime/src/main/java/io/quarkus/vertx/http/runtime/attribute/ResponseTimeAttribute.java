@@ -11,7 +11,7 @@
  * <p>
  * This will only work if {@link VertxHttpConfig#recordRequestStartTime} has been set
  */
-public class ResponseTimeAttribute implements ExchangeAttribute {
+public class ResponseTimeAttribute implements NumericExchangeAttribute {
 
     private static final String FIRST_RESPONSE_TIME_NANOS = ResponseTimeAttribute.class.getName() + ".first-response-time";
 
@@ -29,9 +29,17 @@ public ResponseTimeAttribute(TimeUnit timeUnit) {
 
     @Override
     public String readAttribute(RoutingContext exchange) {
+        return formatNumericAttribute(readNumericAttribute(exchange));
+    }
+
+    /**
+     * @return the response time in nanoseconds
+     */
+    @Override
+    public long readNumericAttribute(RoutingContext exchange) {
         Long requestStartTime = exchange.get(VertxHttpRecorder.REQUEST_START_TIME);
         if (requestStartTime == null) {
-            return null;
+            return ABSENT;
         }
         final long nanos;
         Long first = exchange.get(FIRST_RESPONSE_TIME_NANOS);
@@ -44,6 +52,14 @@ public String readAttribute(RoutingContext exchange) {
                 exchange.put(FIRST_RESPONSE_TIME_NANOS, nanos);
             }
         }
+        return nanos;
+    }
+
+    @Override
+    public String formatNumericAttribute(long nanos) {
+        if (nanos == ABSENT) {
+            return null;
+        }
         if (timeUnit == TimeUnit.SECONDS) {
             StringBuilder buf = new StringBuilder();
             long millis = TimeUnit.MILLISECONDS.convert(nanos, TimeUnit.NANOSECONDS);
@@ -94,6 +94,7 @@
 public class AccessLogHandler implements Handler<RoutingContext> {
 
     private final AccessLogReceiver accessLogReceiver;
+    private final AsyncAccessLogReceiver asyncAccessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
     private final ExchangeAttribute tokens;
@@ -103,6 +104,7 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String
             boolean consolidateReroutedRequests, ClassLoader classLoader,
             Optional<String> excludePattern) {
         this.accessLogReceiver = accessLogReceiver;
+        this.asyncAccessLogReceiver = asyncReceiver(accessLogReceiver);
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
         this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
@@ -117,13 +119,20 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String formatString, boolean consolidateReroutedRequests,
             final ExchangeAttribute attribute) {
         this.accessLogReceiver = accessLogReceiver;
+        // The attribute may not match the format string
+        this.asyncAccessLogReceiver = null;
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
         this.tokens = attribute;
         this.excludePattern = null;
     }
 
-    private static String handleCommonNames(String formatString) {
+    private static AsyncAccessLogReceiver asyncReceiver(AccessLogReceiver accessLogReceiver) {
+        // The async receiver records the attributes itself
+        return accessLogReceiver instanceof AsyncAccessLogReceiver async ? async : null;
+    }
+
+    static String handleCommonNames(String formatString) {
         switch (formatString) {
             case "common":
                 return "%h %l %u %t \"%r\" %s %b";
@@ -155,7 +164,11 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                if (asyncAccessLogReceiver != null) {
+                    asyncAccessLogReceiver.logExchange(rc);
+                } else {
+                    accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                }
             }
         });
         if (consolidateReroutedRequests) {
@@ -0,0 +1,134 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ConstantExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.NumericExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * The binary records of an access log pattern.
+ * <p>
+ * The request thread only reads the attributes: the {@link NumericExchangeAttribute numeric attributes}, such as the time or
+ * the status code, are written as raw numbers, and the other attributes as the characters of their value. The constant
+ * parts of the pattern are not written at all. The dates and numbers are formatted, and the line is built, when the record
+ * is read by the writer thread.
+ * <p>
+ * The other attributes are still read on the request thread: they read the request and the response, e.g. the headers,
+ * which are not thread-safe and are recycled once the response has been sent, so only their value can be passed to the
+ * writer thread.
+ * <p>
+ * Like with the {@link AccessLogHandler}, a missing or empty value is logged as {@code -}.
+ */
+final class AccessLogRecordFormat {
+
+    private static final String SUBSTITUTE = "-";
+
+    // The constant parts of the pattern, null for the attributes
+    private final String[] constants;
+    private final ExchangeAttribute[] attributes;
+    private final NumericExchangeAttribute[] numericAttributes;
+
+    AccessLogRecordFormat(String pattern, ClassLoader classLoader) {
+        ExchangeAttribute parsed = new ExchangeAttributeParser(classLoader, List.of())
+                .parse(AccessLogHandler.handleCommonNames(pattern));
+        List<ExchangeAttribute> elements = parsed instanceof CompositeExchangeAttribute composite
+                ? composite.getAttributes()
+                : List.of(parsed);
+        this.constants = new String[elements.size()];
+        this.attributes = new ExchangeAttribute[elements.size()];
+        this.numericAttributes = new NumericExchangeAttribute[elements.size()];
+        for (int i = 0; i < elements.size(); i++) {
+            ExchangeAttribute element = elements.get(i);
+            if (element instanceof ConstantExchangeAttribute) {
+                constants[i] = element.readAttribute(null);
+            } else if (element instanceof NumericExchangeAttribute numeric) {
+                numericAttributes[i] = numeric;
+            } else {
+                attributes[i] = element;
+            }
+        }
+    }
+
+    /**
+     * Writes the record of an exchange.
+     *
+     * @return the end of the record, or -1 if the record does not fit
+     */
+    int write(RoutingContext exchange, ByteBuffer buffer, int offset, int limit) {
+        int position = offset;
+        for (int i = 0; i < constants.length && position >= 0; i++) {
+            if (numericAttributes[i] != null) {
+                if (position + Long.BYTES > limit) {
+                    return -1;
+                }
+                buffer.putLong(position, numericAttributes[i].readNumericAttribute(exchange));
+                position += Long.BYTES;
+            } else if (attributes[i] != null) {
+                position = writeString(attributes[i].readAttribute(exchange), buffer, position, limit);
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Appends the line of a record written by {@link #write(RoutingContext, ByteBuffer, int, int)}.
+     */
+    void format(ByteBuffer buffer, int offset, StringBuilder line) {
+        int position = offset;
+        for (int i = 0; i < constants.length; i++) {
+            if (constants[i] != null) {
+                line.append(constants[i]);
+            } else if (numericAttributes[i] != null) {
+                String value = numericAttributes[i].formatNumericAttribute(buffer.getLong(position));
+                line.append(value == null || value.isEmpty() ? SUBSTITUTE : value);
+                position += Long.BYTES;
+            } else {
+                int length = buffer.getInt(position);
+                if (length <= 0) {
+                    line.append(SUBSTITUTE);
+                }
+                position = readString(buffer, position, line);
+            }
+        }
+    }
+
+    /**
+     * Writes the length and the characters of a string, the length of a null string is -1.
+     *
+     * @return the end of the string, or -1 if the string does not fit
+     */
+    static int writeString(String value, ByteBuffer buffer, int offset, int limit) {
+        int length = value == null ? -1 : value.length();
+        int end = offset + Integer.BYTES + Math.max(length, 0) * Character.BYTES;
+        if (end > limit || end < 0) {
+            return -1;
+        }
+        buffer.putInt(offset, length);
+        int position = offset + Integer.BYTES;
+        for (int i = 0; i < length; i++) {
+            buffer.putChar(position, value.charAt(i));
+            position += Character.BYTES;
+        }
+        return end;
+    }
+
+    /**
+     * Appends a string written by {@link #writeString(String, ByteBuffer, int, int)}, nothing if the string is null.
+     *
+     * @return the end of the string
+     */
+    static int readString(ByteBuffer buffer, int offset, StringBuilder line) {
+        int length = buffer.getInt(offset);
+        int position = offset + Integer.BYTES;
+        for (int i = 0; i < length; i++) {
+            line.append(buffer.getChar(position));
+            position += Character.BYTES;
+        }
+        return position;
+    }
+}
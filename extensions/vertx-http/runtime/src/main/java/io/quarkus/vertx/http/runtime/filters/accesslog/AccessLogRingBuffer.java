@@ -0,0 +1,106 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded ring of fixed size slots in a single off-heap buffer, written by any number of threads and read by a single
+ * thread.
+ * <p>
+ * A writer claims the next position, writes its record to the slot of the position with the absolute methods of the
+ * buffer, and publishes the slot. Every slot has a sequence number: a slot can be claimed for a position when its
+ * sequence is equal to the position, it can be read when its sequence is the position plus one, and it is released for
+ * the position of the next round when it has been read. A writer never waits: if the slot of the next position has not
+ * been read yet then the ring is full and {@link #claim()} fails.
+ */
+final class AccessLogRingBuffer {
+
+    private final ByteBuffer buffer;
+    private final int slotSize;
+    private final int slots;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong writePosition = new AtomicLong();
+    // Only accessed by the reader
+    private long readPosition;
+
+    /**
+     * @param slots the number of slots, a power of two
+     * @param slotSize the size of a slot in bytes
+     */
+    AccessLogRingBuffer(int slots, int slotSize) {
+        if (Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("The number of slots must be a power of two: " + slots);
+        }
+        this.buffer = ByteBuffer.allocateDirect(Math.multiplyExact(slots, slotSize));
+        this.slotSize = slotSize;
+        this.slots = slots;
+        this.mask = slots - 1;
+        this.sequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    int slots() {
+        return slots;
+    }
+
+    int slotSize() {
+        return slotSize;
+    }
+
+    /**
+     * @return the claimed position, or -1 if the ring is full
+     */
+    long claim() {
+        while (true) {
+            long position = writePosition.get();
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (writePosition.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (sequence < position) {
+                // The slot has not been read since the previous round
+                return -1;
+            }
+            // Another writer has claimed the position in the meantime
+        }
+    }
+
+    /**
+     * @return the offset of the slot of a position in the buffer
+     */
+    int offset(long position) {
+        return ((int) position & mask) * slotSize;
+    }
+
+    /**
+     * Makes the slot of a claimed position available to the reader.
+     */
+    void publish(long position) {
+        sequences.lazySet((int) position & mask, position + 1);
+    }
+
+    /**
+     * @return the offset of the next slot to read, or -1 if it has not been published yet
+     */
+    int peek() {
+        long position = readPosition;
+        return sequences.get((int) position & mask) == position + 1 ? offset(position) : -1;
+    }
+
+    /**
+     * Releases the slot returned by {@link #peek()} for the writers.
+     */
+    void release() {
+        long position = readPosition++;
+        sequences.lazySet((int) position & mask, position + slots);
+    }
+}
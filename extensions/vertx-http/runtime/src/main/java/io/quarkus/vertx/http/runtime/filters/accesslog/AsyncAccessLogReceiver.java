@@ -0,0 +1,398 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that records the access log entries in an off-heap ring buffer and writes them to a file from a dedicated
+ * thread.
+ * <p>
+ * Unlike the {@link DefaultAccessLogReceiver}, the request threads do not build the log messages: the
+ * {@link AccessLogHandler} passes the exchange to {@link #logExchange(RoutingContext)}, which only copies the raw values of
+ * the attributes to a slot of the ring buffer. The writer thread formats the records in batches and writes them through a
+ * single {@link FileChannel}, when its output buffer is full or when the flush interval has elapsed. The writer thread is
+ * woken up when the ring buffer is half full, otherwise it checks the ring buffer once per flush interval.
+ * <p>
+ * The request threads never wait for the writer thread: when the ring buffer is full the entry is dropped, and an entry
+ * which does not fit in a slot is dropped too, as well as an entry whose attributes cannot be read. They are counted and
+ * reported in the log.
+ * <p>
+ * Like with the {@link DefaultAccessLogReceiver}, an error writing the file is logged and the entries being written are
+ * lost, but the writer thread keeps going and opens the file again for the next entries.
+ */
+public class AsyncAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(AsyncAccessLogReceiver.class);
+
+    private static final long DROP_REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    // The first byte of a slot
+    private static final byte SKIPPED = 0;
+    private static final byte EXCHANGE = 1;
+    private static final byte MESSAGE = 2;
+
+    private final AccessLogRecordFormat format;
+    private final AccessLogRingBuffer ring;
+    private final int wakeUpMask;
+    private final long flushIntervalNanos;
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder oversizedCount = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+
+    // Only accessed by the writer thread
+    private final StringBuilder line = new StringBuilder();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer output;
+    private CharBuffer chars = CharBuffer.allocate(1024);
+    private FileChannel channel;
+    // The number of entries in the output buffer
+    private int pendingEntries;
+    private long lastWrite;
+    private long changeOverPoint;
+    private String currentDateString;
+    private long reportedDrops;
+    private long lastDropReport;
+
+    /**
+     * @param pattern the access log pattern
+     * @param classLoader the class loader of the attribute builders
+     * @param outputDirectory the log directory
+     * @param logBaseName the log file base name
+     * @param logNameSuffix the log file suffix
+     * @param rotate if the log should be rotated daily
+     * @param bufferSize the size of the ring buffer in bytes
+     * @param maxRecordSize the size of a slot of the ring buffer in bytes
+     * @param flushSize the number of bytes the writer thread buffers before writing to the file
+     * @param flushInterval the maximum delay before an entry is written to the file
+     */
+    public AsyncAccessLogReceiver(String pattern, ClassLoader classLoader, Path outputDirectory, String logBaseName,
+            String logNameSuffix, boolean rotate, int bufferSize, int maxRecordSize, int flushSize, Duration flushInterval) {
+        this.format = new AccessLogRecordFormat(pattern, classLoader);
+        int slots = Math.max(2, Integer.highestOneBit(Math.max(1, bufferSize / maxRecordSize)));
+        this.ring = new AccessLogRingBuffer(slots, maxRecordSize);
+        this.wakeUpMask = slots / 2 - 1;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.output = ByteBuffer.allocateDirect(flushSize);
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = DefaultAccessLogReceiver.effectiveLogBaseName(logBaseName);
+        this.logNameSuffix = DefaultAccessLogReceiver.effectiveLogNameSuffix(logNameSuffix);
+        this.rotate = rotate;
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        calculateChangeOverPoint();
+        this.writerThread = new Thread(this::run, "quarkus-access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Records the access log entry of an exchange.
+     */
+    public void logExchange(RoutingContext exchange) {
+        long position = ring.claim();
+        if (position < 0) {
+            droppedCount.increment();
+            return;
+        }
+        ByteBuffer buffer = ring.buffer();
+        int offset = ring.offset(position);
+        byte type = SKIPPED;
+        try {
+            if (format.write(exchange, buffer, offset + 1, offset + ring.slotSize()) < 0) {
+                oversizedCount.increment();
+            } else {
+                type = EXCHANGE;
+            }
+        } catch (Throwable t) {
+            // The slot must still be published, otherwise the writer thread would never get past it
+            errorCount.increment();
+            throw t;
+        } finally {
+            buffer.put(offset, type);
+            publish(position);
+        }
+    }
+
+    @Override
+    public void logMessage(String message) {
+        long position = ring.claim();
+        if (position < 0) {
+            droppedCount.increment();
+            return;
+        }
+        ByteBuffer buffer = ring.buffer();
+        int offset = ring.offset(position);
+        byte type = SKIPPED;
+        try {
+            if (AccessLogRecordFormat.writeString(message, buffer, offset + 1, offset + ring.slotSize()) < 0) {
+                oversizedCount.increment();
+            } else {
+                type = MESSAGE;
+            }
+        } catch (Throwable t) {
+            errorCount.increment();
+            throw t;
+        } finally {
+            buffer.put(offset, type);
+            publish(position);
+        }
+    }
+
+    private void publish(long position) {
+        ring.publish(position);
+        if ((position & wakeUpMask) == wakeUpMask) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * @return the number of entries which have been dropped because the ring buffer was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return the number of entries which have been dropped because they did not fit in a slot of the ring buffer
+     */
+    public long getOversizedCount() {
+        return oversizedCount.sum();
+    }
+
+    /**
+     * @return the number of entries which have been dropped because reading the value of an attribute failed
+     */
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    /**
+     * @return the number of entries which have been lost because of an error writing the file
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Writes all the entries recorded before this method is called and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        lastWrite = System.nanoTime();
+        lastDropReport = lastWrite;
+        try {
+            rotateIfNeeded(true);
+            while (true) {
+                // Read the flag first, so that the entries recorded before close() are drained
+                boolean closing = closed;
+                if (drain() == 0) {
+                    write();
+                    reportDrops(closing);
+                    if (closing) {
+                        return;
+                    }
+                    LockSupport.parkNanos(this, flushIntervalNanos);
+                } else if (System.nanoTime() - lastWrite >= flushIntervalNanos) {
+                    write();
+                }
+            }
+        } catch (Throwable t) {
+            log.error("Error writing access log", t);
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private int drain() {
+        ByteBuffer buffer = ring.buffer();
+        int count = 0;
+        int offset;
+        // Do not wait for the end of the burst to write the first entries
+        while (count < ring.slots() && (offset = ring.peek()) >= 0) {
+            byte type = buffer.get(offset);
+            if (type != SKIPPED) {
+                line.setLength(0);
+                if (type == EXCHANGE) {
+                    format.format(buffer, offset + 1, line);
+                } else {
+                    AccessLogRecordFormat.readString(buffer, offset + 1, line);
+                }
+                line.append(System.lineSeparator());
+                encode();
+                pendingEntries++;
+            }
+            ring.release();
+            count++;
+        }
+        return count;
+    }
+
+    private void encode() {
+        int length = line.length();
+        if (chars.capacity() < length) {
+            chars = CharBuffer.allocate(Math.max(length, chars.capacity() * 2));
+        }
+        chars.clear();
+        line.getChars(0, length, chars.array(), 0);
+        chars.limit(length);
+        encoder.reset();
+        while (encoder.encode(chars, output, true).isOverflow()) {
+            write();
+        }
+        while (encoder.flush(output).isOverflow()) {
+            write();
+        }
+    }
+
+    private void write() {
+        lastWrite = System.nanoTime();
+        if (output.position() == 0) {
+            return;
+        }
+        rotateIfNeeded(false);
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            }
+            output.flip();
+            while (output.hasRemaining()) {
+                channel.write(output);
+            }
+        } catch (IOException e) {
+            // The file is opened again for the next entries
+            log.error("Error writing access log", e);
+            failedCount.add(pendingEntries);
+            closeChannel();
+        }
+        output.clear();
+        pendingEntries = 0;
+    }
+
+    private void reportDrops(boolean force) {
+        long now = System.nanoTime();
+        if (!force && now - lastDropReport < DROP_REPORT_INTERVAL) {
+            return;
+        }
+        lastDropReport = now;
+        long drops = droppedCount.sum() + oversizedCount.sum() + errorCount.sum();
+        if (drops != reportedDrops) {
+            log.warnf("%s access log entries have been dropped (%s because the buffer was full, %s because they were "
+                    + "larger than the maximum record size, %s because of an error reading an attribute)",
+                    drops - reportedDrops, droppedCount.sum(), oversizedCount.sum(), errorCount.sum());
+            reportedDrops = drops;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void rotateIfNeeded(boolean initial) {
+        if (!rotate) {
+            return;
+        }
+        if (initial) {
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            // if there is an existing log file check if it should be rotated
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            try {
+                if (Files.getLastModifiedTime(defaultLogFile).toMillis() > c.getTimeInMillis()) {
+                    return;
+                }
+            } catch (IOException e) {
+                log.error("Error rotating access log", e);
+                return;
+            }
+        } else if (System.currentTimeMillis() <= changeOverPoint) {
+            return;
+        }
+        try {
+            closeChannel();
+            if (Files.exists(defaultLogFile)) {
+                Path newFile = outputDirectory.resolve(logBaseName + "." + currentDateString + logNameSuffix);
+                int count = 0;
+                while (Files.exists(newFile)) {
+                    ++count;
+                    newFile = outputDirectory.resolve(logBaseName + "." + currentDateString + "-" + count + logNameSuffix);
+                }
+                Files.move(defaultLogFile, newFile);
+            }
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.Utils;
+
+/**
+ * Serves the compressed variants of static resources generated during the build.
+ * <p>
+ * A variant is stored alongside the original resource, e.g. {@code META-INF/resources/app.js.gz}. It is only served if the
+ * client accepts the encoding and the request is a {@code GET} request without the {@code Range} header, i.e. range
+ * requests are served from the original resource. The content of a variant is loaded lazily and cached,
+ * i.e. a resource is never compressed at runtime.
+ * <p>
+ * If caching is enabled, a variant is sent with the {@code Last-Modified} header of the original resource and an
+ * {@code ETag} specific to the encoding, and conditional requests are answered with {@code 304 Not Modified}, like the
+ * {@link io.vertx.ext.web.handler.StaticHandler} does for the original resources.
+ */
+public class PrecompressedStaticHandler {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticHandler.class);
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private static final String RANGE = "Range";
+
+    // resource path -> available encodings, in the order of preference
+    private final Map<String, List<String>> variants;
+    private final ClassLoader classLoader;
+    private final Charset defaultEncoding;
+    // null if caching is disabled
+    private final String cacheControl;
+    // variant path -> content
+    private final ConcurrentMap<String, Content> contents;
+    // the last modified time of the variants whose original resource has no modification time
+    private final long startTime;
+
+    /**
+     * @param variants the map of resource path to a comma-separated list of available encodings
+     * @param classLoader the class loader the variants are read from
+     * @param defaultEncoding the charset added to the {@code Content-Type} of the text resources
+     * @param maxAgeSeconds the max age used in the caching headers, or a negative value if caching is disabled
+     */
+    public PrecompressedStaticHandler(Map<String, String> variants, ClassLoader classLoader, Charset defaultEncoding,
+            long maxAgeSeconds) {
+        this.variants = new HashMap<>();
+        for (Map.Entry<String, String> e : variants.entrySet()) {
+            this.variants.put(e.getKey(), List.of(e.getValue().split(",")));
+        }
+        this.classLoader = classLoader;
+        this.defaultEncoding = defaultEncoding;
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, immutable, max-age=" + maxAgeSeconds;
+        this.contents = new ConcurrentHashMap<>();
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Sends the compressed variant of the resource accepted by the client, if any.
+     *
+     * @param context the routing context of the request
+     * @param path the path of the resource, relative to {@code META-INF/resources}
+     * @return {@code true} if a compressed variant is sent, {@code false} otherwise
+     */
+    public boolean handle(RoutingContext context, String path) {
+        List<String> encodings = variants.get(path);
+        if (encodings == null) {
+            return false;
+        }
+        HttpServerRequest request = context.request();
+        // The response depends on the Accept-Encoding header even if the original resource is sent
+        context.response().headers().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!HttpMethod.GET.equals(request.method()) || request.headers().contains(RANGE)) {
+            return false;
+        }
+        String encoding = selectEncoding(request.headers().get(HttpHeaders.ACCEPT_ENCODING), encodings);
+        if (encoding == null) {
+            return false;
+        }
+        String variant = path + suffix(encoding);
+        Content content = contents.get(variant);
+        if (content != null) {
+            send(context, path, encoding, content);
+            return true;
+        }
+        context.vertx().executeBlocking(() -> readContent(path, encoding), false).onComplete(r -> {
+            if (r.succeeded()) {
+                Content loaded = contents.computeIfAbsent(variant, k -> r.result());
+                send(context, path, encoding, loaded);
+            } else {
+                context.fail(r.cause());
+            }
+        });
+        return true;
+    }
+
+    private void send(RoutingContext context, String path, String encoding, Content content) {
+        HttpServerResponse response = context.response();
+        MultiMap headers = response.headers();
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                headers.set(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultEncoding);
+            } else {
+                headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        // The content is already compressed, i.e. it's not compressed again by the server
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+            headers.set(HttpHeaders.LAST_MODIFIED, Utils.formatRFC1123DateTime(content.lastModified()));
+            headers.set(HttpHeaders.ETAG, content.etag());
+            if (Utils.fresh(context, content.lastModified())) {
+                response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+                return;
+            }
+        }
+        // The buffer is not copied, i.e. the same content is used for all responses
+        response.end(content.buffer());
+    }
+
+    private Content readContent(String path, String encoding) throws IOException {
+        String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + path + suffix(encoding);
+        Buffer buffer;
+        try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                throw new IOException("The resource '" + resourceName + "' does not exist on classpath");
+            }
+            LOG.debugf("Loaded compressed variant %s", resourceName);
+            buffer = Buffer.buffer(in.readAllBytes());
+        }
+        // The variant is generated during the build, i.e. it's only modified when the original resource is
+        long lastModified = 0;
+        URL original = classLoader.getResource(StaticResourcesRecorder.META_INF_RESOURCES + path);
+        if (original != null) {
+            lastModified = original.openConnection().getLastModified();
+        }
+        if (lastModified <= 0) {
+            lastModified = startTime;
+        }
+        // Like the StaticHandler, compare the dates in seconds
+        lastModified = Utils.secondsFactor(lastModified);
+        // A different entity tag for each encoding, since the representations differ
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + Integer.toHexString(buffer.length()) + "-" + encoding
+                + "\"";
+        return new Content(buffer, lastModified, etag);
+    }
+
+    private record Content(Buffer buffer, long lastModified, String etag) {
+    }
+
+    public static String suffix(String encoding) {
+        return BROTLI.equals(encoding) ? ".br" : ".gz";
+    }
+
+    /**
+     *
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header, may be {@code null}
+     * @param encodings the available encodings, in the order of preference
+     * @return the first available encoding accepted by the client, or {@code null}
+     */
+    static String selectEncoding(String acceptEncoding, List<String> encodings) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        for (String encoding : encodings) {
+            if (accepts(acceptEncoding, encoding)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        for (String part : acceptEncoding.split(",")) {
+            int paramsStart = part.indexOf(';');
+            String coding = (paramsStart < 0 ? part : part.substring(0, paramsStart)).trim();
+            if (coding.equalsIgnoreCase(encoding)) {
+                return paramsStart < 0 || !isZeroQuality(part.substring(paramsStart + 1));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,144 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncAccessLogReceiver;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+class AsyncAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testExchangesAndMessages() throws IOException {
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver("%m \"%R\" %s %b %{i,X-Missing}",
+                getClass().getClassLoader(),
+                tempDir, "server", null, false, 64 * 1024, 256, 1024, Duration.ofSeconds(10));
+        try {
+            receiver.logExchange(exchange(HttpMethod.GET, "/héllo", 200, 0));
+            receiver.logExchange(exchange(HttpMethod.POST, "/items", 201, 1234));
+            receiver.logMessage("plain message");
+            receiver.logExchange(exchange(HttpMethod.GET, "/" + "x".repeat(200), 200, 0));
+        } finally {
+            receiver.close();
+        }
+        assertThat(Files.readAllLines(tempDir.resolve("server.log")))
+                .containsExactly("GET \"/héllo\" 200 - -", "POST \"/items\" 201 1234 -", "plain message");
+        assertThat(receiver.getOversizedCount()).isEqualTo(1);
+        assertThat(receiver.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void testConcurrentWriters() throws Exception {
+        int threads = 4;
+        int exchanges = 10_000;
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver("%m %R %s", getClass().getClassLoader(), tempDir,
+                "server", null, false, 16 * 1024, 64, 4096, Duration.ofMillis(10));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                RoutingContext exchange = exchange(HttpMethod.GET, "/thread-" + i, 200 + i, 0);
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < exchanges; j++) {
+                        receiver.logExchange(exchange);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+            receiver.close();
+        }
+        List<String> lines = Files.readAllLines(tempDir.resolve("server.log"));
+        // The entries which are not written have been dropped because the ring buffer was full
+        assertThat(lines.size() + receiver.getDroppedCount()).isEqualTo((long) threads * exchanges);
+        assertThat(receiver.getOversizedCount()).isZero();
+        assertThat(lines).allMatch(line -> line.matches("GET /thread-(\\d) 20\\1"));
+    }
+
+    @Test
+    void testWriteFailure() throws Exception {
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver("%m %R %s", getClass().getClassLoader(), tempDir,
+                "server", null, false, 16 * 1024, 64, 4096, Duration.ofMillis(10));
+        Path logFile = tempDir.resolve("server.log");
+        try {
+            // The log file cannot be opened
+            Files.createDirectory(logFile);
+            receiver.logExchange(exchange(HttpMethod.GET, "/lost", 200, 0));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (receiver.getFailedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(receiver.getFailedCount()).isEqualTo(1);
+
+            // The writer thread opens the log file again for the next entries
+            Files.delete(logFile);
+            receiver.logExchange(exchange(HttpMethod.GET, "/written", 200, 0));
+        } finally {
+            receiver.close();
+        }
+        assertThat(Files.readAllLines(logFile)).containsExactly("GET /written 200");
+        assertThat(receiver.getFailedCount()).isEqualTo(1);
+        assertThat(receiver.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void testAttributeFailure() throws IOException {
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver("%m %R %s", getClass().getClassLoader(), tempDir,
+                "server", null, false, 16 * 1024, 64, 4096, Duration.ofSeconds(10));
+        try {
+            receiver.logExchange(exchange(HttpMethod.GET, "/before", 200, 0));
+            RoutingContext failing = exchange(HttpMethod.GET, "/failing", 200, 0);
+            Mockito.when(failing.request().path()).thenThrow(new IllegalStateException("path"));
+            assertThatThrownBy(() -> receiver.logExchange(failing)).isInstanceOf(IllegalStateException.class);
+            // The slot of the failed entry is released, so the next entries are still written
+            receiver.logExchange(exchange(HttpMethod.GET, "/after", 200, 0));
+            receiver.logMessage("message");
+        } finally {
+            receiver.close();
+        }
+        assertThat(Files.readAllLines(tempDir.resolve("server.log")))
+                .containsExactly("GET /before 200", "GET /after 200", "message");
+        assertThat(receiver.getErrorCount()).isEqualTo(1);
+        assertThat(receiver.getDroppedCount()).isZero();
+        assertThat(receiver.getOversizedCount()).isZero();
+    }
+
+    private static RoutingContext exchange(HttpMethod method, String path, int status, long bytesWritten) {
+        HttpServerRequest request = Mockito.mock(HttpServerRequest.class);
+        Mockito.when(request.method()).thenReturn(method);
+        Mockito.when(request.path()).thenReturn(path);
+        Mockito.when(request.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+        HttpServerResponse response = Mockito.mock(HttpServerResponse.class);
+        Mockito.when(response.getStatusCode()).thenReturn(status);
+        Mockito.when(response.bytesWritten()).thenReturn(bytesWritten);
+        RoutingContext exchange = Mockito.mock(RoutingContext.class);
+        Mockito.when(exchange.request()).thenReturn(request);
+        Mockito.when(exchange.response()).thenReturn(response);
+        return exchange;
+    }
+}
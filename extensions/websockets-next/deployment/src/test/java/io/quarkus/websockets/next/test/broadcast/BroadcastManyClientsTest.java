@@ -0,0 +1,115 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnBinaryMessage;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketClient;
+
+/**
+ * Broadcasts messages to many clients and logs the throughput.
+ * <p>
+ * The number of clients and messages can be set with the {@code broadcast.clients} and {@code broadcast.messages} system
+ * properties.
+ */
+public class BroadcastManyClientsTest {
+
+    private static final Logger LOG = Logger.getLogger(BroadcastManyClientsTest.class);
+
+    static final int CLIENTS = Integer.getInteger("broadcast.clients", 100);
+    static final int MESSAGES = Integer.getInteger("broadcast.messages", 100);
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Fanout.class);
+            });
+
+    @TestHTTPResource("fanout")
+    URI fanoutUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBroadcast() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            String large = "a".repeat(100_000);
+            // Each message is followed by one large text message and one binary message
+            CountDownLatch messagesLatch = new CountDownLatch(CLIENTS * (MESSAGES + 2));
+            AtomicInteger unexpected = new AtomicInteger();
+            List<io.vertx.core.http.WebSocket> sockets = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                AtomicInteger expected = new AtomicInteger();
+                io.vertx.core.http.WebSocket ws = client
+                        .connect(fanoutUri.getPort(), fanoutUri.getHost(), fanoutUri.getPath())
+                        .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+                ws.textMessageHandler(msg -> {
+                    int idx = expected.getAndIncrement();
+                    if (idx < MESSAGES ? !msg.equals("m" + idx) : !msg.equals(large)) {
+                        unexpected.incrementAndGet();
+                    }
+                    messagesLatch.countDown();
+                });
+                ws.binaryMessageHandler(msg -> {
+                    if (!msg.toString().equals("bin")) {
+                        unexpected.incrementAndGet();
+                    }
+                    messagesLatch.countDown();
+                });
+                sockets.add(ws);
+            }
+
+            long start = System.nanoTime();
+            io.vertx.core.http.WebSocket sender = sockets.get(0);
+            for (int i = 0; i < MESSAGES; i++) {
+                sender.writeTextMessage("m" + i);
+            }
+            sender.writeTextMessage(large);
+            sender.writeBinaryMessage(Buffer.buffer("bin"));
+            assertTrue(messagesLatch.await(30, TimeUnit.SECONDS), "Remaining messages: " + messagesLatch.getCount());
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertEquals(0, unexpected.get());
+            LOG.infof("Broadcast %s messages to %s clients in %s ms (%.0f messages/s)", MESSAGES + 2, CLIENTS, elapsed,
+                    CLIENTS * (MESSAGES + 2) * 1000.0 / Math.max(elapsed, 1));
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/fanout")
+    public static class Fanout {
+
+        @OnTextMessage(broadcast = true)
+        String onText(String message) {
+            return message;
+        }
+
+        @OnBinaryMessage(broadcast = true)
+        Buffer onBinary(Buffer message) {
+            return message;
+        }
+
+    }
+
+}
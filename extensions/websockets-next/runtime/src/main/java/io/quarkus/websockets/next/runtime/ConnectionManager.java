@@ -1,11 +1,19 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import jakarta.annotation.PreDestroy;
@@ -20,6 +28,14 @@
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.smallrye.mutiny.CompositeException;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.impl.ContextInternal;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -29,18 +45,25 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // generatedEndpointClassName -> event loop context -> open connections
+    private final ConcurrentMap<String, ConcurrentMap<Object, Shard>> endpointToShards = new ConcurrentHashMap<>();
+
+    private final int maxFrameSize;
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
-    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent,
+            WebSocketsServerRuntimeConfig config) {
         ArcContainer container = Arc.container();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
                 : openEvent;
         this.closedEvent = container.resolveObserverMethods(WebSocketConnection.class, Closed.Literal.INSTANCE)
                 .isEmpty() ? null : closedEvent;
+        this.maxFrameSize = config.maxFrameSize().orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE);
     }
 
     @Override
@@ -56,6 +79,12 @@ public Stream<WebSocketConnection> stream() {
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+            if (connection instanceof WebSocketConnectionImpl impl) {
+                ContextInternal context = impl.eventLoopContext();
+                endpointToShards.computeIfAbsent(endpoint, e -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(context != null ? context : Shard.NO_CONTEXT, c -> new Shard(context)).connections
+                        .add(impl);
+            }
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -77,6 +106,16 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                if (connection instanceof WebSocketConnectionImpl impl) {
+                    ContextInternal context = impl.eventLoopContext();
+                    Map<Object, Shard> shards = endpointToShards.get(endpoint);
+                    if (shards != null) {
+                        Shard shard = shards.get(context != null ? context : Shard.NO_CONTEXT);
+                        if (shard != null) {
+                            shard.connections.remove(impl);
+                        }
+                    }
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +146,68 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     * Sends a text message to all open connections of the given endpoint.
+     * <p>
+     * The message is encoded once and the same frame payload is written to all connections. The writes are grouped by the
+     * event loop of the connection, i.e. each event loop writes to its own connections and there is no cross-thread handoff
+     * per connection.
+     *
+     * @param endpoint
+     * @param message
+     * @param filter the filter applied on the caller thread; may be {@code null}
+     * @return a new uni that completes when the message was written to all connections
+     */
+    Uni<Void> broadcastText(String endpoint, String message, Predicate<WebSocketConnection> filter) {
+        Buffer encoded = Buffer.buffer(message);
+        if (encoded.length() > maxFrameSize) {
+            // The message must be split in multiple frames
+            return broadcast(endpoint, filter,
+                    c -> Future.fromCompletionStage(c.sendText(message).subscribeAsCompletionStage()));
+        }
+        return broadcast(endpoint, filter, c -> c.writeEncodedText(message, encoded));
+    }
+
+    /**
+     * Sends a binary message to all open connections of the given endpoint.
+     *
+     * @param endpoint
+     * @param message
+     * @param filter the filter applied on the caller thread; may be {@code null}
+     * @return a new uni that completes when the message was written to all connections
+     * @see #broadcastText(String, String, Predicate)
+     */
+    Uni<Void> broadcastBinary(String endpoint, Buffer message, Predicate<WebSocketConnection> filter) {
+        return broadcast(endpoint, filter, c -> c.writeBinary(message));
+    }
+
+    private Uni<Void> broadcast(String endpoint, Predicate<WebSocketConnection> filter,
+            Function<WebSocketConnectionImpl, Future<Void>> writer) {
+        Map<Object, Shard> shards = endpointToShards.get(endpoint);
+        if (shards == null || shards.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().emitter(emitter -> {
+            Broadcast broadcast = new Broadcast(emitter, writer);
+            for (Shard shard : shards.values()) {
+                if (filter == null) {
+                    broadcast.dispatch(shard.context, shard.connections);
+                } else {
+                    List<WebSocketConnectionImpl> filtered = new ArrayList<>();
+                    for (WebSocketConnectionImpl connection : shard.connections) {
+                        if (connection.isOpen() && filter.test(connection)) {
+                            filtered.add(connection);
+                        }
+                    }
+                    if (!filtered.isEmpty()) {
+                        broadcast.dispatch(shard.context, filtered);
+                    }
+                }
+            }
+            broadcast.done();
+        });
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +215,97 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointToShards.clear();
+    }
+
+    /**
+     * The connections of an endpoint that belong to the same event loop.
+     */
+    static final class Shard {
+
+        // Used as a key for connections without an event loop context
+        static final Object NO_CONTEXT = new Object();
+
+        final ContextInternal context;
+
+        final Set<WebSocketConnectionImpl> connections = ConcurrentHashMap.newKeySet();
+
+        Shard(ContextInternal context) {
+            this.context = context;
+        }
+
+    }
+
+    /**
+     * Tracks the pending writes of a single broadcast.
+     */
+    static final class Broadcast {
+
+        private final UniEmitter<? super Void> emitter;
+
+        private final Function<WebSocketConnectionImpl, Future<Void>> writer;
+
+        // The caller, each dispatched shard and each pending write hold one permit
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        Broadcast(UniEmitter<? super Void> emitter, Function<WebSocketConnectionImpl, Future<Void>> writer) {
+            this.emitter = emitter;
+            this.writer = writer;
+        }
+
+        void dispatch(ContextInternal context, Collection<WebSocketConnectionImpl> connections) {
+            pending.incrementAndGet();
+            if (context == null || context.nettyEventLoop().inEventLoop()) {
+                write(connections);
+            } else {
+                context.runOnContext(v -> write(connections));
+            }
+        }
+
+        private void write(Collection<WebSocketConnectionImpl> connections) {
+            try {
+                for (WebSocketConnectionImpl connection : connections) {
+                    if (connection.isOpen()) {
+                        pending.incrementAndGet();
+                        try {
+                            writer.apply(connection).onComplete(r -> {
+                                if (r.succeeded()) {
+                                    done();
+                                } else {
+                                    failed(connection, r.cause());
+                                }
+                            });
+                        } catch (Throwable t) {
+                            failed(connection, t);
+                        }
+                    }
+                }
+            } finally {
+                done();
+            }
+        }
+
+        private void failed(WebSocketConnectionImpl connection, Throwable failure) {
+            // Intentionally ignore 'WebSocket is closed' failures
+            // It might happen that the connection is closed in the mean time
+            if (!Endpoints.isWebSocketIsClosedFailure(failure, connection)) {
+                failures.add(failure);
+            }
+            done();
+        }
+
+        void done() {
+            if (pending.decrementAndGet() == 0) {
+                if (failures.isEmpty()) {
+                    emitter.complete(null);
+                } else {
+                    emitter.fail(new CompositeException(List.copyOf(failures)));
+                }
+            }
+        }
+
     }
 
     public interface ConnectionListener {
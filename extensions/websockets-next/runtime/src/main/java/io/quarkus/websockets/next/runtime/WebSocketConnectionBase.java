@@ -17,9 +17,12 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
@@ -90,17 +93,64 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a text message that was already encoded to UTF-8 in a single frame. The payload is not copied, i.e. the same
+     * buffer can be written to many connections.
+     *
+     * @param message
+     * @param encoded the UTF-8 bytes of the message, must not exceed the max frame size
+     * @return the future
+     */
+    Future<Void> writeEncodedText(String message, Buffer encoded) {
+        Future<Void> future = webSocket()
+                .writeFrame(new WebSocketFrameImpl(WebSocketFrameType.TEXT, encoded.getByteBuf(), true));
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
+        }
+        return future.onSuccess(v -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.textMessageSent(this, message);
+            }
+        });
+    }
+
+    /**
+     * Writes a binary message. The payload is not copied, i.e. the same buffer can be written to many connections.
+     *
+     * @param message
+     * @return the future
+     */
+    Future<Void> writeBinary(Buffer message) {
+        Future<Void> future = webSocket().writeBinaryMessage(message);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return future;
         }
-        return sendText(text);
+        return future.onSuccess(v -> {
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onSend(message);
+            }
+            if (trafficLogger != null) {
+                trafficLogger.binaryMessageSent(this, message);
+            }
+        });
     }
 
     @Override
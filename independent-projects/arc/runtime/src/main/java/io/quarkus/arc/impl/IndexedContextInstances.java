@@ -0,0 +1,236 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+/**
+ * The base class for {@link ContextInstances} generated at build time.
+ * <p>
+ * Each bean is assigned an index and the subclass stores the instance handle of the bean in a dedicated volatile field.
+ * Instance handles are created and removed by the thread that claimed the owner slot of the given bean. A slot is claimed
+ * with a single CAS, i.e. no lock is allocated unless multiple threads attempt to create or remove the same instance
+ * concurrently. This is important for short-lived contexts, such as the request context, that are rarely accessed
+ * concurrently.
+ */
+public abstract class IndexedContextInstances implements ContextInstances {
+
+    private static final VarHandle OWNERS;
+    private static final VarHandle LOCK;
+    private static final VarHandle OWNER = MethodHandles.arrayElementVarHandle(Thread[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            OWNERS = lookup.findVarHandle(IndexedContextInstances.class, "owners", Thread[].class);
+            LOCK = lookup.findVarHandle(IndexedContextInstances.class, "lock", ReentrantLock.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // The threads that currently create or remove an instance handle; initialized lazily
+    private volatile Thread[] owners;
+
+    // Only used if a thread needs to wait for another thread; initialized lazily
+    private volatile ReentrantLock lock;
+
+    // Guarded by lock
+    private Condition released;
+
+    // The number of waiting threads; only modified while holding the lock
+    private volatile int waiting;
+
+    /**
+     *
+     * @param id
+     * @return the index of the bean with the given identifier
+     * @throws IllegalArgumentException if there is no such bean
+     */
+    protected abstract int index(String id);
+
+    /**
+     *
+     * @return the number of beans
+     */
+    protected abstract int size();
+
+    /**
+     *
+     * @param index
+     * @return the instance handle stored in the field of the given bean
+     */
+    protected abstract ContextInstanceHandle<?> get(int index);
+
+    /**
+     *
+     * @param index
+     * @param handle
+     */
+    protected abstract void set(int index, ContextInstanceHandle<?> handle);
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        int index = index(id);
+        ContextInstanceHandle<?> handle = get(index);
+        if (handle != null) {
+            return handle;
+        }
+        Thread[] owners = owners();
+        boolean acquired = acquire(owners, index);
+        try {
+            handle = get(index);
+            if (handle == null) {
+                handle = supplier.get();
+                set(index, handle);
+            }
+            return handle;
+        } finally {
+            if (acquired) {
+                release(owners, index);
+            }
+        }
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        return get(index(id));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return remove(index(id));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        for (int i = 0; i < size(); i++) {
+            ContextInstanceHandle<?> handle = get(i);
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        List<ContextInstanceHandle<?>> removed = null;
+        for (int i = 0; i < size(); i++) {
+            ContextInstanceHandle<?> handle = remove(i);
+            if (handle != null && action != null) {
+                if (removed == null) {
+                    removed = new ArrayList<>();
+                }
+                removed.add(handle);
+            }
+        }
+        if (removed != null) {
+            for (ContextInstanceHandle<?> handle : removed) {
+                action.accept(handle);
+            }
+        }
+    }
+
+    private ContextInstanceHandle<?> remove(int index) {
+        ContextInstanceHandle<?> handle = get(index);
+        if (handle == null) {
+            return null;
+        }
+        Thread[] owners = owners();
+        boolean acquired = acquire(owners, index);
+        try {
+            handle = get(index);
+            set(index, null);
+            return handle;
+        } finally {
+            if (acquired) {
+                release(owners, index);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param owners
+     * @param index
+     * @return {@code true} if the slot was acquired, {@code false} if the current thread already owns the slot
+     */
+    private boolean acquire(Thread[] owners, int index) {
+        Thread current = Thread.currentThread();
+        Thread owner = (Thread) OWNER.compareAndExchange(owners, index, null, current);
+        if (owner == null) {
+            return true;
+        } else if (owner == current) {
+            // Reentrant invocation, e.g. from within the supplier
+            return false;
+        }
+        ReentrantLock lock = lock();
+        lock.lock();
+        try {
+            if (released == null) {
+                released = lock.newCondition();
+            }
+            waiting++;
+            try {
+                // The owner checks the number of waiting threads after the slot is released
+                while (OWNER.compareAndExchange(owners, index, null, current) != null) {
+                    released.awaitUninterruptibly();
+                }
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private void release(Thread[] owners, int index) {
+        OWNER.setVolatile(owners, index, null);
+        if (waiting > 0) {
+            ReentrantLock lock = this.lock;
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Thread[] owners() {
+        Thread[] owners = this.owners;
+        if (owners == null) {
+            owners = new Thread[size()];
+            Thread[] existing = (Thread[]) OWNERS.compareAndExchange(this, null, owners);
+            if (existing != null) {
+                owners = existing;
+            }
+        }
+        return owners;
+    }
+
+    private ReentrantLock lock() {
+        ReentrantLock lock = this.lock;
+        if (lock == null) {
+            lock = new ReentrantLock();
+            ReentrantLock existing = (ReentrantLock) LOCK.compareAndExchange(this, null, lock);
+            if (existing != null) {
+                lock = existing;
+            }
+        }
+        return lock;
+    }
+
+}
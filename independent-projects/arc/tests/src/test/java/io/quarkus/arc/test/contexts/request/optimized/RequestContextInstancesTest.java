@@ -4,13 +4,17 @@
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -26,13 +30,14 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 
 public class RequestContextInstancesTest {
 
     @RegisterExtension
     ArcTestContainer container = ArcTestContainer.builder()
-            .beanClasses(Boom.class, Bim.class)
+            .beanClasses(Boom.class, Bim.class, Slow.class)
             .optimizeContexts(true)
             .build();
 
@@ -66,6 +71,62 @@ public void testContext() {
         container.requestContext().terminate();
     }
 
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        ArcContainer container = Arc.container();
+        ManagedContext requestContext = container.requestContext();
+        requestContext.activate();
+        InjectableContext.ContextState state = requestContext.getState();
+        Slow slow = container.instance(Slow.class).get();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> ids = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                ids.add(executorService.submit(() -> {
+                    requestContext.activate(state);
+                    try {
+                        start.await();
+                        return slow.ping();
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                }));
+            }
+            start.countDown();
+            String id = slow.ping();
+            for (Future<String> f : ids) {
+                assertEquals(id, f.get(5, TimeUnit.SECONDS));
+            }
+            // Only one instance was created
+            assertEquals(1, Slow.CREATED.get());
+        } finally {
+            executorService.shutdownNow();
+            requestContext.terminate();
+        }
+    }
+
+    @RequestScoped
+    public static class Slow {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        private String id;
+
+        String ping() {
+            return id;
+        }
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            CREATED.incrementAndGet();
+            // Make sure the other threads attempt to create the instance concurrently
+            Thread.sleep(100);
+            id = UUID.randomUUID().toString();
+        }
+
+    }
+
     @RequestScoped
     public static class Boom {
 
@@ -0,0 +1,132 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.bootstrap.runner.JarResource;
+
+/**
+ * Measures the time needed to read all the classes of a set of synthetic jars through {@link JarResource}, which is what
+ * the {@code RunnerClassLoader} does when an application boots. The jars are read either with {@link java.util.jar.JarFile}
+ * (the default) or mapped into memory ({@code -Dquarkus.runner.mapped-jars=true}), for both compressed and stored
+ * entries. Like for {@link BenchmarkSerializedApplicationRead}, we use single shot measurements as this code is only
+ * executed once. Run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class BenchmarkJarResourceRead {
+
+    @Param({ "50" })
+    public int jars;
+
+    @Param({ "200" })
+    public int classesPerJar;
+
+    @Param({ "true", "false" })
+    public boolean compressed;
+
+    private Path dir;
+    private List<Path> jarPaths;
+    private List<String> classes;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("jar-resources");
+        Random random = new Random(42);
+        jarPaths = new ArrayList<>();
+        classes = new ArrayList<>();
+        for (int j = 0; j < classesPerJar; j++) {
+            classes.add("org/acme/package" + j % 10 + "/Type" + j + ".class");
+        }
+        for (int i = 0; i < jars; i++) {
+            Path jar = dir.resolve("library-" + i + ".jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+                for (String resource : classes) {
+                    // Compressible content of a typical class size
+                    byte[] data = new byte[2_000 + random.nextInt(4_000)];
+                    for (int k = 0; k < data.length; k++) {
+                        data[k] = (byte) ('a' + random.nextInt(8));
+                    }
+                    ZipEntry entry = new ZipEntry(resource);
+                    if (!compressed) {
+                        CRC32 crc = new CRC32();
+                        crc.update(data);
+                        entry.setMethod(ZipEntry.STORED);
+                        entry.setSize(data.length);
+                        entry.setCrc(crc.getValue());
+                    }
+                    out.putNextEntry(entry);
+                    out.write(data);
+                    out.closeEntry();
+                }
+            }
+            jarPaths.add(jar);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @Fork(2)
+    public long readJarFile() {
+        return read();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dquarkus.runner.mapped-jars=true")
+    public long readMapped() {
+        return read();
+    }
+
+    private long read() {
+        long checksum = 0;
+        for (Path jarPath : jarPaths) {
+            JarResource resource = new JarResource(null, jarPath);
+            for (String clazz : classes) {
+                ByteBuffer data = resource.getResourceBuffer(clazz);
+                // Every byte is consumed, like when a class is defined, so that the mapped pages are actually read
+                for (int i = data.position(); i < data.limit(); i++) {
+                    checksum += data.get(i);
+                }
+            }
+            resource.close();
+        }
+        return checksum;
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", BenchmarkJarResourceRead.class.getSimpleName() });
+    }
+}
@@ -0,0 +1,121 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+
+/**
+ * Measures the time needed to read the serialized application of a synthetic fast-jar application
+ * and to find a resource in each of its packages, which is what happens when a Quarkus application boots.
+ * Like for {@link BenchmarkClassnameToResourceName}, we use single shot measurements as this code is only executed once,
+ * before the JIT had a chance to compile it. Run with {@code -prof gc} to compare the allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkSerializedApplicationRead {
+
+    @Param({ "300" })
+    public int jars;
+
+    @Param({ "20" })
+    public int packagesPerJar;
+
+    private Path appRoot;
+    private Path serializedApplication;
+    private String[] resources;
+
+    @Setup
+    public void setup() throws IOException {
+        appRoot = Files.createTempDirectory("serialized-application");
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = new ArrayList<>();
+        List<String> resources = new ArrayList<>();
+        for (int i = 0; i < jars; i++) {
+            Path jar = lib.resolve("library-" + i + ".jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+                out.putNextEntry(new ZipEntry("META-INF/services/org.acme.Service" + i % 10));
+                out.closeEntry();
+                for (int j = 0; j < packagesPerJar; j++) {
+                    String resource = "org/acme/library" + i + "/package" + j + "/Type.class";
+                    out.putNextEntry(new ZipEntry(resource));
+                    out.closeEntry();
+                    resources.add(resource);
+                }
+            }
+            classPath.add(jar);
+        }
+        serializedApplication = appRoot.resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(serializedApplication)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, classPath, List.of());
+        }
+        this.resources = resources.toArray(new String[0]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(appRoot)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int readMapped() throws IOException {
+        return lookup(SerializedApplication.read(serializedApplication, appRoot));
+    }
+
+    @Benchmark
+    public int readStream() throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(serializedApplication), 24_576)) {
+            return lookup(SerializedApplication.read(in, appRoot));
+        }
+    }
+
+    private int lookup(SerializedApplication application) {
+        RunnerClassLoader classLoader = application.getRunnerClassLoader();
+        try {
+            int found = 0;
+            for (String resource : resources) {
+                if (classLoader.getResource(resource) != null) {
+                    found++;
+                }
+            }
+            return found;
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", BenchmarkSerializedApplicationRead.class.getSimpleName() });
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,18 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Unlike {@link #getResourceData(String)}, the data may not be copied to the heap. The returned buffer must not be
+     * modified.
+     *
+     * @param resource
+     * @return the data of the resource, or {@code null} if there is no such resource
+     */
+    default ByteBuffer getResourceBuffer(String resource) {
+        byte[] data = getResourceData(resource);
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
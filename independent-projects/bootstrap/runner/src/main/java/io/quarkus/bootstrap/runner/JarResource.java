@@ -11,6 +11,7 @@
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
@@ -29,12 +30,23 @@
  */
 public class JarResource implements ClassLoadingResource {
 
+    /**
+     * If set to {@code true} then the jars are mapped into memory and read with {@link MappedJarFile} whenever possible,
+     * instead of being opened with {@link JarFile}.
+     */
+    static final boolean MAPPED_JARS = Boolean.getBoolean("quarkus.runner.mapped-jars");
+
     private volatile ProtectionDomain protectionDomain;
     private final ManifestInfo manifestInfo;
 
     final Path jarPath;
     final AtomicReference<CompletableFuture<JarFileReference>> jarFileReference = new AtomicReference<>();
 
+    // Only used if MAPPED_JARS is set; the mapping itself is released when the object is garbage collected
+    private volatile MappedJarFile mappedJarFile;
+    // Set if the jar is not supported by MappedJarFile
+    private volatile boolean notMappable;
+
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
@@ -60,9 +72,53 @@ public void init() {
 
     @Override
     public byte[] getResourceData(String resource) {
+        if (MAPPED_JARS) {
+            MappedJarFile mapped = mappedJarFile();
+            if (mapped != null) {
+                try {
+                    return mapped.getData(resource);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to read zip entry " + resource, e);
+                }
+            }
+        }
         return JarFileReference.withJarFile(this, resource, JarResourceDataProvider.INSTANCE);
     }
 
+    @Override
+    public ByteBuffer getResourceBuffer(String resource) {
+        if (MAPPED_JARS) {
+            MappedJarFile mapped = mappedJarFile();
+            if (mapped != null) {
+                try {
+                    // Stored entries are not copied
+                    return mapped.getBuffer(resource);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to read zip entry " + resource, e);
+                }
+            }
+        }
+        return ClassLoadingResource.super.getResourceBuffer(resource);
+    }
+
+    private MappedJarFile mappedJarFile() {
+        MappedJarFile mapped = this.mappedJarFile;
+        if (mapped == null && !notMappable) {
+            // Multiple threads may open the jar concurrently but only the last mapping is kept
+            try {
+                mapped = MappedJarFile.open(jarPath);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to open " + jarPath, e);
+            }
+            if (mapped == null) {
+                notMappable = true;
+            } else {
+                this.mappedJarFile = mapped;
+            }
+        }
+        return mapped;
+    }
+
     private static class JarResourceDataProvider implements JarFileReference.JarFileConsumer<byte[]> {
         private static final JarResourceDataProvider INSTANCE = new JarResourceDataProvider();
 
@@ -93,6 +149,17 @@ public byte[] apply(JarFile jarFile, Path path, String res) {
 
     @Override
     public URL getResourceURL(String resource) {
+        if (MAPPED_JARS) {
+            MappedJarFile mapped = mappedJarFile();
+            if (mapped != null) {
+                String realName = mapped.getRealName(resource);
+                if (realName == null) {
+                    return null;
+                }
+                return JarResourceURLProvider.toJarUrl(jarPath,
+                        JarResourceURLProvider.getRealName(realName, realName.endsWith("/"), resource));
+            }
+        }
         return JarFileReference.withJarFile(this, resource, JarResourceURLProvider.INSTANCE);
     }
 
@@ -105,8 +172,12 @@ public URL apply(JarFile jarFile, Path path, String resource) {
             if (entry == null) {
                 return null;
             }
+            return toJarUrl(path, getRealName(JarEntries.getRealName(entry), entry.isDirectory(), resource));
+        }
+
+        private static URL toJarUrl(Path path, String realName) {
             try {
-                final URL resUrl = getUrl(path, getRealName(entry, resource));
+                final URL resUrl = getUrl(path, realName);
                 // wrap it up into a "jar" protocol URL
                 //horrible hack to deal with '?' characters in the URL
                 //seems to be the only way, the URI constructor just does not let you handle them in a sane way
@@ -126,10 +197,9 @@ public URL apply(JarFile jarFile, Path path, String resource) {
             }
         }
 
-        private static String getRealName(JarEntry entry, String resource) {
-            String realName = JarEntries.getRealName(entry);
+        private static String getRealName(String realName, boolean isDirectory, String resource) {
             // Make sure directories are returned with a / when the resource was requested with a /
-            if (resource.endsWith("/") && entry.isDirectory()) {
+            if (resource.endsWith("/") && isDirectory) {
                 if (realName.endsWith("/")) {
                     return realName;
                 } else {
@@ -172,6 +242,7 @@ public ProtectionDomain getProtectionDomain() {
 
     @Override
     public void close() {
+        mappedJarFile = null;
         var futureRef = jarFileReference.get();
         if (futureRef != null) {
             // The jarfile has been already used and it's going to be removed from the cache,
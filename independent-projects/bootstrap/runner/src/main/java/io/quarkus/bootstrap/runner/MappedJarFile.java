@@ -0,0 +1,325 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A read-only jar file that is mapped into memory.
+ * <p>
+ * The central directory is parsed once when the jar is opened. The data of a stored (uncompressed) entry is returned as a
+ * slice of the mapping, i.e. it is never copied to the heap. The data of a deflated entry is inflated directly from the
+ * mapping into an array of the exact size.
+ * <p>
+ * Only the jars that can be read without the features of {@link JarFile} are supported. A jar is not supported if it's
+ * larger than 2GB, uses the ZIP64 format, contains encrypted entries or entries compressed with a method other than
+ * {@code STORED} or {@code DEFLATED}, or if it's signed.
+ * <p>
+ * Like {@link JarFile} opened for the runtime version, the entries of a multi-release jar are resolved to their
+ * versioned variants. The mapping is released when this object is garbage collected, so a buffer returned by this class
+ * remains valid even after the jar is no longer used by the class loader.
+ */
+final class MappedJarFile {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_HEADER_LENGTH = 30;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_LENGTH = 46;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int END_LENGTH = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_MAGIC = 0xFFFF;
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int FLAG_ENCRYPTED = 1;
+
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+    private static final int RUNTIME_VERSION = Runtime.version().feature();
+    // Limits the number of cached inflaters, similarly to java.util.zip.ZipFile
+    private static final int MAX_CACHED_INFLATERS = 16;
+    private static final ArrayDeque<Inflater> INFLATERS = new ArrayDeque<>();
+
+    private final ByteBuffer mapping;
+    // entry name -> offset of the central directory header of the entry
+    // For multi-release jars the name of a versioned entry is also mapped to the offset of the versioned entry
+    private final Map<String, Integer> entries;
+
+    private MappedJarFile(ByteBuffer mapping, Map<String, Integer> entries) {
+        this.mapping = mapping;
+        this.entries = entries;
+    }
+
+    /**
+     *
+     * @param path
+     * @return the mapped jar, or {@code null} if the jar is not supported
+     * @throws IOException if the jar cannot be read or is not a valid zip file
+     */
+    static MappedJarFile open(Path path) throws IOException {
+        MappedByteBuffer mapping;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return null;
+            }
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        ByteBuffer buffer = mapping.order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEnd(buffer);
+        if (end < 0) {
+            throw new ZipException("Unable to find the end of central directory record in " + path);
+        }
+        int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+        int centralDirectoryOffset = buffer.getInt(end + 16);
+        if (count == ZIP64_MAGIC || centralDirectoryOffset == -1) {
+            return null;
+        }
+        Map<String, Integer> entries = new HashMap<>((int) (count / 0.75f) + 1);
+        Map<String, Integer> versions = null;
+        boolean hasManifest = false;
+        int pos = centralDirectoryOffset;
+        for (int i = 0; i < count; i++) {
+            if (pos < 0 || pos + CENTRAL_HEADER_LENGTH > buffer.limit() || buffer.getInt(pos) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at " + pos + " in " + path);
+            }
+            int flags = Short.toUnsignedInt(buffer.getShort(pos + 8));
+            int method = Short.toUnsignedInt(buffer.getShort(pos + 10));
+            int compressedSize = buffer.getInt(pos + 20);
+            int size = buffer.getInt(pos + 24);
+            int nameLength = Short.toUnsignedInt(buffer.getShort(pos + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(pos + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(pos + 32));
+            int localHeaderOffset = buffer.getInt(pos + 42);
+            if ((flags & FLAG_ENCRYPTED) != 0 || (method != STORED && method != DEFLATED)
+                    || compressedSize == -1 || size == -1 || localHeaderOffset == -1) {
+                return null;
+            }
+            String name = name(buffer, pos + CENTRAL_HEADER_LENGTH, nameLength);
+            if (name.startsWith("META-INF/") && isSignatureFile(name)) {
+                // Signed jars are verified by JarFile
+                return null;
+            }
+            if (JarFile.MANIFEST_NAME.equals(name)) {
+                hasManifest = true;
+            }
+            entries.putIfAbsent(name, pos);
+            if (name.startsWith(VERSIONS_PREFIX)) {
+                if (versions == null) {
+                    versions = new HashMap<>();
+                }
+                versions.put(name, pos);
+            }
+            pos += CENTRAL_HEADER_LENGTH + nameLength + extraLength + commentLength;
+        }
+        MappedJarFile jar = new MappedJarFile(buffer, entries);
+        if (versions != null && hasManifest && jar.isMultiRelease()) {
+            jar.resolveVersionedEntries(versions);
+        }
+        return jar;
+    }
+
+    /**
+     *
+     * @param name
+     * @return {@code true} if this jar contains the given entry, or the given directory entry if the name does not end
+     *         with {@code /}
+     */
+    boolean contains(String name) {
+        return find(name) >= 0;
+    }
+
+    /**
+     *
+     * @param name
+     * @return the name of the entry as stored in the jar, or {@code null} if there is no such entry
+     * @see #contains(String)
+     */
+    String getRealName(String name) {
+        int header = find(name);
+        if (header < 0) {
+            return null;
+        }
+        return name(mapping, header + CENTRAL_HEADER_LENGTH, Short.toUnsignedInt(mapping.getShort(header + 28)));
+    }
+
+    /**
+     *
+     * @param name
+     * @return the data of the entry, or {@code null} if there is no such entry
+     * @throws IOException
+     */
+    ByteBuffer getBuffer(String name) throws IOException {
+        int header = find(name);
+        if (header < 0) {
+            return null;
+        }
+        int method = Short.toUnsignedInt(mapping.getShort(header + 10));
+        int compressedSize = mapping.getInt(header + 20);
+        ByteBuffer data = mapping.slice(dataOffset(name, header), compressedSize);
+        if (method == STORED) {
+            return data.asReadOnlyBuffer();
+        }
+        return ByteBuffer.wrap(inflate(name, data, mapping.getInt(header + 24)));
+    }
+
+    /**
+     *
+     * @param name
+     * @return the data of the entry, or {@code null} if there is no such entry
+     * @throws IOException
+     */
+    byte[] getData(String name) throws IOException {
+        int header = find(name);
+        if (header < 0) {
+            return null;
+        }
+        int method = Short.toUnsignedInt(mapping.getShort(header + 10));
+        int compressedSize = mapping.getInt(header + 20);
+        int offset = dataOffset(name, header);
+        if (method == STORED) {
+            byte[] data = new byte[compressedSize];
+            mapping.get(offset, data);
+            return data;
+        }
+        return inflate(name, mapping.slice(offset, compressedSize), mapping.getInt(header + 24));
+    }
+
+    private int find(String name) {
+        Integer header = entries.get(name);
+        if (header == null && !name.isEmpty() && name.charAt(name.length() - 1) != '/') {
+            // Same as ZipFile#getEntry(String)
+            header = entries.get(name + '/');
+        }
+        return header == null ? -1 : header;
+    }
+
+    private int dataOffset(String name, int header) throws ZipException {
+        int localHeader = mapping.getInt(header + 42);
+        if (localHeader < 0 || localHeader + LOCAL_HEADER_LENGTH > mapping.limit()
+                || mapping.getInt(localHeader) != LOCAL_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header for entry " + name);
+        }
+        // The length of the extra field in the local header may differ from the central directory
+        int offset = localHeader + LOCAL_HEADER_LENGTH + Short.toUnsignedInt(mapping.getShort(localHeader + 26))
+                + Short.toUnsignedInt(mapping.getShort(localHeader + 28));
+        if (offset + mapping.getInt(header + 20) > mapping.limit()) {
+            throw new ZipException("Invalid data for entry " + name);
+        }
+        return offset;
+    }
+
+    private boolean isMultiRelease() throws IOException {
+        byte[] data = getData(JarFile.MANIFEST_NAME);
+        Manifest manifest = new Manifest(new ByteArrayInputStream(data));
+        return Boolean.parseBoolean(manifest.getMainAttributes().getValue(Attributes.Name.MULTI_RELEASE));
+    }
+
+    private void resolveVersionedEntries(Map<String, Integer> versions) {
+        // base name -> version of the currently resolved entry
+        Map<String, Integer> resolved = new HashMap<>();
+        for (Map.Entry<String, Integer> e : versions.entrySet()) {
+            String name = e.getKey();
+            int slash = name.indexOf('/', VERSIONS_PREFIX.length());
+            if (slash < 0 || slash == name.length() - 1) {
+                continue;
+            }
+            int version;
+            try {
+                version = Integer.parseInt(name.substring(VERSIONS_PREFIX.length(), slash));
+            } catch (NumberFormatException ignored) {
+                continue;
+            }
+            if (version < 9 || version > RUNTIME_VERSION) {
+                continue;
+            }
+            String baseName = name.substring(slash + 1);
+            Integer current = resolved.get(baseName);
+            if (current == null || current < version) {
+                resolved.put(baseName, version);
+                entries.put(baseName, e.getValue());
+            }
+        }
+    }
+
+    private static byte[] inflate(String name, ByteBuffer compressed, int size) throws ZipException {
+        byte[] data = new byte[size];
+        Inflater inflater = acquireInflater();
+        try {
+            inflater.setInput(compressed);
+            int pos = 0;
+            while (pos < size) {
+                int read = inflater.inflate(data, pos, size - pos);
+                if (read == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Unexpected end of data for entry " + name);
+                }
+                pos += read;
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new ZipException("Invalid data for entry " + name + ": " + e.getMessage());
+        } finally {
+            releaseInflater(inflater);
+        }
+    }
+
+    private static Inflater acquireInflater() {
+        Inflater inflater;
+        synchronized (INFLATERS) {
+            inflater = INFLATERS.pollLast();
+        }
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    private static void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        synchronized (INFLATERS) {
+            if (INFLATERS.size() < MAX_CACHED_INFLATERS) {
+                INFLATERS.addLast(inflater);
+                return;
+            }
+        }
+        inflater.end();
+    }
+
+    private static int findEnd(ByteBuffer buffer) {
+        int min = Math.max(0, buffer.limit() - END_LENGTH - MAX_COMMENT_LENGTH);
+        for (int pos = buffer.limit() - END_LENGTH; pos >= min; pos--) {
+            if (buffer.getInt(pos) == END_SIGNATURE) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    private static String name(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isSignatureFile(String name) {
+        if (name.indexOf('/', 9) >= 0) {
+            return false;
+        }
+        String upperCase = name.toUpperCase(Locale.ROOT);
+        return upperCase.endsWith(".SF") || upperCase.endsWith(".RSA") || upperCase.endsWith(".DSA")
+                || upperCase.endsWith(".EC");
+    }
+
+}
@@ -1,8 +1,6 @@
 package io.quarkus.bootstrap.runner;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
@@ -57,12 +55,8 @@ private static void doRun(String... args) throws Throwable {
         } else if (Boolean.getBoolean("quarkus.launch.rebuild")) {
             doReaugment(appRoot);
         } else {
-            SerializedApplication app;
-            // the magic number here is close to the smallest possible dat file
-            try (InputStream in = new BufferedInputStream(Files.newInputStream(appRoot.resolve(QUARKUS_APPLICATION_DAT)),
-                    24_576)) {
-                app = SerializedApplication.read(in, appRoot);
-            }
+            // the file is memory mapped, so that the resource indexes it contains are not copied to the heap
+            SerializedApplication app = SerializedApplication.read(appRoot.resolve(QUARKUS_APPLICATION_DAT), appRoot);
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
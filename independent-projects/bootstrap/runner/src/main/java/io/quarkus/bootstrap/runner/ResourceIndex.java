@@ -0,0 +1,303 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only index of resource names (directories or fully indexed resources) to the class path elements
+ * that contain them.
+ *
+ * The index is computed at build time and stored as a minimal perfect hash table (using the "hash, displace"
+ * scheme) which is queried directly from its serialized form, ideally a memory mapped file.
+ * This avoids materializing a {@code HashMap} of all the resource names when the application starts:
+ * only the distinct lists of class path elements are created, and there are typically no more of them
+ * than there are jars.
+ *
+ * The serialized layout is:
+ *
+ * <pre>
+ * int salt
+ * int size                  number of keys, which is also the number of slots
+ * int valueCount            number of distinct lists of class path element indexes
+ * valueCount x (unsigned short length, length x unsigned short class path element index)
+ * size x int                bucket seeds
+ * size x (int keyOffset, int value)
+ * int keysLength
+ * keysLength bytes          the keys, each one as an unsigned short length followed by the UTF-8 bytes
+ * </pre>
+ *
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class ResourceIndex {
+
+    private static final int MAX_SALT_ATTEMPTS = 16;
+
+    private final ByteBuffer buffer;
+    private final int salt;
+    private final int size;
+    private final int seedsOffset;
+    private final int slotsOffset;
+    private final int keysOffset;
+    private final ClassLoadingResource[][] values;
+
+    private ResourceIndex(ByteBuffer buffer, ClassLoadingResource[] classPath) {
+        this.buffer = buffer;
+        int position = 0;
+        salt = buffer.getInt(position);
+        size = buffer.getInt(position + 4);
+        int valueCount = buffer.getInt(position + 8);
+        position += 12;
+        values = new ClassLoadingResource[valueCount][];
+        for (int i = 0; i < valueCount; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort(position));
+            position += 2;
+            ClassLoadingResource[] resources = new ClassLoadingResource[length];
+            for (int j = 0; j < length; j++) {
+                resources[j] = classPath[Short.toUnsignedInt(buffer.getShort(position))];
+                position += 2;
+            }
+            values[i] = resources;
+        }
+        seedsOffset = position;
+        slotsOffset = seedsOffset + size * 4;
+        keysOffset = slotsOffset + size * 8 + 4;
+    }
+
+    /**
+     * Reads an index from the given buffer, without copying it.
+     *
+     * @param buffer a buffer containing the index, starting at position 0
+     * @param classPath all the class path elements, in the order they were written
+     */
+    static ResourceIndex read(ByteBuffer buffer, ClassLoadingResource[] classPath) {
+        return new ResourceIndex(buffer, classPath);
+    }
+
+    /**
+     * @return the class path elements containing the given resource name, or {@code null} if the name is not indexed
+     */
+    ClassLoadingResource[] get(String name) {
+        if (size == 0) {
+            return null;
+        }
+        long hash = hash(name, salt);
+        int seed = buffer.getInt(seedsOffset + 4 * Math.floorMod(mix(hash, 0), size));
+        int slot;
+        if (seed < 0) {
+            slot = -seed - 1;
+        } else if (seed == 0) {
+            // empty bucket
+            return null;
+        } else {
+            slot = Math.floorMod(mix(hash, seed), size);
+        }
+        int slotPosition = slotsOffset + 8 * slot;
+        if (!keyEquals(keysOffset + buffer.getInt(slotPosition), name)) {
+            return null;
+        }
+        return values[buffer.getInt(slotPosition + 4)];
+    }
+
+    private boolean keyEquals(int position, String name) {
+        int length = Short.toUnsignedInt(buffer.getShort(position));
+        position += 2;
+        if (length != name.length()) {
+            // the UTF-8 length may differ from the number of chars for non-ASCII names
+            return length > name.length() && decode(position, length).equals(name);
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get(position + i);
+            if (b < 0) {
+                return decode(position, length).equals(name);
+            }
+            if (b != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes an index of the given entries.
+     *
+     * @param out the output
+     * @param entries the resource names, associated with the indexes of the class path elements containing them
+     */
+    static void write(DataOutputStream out, Map<String, List<Integer>> entries) throws IOException {
+        String[] keys = entries.keySet().toArray(new String[0]);
+        int size = keys.length;
+
+        Map<List<Integer>, Integer> valueIds = new HashMap<>();
+        List<List<Integer>> valueList = new ArrayList<>();
+        int[] keyValues = new int[size];
+        for (int i = 0; i < size; i++) {
+            List<Integer> value = entries.get(keys[i]);
+            Integer id = valueIds.get(value);
+            if (id == null) {
+                id = valueList.size();
+                valueIds.put(value, id);
+                valueList.add(value);
+            }
+            keyValues[i] = id;
+        }
+
+        int salt = 0;
+        long[] hashes = new long[size];
+        while (true) {
+            Set<Long> distinct = new HashSet<>((int) Math.ceil(size / 0.75f));
+            boolean collision = false;
+            for (int i = 0; i < size; i++) {
+                hashes[i] = hash(keys[i], salt);
+                if (!distinct.add(hashes[i])) {
+                    collision = true;
+                    break;
+                }
+            }
+            if (!collision) {
+                break;
+            }
+            if (++salt == MAX_SALT_ATTEMPTS) {
+                throw new IllegalStateException("Unable to compute a perfect hash of " + size + " resource names");
+            }
+        }
+
+        int[] seeds = new int[size];
+        int[] slotKeys = new int[size];
+        if (size > 0) {
+            computeSeeds(hashes, seeds, slotKeys);
+        }
+
+        ByteArrayOutputStream keyBytes = new ByteArrayOutputStream();
+        int[] keyOffsets = new int[size];
+        try (DataOutputStream keyData = new DataOutputStream(keyBytes)) {
+            for (int i = 0; i < size; i++) {
+                keyOffsets[i] = keyData.size();
+                byte[] bytes = keys[i].getBytes(StandardCharsets.UTF_8);
+                keyData.writeShort(bytes.length);
+                keyData.write(bytes);
+            }
+        }
+
+        out.writeInt(salt);
+        out.writeInt(size);
+        out.writeInt(valueList.size());
+        for (List<Integer> value : valueList) {
+            out.writeShort(value.size());
+            for (Integer index : value) {
+                out.writeShort(index);
+            }
+        }
+        for (int seed : seeds) {
+            out.writeInt(seed);
+        }
+        for (int slot = 0; slot < size; slot++) {
+            int key = slotKeys[slot];
+            out.writeInt(keyOffsets[key]);
+            out.writeInt(keyValues[key]);
+        }
+        out.writeInt(keyBytes.size());
+        keyBytes.writeTo(out);
+    }
+
+    /**
+     * Hashes the keys into as many buckets as there are keys, then places the buckets in decreasing size order,
+     * looking for a seed that sends all the keys of a bucket to free slots. Buckets of a single key are placed
+     * directly in the remaining free slots, which is recorded as a negative seed.
+     */
+    private static void computeSeeds(long[] hashes, int[] seeds, int[] slotKeys) {
+        int size = hashes.length;
+        List<List<Integer>> buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>(1));
+        }
+        for (int i = 0; i < size; i++) {
+            buckets.get(Math.floorMod(mix(hashes[i], 0), size)).add(i);
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+        boolean[] used = new boolean[size];
+        int[] bucketSlots = new int[size];
+        int current = 0;
+        for (; current < size; current++) {
+            int bucketIndex = order[current];
+            List<Integer> bucket = buckets.get(bucketIndex);
+            if (bucket.size() <= 1) {
+                break;
+            }
+            int seed = 1;
+            placement: while (true) {
+                for (int i = 0; i < bucket.size(); i++) {
+                    int slot = Math.floorMod(mix(hashes[bucket.get(i)], seed), size);
+                    if (used[slot]) {
+                        for (int j = 0; j < i; j++) {
+                            used[bucketSlots[j]] = false;
+                        }
+                        seed++;
+                        continue placement;
+                    }
+                    used[slot] = true;
+                    bucketSlots[i] = slot;
+                }
+                break;
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                slotKeys[bucketSlots[i]] = bucket.get(i);
+            }
+            seeds[bucketIndex] = seed;
+        }
+        int free = 0;
+        for (; current < size; current++) {
+            int bucketIndex = order[current];
+            List<Integer> bucket = buckets.get(bucketIndex);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            while (used[free]) {
+                free++;
+            }
+            used[free] = true;
+            slotKeys[free] = bucket.get(0);
+            seeds[bucketIndex] = -free - 1;
+        }
+    }
+
+    /**
+     * A 64-bit FNV-1a hash of the chars of the given string.
+     */
+    private static long hash(String key, int salt) {
+        long hash = 0xcbf29ce484222325L ^ salt;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static int mix(long hash, int seed) {
+        long x = hash ^ (seed * 0x9E3779B97F4A7C15L);
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (x ^ (x >>> 33));
+    }
+}
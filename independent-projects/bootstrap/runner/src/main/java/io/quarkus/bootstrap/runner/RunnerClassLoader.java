@@ -4,12 +4,15 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.crac.Context;
 import org.crac.Resource;
@@ -34,16 +37,21 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     /**
-     * A map of resources by dir name. Root dir/default package is represented by the empty string
+     * All the class path elements known to this class loader
      */
-    private final Map<String, ClassLoadingResource[]> resourceDirectoryMap;
+    private final ClassLoadingResource[] classPath;
+
+    /**
+     * Returns the resources by dir name. Root dir/default package is represented by the empty string
+     */
+    private final Function<String, ClassLoadingResource[]> resourceDirectoryIndex;
 
     private final Set<String> parentFirstPackages;
     // the following two fields go hand in hand - they need to both be populated from the same data
     // in order for the resource loading to work properly
     // normally this field would be a set, but it only contains 2 elements, so making it a list is actually better
     private final List<String> fullyIndexedDirectories;
-    private final Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap;
+    private final Function<String, ClassLoadingResource[]> fullyIndexedResourcesIndex;
 
     private final ClassLoadingResource generatedBytecodeClassLoadingResource;
     private final Set<String> generatedBytecode;
@@ -63,11 +71,24 @@ public final class RunnerClassLoader extends ClassLoader {
             List<String> fullyIndexedDirectories, Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap,
             ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
             ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
+        this(parent, distinctResources(resourceDirectoryMap), resourceDirectoryMap::get, parentFirstPackages,
+                fullyIndexedDirectories, fullyIndexedResourcesIndexMap::get,
+                generatedBytecodeClassLoadingResource, generatedBytecode,
+                transformedBytecodeClassLoadingResource, transformedBytecode);
+    }
+
+    RunnerClassLoader(ClassLoader parent, ClassLoadingResource[] classPath,
+            Function<String, ClassLoadingResource[]> resourceDirectoryIndex,
+            Set<String> parentFirstPackages,
+            List<String> fullyIndexedDirectories, Function<String, ClassLoadingResource[]> fullyIndexedResourcesIndex,
+            ClassLoadingResource generatedBytecodeClassLoadingResource, Set<String> generatedBytecode,
+            ClassLoadingResource transformedBytecodeClassLoadingResource, Set<String> transformedBytecode) {
         super(parent);
-        this.resourceDirectoryMap = resourceDirectoryMap;
+        this.classPath = classPath;
+        this.resourceDirectoryIndex = resourceDirectoryIndex;
         this.parentFirstPackages = parentFirstPackages;
         this.fullyIndexedDirectories = fullyIndexedDirectories;
-        this.fullyIndexedResourcesIndexMap = fullyIndexedResourcesIndexMap;
+        this.fullyIndexedResourcesIndex = fullyIndexedResourcesIndex;
         this.generatedBytecodeClassLoadingResource = generatedBytecodeClassLoadingResource;
         this.generatedBytecode = generatedBytecode;
         this.transformedBytecodeClassLoadingResource = transformedBytecodeClassLoadingResource;
@@ -108,10 +129,10 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         }
         final ClassLoadingResource[] resources;
         if (packageName == null) {
-            resources = resourceDirectoryMap.get("");
+            resources = resourceDirectoryIndex.apply("");
         } else {
             String dirName = packageName.replace('.', '/');
-            resources = resourceDirectoryMap.get(dirName);
+            resources = resourceDirectoryIndex.apply(dirName);
         }
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
@@ -124,7 +145,7 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
 
                 accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
+                ByteBuffer data = resource.getResourceBuffer(classResource);
                 if (data == null) {
                     continue;
                 }
@@ -167,13 +188,13 @@ private void definePackage(String pkgName, ClassLoadingResource[] resources) {
         }
     }
 
-    private Class<?> defineClass(String name, byte[] data, ClassLoadingResource resource) {
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
         Class<?> loaded = findLoadedClass(name);
         if (loaded != null) {
             return loaded;
         }
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            return defineClass(name, data, resource.getProtectionDomain());
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
@@ -249,20 +270,20 @@ private String sanitizeName(final String name) {
     }
 
     private ClassLoadingResource[] getClassLoadingResources(final String name) {
-        ClassLoadingResource[] resources = fullyIndexedResourcesIndexMap.get(name);
+        ClassLoadingResource[] resources = fullyIndexedResourcesIndex.apply(name);
         if (resources != null) {
             return resources;
         }
         String dirName = getDirNameFromResourceName(name);
         if (fullyIndexedDirectories.contains(dirName)) {
             // If we arrive here, we know that resource being queried belongs to one of the fully indexed directories
-            // Had that resource existed however, it would have been present in directlyIndexedResourcesIndexMap
+            // Had that resource existed however, it would have been present in fullyIndexedResourcesIndex
             return null;
         }
-        resources = resourceDirectoryMap.get(dirName);
+        resources = resourceDirectoryIndex.apply(dirName);
         if (resources == null) {
             // the resource could itself be a directory
-            resources = resourceDirectoryMap.get(name);
+            resources = resourceDirectoryIndex.apply(name);
         }
         return resources;
     }
@@ -322,24 +343,28 @@ protected Class<?> findClass(String moduleName, String name) {
     }
 
     public void close() {
-        for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-            for (ClassLoadingResource i : entry.getValue()) {
-                i.close();
-            }
+        for (ClassLoadingResource i : classPath) {
+            i.close();
         }
     }
 
     public void resetInternalCaches() {
         synchronized (this.currentlyBufferedResources) {
-            for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
-                for (ClassLoadingResource i : entry.getValue()) {
-                    i.resetInternalCaches();
-                }
+            for (ClassLoadingResource i : classPath) {
+                i.resetInternalCaches();
             }
             this.postBootPhase = true;
         }
     }
 
+    private static ClassLoadingResource[] distinctResources(Map<String, ClassLoadingResource[]> resourceDirectoryMap) {
+        Set<ClassLoadingResource> resources = new LinkedHashSet<>();
+        for (ClassLoadingResource[] value : resourceDirectoryMap.values()) {
+            Collections.addAll(resources, value);
+        }
+        return resources.toArray(new ClassLoadingResource[0]);
+    }
+
     class CracResource implements Resource {
         @Override
         public void beforeCheckpoint(Context<? extends Resource> ctx) {
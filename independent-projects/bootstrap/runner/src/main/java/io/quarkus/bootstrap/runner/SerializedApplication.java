@@ -2,14 +2,17 @@
 
 import static io.quarkus.bootstrap.runner.JarVisitor.visitJar;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -35,10 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_DIRECTORIES = List.of("", "META-INF", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 3;
-
-    private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
-    private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
+    private static final int VERSION = 4;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -64,6 +64,7 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
             data.writeUTF(mainClass);
             data.writeShort(classPath.size());
 
+            Map<String, List<Integer>> resourceDirectoriesToCPJarIndex = new LinkedHashMap<>();
             Map<String, List<Integer>> fullyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
@@ -92,9 +93,13 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 data.writeBoolean(jarInspectorVisitor.isGeneratedBytecode());
                 data.writeBoolean(jarInspectorVisitor.isTransformedBytecode());
 
-                data.writeShort(jarInspectorVisitor.getDirectories().size());
                 for (String directory : jarInspectorVisitor.getDirectories()) {
-                    data.writeUTF(directory);
+                    int j = directory.indexOf('/');
+                    while (j >= 0) {
+                        addIndex(resourceDirectoriesToCPJarIndex, directory.substring(0, j), i);
+                        j = directory.indexOf('/', j + 1);
+                    }
+                    addIndex(resourceDirectoriesToCPJarIndex, directory, i);
                 }
                 if (jarInspectorVisitor.isWriteAllEntries()) {
                     data.writeInt(jarInspectorVisitor.getAllEntries().size());
@@ -117,20 +122,49 @@ public static void write(OutputStream outputStream, String mainClass, Path appli
                 data.writeUTF(p.replace('/', '.').replace('\\', '.'));
             }
 
-            data.writeShort(fullyIndexedResourcesToCPJarIndex.size());
-            for (Map.Entry<String, List<Integer>> entry : fullyIndexedResourcesToCPJarIndex.entrySet()) {
-                data.writeUTF(entry.getKey());
-                data.writeShort(entry.getValue().size());
-                for (Integer index : entry.getValue()) {
-                    data.writeShort(index);
-                }
-            }
+            writeResourceIndex(data, resourceDirectoriesToCPJarIndex);
+            writeResourceIndex(data, fullyIndexedResourcesToCPJarIndex);
             data.flush();
         }
     }
 
+    private static void addIndex(Map<String, List<Integer>> index, String resource, int classPathIndex) {
+        List<Integer> indexes = index.computeIfAbsent(resource, s -> new ArrayList<>(1));
+        // the jars are visited in order, so a duplicate can only be the last element
+        if (indexes.isEmpty() || indexes.get(indexes.size() - 1) != classPathIndex) {
+            indexes.add(classPathIndex);
+        }
+    }
+
+    private static void writeResourceIndex(DataOutputStream data, Map<String, List<Integer>> index) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream indexData = new DataOutputStream(bytes)) {
+            ResourceIndex.write(indexData, index);
+        }
+        data.writeInt(bytes.size());
+        bytes.writeTo(data);
+    }
+
+    /**
+     * Reads the serialized application from the given file, which is memory mapped so that the resource indexes
+     * can be queried without being copied to the heap.
+     */
+    public static SerializedApplication read(Path serializedApplication, Path appRoot) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(serializedApplication, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+        return read(new DataInputStream(in), in, appRoot);
+    }
+
     public static SerializedApplication read(InputStream inputStream, Path appRoot) throws IOException {
-        try (DataInputStream in = new DataInputStream(inputStream)) {
+        return read(new DataInputStream(inputStream), null, appRoot);
+    }
+
+    private static SerializedApplication read(DataInputStream data, ByteBufferInputStream mapped, Path appRoot)
+            throws IOException {
+        try (DataInputStream in = data) {
             if (in.readInt() != MAGIC) {
                 throw new RuntimeException("Wrong magic number");
             }
@@ -138,7 +172,6 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
-            ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
             ClassLoadingResource generatedBytecodeClassLoadingResource = null;
@@ -162,16 +195,6 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     transformedBytecodeClassLoadingResource = resource;
                 }
                 allClassLoadingResources[pathCount] = resource;
-                int numDirs = in.readUnsignedShort();
-                for (int i = 0; i < numDirs; ++i) {
-                    String dir = in.readUTF();
-                    int j = dir.indexOf('/');
-                    while (j >= 0) {
-                        resourceDirectoryTracker.addResourceDir(dir.substring(0, j), resource);
-                        j = dir.indexOf('/', j + 1);
-                    }
-                    resourceDirectoryTracker.addResourceDir(dir, resource);
-                }
                 if (generatedBytecodeJar || transformedBytecodeJar) {
                     int numEntries = in.readInt();
                     // let's make the Set as compact as we can
@@ -191,23 +214,15 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
             for (int i = 0; i < packages; ++i) {
                 parentFirstPackages.add(in.readUTF());
             }
-            // this map is populated correctly because the JarResource entries are added to allClassLoadingResources
+            // these indexes are populated correctly because the JarResource entries are added to allClassLoadingResources
             // in the same order as the classpath was written during the writing of the index
-            int directlyIndexedSize = in.readUnsignedShort();
-            Map<String, ClassLoadingResource[]> fullyIndexedResourcesIndexMap = new HashMap<>(
-                    (int) Math.ceil(directlyIndexedSize / 0.75f));
-            for (int i = 0; i < directlyIndexedSize; i++) {
-                String resource = in.readUTF();
-                int indexesSize = in.readUnsignedShort();
-                ClassLoadingResource[] matchingResources = new ClassLoadingResource[indexesSize];
-                for (int j = 0; j < indexesSize; j++) {
-                    matchingResources[j] = allClassLoadingResources[in.readUnsignedShort()];
-                }
-                fullyIndexedResourcesIndexMap.put(resource, matchingResources);
-            }
+            ResourceIndex resourceDirectoryIndex = ResourceIndex.read(readResourceIndex(in, mapped),
+                    allClassLoadingResources);
+            ResourceIndex fullyIndexedResourcesIndex = ResourceIndex.read(readResourceIndex(in, mapped),
+                    allClassLoadingResources);
             RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
-                    resourceDirectoryTracker.getResult(), parentFirstPackages,
-                    FULLY_INDEXED_DIRECTORIES, fullyIndexedResourcesIndexMap,
+                    allClassLoadingResources, resourceDirectoryIndex::get, parentFirstPackages,
+                    FULLY_INDEXED_DIRECTORIES, fullyIndexedResourcesIndex::get,
                     generatedBytecodeClassLoadingResource, generatedBytecode,
                     transformedBytecodeClassLoadingResource, transformedBytecode);
             for (ClassLoadingResource classLoadingResource : allClassLoadingResources) {
@@ -217,6 +232,17 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
         }
     }
 
+    private static ByteBuffer readResourceIndex(DataInputStream in, ByteBufferInputStream mapped) throws IOException {
+        int length = in.readInt();
+        if (mapped != null) {
+            // DataInputStream does not buffer, so the position of the mapped buffer is the one of the index
+            return mapped.slice(length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+
     private static String readNullableString(DataInputStream in) throws IOException {
         if (in.readBoolean()) {
             return in.readUTF();
@@ -342,56 +368,36 @@ private static void writeNullableString(DataOutputStream out, String string) thr
         }
     }
 
-    /**
-     * This class is to build up the final directory to Resource map
-     * The idea here is that directories will only be contained by a single resource, so we optimistically
-     * create a single item array when we encounter a directory for the first time.
-     * However, when a resource is added for the same directory, we switch to using a Set to track the resources
-     * of that directory and then at the end use those sets to override to create the final array of resources.
-     * The reason for doing it this way to only create Sets when needed (which is only a fraction of the cases)
-     */
-    private static class ResourceDirectoryTracker {
-        private final Map<String, ClassLoadingResource[]> result = new HashMap<>();
-        private final Map<String, Set<ClassLoadingResource>> overrides = new HashMap<>();
-
-        void addResourceDir(String dir, JarResource resource) {
-            ClassLoadingResource[] existing = result.get(dir);
-            if (existing == null) {
-                // this is the first the dir was ever tracked
-                result.put(dir, new JarResource[] { resource });
-            } else {
-                ClassLoadingResource existingResource = existing[0];
-                if (existingResource.equals(resource)) {
-                    // we don't need to do anything as the resource has already been tracked and an attempt
-                    // to add it again was made
-                } else {
-                    Set<ClassLoadingResource> dirOverrides = overrides.get(dir);
-                    if (dirOverrides == null) {
-                        // we need to create the override set as this is the first time we find a resource for the dir
-                        // that is not the same as the one in the array
-                        dirOverrides = new LinkedHashSet<>(2);
-                        dirOverrides.add(existingResource);
-                        dirOverrides.add(resource);
-                        overrides.put(dir, dirOverrides);
-
-                        //replace the value in the original array with a sentinel in order to allow for quick comparisons
-                        existing[0] = SENTINEL;
-                    } else {
-                        // in this case, overrides has already been created in a previous invocation so all we need to
-                        // do is add the new resource
-                        dirOverrides.add(resource);
-                    }
-                }
-            }
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        ByteBuffer slice(int length) {
+            ByteBuffer slice = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            return slice;
         }
 
-        Map<String, ClassLoadingResource[]> getResult() {
-            overrides.forEach(this::addToResult);
-            return result;
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? Byte.toUnsignedInt(buffer.get()) : -1;
         }
 
-        private void addToResult(String dir, Set<? extends ClassLoadingResource> jarResources) {
-            result.put(dir, jarResources.toArray(EMPTY_ARRAY));
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, buffer.remaining());
+            buffer.get(b, off, len);
+            return len;
         }
     }
 }
@@ -0,0 +1,169 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedJarFile}
+ */
+public class MappedJarFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testStoredAndDeflatedEntries() throws IOException {
+        byte[] random = new byte[10_000];
+        new Random(42).nextBytes(random);
+        byte[] text = "hello ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        Path jar = dir.resolve("test.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            putDirectory(out, "org/");
+            putStored(out, "org/Stored.class", random);
+            putDeflated(out, "org/Deflated.class", text);
+            putDeflated(out, "org/Empty.txt", new byte[0]);
+            putDeflated(out, "org/résumé.txt", text);
+        }
+
+        MappedJarFile mapped = MappedJarFile.open(jar);
+        assertNotNull(mapped);
+        assertArrayEquals(random, mapped.getData("org/Stored.class"));
+        assertArrayEquals(text, mapped.getData("org/Deflated.class"));
+        assertArrayEquals(new byte[0], mapped.getData("org/Empty.txt"));
+        assertArrayEquals(text, mapped.getData("org/résumé.txt"));
+        assertNull(mapped.getData("org/Missing.class"));
+
+        ByteBuffer stored = mapped.getBuffer("org/Stored.class");
+        assertTrue(stored.isDirect());
+        assertTrue(stored.isReadOnly());
+        assertEquals(ByteBuffer.wrap(random), stored);
+        assertEquals(ByteBuffer.wrap(text), mapped.getBuffer("org/Deflated.class"));
+
+        // Directory lookups behave like ZipFile#getEntry(String)
+        assertTrue(mapped.contains("org"));
+        assertTrue(mapped.contains("org/"));
+        assertEquals("org/", mapped.getRealName("org"));
+        assertFalse(mapped.contains("com/"));
+    }
+
+    @Test
+    public void testMultiReleaseJar() throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MULTI_RELEASE, "true");
+        Path jar = dir.resolve("multi-release.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            putDeflated(out, "org/Foo.class", bytes("base"));
+            putDeflated(out, "META-INF/versions/9/org/Foo.class", bytes("9"));
+            putDeflated(out, "META-INF/versions/11/org/Foo.class", bytes("11"));
+            putDeflated(out, "META-INF/versions/9999/org/Foo.class", bytes("9999"));
+            putDeflated(out, "META-INF/versions/11/org/Bar.class", bytes("bar"));
+        }
+
+        MappedJarFile mapped = MappedJarFile.open(jar);
+        assertNotNull(mapped);
+        assertArrayEquals(bytes("11"), mapped.getData("org/Foo.class"));
+        assertEquals("META-INF/versions/11/org/Foo.class", mapped.getRealName("org/Foo.class"));
+        assertArrayEquals(bytes("bar"), mapped.getData("org/Bar.class"));
+        assertArrayEquals(bytes("9"), mapped.getData("META-INF/versions/9/org/Foo.class"));
+    }
+
+    @Test
+    public void testVersionsIgnoredWithoutMultiRelease() throws IOException {
+        Path jar = dir.resolve("not-multi-release.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), new Manifest())) {
+            putDeflated(out, "org/Foo.class", bytes("base"));
+            putDeflated(out, "META-INF/versions/11/org/Foo.class", bytes("11"));
+        }
+
+        MappedJarFile mapped = MappedJarFile.open(jar);
+        assertNotNull(mapped);
+        assertArrayEquals(bytes("base"), mapped.getData("org/Foo.class"));
+    }
+
+    @Test
+    public void testSignedJarNotSupported() throws IOException {
+        Path jar = dir.resolve("signed.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            putDeflated(out, "META-INF/SIGNER.SF", bytes("signature"));
+            putDeflated(out, "org/Foo.class", bytes("foo"));
+        }
+        assertNull(MappedJarFile.open(jar));
+    }
+
+    @Test
+    public void testJarComment() throws IOException {
+        Path jar = dir.resolve("comment.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.setComment("a comment");
+            putDeflated(out, "org/Foo.class", bytes("foo"));
+        }
+        MappedJarFile mapped = MappedJarFile.open(jar);
+        assertNotNull(mapped);
+        assertArrayEquals(bytes("foo"), mapped.getData("org/Foo.class"));
+    }
+
+    @Test
+    public void testJarResourceUrl() throws IOException {
+        Path jar = dir.resolve("resource.jar");
+        try (OutputStream os = Files.newOutputStream(jar); JarOutputStream out = new JarOutputStream(os)) {
+            putDirectory(out, "dir/");
+            putDeflated(out, "dir/a.txt", bytes("a"));
+        }
+        JarResource resource = new JarResource(null, jar);
+        assertArrayEquals(bytes("a"), resource.getResourceData("dir/a.txt"));
+        assertEquals(ByteBuffer.wrap(bytes("a")), resource.getResourceBuffer("dir/a.txt"));
+        assertNotNull(resource.getResourceURL("dir/a.txt"));
+        assertTrue(resource.getResourceURL("dir/").toString().endsWith("!/dir/"));
+        assertNull(resource.getResourceURL("dir/b.txt"));
+        resource.close();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putDirectory(JarOutputStream out, String name) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.closeEntry();
+    }
+
+    private static void putDeflated(JarOutputStream out, String name, byte[] data) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static void putStored(JarOutputStream out, String name, byte[] data) throws IOException {
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,118 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link ResourceIndex}
+ */
+public class ResourceIndexTest {
+
+    private static final ClassLoadingResource[] CLASS_PATH = new ClassLoadingResource[] {
+            jarResource("a.jar"), jarResource("b.jar"), jarResource("c.jar") };
+
+    @Test
+    public void testLookup() throws IOException {
+        Map<String, List<Integer>> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            entries.put("org/acme/package" + i, List.of(i % CLASS_PATH.length));
+        }
+        // same String#hashCode()
+        entries.put("Aa", List.of(0, 1));
+        entries.put("BB", List.of(1, 2));
+        entries.put("", List.of(0, 1, 2));
+        entries.put("org/acme/déjà-vu", List.of(2));
+
+        ResourceIndex index = write(entries);
+
+        for (Map.Entry<String, List<Integer>> entry : entries.entrySet()) {
+            ClassLoadingResource[] resources = index.get(entry.getKey());
+            assertThat(resources).as(entry.getKey()).isNotNull();
+            List<ClassLoadingResource> expected = new ArrayList<>();
+            for (Integer i : entry.getValue()) {
+                expected.add(CLASS_PATH[i]);
+            }
+            assertThat(resources).containsExactlyElementsOf(expected);
+        }
+        // the arrays are shared between the entries with the same class path elements
+        assertThat(index.get("org/acme/package0")).isSameAs(index.get("org/acme/package3"));
+
+        assertThat(index.get("org/acme/package10000")).isNull();
+        assertThat(index.get("org/acme")).isNull();
+        assertThat(index.get("AaBB")).isNull();
+        assertThat(index.get("org/acme/deja-vu")).isNull();
+        assertThat(index.get("org/acme/déjà-vü")).isNull();
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        ResourceIndex index = write(Map.of());
+        assertThat(index.get("")).isNull();
+        assertThat(index.get("org/acme")).isNull();
+    }
+
+    @Test
+    public void testSerializedApplication(@TempDir Path appRoot) throws IOException, ClassNotFoundException {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        List<Path> classPath = new ArrayList<>();
+        for (String jar : List.of("simple-project-1.0.jar", "easy-project-1.0.jar", "trivial-project-1.0.jar")) {
+            classPath.add(Files.copy(Path.of("src", "test", "resources", "jars", jar), lib.resolve(jar)));
+        }
+        Path dat = appRoot.resolve("quarkus-application.dat");
+        try (OutputStream out = Files.newOutputStream(dat)) {
+            SerializedApplication.write(out, "org.acme.Main", appRoot, classPath, List.of());
+        }
+
+        SerializedApplication mapped = SerializedApplication.read(dat, appRoot);
+        SerializedApplication read;
+        try (InputStream in = Files.newInputStream(dat)) {
+            read = SerializedApplication.read(in, appRoot);
+        }
+        for (SerializedApplication app : List.of(mapped, read)) {
+            assertThat(app.getMainClass()).isEqualTo("org.acme.Main");
+            RunnerClassLoader classLoader = app.getRunnerClassLoader();
+            try {
+                assertThat(classLoader.loadClass("org.simple.SimplePojo1").getClassLoader()).isSameAs(classLoader);
+                assertThat(classLoader.loadClass("org.easy.EasyPojo").getClassLoader()).isSameAs(classLoader);
+                assertThat(classLoader.loadClass("org.trivial.TrivialPojo").getClassLoader()).isSameAs(classLoader);
+                assertThat(classLoader.getResource("org/simple")).isNotNull();
+                assertThat(classLoader.getResource("org/simple/SimplePojo1.class")).isNotNull();
+                assertThat(classLoader.getResource("org/simple/Missing.class")).isNull();
+                assertThat(classLoader.getResource("META-INF/MANIFEST.MF")).isNotNull();
+            } finally {
+                classLoader.close();
+            }
+        }
+    }
+
+    private static ResourceIndex write(Map<String, List<Integer>> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ResourceIndex.write(out, entries);
+        }
+        // make sure the index does not rely on the buffer position
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size() + 1);
+        buffer.put((byte) 42);
+        buffer.put(bytes.toByteArray());
+        return ResourceIndex.read(buffer.slice(1, bytes.size()), CLASS_PATH);
+    }
+
+    private static JarResource jarResource(String name) {
+        return new JarResource(null, Path.of(name));
+    }
+}
@@ -0,0 +1,36 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class Item {
+
+    private final String name;
+    private final BigDecimal price;
+    private final boolean onSale;
+    private final List<String> tags;
+
+    public Item(String name, BigDecimal price, boolean onSale, List<String> tags) {
+        this.name = name;
+        this.price = price;
+        this.onSale = onSale;
+        this.tags = tags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isOnSale() {
+        return onSale;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+}
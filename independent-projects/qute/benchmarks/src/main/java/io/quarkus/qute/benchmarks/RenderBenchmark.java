@@ -0,0 +1,148 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.TemplateCompiler;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Compares the render throughput of the interpreter with a template compiled by {@link TemplateCompiler}.
+ * <p>
+ * The interpreter uses the value resolvers generated by {@link ValueResolverGenerator}, i.e. the same setup as a Quarkus
+ * application. Run with {@code -prof gc} to compare the allocations per render.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class RenderBenchmark {
+
+    static final String TEMPLATE = """
+            <h1>{title}</h1>
+            {#if user.admin}
+            <p>Admin: {user.name}</p>
+            {#else}
+            <p>User: {user.name}</p>
+            {/if}
+            <ul>
+            {#for item in items}
+              <li>{item.name} {item.price}{#if item.onSale} (sale){/if}{#if item.tags}: {#each item.tags}{it} {/each}{/if}</li>
+            {#else}
+              <li>No items</li>
+            {/for}
+            </ul>
+            """;
+
+    @Param({ "10", "100" })
+    public int items;
+
+    private Template interpreted;
+    private Template compiled;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setup() throws Exception {
+        Index index = index(Item.class, User.class, String.class, BigDecimal.class, List.class);
+        Map<String, byte[]> classes = new HashMap<>();
+        ClassOutput classOutput = (name, bytes) -> classes.put(name.replace('/', '.').replace(".class", ""), bytes);
+
+        ValueResolverGenerator valueResolverGenerator = ValueResolverGenerator.builder().setIndex(index)
+                .setClassOutput(classOutput)
+                .addClass(index.getClassByName(Item.class))
+                .addClass(index.getClassByName(User.class))
+                .build();
+        valueResolverGenerator.generate();
+
+        String compiledClassName = RenderBenchmark.class.getPackageName() + ".Items" + TemplateCompiler.SUFFIX;
+        TemplateCompiler templateCompiler = new TemplateCompiler(index, classOutput);
+        Map<String, Type> parameters = Map.of("title", ClassType.create(String.class),
+                "user", ClassType.create(User.class),
+                "items", ParameterizedType.create(DotName.createSimple(List.class),
+                        new Type[] { ClassType.create(Item.class) }, null));
+        if (!templateCompiler.compile(Engine.builder().addDefaults().build().parse(TEMPLATE), parameters,
+                compiledClassName)) {
+            throw new IllegalStateException("Template not compiled");
+        }
+
+        EngineBuilder interpretedBuilder = Engine.builder().addDefaults();
+        for (String valueResolver : valueResolverGenerator.getGeneratedTypes()) {
+            interpretedBuilder.addValueResolver((ValueResolver) newInstance(classes.get(valueResolver)));
+        }
+        interpreted = interpretedBuilder.build().parse(TEMPLATE, null, "items");
+        compiled = Engine.builder().addDefaults()
+                .addCompiledTemplate("items", (CompiledTemplate) newInstance(classes.get(compiledClassName)))
+                .build().parse(TEMPLATE, null, "items");
+
+        List<Item> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            list.add(new Item("Item " + i, BigDecimal.valueOf(i * 10), i % 3 == 0, i % 2 == 0 ? List.of("a", "b") : List.of()));
+        }
+        data = Map.of("title", "Items", "user", new User("Alice", false), "items", list);
+
+        String expected = render(interpreted);
+        if (!expected.equals(render(compiled))) {
+            throw new IllegalStateException("Compiled template renders a different output");
+        }
+    }
+
+    @Benchmark
+    public String interpreted() {
+        return render(interpreted);
+    }
+
+    @Benchmark
+    public String compiled() {
+        return render(compiled);
+    }
+
+    private String render(Template template) {
+        return template.data("title", data.get("title")).data("user", data.get("user")).data("items", data.get("items"))
+                .render();
+    }
+
+    private static Object newInstance(byte[] bytes) throws ReflectiveOperationException {
+        return MethodHandles.lookup().defineClass(bytes).getDeclaredConstructor().newInstance();
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            indexer.indexClass(clazz);
+        }
+        return indexer.complete();
+    }
+
+}
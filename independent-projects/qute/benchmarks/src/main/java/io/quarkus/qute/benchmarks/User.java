@@ -0,0 +1,21 @@
+package io.quarkus.qute.benchmarks;
+
+public class User {
+
+    private final String name;
+    private final boolean admin;
+
+    public User(String name, boolean admin) {
+        this.name = name;
+        this.admin = admin;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isAdmin() {
+        return admin;
+    }
+
+}
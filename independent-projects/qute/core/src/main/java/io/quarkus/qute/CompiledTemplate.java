@@ -0,0 +1,100 @@
+package io.quarkus.qute;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A template compiled to bytecode, typically generated at build time for a type-safe template.
+ * <p>
+ * A compiled template renders the same output as the interpreter, but it writes the text and invokes the members found during
+ * the type-safe validation directly, i.e. without value resolvers and {@link java.util.concurrent.CompletionStage}s. If the
+ * compiled code cannot render the current data, e.g. because a template parameter is missing or an intermediate value is
+ * {@code null}, {@link #render(Output)} returns {@code false} and the template is rendered by the interpreter instead.
+ * <p>
+ * A compiled template is only used if its {@link #getFingerprint() fingerprint} matches the fingerprint of the parsed template.
+ *
+ * @see EngineBuilder#addCompiledTemplate(String, CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the fingerprint of the template this class was compiled from
+     * @see #fingerprint(Template)
+     */
+    int getFingerprint();
+
+    /**
+     *
+     * @param output
+     * @return {@code true} if the template was rendered, {@code false} if the interpreter should be used instead
+     */
+    boolean render(Output output);
+
+    /**
+     * The fingerprint is computed from the text, expressions, sections and non-synthetic parameter declarations of the
+     * template.
+     *
+     * @param template
+     * @return the fingerprint of the given template
+     */
+    static int fingerprint(Template template) {
+        return fingerprint(template.getNodes(), 1);
+    }
+
+    private static int fingerprint(List<TemplateNode> nodes, int hash) {
+        for (TemplateNode node : nodes) {
+            if (node.isText()) {
+                hash = 31 * hash + node.asText().getValue().hashCode();
+            } else if (node.isExpression()) {
+                hash = 31 * hash + node.asExpression().expression.toOriginalString().hashCode();
+            } else if (node.isSection()) {
+                SectionNode section = node.asSection();
+                hash = 31 * hash + section.name.hashCode();
+                for (SectionBlock block : section.blocks) {
+                    hash = 31 * hash + block.label.hashCode();
+                    hash = 31 * hash + block.parameters.hashCode();
+                    hash = fingerprint(block.nodes, hash);
+                }
+            } else if (node.kind() == TemplateNode.Kind.PARAM_DECLARATION
+                    && !node.asParamDeclaration().getOrigin().isSynthetic()) {
+                // Synthetic declarations are added by parser hooks, e.g. during the type-safe validation
+                ParameterDeclarationNode declaration = node.asParamDeclaration();
+                hash = 31 * hash + declaration.getKey().hashCode();
+                hash = 31 * hash + Objects.hashCode(declaration.getTypeInfo());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * The output of a compiled template.
+     */
+    interface Output {
+
+        /**
+         *
+         * @param key
+         * @return the value of the template parameter, or {@code null} if the value is {@code null} or not available
+         */
+        Object getData(String key);
+
+        /**
+         *
+         * @param text
+         */
+        void write(String text);
+
+        /**
+         * The value is written the same way the interpreter writes the result of an output expression, i.e. {@code null}
+         * is ignored, {@code Optional}s are unwrapped and the result mappers of the engine are applied.
+         *
+         * @param value
+         * @param expressionIndex the index of the expression in {@link Template#getExpressions()}
+         * @return {@code false} if the value cannot be written synchronously, e.g. it's a {@code CompletionStage}
+         */
+        boolean writeValue(Object value, int expressionIndex);
+
+    }
+
+}
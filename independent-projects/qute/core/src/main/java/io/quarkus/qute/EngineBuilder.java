@@ -46,6 +46,7 @@ public final class EngineBuilder {
     final List<EngineListener> listeners;
     boolean enableTracing;
     ParserConfigurator parserConfigurator;
+    final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -61,6 +62,7 @@ public final class EngineBuilder {
         this.timeout = 10_000;
         this.useAsyncTimeout = true;
         this.listeners = new ArrayList<>();
+        this.compiledTemplates = new HashMap<>();
         this.parserConfigurator = new ParserConfigurator() {
             @Override
             public ParserConfig getConfig(String templateId, Optional<Variant> variant) {
@@ -345,6 +347,20 @@ public EngineBuilder addEngineListener(EngineListener listener) {
         return this;
     }
 
+    /**
+     * The compiled template is used to render the template with the given id, unless tracing is enabled or its fingerprint does
+     * not match the parsed template.
+     *
+     * @param templateId
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(String templateId, CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.put(Objects.requireNonNull(templateId), Objects.requireNonNull(compiledTemplate));
+        return this;
+    }
+
     /**
      * If set to {@code true} then trace listeners that enable logging, profiling, or building interactive debugging tools, can
      * be registered with the {@link TraceManager}.
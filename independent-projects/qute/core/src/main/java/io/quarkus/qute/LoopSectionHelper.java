@@ -49,6 +49,14 @@ public String getMetadataPrefix() {
         return metadataPrefix;
     }
 
+    public String getAlias() {
+        return alias;
+    }
+
+    public Expression getIterable() {
+        return iterable;
+    }
+
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
         return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
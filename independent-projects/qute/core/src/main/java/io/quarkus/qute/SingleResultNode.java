@@ -23,7 +23,7 @@ public SingleResultNode(Object value) {
         this.node = expressionNode != null && expressionNode.hasEngineResultMappers() ? expressionNode : null;
     }
 
-    private static Object extractValue(Object value) {
+    static Object extractValue(Object value) {
         if (value instanceof Optional) {
             return ((Optional<?>) value).orElse(null);
         }
@@ -23,6 +23,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.qute.TemplateInstanceBase.DataMap;
 import io.quarkus.qute.trace.TemplateEvent;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -43,6 +44,9 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // Only initialized if a compiled template is registered for this template
+    private final LazyValue<Compiled> compiled;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -56,6 +60,11 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        // Fragments and traced templates are always rendered by the interpreter
+        CompiledTemplate compiledTemplate = root.name.equals(Parser.ROOT_HELPER_NAME) && engine.traceManager == null
+                ? engine.getCompiledTemplate(templateId)
+                : null;
+        this.compiled = compiledTemplate != null ? new LazyValue<>(() -> initCompiled(compiledTemplate)) : null;
     }
 
     @Override
@@ -134,6 +143,15 @@ public Optional<URI> getSource() {
         return source;
     }
 
+    private Compiled initCompiled(CompiledTemplate compiledTemplate) {
+        // Note that the nodes of the template are optimized after the template is created, i.e. we cannot verify the fingerprint in the constructor
+        if (compiledTemplate.getFingerprint() != CompiledTemplate.fingerprint(this)) {
+            LOG.debugf("Compiled template ignored - %s does not match the compiled template", this);
+            return new Compiled(null, null);
+        }
+        return new Compiled(compiledTemplate, getExpressions());
+    }
+
     private LazyValue<Map<String, Fragment>> initFragments(SectionNode section) {
         if (section.name.equals(Parser.ROOT_HELPER_NAME)) {
             // Initialize the lazy map for root sections only
@@ -174,9 +192,16 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            if (compiled != null) {
+                String result = renderCompiled();
+                if (result != null) {
+                    return result;
+                }
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                // the compiled template, if any, was not able to render the data
+                return renderInterpreted().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -250,6 +275,20 @@ protected Engine engine() {
         }
 
         private CompletionStage<String> renderAsyncNoTimeout() {
+            if (compiled != null) {
+                try {
+                    String result = renderCompiled();
+                    if (result != null) {
+                        return CompletedStage.of(result);
+                    }
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return renderInterpreted();
+        }
+
+        private CompletionStage<String> renderInterpreted() {
             StringBuilder builder = new StringBuilder(getCapacity());
             return renderData(data(), builder::append).thenApply(v -> {
                 String str = builder.toString();
@@ -258,6 +297,27 @@ private CompletionStage<String> renderAsyncNoTimeout() {
             });
         }
 
+        /**
+         *
+         * @return the rendered template or {@code null} if the compiled template is not able to render the current data
+         */
+        private String renderCompiled() {
+            Compiled c = compiled.get();
+            if (c.template() == null) {
+                return null;
+            }
+            Object data = data();
+            StringBuilder builder = new StringBuilder(getCapacity());
+            if (!c.template().render(new CompiledOutput(builder, data instanceof DataMap ? (DataMap) data : null,
+                    c.expressions()))) {
+                return null;
+            }
+            runRenderedActions();
+            String str = builder.toString();
+            capacity.update(str.length());
+            return str;
+        }
+
         private int getCapacity() {
             return attributes.isEmpty() ? capacity.get() : getCapacityAttributeValue();
         }
@@ -300,16 +360,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
                 if (event != null) {
@@ -321,6 +372,18 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -333,6 +396,50 @@ public String toString() {
 
     }
 
+    record Compiled(CompiledTemplate template, List<Expression> expressions) {
+    }
+
+    final class CompiledOutput implements CompiledTemplate.Output {
+
+        private final StringBuilder builder;
+        private final DataMap data;
+        private final List<Expression> expressions;
+
+        CompiledOutput(StringBuilder builder, DataMap data, List<Expression> expressions) {
+            this.builder = builder;
+            this.data = data;
+            this.expressions = expressions;
+        }
+
+        @Override
+        public Object getData(String key) {
+            return data != null ? data.get(key) : null;
+        }
+
+        @Override
+        public void write(String text) {
+            builder.append(text);
+        }
+
+        @Override
+        public boolean writeValue(Object value, int expressionIndex) {
+            if (value instanceof CompletionStage || value instanceof ResultNode || value instanceof Uni) {
+                // Async results are only supported by the interpreter
+                return false;
+            }
+            value = SingleResultNode.extractValue(value);
+            if (value != null) {
+                if (engine.getResultMappers().isEmpty()) {
+                    builder.append(value.toString());
+                } else {
+                    builder.append(engine.mapResult(value, expressions.get(expressionIndex)));
+                }
+            }
+            return true;
+        }
+
+    }
+
     class Capacity {
 
         static final int LIMIT = 64 * 1024;
@@ -0,0 +1,75 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledTemplateTest {
+
+    private static final String CONTENT = "Hello {name}!";
+
+    @Test
+    public void testCompiled() throws Exception {
+        CountingCompiledTemplate compiled = new CountingCompiledTemplate();
+        Template hello = engine(compiled).getTemplate("hello");
+
+        assertEquals("Hello compiled!", hello.data("name", "compiled").render());
+        assertEquals(1, compiled.attempts.get());
+        assertEquals("Hello compiled!",
+                hello.data("name", "compiled").renderAsync().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(2, compiled.attempts.get());
+    }
+
+    @Test
+    public void testFallbackToInterpreter() throws Exception {
+        CountingCompiledTemplate compiled = new CountingCompiledTemplate();
+        Template hello = engine(compiled).getTemplate("hello");
+        AtomicInteger rendered = new AtomicInteger();
+
+        // the compiled template gives up once it wrote the first part of the output
+        assertEquals("Hello interpreted!",
+                hello.data("name", "interpreted").onRendered(rendered::incrementAndGet).render());
+        assertEquals(1, compiled.attempts.get());
+        assertEquals(1, rendered.get());
+
+        assertEquals("Hello interpreted!",
+                hello.data("name", "interpreted").onRendered(rendered::incrementAndGet).renderAsync()
+                        .toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals(2, compiled.attempts.get());
+        assertEquals(2, rendered.get());
+    }
+
+    private static Engine engine(CompiledTemplate compiled) {
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledTemplate("hello", compiled)
+                .build();
+        engine.putTemplate("hello", engine.parse(CONTENT, null, "hello"));
+        return engine;
+    }
+
+    static class CountingCompiledTemplate implements CompiledTemplate {
+
+        final AtomicInteger attempts = new AtomicInteger();
+
+        @Override
+        public int getFingerprint() {
+            return CompiledTemplate.fingerprint(Engine.builder().addDefaults().build().parse(CONTENT));
+        }
+
+        @Override
+        public boolean render(Output output) {
+            attempts.incrementAndGet();
+            output.write("Hello ");
+            Object name = output.getData("name");
+            if (!"compiled".equals(name)) {
+                return false;
+            }
+            output.writeValue(name, 0);
+            output.write("!");
+            return true;
+        }
+    }
+}
@@ -12,6 +12,8 @@
 import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
@@ -107,6 +109,12 @@ private Descriptors() {
             "matchClass", boolean.class, EvalContext.class, Class.class);
     public static final MethodDesc VALUE_RESOLVERS_HAS_NO_PARAMS = MethodDesc.of(ValueResolvers.class,
             "hasNoParams", boolean.class, EvalContext.class);
+    static final MethodDesc BOOLEANS_IS_FALSY = MethodDesc.of(Booleans.class, "isFalsy", boolean.class, Object.class);
+    static final MethodDesc OUTPUT_GET_DATA = MethodDesc.of(CompiledTemplate.Output.class, "getData", Object.class,
+            String.class);
+    static final MethodDesc OUTPUT_WRITE = MethodDesc.of(CompiledTemplate.Output.class, "write", void.class, String.class);
+    static final MethodDesc OUTPUT_WRITE_VALUE = MethodDesc.of(CompiledTemplate.Output.class, "writeValue", boolean.class,
+            Object.class, int.class);
 
     public static final FieldDesc EVALUATED_PARAMS_STAGE = FieldDesc.of(EvaluatedParams.class, "stage");
 
@@ -0,0 +1,519 @@
+package io.quarkus.qute.generator;
+
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+
+import java.lang.constant.ClassDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.desc.ClassMethodDesc;
+import io.quarkus.gizmo2.desc.FieldDesc;
+import io.quarkus.gizmo2.desc.InterfaceMethodDesc;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode;
+
+/**
+ * Generates a {@link CompiledTemplate} for a template whose parameter types are known.
+ * <p>
+ * Only a subset of templates is supported, i.e. text, output expressions, and {@code if}, {@code for} and {@code each}
+ * sections. All expressions must consist of properties, start with a template parameter or a loop alias and each property
+ * must be a public field or a public method without parameters declared on a public class. Loops are only supported for
+ * the parameterized types of the JDK collections. The {@code if} section may only declare a single operand and an optional
+ * {@code else} block. A template that does not fit in this subset is not compiled.
+ *
+ * @see CompiledTemplate
+ */
+public class TemplateCompiler extends AbstractGenerator {
+
+    public static final String SUFFIX = "_CompiledTemplate";
+
+    private static final Logger LOGGER = Logger.getLogger(TemplateCompiler.class);
+
+    // Larger templates could hit the method size limit
+    static final int MAX_NODES = 1000;
+    // Each constant string must fit in the constant pool
+    static final int MAX_TEXT_LENGTH = 16 * 1024;
+
+    private static final Set<DotName> ITERABLES = Set.of(DotName.createSimple(Iterable.class),
+            DotName.createSimple(java.util.Collection.class), DotName.createSimple(java.util.List.class),
+            DotName.createSimple(java.util.Set.class), DotName.createSimple(java.util.SortedSet.class),
+            DotName.createSimple(java.util.NavigableSet.class), DotName.createSimple(java.util.Queue.class),
+            DotName.createSimple(java.util.Deque.class), DotName.createSimple(java.util.ArrayList.class),
+            DotName.createSimple(java.util.LinkedList.class), DotName.createSimple(java.util.HashSet.class),
+            DotName.createSimple(java.util.LinkedHashSet.class), DotName.createSimple(java.util.TreeSet.class),
+            DotName.createSimple(java.util.ArrayDeque.class));
+    private static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
+
+    private final BiPredicate<Type, String> propertyFilter;
+
+    public TemplateCompiler(IndexView index, ClassOutput classOutput) {
+        this(index, classOutput, (type, name) -> true);
+    }
+
+    /**
+     *
+     * @param index
+     * @param classOutput
+     * @param propertyFilter a template is not compiled if a property of the given type is rejected, e.g. because it's
+     *        resolved by a template extension method
+     */
+    public TemplateCompiler(IndexView index, ClassOutput classOutput, BiPredicate<Type, String> propertyFilter) {
+        super(index, classOutput);
+        this.propertyFilter = propertyFilter;
+    }
+
+    /**
+     *
+     * @param template
+     * @param parameters the types of the template parameters
+     * @param generatedClassName
+     * @return {@code true} if the class was generated, {@code false} if the template cannot be compiled
+     */
+    public boolean compile(Template template, Map<String, Type> parameters, String generatedClassName) {
+        Analysis analysis = new Analysis(template, parameters);
+        List<Op> ops = analysis.analyze(template.getNodes(), new HashMap<>());
+        if (ops == null) {
+            LOGGER.debugf("%s not compiled: %s", template, analysis.reason);
+            return false;
+        }
+        int fingerprint = CompiledTemplate.fingerprint(template);
+        gizmo.class_(generatedClassName, cc -> {
+            cc.implements_(CompiledTemplate.class);
+            cc.defaultConstructor();
+            cc.method("getFingerprint", mc -> {
+                mc.returning(int.class);
+                mc.body(bc -> bc.return_(fingerprint));
+            });
+            cc.method("render", mc -> {
+                mc.returning(boolean.class);
+                ParamVar out = mc.parameter("out", CompiledTemplate.Output.class);
+                mc.body(bc -> {
+                    generate(bc, out, ops, Map.of());
+                    bc.return_(true);
+                });
+            });
+        });
+        generatedTypes.add(generatedClassName.replace('/', '.'));
+        LOGGER.debugf("%s compiled to %s", template, generatedClassName);
+        return true;
+    }
+
+    private void generate(BlockCreator bc, ParamVar out, List<Op> ops, Map<String, LocalVar> aliases) {
+        for (Op op : ops) {
+            if (op instanceof Text text) {
+                bc.invokeInterface(Descriptors.OUTPUT_WRITE, out, Const.of(text.value()));
+            } else if (op instanceof Output output) {
+                Expr value = boxed(bc, output.path(), value(bc, out, output.path(), aliases));
+                bc.ifNot(bc.invokeInterface(Descriptors.OUTPUT_WRITE_VALUE, out, value, Const.of(output.expressionIndex())),
+                        async -> async.return_(false));
+            } else if (op instanceof If if_) {
+                Expr value = value(bc, out, if_.path(), aliases);
+                if (isPrimitiveBoolean(if_.path().type())) {
+                    bc.ifElse(value, main -> generate(main, out, if_.main(), aliases),
+                            else_ -> generate(else_, out, if_.else_(), aliases));
+                } else {
+                    bc.ifElse(bc.invokeStatic(Descriptors.BOOLEANS_IS_FALSY, boxed(bc, if_.path(), value)),
+                            else_ -> generate(else_, out, if_.else_(), aliases),
+                            main -> generate(main, out, if_.main(), aliases));
+                }
+            } else if (op instanceof Loop loop) {
+                LocalVar iterable = bc.localVar("iterable", value(bc, out, loop.path(), aliases));
+                bc.ifNotNull(iterable, notNull -> {
+                    LocalVar empty = notNull.localVar("empty", Const.of(true));
+                    ClassDesc elementClass = classDescOf(loop.elementType().name());
+                    notNull.forEach(iterable, (each, element) -> {
+                        each.set(empty, Const.of(false));
+                        each.ifNotInstanceOf(element, elementClass, unexpected -> unexpected.return_(false));
+                        Map<String, LocalVar> loopAliases = new HashMap<>(aliases);
+                        loopAliases.put(loop.alias(), each.localVar(loop.alias(), each.cast(element, elementClass)));
+                        generate(each, out, loop.main(), loopAliases);
+                    });
+                    if (!loop.else_().isEmpty()) {
+                        notNull.if_(empty, isEmpty -> generate(isEmpty, out, loop.else_(), aliases));
+                    }
+                });
+            } else {
+                throw new IllegalStateException("Unsupported operation: " + op);
+            }
+        }
+    }
+
+    private Expr value(BlockCreator bc, ParamVar out, Path path, Map<String, LocalVar> aliases) {
+        Expr current;
+        if (path.alias()) {
+            current = aliases.get(path.root());
+        } else {
+            LocalVar data = bc.localVar("data", bc.invokeInterface(Descriptors.OUTPUT_GET_DATA, out, Const.of(path.root())));
+            ClassDesc rootClass = classDescOf(path.rootType().name());
+            // Note that null is not an instance of any type
+            bc.ifNotInstanceOf(data, rootClass, unexpected -> unexpected.return_(false));
+            current = bc.cast(data, rootClass);
+        }
+        List<Member> members = path.members();
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            Expr result;
+            if (member.field() != null) {
+                result = current.field(FieldDesc.of(member.owner(), member.field().name(),
+                        classDescOf(member.field().type())));
+            } else {
+                MethodTypeDesc type = MethodTypeDesc.of(classDescOf(member.method().returnType()));
+                result = member.ownerIsInterface()
+                        ? bc.invokeInterface(InterfaceMethodDesc.of(member.owner(), member.method().name(), type), current)
+                        : bc.invokeVirtual(ClassMethodDesc.of(member.owner(), member.method().name(), type), current);
+            }
+            if (i < members.size() - 1) {
+                // Let the interpreter handle null intermediate values
+                LocalVar intermediate = bc.localVar(member.name(), result);
+                bc.ifNull(intermediate, isNull -> isNull.return_(false));
+                current = intermediate;
+            } else {
+                current = result;
+            }
+        }
+        return current;
+    }
+
+    private Expr boxed(BlockCreator bc, Path path, Expr value) {
+        return path.type().kind() == Kind.PRIMITIVE ? bc.box(value) : value;
+    }
+
+    private static boolean isPrimitiveBoolean(Type type) {
+        return type.kind() == Kind.PRIMITIVE && type.asPrimitiveType().primitive() == Primitive.BOOLEAN;
+    }
+
+    private class Analysis {
+
+        private final Template template;
+        private final Map<String, Type> parameters;
+        private final List<Expression> expressions;
+        private int nodes;
+        private String reason;
+
+        Analysis(Template template, Map<String, Type> parameters) {
+            this.template = template;
+            this.parameters = parameters;
+            this.expressions = template.getExpressions();
+        }
+
+        /**
+         *
+         * @param templateNodes
+         * @param aliases the types of the loop aliases in the current scope
+         * @return the operations or {@code null} if not supported
+         */
+        List<Op> analyze(List<TemplateNode> templateNodes, Map<String, Type> aliases) {
+            List<Op> ops = new ArrayList<>();
+            StringBuilder text = new StringBuilder();
+            for (TemplateNode node : templateNodes) {
+                if (++nodes > MAX_NODES) {
+                    return unsupported("too many nodes");
+                }
+                if (node.isText()) {
+                    text.append(node.asText().getValue());
+                    continue;
+                }
+                flush(text, ops);
+                if (node.kind() == TemplateNode.Kind.PARAM_DECLARATION) {
+                    // Param declarations with a default value are represented by a {#let} section
+                    continue;
+                } else if (node.isExpression()) {
+                    Expression expression = node.asExpression().getExpressions().get(0);
+                    Path path = path(expression, aliases);
+                    if (path == null) {
+                        return null;
+                    }
+                    ops.add(new Output(path, indexOf(expression)));
+                } else if (node.isSection()) {
+                    Op op = section(node.asSection(), aliases);
+                    if (op == null) {
+                        return null;
+                    }
+                    ops.add(op);
+                } else {
+                    return unsupported("unsupported node " + node);
+                }
+            }
+            flush(text, ops);
+            return ops;
+        }
+
+        private void flush(StringBuilder text, List<Op> ops) {
+            for (int start = 0; start < text.length(); start += MAX_TEXT_LENGTH) {
+                ops.add(new Text(text.substring(start, Math.min(text.length(), start + MAX_TEXT_LENGTH))));
+            }
+            text.setLength(0);
+        }
+
+        private Op section(SectionNode section, Map<String, Type> aliases) {
+            List<SectionBlock> blocks = section.getBlocks();
+            if (blocks.size() > 2) {
+                return unsupported("too many blocks in " + section);
+            }
+            SectionBlock main = blocks.get(0);
+            SectionBlock else_ = blocks.size() > 1 ? blocks.get(1) : null;
+            if (else_ != null && !else_.parameters.isEmpty()) {
+                // {#else if}
+                return unsupported("else block with parameters in " + section);
+            }
+            if (section.getHelper() instanceof LoopSectionHelper loop) {
+                Path path = path(loop.getIterable(), aliases);
+                if (path == null) {
+                    return null;
+                }
+                Type elementType = elementType(path.type());
+                if (elementType == null) {
+                    return unsupported("unsupported iterable type " + path.type());
+                }
+                Map<String, Type> loopAliases = new HashMap<>(aliases);
+                loopAliases.put(loop.getAlias(), elementType);
+                List<Op> mainOps = analyze(main.nodes, loopAliases);
+                List<Op> elseOps = else_ != null ? analyze(else_.nodes, aliases) : List.of();
+                if (mainOps == null || elseOps == null) {
+                    return null;
+                }
+                return new Loop(path, loop.getAlias(), elementType, mainOps, elseOps);
+            } else if (section.getHelper() instanceof IfSectionHelper) {
+                if (!SectionHelperFactory.MAIN_BLOCK_NAME.equals(main.label) || main.parameters.size() != 1
+                        || main.expressions.size() != 1) {
+                    return unsupported("unsupported condition in " + section);
+                }
+                Expression condition = main.expressions.get(main.parameters.values().iterator().next());
+                if (condition == null) {
+                    return unsupported("unsupported condition in " + section);
+                }
+                Path path = path(condition, aliases);
+                if (path == null) {
+                    return null;
+                }
+                if (path.type().name().equals(DotNames.OBJECT)) {
+                    return unsupported("condition of type java.lang.Object in " + section);
+                }
+                List<Op> mainOps = analyze(main.nodes, aliases);
+                List<Op> elseOps = else_ != null ? analyze(else_.nodes, aliases) : List.of();
+                if (mainOps == null || elseOps == null) {
+                    return null;
+                }
+                return new If(path, mainOps, elseOps);
+            }
+            return unsupported("unsupported section " + section.getName());
+        }
+
+        private Path path(Expression expression, Map<String, Type> aliases) {
+            if (expression.hasNamespace() || expression.isLiteral()) {
+                return unsupported("unsupported expression " + expression.toOriginalString());
+            }
+            List<Expression.Part> parts = expression.getParts();
+            for (Expression.Part part : parts) {
+                if (part.isVirtualMethod()) {
+                    return unsupported("unsupported expression " + expression.toOriginalString());
+                }
+            }
+            String root = parts.get(0).getName();
+            boolean alias = aliases.containsKey(root);
+            Type type = alias ? aliases.get(root) : parameters.get(root);
+            if (type == null || !isAccessible(type)) {
+                return unsupported("unsupported root of " + expression.toOriginalString());
+            }
+            Type rootType = type;
+            List<Member> members = new ArrayList<>();
+            for (Expression.Part part : parts.subList(1, parts.size())) {
+                Member member = type.kind() == Kind.CLASS || type.kind() == Kind.PARAMETERIZED_TYPE
+                        ? findMember(type, part.getName())
+                        : null;
+                if (member == null) {
+                    return unsupported("member " + part.getName() + " not found on " + type);
+                }
+                members.add(member);
+                type = member.type();
+            }
+            if (type.kind() != Kind.PRIMITIVE && (hasCompletionStage(type) || hasClassInTypeClosure(
+                    index.getClassByName(type.name()), UNI, index))) {
+                return unsupported("async result of " + expression.toOriginalString());
+            }
+            return new Path(root, alias, rootType, members, type);
+        }
+
+        private Member findMember(Type type, String name) {
+            ClassInfo clazz = index.getClassByName(type.name());
+            if (clazz == null || !isAccessible(type) || !propertyFilter.test(type, name)) {
+                return null;
+            }
+            ClassDesc owner = classDescOf(clazz.name());
+            MethodInfo method = findMethod(clazz, name);
+            if (method == null) {
+                method = findMethod(clazz, ValueResolverGenerator.GET_PREFIX + capitalize(name));
+            }
+            if (method == null) {
+                method = findMethod(clazz, ValueResolverGenerator.IS_PREFIX + capitalize(name));
+                if (method != null && !isBoolean(method.returnType())) {
+                    method = null;
+                }
+            }
+            if (method != null) {
+                return isSupported(method.returnType())
+                        ? new Member(name, owner, clazz.isInterface(), method, null, method.returnType())
+                        : null;
+            }
+            FieldInfo field = findField(clazz, name);
+            if (field != null && isSupported(field.type())) {
+                return new Member(name, owner, clazz.isInterface(), null, field, field.type());
+            }
+            return null;
+        }
+
+        private MethodInfo findMethod(ClassInfo clazz, String name) {
+            while (clazz != null) {
+                for (MethodInfo method : clazz.methods()) {
+                    if (method.name().equals(name) && method.parametersCount() == 0 && Modifier.isPublic(method.flags())
+                            && !Modifier.isStatic(method.flags()) && method.returnType().kind() != Kind.VOID) {
+                        return method;
+                    }
+                }
+                for (DotName interfaceName : clazz.interfaceNames()) {
+                    ClassInfo interfaceClass = index.getClassByName(interfaceName);
+                    if (interfaceClass != null) {
+                        MethodInfo method = findMethod(interfaceClass, name);
+                        if (method != null) {
+                            return method;
+                        }
+                    }
+                }
+                clazz = clazz.superName() != null ? index.getClassByName(clazz.superName()) : null;
+            }
+            return null;
+        }
+
+        private FieldInfo findField(ClassInfo clazz, String name) {
+            while (clazz != null) {
+                FieldInfo field = clazz.field(name);
+                if (field != null) {
+                    return Modifier.isPublic(field.flags()) && !Modifier.isStatic(field.flags()) ? field : null;
+                }
+                clazz = clazz.superName() != null ? index.getClassByName(clazz.superName()) : null;
+            }
+            return null;
+        }
+
+        private Type elementType(Type type) {
+            if (type.kind() != Kind.PARAMETERIZED_TYPE || !ITERABLES.contains(type.name())) {
+                return null;
+            }
+            List<Type> arguments = type.asParameterizedType().arguments();
+            if (arguments.size() != 1 || !isAccessible(arguments.get(0))) {
+                return null;
+            }
+            return arguments.get(0);
+        }
+
+        private boolean isAccessible(Type type) {
+            if (type.kind() != Kind.CLASS && type.kind() != Kind.PARAMETERIZED_TYPE) {
+                return false;
+            }
+            ClassInfo clazz = index.getClassByName(type.name());
+            return clazz != null && Modifier.isPublic(clazz.flags()) && isSupported(type);
+        }
+
+        /**
+         * Type variables are not supported, i.e. the type of a member must be known without the context of the declaring class.
+         */
+        private boolean isSupported(Type type) {
+            switch (type.kind()) {
+                case PRIMITIVE:
+                case CLASS:
+                    return true;
+                case PARAMETERIZED_TYPE:
+                    for (Type argument : type.asParameterizedType().arguments()) {
+                        if (!isSupported(argument)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private boolean isBoolean(Type type) {
+            return isPrimitiveBoolean(type) || type.name().equals(DotNames.BOOLEAN);
+        }
+
+        private int indexOf(Expression expression) {
+            for (int i = 0; i < expressions.size(); i++) {
+                if (expressions.get(i) == expression) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Expression " + expression + " not found in " + template);
+        }
+
+        private <T> T unsupported(String reason) {
+            this.reason = reason;
+            return null;
+        }
+
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    sealed interface Op {
+    }
+
+    record Text(String value) implements Op {
+    }
+
+    record Output(Path path, int expressionIndex) implements Op {
+    }
+
+    record If(Path path, List<Op> main, List<Op> else_) implements Op {
+    }
+
+    record Loop(Path path, String alias, Type elementType, List<Op> main, List<Op> else_) implements Op {
+    }
+
+    /**
+     *
+     * @param root the name of the template parameter or loop alias
+     * @param alias {@code true} if the root is a loop alias
+     * @param rootType
+     * @param members
+     * @param type the type of the value
+     */
+    record Path(String root, boolean alias, Type rootType, List<Member> members, Type type) {
+    }
+
+    record Member(String name, ClassDesc owner, boolean ownerIsInterface, MethodInfo method, FieldInfo field, Type type) {
+    }
+
+}
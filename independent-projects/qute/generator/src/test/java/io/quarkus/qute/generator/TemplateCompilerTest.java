@@ -0,0 +1,225 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateException;
+
+public class TemplateCompilerTest {
+
+    static final String ITEMS = """
+            <h1>{title}</h1>
+            {#if user.admin}
+            <p>Admin: {user.name}</p>
+            {#else}
+            <p>User: {user.name}</p>
+            {/if}
+            <ul>
+            {#for item in items}
+              <li>{item.name} {item.price} {item.discount}{#if item.tags}: {#each item.tags}{it}{/each}{/if}</li>
+            {#else}
+              <li>No items</li>
+            {/for}
+            </ul>
+            """;
+
+    static Index index;
+    static Map<String, Type> parameters;
+
+    @BeforeAll
+    public static void init() throws IOException {
+        index = SimpleGeneratorTest.index(Item.class, User.class, String.class, List.class, Collection.class, Iterable.class,
+                Object.class, Boolean.class, CompletionStage.class);
+        parameters = Map.of("title", ClassType.create(String.class),
+                "user", ClassType.create(User.class),
+                "items", ParameterizedType.create(DotName.createSimple(List.class), new Type[] { ClassType.create(Item.class) },
+                        null));
+    }
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        Template interpreted = engine().build().parse(ITEMS);
+        // Value resolvers are not registered, i.e. the interpreter would fail to render the template
+        Template compiled = Engine.builder().addDefaults()
+                .addCompiledTemplate("items", compiledTemplate("Items", ITEMS))
+                .build().parse(ITEMS, null, "items");
+
+        List<Item> items = List.of(new Item("Lemon", 10, null, List.of("yellow", "sour")),
+                new Item(null, 20, 5L, null));
+        for (List<Item> data : List.of(items, List.<Item> of())) {
+            for (User user : List.of(new User("Martin", true), new User("Alice", false))) {
+                String expected = interpreted.data("title", "Fruits").data("user", user).data("items", data).render();
+                assertEquals(expected, compiled.data("title", "Fruits").data("user", user).data("items", data).render());
+                assertEquals(expected, compiled.data("title", "Fruits").data("user", user).data("items", data).renderAsync()
+                        .toCompletableFuture().get());
+            }
+        }
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        String content = "{#for item in items}{item.name.length}:{/for}{user.name}";
+        Template interpreted = engine().build().parse(content, null, "fallback");
+        Template compiled = engine().addCompiledTemplate("fallback", compiledTemplate("Fallback", content))
+                .build().parse(content, null, "fallback");
+        User user = new User("Alice", false);
+
+        List<Item> items = List.of(new Item("Lemon", 10, null, null));
+        assertEquals("5:Alice", compiled.data("items", items).data("user", user).render());
+        assertEquals(1, user.invocations.get());
+
+        // Null intermediate value
+        List<Item> nullName = List.of(new Item(null, 10, null, null));
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> interpreted.data("items", nullName).data("user", user).render());
+        TemplateException actual = assertThrows(TemplateException.class,
+                () -> compiled.data("items", nullName).data("user", user).render());
+        assertEquals(expected.getMessage(), actual.getMessage());
+
+        // Unexpected type of a parameter
+        assertEquals("Bob", compiled.data("items", List.of()).data("user", Map.of("name", "Bob")).render());
+
+        // Missing parameter
+        assertEquals(interpreted.data("items", items).render(), compiled.data("items", items).render());
+    }
+
+    @Test
+    public void testResultMappers() throws Exception {
+        String content = "{title}:{user.name}";
+        Template compiled = Engine.builder().addDefaults()
+                .addResultMapper((result, expression) -> expression.toOriginalString() + "=" + result)
+                .addCompiledTemplate("mappers", compiledTemplate("Mappers", content))
+                .build().parse(content, null, "mappers");
+        assertEquals("title=Fruits:user.name=Alice",
+                compiled.data("title", "Fruits").data("user", new User("Alice", false)).render());
+    }
+
+    @Test
+    public void testModifiedTemplate() throws Exception {
+        Template template = engine().addCompiledTemplate("modified", compiledTemplate("Modified", "Hello {user.name}!"))
+                .build().parse("Hi {user.name}!", null, "modified");
+        assertEquals("Hi Alice!", template.data("user", new User("Alice", false)).render());
+    }
+
+    @Test
+    public void testUnsupportedTemplates() throws Exception {
+        TemplateCompiler compiler = new TemplateCompiler(index,
+                ClassOutput.fileWriter(new File("target/test-classes/").toPath()));
+        Engine engine = engine().build();
+        for (String unsupported : List.of("{user.name.toUpperCase()}", "{user.name ?: 'foo'}", "{inject:foo}",
+                "{#let foo=user}{foo}{/let}", "{#if user.admin && title}{/if}", "{#if user.admin}{#else if title}{/if}",
+                "{user.unknown}", "{unknown}", "{#for i in title}{/for}", "{#for n in user.names}{/for}",
+                "{user.nameAsync}", "{#for item in items}{item_count}{/for}")) {
+            assertFalse(compiler.compile(engine.parse(unsupported), parameters, "io.quarkus.qute.generator.Unsupported"),
+                    unsupported);
+        }
+        assertTrue(compiler.getGeneratedTypes().isEmpty());
+
+        // A property resolved by a template extension method
+        compiler = new TemplateCompiler(index, ClassOutput.fileWriter(new File("target/test-classes/").toPath()),
+                (type, name) -> !type.name().toString().equals(User.class.getName()) || !name.equals("name"));
+        assertFalse(compiler.compile(engine.parse("{user.name}"), parameters, "io.quarkus.qute.generator.Unsupported"));
+        assertTrue(compiler.compile(engine.parse("{user.admin}"), parameters, "io.quarkus.qute.generator.Admin"));
+    }
+
+    private static CompiledTemplate compiledTemplate(String name, String content) throws Exception {
+        TemplateCompiler compiler = new TemplateCompiler(index,
+                ClassOutput.fileWriter(new File("target/test-classes/").toPath()));
+        String className = "io.quarkus.qute.generator." + name + TemplateCompiler.SUFFIX;
+        assertTrue(compiler.compile(engine().build().parse(content), parameters, className));
+        assertEquals(Set.of(className), compiler.getGeneratedTypes());
+        return (CompiledTemplate) TemplateCompilerTest.class.getClassLoader().loadClass(className)
+                .getDeclaredConstructor().newInstance();
+    }
+
+    private static EngineBuilder engine() {
+        return Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver());
+    }
+
+    public static class Item {
+
+        public final String name;
+        private final int price;
+        private final Long discount;
+        private final List<String> tags;
+
+        public Item(String name, int price, Long discount, List<String> tags) {
+            this.name = name;
+            this.price = price;
+            this.discount = discount;
+            this.tags = tags;
+        }
+
+        public int getPrice() {
+            return price;
+        }
+
+        public Long discount() {
+            return discount;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+    }
+
+    public static class User {
+
+        private final String name;
+        private final boolean admin;
+        final AtomicInteger invocations = new AtomicInteger();
+
+        public User(String name, boolean admin) {
+            this.name = name;
+            this.admin = admin;
+        }
+
+        public String getName() {
+            invocations.incrementAndGet();
+            return name;
+        }
+
+        public boolean isAdmin() {
+            invocations.incrementAndGet();
+            return admin;
+        }
+
+        public CompletionStage<String> getNameAsync() {
+            return CompletableFuture.completedFuture(name);
+        }
+
+        public Iterator<String> getNames() {
+            return List.of(name).iterator();
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+
+/**
+ * Measures the throughput of an HTTP/2 REST client sending requests from all the event loops, with a shared connection
+ * pool or a pool per event loop. Each event loop sends its requests one after the other to a local server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventLoopHttpClientsBenchmark {
+
+    static final int REQUESTS = 100;
+
+    @Param({ "false", "true" })
+    public boolean eventLoopPools;
+
+    private ClientImpl client;
+    private List<Context> contexts;
+    private String uri;
+
+    @Setup
+    public void setup() throws Exception {
+        client = (ClientImpl) ((ClientBuilderImpl) ClientBuilder.newBuilder())
+                .http2(true)
+                .property(QuarkusRestClientProperties.EVENT_LOOP_POOLS, eventLoopPools)
+                .property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, 100)
+                .build();
+        int port = client.vertx.createHttpServer(new HttpServerOptions().setPort(0))
+                .requestHandler(request -> request.response().end("hello"))
+                .listen().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).actualPort();
+        uri = "http://localhost:" + port;
+        // Vert.x returns the same context to the non Vert.x threads, so the contexts of the other event loops are created
+        VertxInternal vertx = ((ContextInternal) client.vertx.getOrCreateContext()).owner();
+        contexts = new ArrayList<>();
+        for (EventExecutor eventLoop : client.vertx.nettyEventLoopGroup()) {
+            contexts.add(vertx.createEventLoopContext((EventLoop) eventLoop, vertx.getWorkerPool(),
+                    Thread.currentThread().getContextClassLoader()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int send() throws Exception {
+        // The requests are spread over the event loops
+        List<CompletableFuture<Integer>> results = new ArrayList<>(contexts.size());
+        for (int i = 0; i < contexts.size(); i++) {
+            Context context = contexts.get(i);
+            int requests = REQUESTS / contexts.size() + (i < REQUESTS % contexts.size() ? 1 : 0);
+            CompletableFuture<Integer> result = new CompletableFuture<>();
+            context.runOnContext(ignored -> send(context, requests, 0, result));
+            results.add(result);
+        }
+        int responses = 0;
+        for (CompletableFuture<Integer> result : results) {
+            responses += result.get(30, TimeUnit.SECONDS);
+        }
+        return responses;
+    }
+
+    private void send(Context context, int remaining, int responses, CompletableFuture<Integer> result) {
+        if (remaining == 0) {
+            result.complete(responses);
+            return;
+        }
+        client.target(uri).request().rx().get(String.class)
+                .whenComplete((body, failure) -> {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else {
+                        context.runOnContext(ignored -> send(context, remaining - 1, responses + 1, result));
+                    }
+                });
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(EventLoopHttpClientsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -75,6 +75,17 @@ public class QuarkusRestClientProperties {
      */
     public static final String HTTP2 = "io.quarkus.rest.client.http2";
 
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection, before another connection is opened.
+     */
+    public static final String HTTP2_MAX_CONCURRENT_STREAMS = "io.quarkus.rest.client.http2-max-concurrent-streams";
+
+    /**
+     * Set to true to keep a connection pool per event loop, so that the requests issued on an event loop are sent and
+     * handled on this event loop. The connection pool size applies to each event loop.
+     */
+    public static final String EVENT_LOOP_POOLS = "io.quarkus.rest.client.event-loop-pools";
+
     /**
      * Configures the HTTP/2 upgrade maximum length of the aggregated content in bytes.
      */
@@ -90,6 +101,13 @@ public class QuarkusRestClientProperties {
      */
     public static final String CAPTURE_STACKTRACE = "io.quarkus.rest.client.capture-stacktrace";
 
+    /**
+     * If set on an invocation, the identical in-flight {@code GET} invocations of the client share a single request and
+     * its response entity. The value is how long, in milliseconds, a successful response is also kept for the next
+     * identical invocations, {@code 0} to only share the in-flight requests.
+     */
+    public static final String COALESCE = "io.quarkus.rest.client.coalesce";
+
     /**
      * Scope of logging for the client.
      * <br/>
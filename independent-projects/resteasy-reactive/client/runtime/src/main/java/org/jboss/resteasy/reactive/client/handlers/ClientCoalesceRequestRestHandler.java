@@ -0,0 +1,113 @@
+package org.jboss.resteasy.reactive.client.handlers;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ClientRestHandler;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * This handler lets the identical in-flight {@code GET} invocations of a client share a single request, when they set
+ * {@link QuarkusRestClientProperties#COALESCE}.
+ * <p>
+ * It runs after the request filters, so the invocations are identical when they have the same URI, final request headers
+ * and response type. The first one continues the handler chain and sends the request, the next ones are suspended until
+ * it completes and then complete with the same response, whose entity has been read once. The response of a successful
+ * request can also be kept for a few milliseconds, to be handed to the identical invocations that start after it.
+ */
+public class ClientCoalesceRequestRestHandler implements ClientRestHandler {
+
+    private final ConcurrentMap<Key, CompletableFuture<ResponseImpl>> requests = new ConcurrentHashMap<>();
+
+    @Override
+    public void handle(RestClientRequestContext requestContext) throws Exception {
+        long cacheTtl = cacheTtl(requestContext);
+        if (cacheTtl < 0 || !canCoalesce(requestContext)) {
+            return;
+        }
+
+        Key key = new Key(requestContext.getUri(), requestContext.getRequestHeadersAsMap(),
+                requestContext.getResponseType().getType());
+        CompletableFuture<ResponseImpl> result = requestContext.getResult();
+        CompletableFuture<ResponseImpl> request = requests.putIfAbsent(key, result);
+        if (request == null) {
+            // this invocation sends the request
+            result.whenComplete((response, failure) -> {
+                if (failure != null || cacheTtl == 0) {
+                    requests.remove(key, result);
+                } else {
+                    CompletableFuture.delayedExecutor(cacheTtl, TimeUnit.MILLISECONDS)
+                            .execute(() -> requests.remove(key, result));
+                }
+            });
+            return;
+        }
+
+        // complete on the context of this invocation, and skip the rest of the chain that only the first invocation runs
+        Context context = Vertx.currentContext();
+        requestContext.suspend();
+        request.whenComplete((response, failure) -> {
+            requestContext.setPosition(requestContext.getHandlers().length);
+            requestContext.resume(new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    if (context == null) {
+                        complete(requestContext, response, failure, command);
+                    } else {
+                        context.runOnContext(ignored -> complete(requestContext, response, failure, command));
+                    }
+                }
+            });
+        });
+    }
+
+    private static void complete(RestClientRequestContext requestContext, ResponseImpl response, Throwable failure,
+            Runnable command) {
+        if (failure != null) {
+            requestContext.getResult().completeExceptionally(failure);
+        } else {
+            requestContext.getResult().complete(response);
+        }
+        command.run();
+    }
+
+    private static long cacheTtl(RestClientRequestContext requestContext) {
+        Object value = requestContext.getProperties().get(QuarkusRestClientProperties.COALESCE);
+        if (value == null) {
+            return -1;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString());
+    }
+
+    /**
+     * The entity is handed to every invocation, so it must not be consumed by one of them like a stream or a file, and
+     * the invocations returning a {@link jakarta.ws.rs.core.Response} read the entity themselves.
+     */
+    private static boolean canCoalesce(RestClientRequestContext requestContext) {
+        return HttpMethod.GET.equals(requestContext.getHttpMethod())
+                && requestContext.getEntity() == null
+                && requestContext.isRegisterBodyHandler()
+                && requestContext.isResponseTypeSpecified()
+                && !requestContext.isFileDownload()
+                && !requestContext.isInputStreamDownload();
+    }
+
+    private record Key(URI uri, MultivaluedMap<String, String> headers, Type responseType) {
+    }
+}
@@ -506,7 +506,7 @@ private void reportFinish(Throwable throwable, RestClientRequestContext requestC
     }
 
     public Uni<HttpClientRequest> createRequest(RestClientRequestContext state) {
-        HttpClient httpClient = state.getHttpClient();
+        HttpClient httpClient = state.getRestClient().selectVertxHttpClient(state.getHttpClient());
         URI uri = state.getUri();
         Object readTimeout = state.getConfiguration().getProperty(QuarkusRestClientProperties.READ_TIMEOUT);
         Uni<RequestOptions> requestOptions;
@@ -542,6 +542,12 @@ public Uni<HttpClientRequest> createRequest(RestClientRequestContext state) {
                     public Uni<? extends HttpClientRequest> apply(RequestOptions options) {
                         return AsyncResultUni.toUni(handler -> httpClient.request(options, handler));
                     }
+                })
+                .onItem().invoke(new Consumer<HttpClientRequest>() {
+                    @Override
+                    public void accept(HttpClientRequest request) {
+                        state.getRestClient().trackVertxHttpRequest(httpClient, request);
+                    }
                 });
     }
 
@@ -4,6 +4,8 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.EVENT_LOOP_POOLS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
@@ -12,6 +14,7 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -95,6 +98,7 @@ public class ClientImpl implements Client {
     final ClientContext clientContext;
     final boolean closeVertx;
     final HttpClient httpClient;
+    private final EventLoopHttpClients eventLoopHttpClients;
     final ConfigurationImpl configuration;
     final HostnameVerifier hostnameVerifier;
     final SSLContext sslContext;
@@ -171,6 +175,11 @@ public Vertx get() {
         options.setMaxPoolSize((int) connectionPoolSize);
         options.setHttp2MaxPoolSize((int) connectionPoolSize);
 
+        Object http2MaxConcurrentStreams = configuration.getProperty(HTTP2_MAX_CONCURRENT_STREAMS);
+        if (http2MaxConcurrentStreams != null) {
+            options.setHttp2MultiplexingLimit((int) http2MaxConcurrentStreams);
+        }
+
         Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
         if (keepAliveEnabled != null) {
             Boolean enabled = (Boolean) keepAliveEnabled;
@@ -197,7 +206,38 @@ public Vertx get() {
             options.setShared(true);
         }
 
+        httpClient = createHttpClient(options, configuration, loggingScope, clientLogger, null);
+
+        Object eventLoopPools = configuration.getProperty(EVENT_LOOP_POOLS);
+        if (eventLoopPools != null && (boolean) eventLoopPools) {
+            // a client shared by name is already shared with other REST clients, so it keeps a single pool
+            if (options.isShared()) {
+                log.debugf("Ignoring the connection pools per event loop of the shared HTTP client '%s'", options.getName());
+                eventLoopHttpClients = null;
+            } else {
+                eventLoopHttpClients = new EventLoopHttpClients(this.vertx.nettyEventLoopGroup(),
+                        connectHandler -> createHttpClient(options, this.configuration, loggingScope, clientLogger,
+                                connectHandler));
+                log.debugf("Using %d connection pools, one per event loop", eventLoopHttpClients.size());
+            }
+        } else {
+            eventLoopHttpClients = null;
+        }
+
+        handlerChain = new HandlerChain(options, isCaptureStacktrace(configuration),
+                followRedirects,
+                loggingScope,
+                clientContext.getMultipartResponsesData(),
+                clientLogger,
+                clientRequestCustomizers);
+    }
+
+    private HttpClient createHttpClient(HttpClientOptions options, ConfigurationImpl configuration,
+            LoggingScope loggingScope, ClientLogger clientLogger, Handler<HttpConnection> connectHandler) {
         var httpClientBuilder = this.vertx.httpClientBuilder().with(options).with(options.getPoolOptions());
+        if (connectHandler != null) {
+            httpClientBuilder.withConnectHandler(connectHandler);
+        }
         AdvancedRedirectHandler advancedRedirectHandler = configuration.getFromContext(AdvancedRedirectHandler.class);
         if (advancedRedirectHandler != null) {
             httpClientBuilder.withRedirectHandler(new WrapperVertxAdvancedRedirectHandlerImpl(advancedRedirectHandler));
@@ -208,7 +248,7 @@ public Vertx get() {
             }
         }
 
-        httpClient = httpClientBuilder.build();
+        HttpClient httpClient = httpClientBuilder.build();
 
         if (loggingScope != LoggingScope.NONE) {
             Function<HttpClientResponse, Future<RequestOptions>> defaultRedirectHandler = httpClient.redirectHandler();
@@ -217,19 +257,52 @@ public Vertx get() {
                 return defaultRedirectHandler.apply(response);
             });
         }
-
-        handlerChain = new HandlerChain(options, isCaptureStacktrace(configuration),
-                followRedirects,
-                loggingScope,
-                clientContext.getMultipartResponsesData(),
-                clientLogger,
-                clientRequestCustomizers);
+        return httpClient;
     }
 
     public HttpClient getVertxHttpClient() {
         return httpClient;
     }
 
+    /**
+     * @return the shared HTTP client and, when the client keeps a connection pool per event loop, the HTTP clients of the
+     *         event loops
+     */
+    public List<HttpClient> getVertxHttpClients() {
+        if (eventLoopHttpClients == null) {
+            return List.of(httpClient);
+        }
+        List<HttpClient> httpClients = new ArrayList<>(eventLoopHttpClients.getHttpClients());
+        httpClients.add(0, httpClient);
+        return httpClients;
+    }
+
+    /**
+     * @return the HTTP client to send a request issued on the current thread
+     */
+    public HttpClient selectVertxHttpClient(HttpClient httpClient) {
+        if (eventLoopHttpClients == null) {
+            return httpClient;
+        }
+        return eventLoopHttpClients.select(httpClient);
+    }
+
+    /**
+     * Keeps track of a request created with the HTTP client returned by {@link #selectVertxHttpClient(HttpClient)}.
+     */
+    public void trackVertxHttpRequest(HttpClient httpClient, HttpClientRequest request) {
+        if (eventLoopHttpClients != null) {
+            eventLoopHttpClients.track(httpClient, request);
+        }
+    }
+
+    /**
+     * @return the connection pools per event loop, or {@code null} if the client shares a single pool
+     */
+    public EventLoopHttpClients getEventLoopHttpClients() {
+        return eventLoopHttpClients;
+    }
+
     private boolean isCaptureStacktrace(ConfigurationImpl configuration) {
         Object captureStacktraceObj = configuration.getProperty(CAPTURE_STACKTRACE);
         if (captureStacktraceObj == null) {
@@ -248,6 +321,9 @@ public void close() {
             return;
         isClosed = true;
         httpClient.close();
+        if (eventLoopHttpClients != null) {
+            eventLoopHttpClients.close();
+        }
         if (closeVertx) {
             vertx.close();
         }
@@ -0,0 +1,152 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpConnection;
+
+/**
+ * The HTTP clients of a REST client that keeps a connection pool per event loop, see
+ * {@link org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties#EVENT_LOOP_POOLS}.
+ * <p>
+ * Each Vert.x event loop gets its own HTTP client, and so its own connection pool. The connections are created on the event
+ * loop that requests them, so a request issued on an event loop is sent on a connection of this event loop and its
+ * response is handled there, instead of hopping between the event loops that share a connection. The requests issued
+ * outside the event loops use the shared HTTP client of the REST client.
+ * <p>
+ * The Vert.x metrics of the HTTP clients of the event loops are reported under the metrics name of the REST client, and so
+ * summed up with the metrics of the shared HTTP client. The number of connections, of pending requests and of requests of
+ * each event loop are kept here, for a metrics integration to register them with {@link #registerMetrics(Function)}.
+ */
+public class EventLoopHttpClients {
+
+    private final EventExecutor[] eventLoops;
+    private final HttpClient[] httpClients;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray pending;
+    private final AtomicLongArray connections;
+    private final AtomicLong sharedRequests = new AtomicLong();
+    private final AtomicBoolean metricsRegistered = new AtomicBoolean();
+    private volatile Runnable metricsRemoval;
+
+    /**
+     * @param httpClientFactory creates an HTTP client which passes its new connections to the given handler
+     */
+    EventLoopHttpClients(EventLoopGroup eventLoopGroup, Function<Handler<HttpConnection>, HttpClient> httpClientFactory) {
+        List<EventExecutor> eventLoops = new ArrayList<>();
+        for (EventExecutor eventLoop : eventLoopGroup) {
+            eventLoops.add(eventLoop);
+        }
+        this.eventLoops = eventLoops.toArray(new EventExecutor[0]);
+        this.requests = new AtomicLongArray(this.eventLoops.length);
+        this.pending = new AtomicLongArray(this.eventLoops.length);
+        this.connections = new AtomicLongArray(this.eventLoops.length);
+        this.httpClients = new HttpClient[this.eventLoops.length];
+        for (int i = 0; i < httpClients.length; i++) {
+            int eventLoop = i;
+            httpClients[i] = httpClientFactory.apply(connection -> {
+                connections.incrementAndGet(eventLoop);
+                connection.closeHandler(ignored -> connections.decrementAndGet(eventLoop));
+            });
+        }
+    }
+
+    /**
+     * @return the HTTP client of the current event loop, or the shared HTTP client outside the event loops
+     */
+    HttpClient select(HttpClient sharedHttpClient) {
+        // there are only a few event loops, and comparing the current thread is cheaper than a lookup
+        for (int i = 0; i < eventLoops.length; i++) {
+            if (eventLoops[i].inEventLoop()) {
+                requests.incrementAndGet(i);
+                return httpClients[i];
+            }
+        }
+        sharedRequests.incrementAndGet();
+        return sharedHttpClient;
+    }
+
+    /**
+     * Counts the request as pending until its response is received, if it is sent with the HTTP client of an event loop.
+     */
+    void track(HttpClient httpClient, HttpClientRequest request) {
+        for (int i = 0; i < httpClients.length; i++) {
+            if (httpClients[i] == httpClient) {
+                int eventLoop = i;
+                pending.incrementAndGet(eventLoop);
+                request.response().onComplete(ignored -> pending.decrementAndGet(eventLoop));
+                return;
+            }
+        }
+    }
+
+    List<HttpClient> getHttpClients() {
+        return List.of(httpClients);
+    }
+
+    void close() {
+        for (HttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
+        Runnable removal = metricsRemoval;
+        if (removal != null) {
+            metricsRemoval = null;
+            removal.run();
+        }
+    }
+
+    /**
+     * Registers the metrics of the connection pools once, typically on the first request of the REST client.
+     *
+     * @param registration registers the metrics and returns the task which removes them when the REST client is closed
+     */
+    public void registerMetrics(Function<EventLoopHttpClients, Runnable> registration) {
+        if (!metricsRegistered.get() && metricsRegistered.compareAndSet(false, true)) {
+            metricsRemoval = registration.apply(this);
+        }
+    }
+
+    /**
+     * @return the number of event loops, each with its own connection pool
+     */
+    public int size() {
+        return eventLoops.length;
+    }
+
+    /**
+     * @return the number of requests sent with the connection pool of the given event loop
+     */
+    public long getRequests(int eventLoop) {
+        return requests.get(eventLoop);
+    }
+
+    /**
+     * @return the number of requests sent with the connection pool of the given event loop and waiting for their response
+     */
+    public long getPendingRequests(int eventLoop) {
+        return pending.get(eventLoop);
+    }
+
+    /**
+     * @return the number of open connections of the connection pool of the given event loop
+     */
+    public long getConnections(int eventLoop) {
+        return connections.get(eventLoop);
+    }
+
+    /**
+     * @return the number of requests issued outside the event loops, and so sent with the shared connection pool
+     */
+    public long getSharedRequests() {
+        return sharedRequests.get();
+    }
+}
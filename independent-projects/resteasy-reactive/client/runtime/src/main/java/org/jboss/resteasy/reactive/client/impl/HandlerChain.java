@@ -11,6 +11,7 @@
 import org.jboss.resteasy.reactive.client.api.ClientLogger;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
 import org.jboss.resteasy.reactive.client.handlers.ClientCaptureCurrentContextRestHandler;
+import org.jboss.resteasy.reactive.client.handlers.ClientCoalesceRequestRestHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientErrorHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientRequestFilterRestHandler;
 import org.jboss.resteasy.reactive.client.handlers.ClientResponseCompleteRestHandler;
@@ -33,6 +34,7 @@ class HandlerChain {
 
     private final ClientRestHandler clientCaptureCurrentContextRestHandler;
     private final ClientRestHandler clientSwitchToRequestContextRestHandler;
+    private final ClientRestHandler clientCoalesceRequestRestHandler;
     private final ClientRestHandler clientSendHandler;
     private final ClientRestHandler clientSetResponseEntityRestHandler;
     private final ClientRestHandler clientResponseCompleteRestHandler;
@@ -48,6 +50,7 @@ public HandlerChain(HttpClientOptions httpClientOptions, boolean captureStacktra
             List<Consumer<HttpClientRequest>> clientRequestCustomizers) {
         this.clientCaptureCurrentContextRestHandler = new ClientCaptureCurrentContextRestHandler(captureStacktrace);
         this.clientSwitchToRequestContextRestHandler = new ClientSwitchToRequestContextRestHandler();
+        this.clientCoalesceRequestRestHandler = new ClientCoalesceRequestRestHandler();
         this.clientSendHandler = new ClientSendRequestHandler(httpClientOptions, followRedirects, loggingScope,
                 clientLogger,
                 multipartData,
@@ -58,11 +61,13 @@ public HandlerChain(HttpClientOptions httpClientOptions, boolean captureStacktra
     }
 
     private HandlerChain(ClientRestHandler clientCaptureCurrentContextRestHandler,
-            ClientRestHandler clientSwitchToRequestContextRestHandler, ClientRestHandler clientSendHandler,
+            ClientRestHandler clientSwitchToRequestContextRestHandler, ClientRestHandler clientCoalesceRequestRestHandler,
+            ClientRestHandler clientSendHandler,
             ClientRestHandler clientSetResponseEntityRestHandler, ClientRestHandler clientResponseCompleteRestHandler,
             ClientRestHandler clientErrorHandler) {
         this.clientCaptureCurrentContextRestHandler = clientCaptureCurrentContextRestHandler;
         this.clientSwitchToRequestContextRestHandler = clientSwitchToRequestContextRestHandler;
+        this.clientCoalesceRequestRestHandler = clientCoalesceRequestRestHandler;
         this.clientSendHandler = clientSendHandler;
         this.clientSetResponseEntityRestHandler = clientSetResponseEntityRestHandler;
         this.clientResponseCompleteRestHandler = clientResponseCompleteRestHandler;
@@ -71,7 +76,8 @@ private HandlerChain(ClientRestHandler clientCaptureCurrentContextRestHandler,
 
     private HandlerChain newInstance() {
         return new HandlerChain(clientCaptureCurrentContextRestHandler, clientSwitchToRequestContextRestHandler,
-                clientSendHandler, clientSetResponseEntityRestHandler, clientResponseCompleteRestHandler, clientErrorHandler);
+                clientCoalesceRequestRestHandler, clientSendHandler, clientSetResponseEntityRestHandler,
+                clientResponseCompleteRestHandler, clientErrorHandler);
     }
 
     HandlerChain setPreClientSendHandler(ClientRestHandler preClientSendHandler) {
@@ -86,12 +92,13 @@ ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
         if (requestFilters.isEmpty() && responseFilters.isEmpty()) {
             return new ClientRestHandler[] { clientCaptureCurrentContextRestHandler,
                     clientSwitchToRequestContextRestHandler,
+                    clientCoalesceRequestRestHandler,
                     clientSendHandler,
                     clientSetResponseEntityRestHandler,
                     clientResponseCompleteRestHandler };
         }
         List<ClientRestHandler> result = new ArrayList<>(
-                (preClientSendHandler != null ? 4 : 3) + requestFilters.size() + responseFilters.size());
+                (preClientSendHandler != null ? 5 : 4) + requestFilters.size() + responseFilters.size());
         if (preClientSendHandler != null) {
             result.add(preClientSendHandler);
         }
@@ -100,6 +107,7 @@ ClientRestHandler[] createHandlerChain(ConfigurationImpl configuration) {
             result.add(new ClientRequestFilterRestHandler(requestFilters.get(i)));
         }
         result.add(clientSwitchToRequestContextRestHandler);
+        result.add(clientCoalesceRequestRestHandler);
         result.add(clientSendHandler);
         result.add(clientSetResponseEntityRestHandler);
         result.add(new PreResponseFilterHandler());
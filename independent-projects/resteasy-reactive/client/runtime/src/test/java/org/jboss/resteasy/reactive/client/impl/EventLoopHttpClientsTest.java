@@ -0,0 +1,145 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Context;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+
+public class EventLoopHttpClientsTest {
+
+    @Test
+    void shouldSendRequestsWithThePoolOfTheirEventLoop() throws Exception {
+        try (ClientImpl client = http2Client(true)) {
+            int port = startServer(client);
+            EventLoopHttpClients eventLoopHttpClients = client.getEventLoopHttpClients();
+            assertNotNull(eventLoopHttpClients);
+            assertEquals(eventLoopHttpClients.size() + 1, client.getVertxHttpClients().size());
+
+            // a distinct number of requests per event loop, so that the counters tell them apart
+            List<Context> contexts = eventLoopContexts(client);
+            assertEquals(eventLoopHttpClients.size(), contexts.size());
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < contexts.size(); i++) {
+                results.add(send(client, contexts.get(i), port, 10 * (i + 1)));
+            }
+            for (int i = 0; i < contexts.size(); i++) {
+                assertEquals(10 * (i + 1), results.get(i).get(30, TimeUnit.SECONDS));
+            }
+            for (int i = 0; i < contexts.size(); i++) {
+                assertEquals(10 * (i + 1), eventLoopHttpClients.getRequests(i));
+                assertEquals(0, eventLoopHttpClients.getPendingRequests(i));
+                // the requests of an event loop are multiplexed on a single HTTP/2 connection
+                assertEquals(1, eventLoopHttpClients.getConnections(i));
+            }
+            assertEquals(0, eventLoopHttpClients.getSharedRequests());
+
+            // a request issued outside the event loops uses the shared pool
+            assertEquals("hello", client.target("http://localhost:" + port).request().get(String.class));
+            assertEquals(1, eventLoopHttpClients.getSharedRequests());
+        }
+    }
+
+    @Test
+    void shouldRegisterTheMetricsOnceAndRemoveThemOnClose() throws Exception {
+        AtomicInteger registrations = new AtomicInteger();
+        AtomicInteger removals = new AtomicInteger();
+        EventLoopHttpClients eventLoopHttpClients;
+        try (ClientImpl client = http2Client(true)) {
+            eventLoopHttpClients = client.getEventLoopHttpClients();
+            for (int i = 0; i < 2; i++) {
+                eventLoopHttpClients.registerMetrics(clients -> {
+                    assertSame(eventLoopHttpClients, clients);
+                    registrations.incrementAndGet();
+                    return removals::incrementAndGet;
+                });
+            }
+            assertEquals(1, registrations.get());
+            assertEquals(0, removals.get());
+        }
+        assertEquals(1, removals.get());
+    }
+
+    @Test
+    void shouldShareASinglePoolByDefault() throws Exception {
+        try (ClientImpl client = http2Client(false)) {
+            startServer(client);
+            assertNull(client.getEventLoopHttpClients());
+            assertEquals(1, client.getVertxHttpClients().size());
+        }
+    }
+
+    private static ClientImpl http2Client(boolean eventLoopPools) {
+        return (ClientImpl) ((ClientBuilderImpl) ClientBuilder.newBuilder())
+                .http2(true)
+                .property(QuarkusRestClientProperties.EVENT_LOOP_POOLS, eventLoopPools)
+                .property(QuarkusRestClientProperties.HTTP2_MAX_CONCURRENT_STREAMS, 100)
+                .build();
+    }
+
+    private static int startServer(ClientImpl client) throws Exception {
+        HttpServer server = client.vertx.createHttpServer(new HttpServerOptions().setPort(0))
+                .requestHandler(request -> request.response().end("hello"));
+        return server.listen().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).actualPort();
+    }
+
+    /**
+     * @return a context per event loop, in the order of the event loops of the REST client
+     */
+    private static List<Context> eventLoopContexts(ClientImpl client) {
+        // Vert.x returns the same context to the non Vert.x threads, so the contexts of the other event loops are created
+        VertxInternal vertx = ((ContextInternal) client.vertx.getOrCreateContext()).owner();
+        List<Context> contexts = new ArrayList<>();
+        for (EventExecutor eventLoop : client.vertx.nettyEventLoopGroup()) {
+            contexts.add(vertx.createEventLoopContext((EventLoop) eventLoop, vertx.getWorkerPool(),
+                    Thread.currentThread().getContextClassLoader()));
+        }
+        return contexts;
+    }
+
+    /**
+     * Sends the requests one after the other, each one from the given context.
+     *
+     * @return the number of successful responses
+     */
+    private static CompletableFuture<Integer> send(ClientImpl client, Context context, int port, int requests) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        context.runOnContext(ignored -> send(client, context, port, requests, 0, result));
+        return result;
+    }
+
+    private static void send(ClientImpl client, Context context, int port, int remaining, int responses,
+            CompletableFuture<Integer> result) {
+        if (remaining == 0) {
+            result.complete(responses);
+            return;
+        }
+        client.target("http://localhost:" + port).request().rx().get(String.class)
+                .whenComplete((body, failure) -> {
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else {
+                        int total = "hello".equals(body) ? responses + 1 : responses;
+                        context.runOnContext(ignored -> send(client, context, port, remaining - 1, total, result));
+                    }
+                });
+    }
+}
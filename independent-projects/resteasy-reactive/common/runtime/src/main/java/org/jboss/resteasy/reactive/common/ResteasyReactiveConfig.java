@@ -39,17 +39,29 @@ public class ResteasyReactiveConfig {
      */
     private boolean defaultProduces;
 
+    /**
+     * If the request mapping should compile all the templates that share a stem into a trie, so that the cost of
+     * matching a request does not grow with the number of endpoints.
+     */
+    private boolean compiledPathMatching;
+
     // we need this (and the setters) due to Bytecode Recording
     public ResteasyReactiveConfig() {
     }
 
     public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
             boolean defaultProduces) {
+        this(inputBufferSize, minChunkSize, outputBufferSize, singleDefaultProduces, defaultProduces, false);
+    }
+
+    public ResteasyReactiveConfig(long inputBufferSize, int minChunkSize, int outputBufferSize, boolean singleDefaultProduces,
+            boolean defaultProduces, boolean compiledPathMatching) {
         this.inputBufferSize = inputBufferSize;
         this.minChunkSize = minChunkSize;
         this.outputBufferSize = outputBufferSize;
         this.singleDefaultProduces = singleDefaultProduces;
         this.defaultProduces = defaultProduces;
+        this.compiledPathMatching = compiledPathMatching;
     }
 
     public long getInputBufferSize() {
@@ -91,4 +103,12 @@ public boolean isDefaultProduces() {
     public void setDefaultProduces(boolean defaultProduces) {
         this.defaultProduces = defaultProduces;
     }
+
+    public boolean isCompiledPathMatching() {
+        return compiledPathMatching;
+    }
+
+    public void setCompiledPathMatching(boolean compiledPathMatching) {
+        this.compiledPathMatching = compiledPathMatching;
+    }
 }
@@ -0,0 +1,86 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the linear scan of the templates of a stem with the compiled trie, on a synthetic route table.
+ * <p>
+ * Half of the routes start with a path parameter, so they all share the {@code /} stem, which is the worst case for
+ * the linear scan. The other half have a distinct literal stem per resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    @Param({ "2000" })
+    public int routes;
+
+    private RequestMapper<String> linear;
+    private RequestMapper<String> compiled;
+    private String[] paths;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        ArrayList<String> lookups = new ArrayList<>();
+        int resources = routes / 10;
+        for (int i = 0; i < resources; i++) {
+            for (int j = 0; j < 5; j++) {
+                add(templates, "/{tenant}/resource" + i + "/items" + j + "/{id}");
+                add(templates, "/api/v1/resource" + i + "/{id}/sub" + j);
+            }
+            if (i % 10 == 0) {
+                lookups.add("/acme/resource" + i + "/items4/42");
+                lookups.add("/api/v1/resource" + i + "/42/sub4");
+            }
+        }
+        lookups.add("/acme/unknown/items0/42");
+        linear = new RequestMapper<>(new ArrayList<>(templates), false);
+        compiled = new RequestMapper<>(new ArrayList<>(templates), true);
+        paths = lookups.toArray(new String[0]);
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public void linear(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(linear.map(path));
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(compiled.map(path));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { "-prof", "gc", RequestMapperBenchmark.class.getSimpleName() });
+    }
+
+}
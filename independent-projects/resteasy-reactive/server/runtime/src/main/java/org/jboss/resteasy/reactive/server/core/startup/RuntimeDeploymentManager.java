@@ -140,7 +140,8 @@ public BeanFactory.BeanInstance<?> apply(Class<?> aClass) {
 
                 RuntimeMappingDeployment.buildMethodMapper(templates, method, runtimeResource);
             }
-            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new RuntimeMappingDeployment(templates)
+            Map<String, RequestMapper<RuntimeResource>> mappersByMethod = new RuntimeMappingDeployment(templates,
+                    info.getResteasyReactiveConfig().isCompiledPathMatching())
                     .buildClassMapper();
             boolean isResourceClassDisabled = (clazz.getIsDisabled() != null) && clazz.getIsDisabled().get();
             if (isResourceClassDisabled) {
@@ -247,7 +248,8 @@ public void accept(String method, RequestMapper<RuntimeResource> mapper) {
     private void forEachMapperEntry(MappersKey key,
             Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
         int classTemplateNameCount = key.path.countPathParamNames();
-        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates);
+        RuntimeMappingDeployment runtimeMappingDeployment = new RuntimeMappingDeployment(classTemplates,
+                info.getResteasyReactiveConfig().isCompiledPathMatching());
         ClassRoutingHandler classRoutingHandler = new ClassRoutingHandler(runtimeMappingDeployment.buildClassMapper(),
                 classTemplateNameCount, info.isServletPresent());
         classMappers.add(new RequestMapper.RequestPath<>(true, key.path,
@@ -25,13 +25,17 @@ class RuntimeMappingDeployment {
     private String currentHttpMethod;
     private ArrayList<RequestMapper.RequestPath<RuntimeResource>> currentMapperPerMethodTemplates;
 
+    private final boolean compiledPathMatching;
+
     private Map<String, RequestMapper<RuntimeResource>> classMapper;
     private int maxMethodTemplateNameCount = -1;
 
     RuntimeMappingDeployment(
-            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates) {
+            Map<String, TreeMap<URITemplate, List<RequestMapper.RequestPath<RuntimeResource>>>> classTemplates,
+            boolean compiledPathMatching) {
         this.classTemplates = classTemplates;
         this.nullMethod = classTemplates.get(null);
+        this.compiledPathMatching = compiledPathMatching;
     }
 
     int getMaxMethodTemplateNameCount() {
@@ -67,7 +71,7 @@ private void forEachClassTemplate(String httpMethod,
         currentMapperPerMethodTemplates = new ArrayList<>();
         perMethodTemplateMap.forEach(this::forEachMethodTemplateMap);
 
-        classMapper.put(httpMethod, new RequestMapper<>(currentMapperPerMethodTemplates));
+        classMapper.put(httpMethod, new RequestMapper<>(currentMapperPerMethodTemplates, compiledPathMatching));
     }
 
     private void forEachMethodTemplateMap(URITemplate path, List<RequestMapper.RequestPath<RuntimeResource>> requestPaths) {
@@ -17,8 +17,18 @@
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
+    private final RequestPathTrie.CandidateMatcher<T> candidateMatcher = this::matchTemplate;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
+        this(templates, false);
+    }
+
+    /**
+     * @param templates the templates to map
+     * @param compiled if the templates that share a stem should be compiled into a {@link RequestPathTrie}, so that
+     *        the cost of a lookup depends on the length of the path instead of the number of templates
+     */
+    public RequestMapper(ArrayList<RequestPath<T>> templates, boolean compiled) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
@@ -35,7 +45,7 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             @Override
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
-                pathMatcherBuilder.addPrefixPath(stem, list);
+                pathMatcherBuilder.addPrefixPath(stem, compiled ? new CompiledRequestPaths<>(list) : list);
             }
         });
         maxParams = max;
@@ -113,95 +123,97 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @SuppressWarnings("unchecked")
     private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
             int startIdx) {
         var value = initialMatches.getValue();
         if (value == null || startIdx < 0) {
             return null;
         }
-        int pathLength = path.length();
+        if (startIdx == 0 && value instanceof CompiledRequestPaths) {
+            return ((CompiledRequestPaths<T>) value).trie.match(path, initialMatches.getMatched().length(), candidateMatcher);
+        }
         for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
+            RequestMatch<T> match = matchTemplate(path, initialMatches.getMatched().length(), value.get(index));
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> matchTemplate(String path, int matchPos, RequestPath<T> potentialMatch) {
+        int pathLength = path.length();
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = 0;
+        boolean prefixAllowed = potentialMatch.prefixTemplate;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, path.length() - 1) : path);
+                if (!matcher.find(matchPos)) {
+                    return null;
+                }
+                if (matcher.start() != matchPos) {
+                    break;
+                }
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
+                }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (matchPos + segment.literalText.length() > pathLength) {
+                    return null; //too long
+                }
+                for (int pos = 0; pos < segment.literalText.length(); ++pos) {
+                    if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
+                        return null;
                     }
-                    params[paramCount++] = path.substring(start, matchPos);
                 }
-            }
-            if (!matched) {
-                continue;
-            }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
                 }
+                params[paramCount++] = path.substring(start, matchPos);
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+        }
+        if (paramCount < params.length) {
+            params[paramCount] = null;
+        }
+        boolean fullMatch = matchPos == pathLength;
+        boolean doPrefixMatch = false;
+        if (!fullMatch) {
+            //according to the spec every template ends with (/.*)?
+            if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+            } else if (path.charAt(matchPos) == '/') {
+                doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+            }
+        }
+        if (fullMatch || doPrefixMatch) {
+            String remaining;
+            if (fullMatch) {
+                remaining = "";
+            } else {
+                if (matchPos == 1) {
+                    remaining = path;
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    remaining = path.substring(matchPos);
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
         }
         return null;
     }
@@ -239,6 +251,20 @@ public int compareTo(RequestPath<T> o) {
         }
     }
 
+    /**
+     * The templates of a stem, along with the trie that was compiled from them.
+     */
+    @SuppressWarnings("serial")
+    private static final class CompiledRequestPaths<T> extends ArrayList<RequestPath<T>> {
+
+        final RequestPathTrie<T> trie;
+
+        CompiledRequestPaths(ArrayList<RequestPath<T>> sorted) {
+            super(sorted);
+            this.trie = new RequestPathTrie<>(this);
+        }
+    }
+
     public static class RequestMatch<T> {
         public final URITemplate template;
         public final T value;
@@ -0,0 +1,217 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * A radix trie of all the {@link RequestMapper.RequestPath}s that share a stem.
+ * <p>
+ * Literal template components become literal edges, and {@link URITemplate.Type#DEFAULT_REGEX} parameters become a
+ * parameter edge that consumes a single path segment. As soon as a template contains a
+ * {@link URITemplate.Type#CUSTOM_REGEX} component the remainder of the template has been coalesced into a single
+ * pattern by {@link URITemplate}, so the template is stored on the node reached so far and the pattern acts as a guard
+ * that is evaluated when that node is visited.
+ * <p>
+ * The trie is only used to select candidates: every candidate is verified by the regular template matching logic, and
+ * the candidate with the lowest index in the (sorted) list of paths wins. This means the result is always the same as
+ * the one of a linear scan of the list, but the number of templates that need to be tried is proportional to the length
+ * of the path rather than to the number of templates.
+ */
+final class RequestPathTrie<T> {
+
+    private static final int[] EMPTY_INT_ARRAY = new int[0];
+    private static final char[] EMPTY_CHAR_ARRAY = new char[0];
+    private static final Node[] EMPTY_NODE_ARRAY = new Node[0];
+
+    private final List<RequestMapper.RequestPath<T>> paths;
+    private final Node root;
+
+    /**
+     * @param paths the sorted paths, the position in this list determines the precedence of a template
+     */
+    RequestPathTrie(List<RequestMapper.RequestPath<T>> paths) {
+        this.paths = paths;
+        BuilderNode builder = new BuilderNode();
+        for (int i = 0; i < paths.size(); i++) {
+            URITemplate.TemplateComponent[] components = paths.get(i).template.components;
+            BuilderNode current = builder;
+            //the first component is the stem, which has already been matched by the PathMatcher
+            for (int j = 1; j < components.length; ++j) {
+                URITemplate.TemplateComponent component = components[j];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    for (int pos = 0; pos < component.literalText.length(); ++pos) {
+                        current = current.literal(component.literalText.charAt(pos));
+                    }
+                } else if (component.type == URITemplate.Type.DEFAULT_REGEX) {
+                    current = current.param();
+                } else {
+                    //the custom regex is always the last component, it is evaluated when the candidate is verified
+                    break;
+                }
+            }
+            current.terminals.add(i);
+        }
+        this.root = builder.compile("");
+    }
+
+    /**
+     * Finds the best match for the given path.
+     *
+     * @param path the full request path
+     * @param matchPos the position right after the stem
+     * @param matcher the matcher used to verify candidates
+     * @return the match of the template with the highest precedence, or {@code null} if none matched
+     */
+    RequestMapper.RequestMatch<T> match(String path, int matchPos, CandidateMatcher<T> matcher) {
+        Search<T> search = new Search<>(paths, path, matchPos, matcher);
+        search.visit(root, matchPos);
+        return search.result;
+    }
+
+    interface CandidateMatcher<T> {
+
+        RequestMapper.RequestMatch<T> match(String path, int matchPos, RequestMapper.RequestPath<T> candidate);
+    }
+
+    private static final class Search<T> {
+        private final List<RequestMapper.RequestPath<T>> paths;
+        private final String path;
+        private final int matchPos;
+        private final CandidateMatcher<T> matcher;
+        private int bestIndex = Integer.MAX_VALUE;
+        private RequestMapper.RequestMatch<T> result;
+
+        Search(List<RequestMapper.RequestPath<T>> paths, String path, int matchPos, CandidateMatcher<T> matcher) {
+            this.paths = paths;
+            this.path = path;
+            this.matchPos = matchPos;
+            this.matcher = matcher;
+        }
+
+        void visit(Node node, int pos) {
+            if (node.minIndex >= bestIndex) {
+                //nothing in this sub-tree can beat what we already have
+                return;
+            }
+            if (!path.startsWith(node.label, pos)) {
+                return;
+            }
+            pos += node.label.length();
+            int[] terminals = node.terminals;
+            for (int i = 0; i < terminals.length; ++i) {
+                int index = terminals[i];
+                if (index >= bestIndex) {
+                    break;
+                }
+                RequestMapper.RequestMatch<T> match = matcher.match(path, matchPos, paths.get(index));
+                if (match != null) {
+                    bestIndex = index;
+                    result = match;
+                    break;
+                }
+            }
+            int pathLength = path.length();
+            if (pos == pathLength) {
+                return;
+            }
+            Node literal = node.literalChild(path.charAt(pos));
+            if (literal != null) {
+                visit(literal, pos);
+            }
+            if (node.paramChild != null) {
+                int end = pos;
+                while (end < pathLength && path.charAt(end) != '/') {
+                    end++;
+                }
+                visit(node.paramChild, end);
+            }
+        }
+    }
+
+    private static final class Node {
+        /**
+         * The literal text that must follow once this node has been reached, for literal nodes this starts with the
+         * character used to select the node
+         */
+        final String label;
+        final char[] literalKeys;
+        final Node[] literalChildren;
+        final Node paramChild;
+        /**
+         * The indexes of the templates that end at this node, in ascending order
+         */
+        final int[] terminals;
+        /**
+         * The lowest template index of this node and all its descendants
+         */
+        final int minIndex;
+
+        Node(String label, char[] literalKeys, Node[] literalChildren, Node paramChild, int[] terminals) {
+            this.label = label;
+            this.literalKeys = literalKeys;
+            this.literalChildren = literalChildren;
+            this.paramChild = paramChild;
+            this.terminals = terminals;
+            int min = terminals.length > 0 ? terminals[0] : Integer.MAX_VALUE;
+            for (Node child : literalChildren) {
+                min = Math.min(min, child.minIndex);
+            }
+            if (paramChild != null) {
+                min = Math.min(min, paramChild.minIndex);
+            }
+            this.minIndex = min;
+        }
+
+        Node literalChild(char c) {
+            int index = Arrays.binarySearch(literalKeys, c);
+            return index < 0 ? null : literalChildren[index];
+        }
+    }
+
+    private static final class BuilderNode {
+        final TreeMap<Character, BuilderNode> literals = new TreeMap<>();
+        BuilderNode param;
+        final List<Integer> terminals = new ArrayList<>(1);
+
+        BuilderNode literal(char c) {
+            BuilderNode node = literals.get(c);
+            if (node == null) {
+                literals.put(c, node = new BuilderNode());
+            }
+            return node;
+        }
+
+        BuilderNode param() {
+            if (param == null) {
+                param = new BuilderNode();
+            }
+            return param;
+        }
+
+        Node compile(String label) {
+            StringBuilder sb = new StringBuilder(label);
+            BuilderNode current = this;
+            //collapse chains of literal only nodes into a single edge
+            while (current.terminals.isEmpty() && current.param == null && current.literals.size() == 1) {
+                var next = current.literals.firstEntry();
+                sb.append(next.getKey().charValue());
+                current = next.getValue();
+            }
+            char[] keys = current.literals.isEmpty() ? EMPTY_CHAR_ARRAY : new char[current.literals.size()];
+            Node[] children = current.literals.isEmpty() ? EMPTY_NODE_ARRAY : new Node[current.literals.size()];
+            int pos = 0;
+            for (var entry : current.literals.entrySet()) {
+                keys[pos] = entry.getKey();
+                children[pos++] = entry.getValue().compile(String.valueOf(entry.getKey().charValue()));
+            }
+            int[] terminals = current.terminals.isEmpty() ? EMPTY_INT_ARRAY : new int[current.terminals.size()];
+            for (int i = 0; i < terminals.length; i++) {
+                terminals[i] = current.terminals.get(i);
+            }
+            return new Node(sb.toString(), keys, children, current.param == null ? null : current.param.compile(""),
+                    terminals);
+        }
+    }
+}